@@ -0,0 +1,49 @@
+package greencity.benchmark;
+
+import org.openjdk.jmh.results.format.ResultFormatType;
+import org.openjdk.jmh.runner.Runner;
+import org.openjdk.jmh.runner.options.ChainedOptionsBuilder;
+import org.openjdk.jmh.runner.options.CommandLineOptions;
+import org.openjdk.jmh.runner.options.OptionsBuilder;
+
+/**
+ * Runs the benchmarks. Accepts the usual JMH command line options, by default
+ * results are written as JSON to {@code jmh-result-<version>.json}, so runs of
+ * different releases can be compared side by side.
+ */
+public final class BenchmarkRunner {
+    private BenchmarkRunner() {
+    }
+
+    /**
+     * Runs benchmarks selected by the command line.
+     *
+     * @param args JMH command line options.
+     * @throws Exception if options are invalid or benchmarks fail.
+     */
+    public static void main(String[] args) throws Exception {
+        CommandLineOptions commandLineOptions = new CommandLineOptions(args);
+        if (commandLineOptions.shouldHelp()) {
+            commandLineOptions.showHelp();
+            return;
+        }
+        ChainedOptionsBuilder options = new OptionsBuilder().parent(commandLineOptions);
+        if (!commandLineOptions.getResultFormat().hasValue()) {
+            options.resultFormat(ResultFormatType.JSON);
+        }
+        if (!commandLineOptions.getResult().hasValue()) {
+            options.result("jmh-result-" + version() + ".json");
+        }
+        Runner runner = new Runner(options.build());
+        if (commandLineOptions.shouldList()) {
+            runner.list();
+        } else {
+            runner.run();
+        }
+    }
+
+    private static String version() {
+        String version = BenchmarkRunner.class.getPackage().getImplementationVersion();
+        return version == null ? "dev" : version;
+    }
+}
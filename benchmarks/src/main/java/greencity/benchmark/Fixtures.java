@@ -0,0 +1,310 @@
+package greencity.benchmark;
+
+import greencity.dto.ratingstatistics.RatingStatisticsDtoForTables;
+import greencity.entity.EcoNews;
+import greencity.entity.EcoNewsComment;
+import greencity.entity.Habit;
+import greencity.entity.HabitAssign;
+import greencity.entity.HabitStatusCalendar;
+import greencity.entity.HabitTranslation;
+import greencity.entity.Language;
+import greencity.entity.Tag;
+import greencity.entity.User;
+import greencity.entity.localization.TagTranslation;
+import greencity.enums.HabitAssignStatus;
+import greencity.enums.Role;
+import greencity.enums.TagType;
+import greencity.enums.UserStatus;
+import org.modelmapper.AbstractConverter;
+import org.modelmapper.ModelMapper;
+import org.modelmapper.config.Configuration.AccessLevel;
+import org.modelmapper.convention.MatchingStrategies;
+import org.springframework.beans.factory.config.BeanDefinition;
+import org.springframework.context.annotation.ClassPathScanningCandidateComponentProvider;
+import org.springframework.core.type.filter.AssignableTypeFilter;
+import org.springframework.util.ClassUtils;
+import javax.imageio.ImageIO;
+import java.awt.Color;
+import java.awt.GradientPaint;
+import java.awt.Graphics2D;
+import java.awt.image.BufferedImage;
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.lang.reflect.Constructor;
+import java.lang.reflect.Proxy;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.time.ZoneOffset;
+import java.time.ZonedDateTime;
+import java.util.ArrayList;
+import java.util.Base64;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Random;
+import java.util.Set;
+import java.util.stream.IntStream;
+
+/**
+ * Generators of benchmark data. Every generator uses its own {@link Random}
+ * with a fixed seed, so all runs measure the same data and results of different
+ * releases can be compared.
+ */
+public final class Fixtures {
+    private static final long SEED = 427L;
+    private static final Language EN = Language.builder().id(1L).code("en").build();
+    private static final Language UA = Language.builder().id(2L).code("ua").build();
+    private static final String[] EVENTS = {"ADD_COMMENT", "LIKE_COMMENT", "CREATE_NEWS", "ACQUIRED_HABIT"};
+
+    private Fixtures() {
+    }
+
+    /**
+     * Generates habit assigns of one user. Assigns are created during the last
+     * year, last from one week to half a year and are enrolled on about three of
+     * four days, so long assigns have hundreds of {@link HabitStatusCalendar}'s.
+     * Enrolled days are not stored, they are read from the calendars.
+     *
+     * @param count amount of assigns.
+     * @param today the day the user looks at the habits.
+     * @return list of {@link HabitAssign}.
+     */
+    public static List<HabitAssign> habitAssigns(int count, LocalDate today) {
+        Random random = new Random(SEED);
+        User user = user(1L);
+        List<HabitAssign> habitAssigns = new ArrayList<>(count);
+        for (long id = 1; id <= count; id++) {
+            int duration = 7 + random.nextInt(174);
+            LocalDate createDate = today.minusDays(random.nextInt(365));
+            HabitAssign habitAssign = HabitAssign.builder()
+                .id(id)
+                .createDate(createDate.atStartOfDay(ZoneOffset.UTC))
+                .duration(duration)
+                .status(HabitAssignStatus.INPROGRESS)
+                .habit(habit(id))
+                .user(user)
+                .habitStatusCalendars(new ArrayList<>())
+                .build();
+            LocalDate lastDay = createDate.plusDays(duration - 1L);
+            if (lastDay.isAfter(today)) {
+                lastDay = today;
+            }
+            for (LocalDate day = createDate; !day.isAfter(lastDay); day = day.plusDays(1)) {
+                if (random.nextInt(4) != 0) {
+                    habitAssign.getHabitStatusCalendars().add(HabitStatusCalendar.builder()
+                        .enrollDate(day)
+                        .habitAssign(habitAssign)
+                        .build());
+                }
+            }
+            habitAssign.setWorkingDays(habitAssign.getHabitStatusCalendars().size());
+            habitAssigns.add(habitAssign);
+        }
+        return habitAssigns;
+    }
+
+    /**
+     * Generates a news with tags, comments and users who liked and disliked it.
+     *
+     * @param likes amount of users who liked the news, a tenth of it disliked the
+     *              news and a twentieth commented it.
+     * @return {@link EcoNews}.
+     */
+    public static EcoNews ecoNews(int likes) {
+        Random random = new Random(SEED);
+        EcoNews ecoNews = EcoNews.builder()
+            .id(1L)
+            .author(user(1L))
+            .title("Ten ways to sort waste at home")
+            .shortInfo("Simple habits that make sorting easy")
+            .text("Sorting waste starts in the kitchen. ".repeat(40))
+            .imagePath("https://storage.greencity.ua/news/1.png")
+            .source("https://greencity.ua")
+            .creationDate(ZonedDateTime.of(2024, 3, 10, 10, 0, 0, 0, ZoneOffset.UTC))
+            .tags(List.of(tag(1L, "News", "Новини"), tag(2L, "Education", "Освіта"), tag(3L, "Events", "Події")))
+            .usersLikedNews(users(likes, random))
+            .usersDislikedNews(users(likes / 10, random))
+            .ecoNewsComments(new ArrayList<>())
+            .build();
+        for (long id = 1; id <= likes / 20; id++) {
+            ecoNews.getEcoNewsComments().add(EcoNewsComment.builder()
+                .id(id)
+                .text("Great advice, thank you!")
+                .user(user(id))
+                .ecoNews(ecoNews)
+                .createdDate(LocalDateTime.of(2024, 3, 11, 12, 0).plusMinutes(id))
+                .modifiedDate(LocalDateTime.of(2024, 3, 11, 12, 0).plusMinutes(id))
+                .build());
+        }
+        ecoNews.setLikesCount(ecoNews.getUsersLikedNews().size());
+        ecoNews.setDislikesCount(ecoNews.getUsersDislikedNews().size());
+        ecoNews.setCommentsCount(ecoNews.getEcoNewsComments().size());
+        return ecoNews;
+    }
+
+    /**
+     * Generates English and Ukrainian translations of tags.
+     *
+     * @param count amount of tags.
+     * @return list of {@link TagTranslation}.
+     */
+    public static List<TagTranslation> tagTranslations(int count) {
+        return IntStream.rangeClosed(1, count)
+            .mapToObj(id -> tag(id, "Tag " + id, "Тег " + id))
+            .flatMap(tag -> tag.getTagTranslations().stream())
+            .toList();
+    }
+
+    /**
+     * Generates rows of the rating statistics export.
+     *
+     * @param count amount of rows.
+     * @return list of {@link RatingStatisticsDtoForTables}.
+     */
+    public static List<RatingStatisticsDtoForTables> ratingStatistics(int count) {
+        Random random = new Random(SEED);
+        ZonedDateTime start = ZonedDateTime.of(2024, 1, 1, 0, 0, 0, 0, ZoneOffset.UTC);
+        List<RatingStatisticsDtoForTables> rows = new ArrayList<>(count);
+        for (long id = 1; id <= count; id++) {
+            long userId = 1 + random.nextInt(5000);
+            rows.add(RatingStatisticsDtoForTables.builder()
+                .id(id)
+                .eventName(EVENTS[random.nextInt(EVENTS.length)])
+                .createDate(start.plusMinutes(id * 7))
+                .userId(userId)
+                .userEmail("user" + userId + "@greencity.ua")
+                .pointsChanged(1 + random.nextInt(10))
+                .rating(random.nextInt(3000) + random.nextFloat())
+                .build());
+        }
+        return rows;
+    }
+
+    /**
+     * Generates a PNG photo-like image encoded as Base64 data URI, the way the
+     * client sends images.
+     *
+     * @param width  width of the image.
+     * @param height height of the image.
+     * @return encoded image.
+     */
+    public static String base64Image(int width, int height) {
+        Random random = new Random(SEED);
+        BufferedImage image = new BufferedImage(width, height, BufferedImage.TYPE_INT_RGB);
+        Graphics2D graphics = image.createGraphics();
+        try {
+            graphics.setPaint(new GradientPaint(0, 0, new Color(46, 125, 50), width, height, new Color(200, 230, 201)));
+            graphics.fillRect(0, 0, width, height);
+            for (int i = 0; i < width * height / 50; i++) {
+                image.setRGB(random.nextInt(width), random.nextInt(height), random.nextInt(0xFFFFFF));
+            }
+        } finally {
+            graphics.dispose();
+        }
+        ByteArrayOutputStream output = new ByteArrayOutputStream();
+        try {
+            ImageIO.write(image, "png", output);
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+        return "data:image/png;base64," + Base64.getEncoder().encodeToString(output.toByteArray());
+    }
+
+    /**
+     * Builds {@link ModelMapper} the way {@code MapperConfig} does, with every
+     * converter of the {@code greencity.mapping} package that can be created
+     * without dependencies, so type map lookups cost as much as in the application.
+     *
+     * @return configured {@link ModelMapper}.
+     */
+    public static ModelMapper modelMapper() {
+        ModelMapper modelMapper = new ModelMapper();
+        modelMapper
+            .getConfiguration()
+            .setMatchingStrategy(MatchingStrategies.STRICT)
+            .setFieldMatchingEnabled(true)
+            .setSkipNullEnabled(true)
+            .setFieldAccessLevel(AccessLevel.PRIVATE);
+        ClassPathScanningCandidateComponentProvider scanner = new ClassPathScanningCandidateComponentProvider(false);
+        scanner.addIncludeFilter(new AssignableTypeFilter(AbstractConverter.class));
+        for (BeanDefinition definition : scanner.findCandidateComponents("greencity.mapping")) {
+            Class<?> type = ClassUtils.resolveClassName(definition.getBeanClassName(), null);
+            if (ClassUtils.hasConstructor(type)) {
+                modelMapper.addConverter((AbstractConverter<?, ?>) instantiate(type));
+            }
+        }
+        return modelMapper;
+    }
+
+    /**
+     * Creates an implementation of the interface that returns prepared results of
+     * the listed methods and fails on any other call. It replaces repositories, so
+     * benchmarks measure the service code and not the database.
+     *
+     * @param type    interface to implement.
+     * @param results results by method name.
+     * @return implementation of the interface.
+     */
+    public static <T> T stub(Class<T> type, Map<String, Object> results) {
+        return type.cast(Proxy.newProxyInstance(type.getClassLoader(), new Class<?>[] {type},
+            (proxy, method, args) -> {
+                if (results.containsKey(method.getName())) {
+                    return results.get(method.getName());
+                }
+                throw new UnsupportedOperationException(type.getSimpleName() + "." + method.getName());
+            }));
+    }
+
+    private static Object instantiate(Class<?> type) {
+        try {
+            Constructor<?> constructor = type.getDeclaredConstructor();
+            constructor.setAccessible(true);
+            return constructor.newInstance();
+        } catch (ReflectiveOperationException e) {
+            throw new IllegalStateException("Cannot create " + type.getName(), e);
+        }
+    }
+
+    private static Habit habit(long id) {
+        Habit habit = Habit.builder()
+            .id(id)
+            .image("https://storage.greencity.ua/habits/" + id + ".png")
+            .complexity(1 + (int) (id % 3))
+            .defaultDuration(14)
+            .isCustomHabit(false)
+            .build();
+        habit.setHabitTranslations(List.of(
+            HabitTranslation.builder().id(id * 2).language(EN).habit(habit)
+                .name("Habit " + id).description("Description of habit " + id).habitItem("bag").build(),
+            HabitTranslation.builder().id(id * 2 + 1).language(UA).habit(habit)
+                .name("Звичка " + id).description("Опис звички " + id).habitItem("пакет").build()));
+        return habit;
+    }
+
+    private static Tag tag(long id, String name, String nameUa) {
+        Tag tag = Tag.builder().id(id).type(TagType.ECO_NEWS).build();
+        tag.setTagTranslations(List.of(
+            TagTranslation.builder().id(id * 2).name(name).language(EN).tag(tag).build(),
+            TagTranslation.builder().id(id * 2 + 1).name(nameUa).language(UA).tag(tag).build()));
+        return tag;
+    }
+
+    private static Set<User> users(int count, Random random) {
+        Set<User> users = new HashSet<>(count * 2);
+        while (users.size() < count) {
+            users.add(user(1 + random.nextInt(count * 10)));
+        }
+        return users;
+    }
+
+    private static User user(long id) {
+        return User.builder()
+            .id(id)
+            .name("User " + id)
+            .email("user" + id + "@greencity.ua")
+            .role(Role.ROLE_USER)
+            .userStatus(UserStatus.ACTIVATED)
+            .build();
+    }
+}
@@ -0,0 +1,63 @@
+package greencity.exporter;
+
+import greencity.benchmark.Fixtures;
+import greencity.dto.ratingstatistics.RatingStatisticsDtoForTables;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import java.io.OutputStream;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Export of rating statistics to Excel and CSV files. Files are written to a
+ * stream that discards them, so only building of the files is measured.
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 3, time = 5)
+@Measurement(iterations = 5, time = 5)
+@Fork(1)
+@State(Scope.Benchmark)
+public class RatingExportBenchmark {
+    @Param({"1000", "50000"})
+    private int rows;
+
+    private RatingExcelExporter ratingExcelExporter;
+    private RatingCsvExporter ratingCsvExporter;
+    private List<RatingStatisticsDtoForTables> ratingStatistics;
+
+    /**
+     * Generates rows and creates exporters.
+     */
+    @Setup
+    public void setUp() {
+        ratingExcelExporter = new RatingExcelExporter();
+        ratingCsvExporter = new RatingCsvExporter();
+        ratingStatistics = Fixtures.ratingStatistics(rows);
+    }
+
+    /**
+     * Exports rows to Excel file.
+     */
+    @Benchmark
+    public void excel() {
+        ratingExcelExporter.export(OutputStream.nullOutputStream(), ratingStatistics::forEach);
+    }
+
+    /**
+     * Exports rows to CSV file.
+     */
+    @Benchmark
+    public void csv() {
+        ratingCsvExporter.export(OutputStream.nullOutputStream(), ratingStatistics::forEach);
+    }
+}
@@ -0,0 +1,109 @@
+package greencity.mapping;
+
+import greencity.benchmark.Fixtures;
+import greencity.dto.econews.EcoNewsDto;
+import greencity.dto.econews.EcoNewsVO;
+import greencity.dto.tag.TagDto;
+import greencity.entity.EcoNews;
+import greencity.entity.localization.TagTranslation;
+import org.modelmapper.ModelMapper;
+import org.modelmapper.TypeToken;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Conversions through {@link ModelMapper} compared with direct calls of the
+ * same converters, for news with many likes and for lists of tags.
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+@State(Scope.Benchmark)
+public class MapperBenchmark {
+    @Param({"100", "5000"})
+    private int likes;
+
+    private ModelMapper modelMapper;
+    private EcoNewsDtoMapper ecoNewsDtoMapper;
+    private EcoNewsVOMapper ecoNewsVOMapper;
+    private TagDtoMapper tagDtoMapper;
+    private EcoNews ecoNews;
+    private List<TagTranslation> tagTranslations;
+
+    /**
+     * Generates the news and tags and creates mappers.
+     */
+    @Setup
+    public void setUp() {
+        modelMapper = Fixtures.modelMapper();
+        ecoNewsDtoMapper = new EcoNewsDtoMapper();
+        ecoNewsVOMapper = new EcoNewsVOMapper();
+        tagDtoMapper = new TagDtoMapper();
+        ecoNews = Fixtures.ecoNews(likes);
+        tagTranslations = Fixtures.tagTranslations(20);
+    }
+
+    /**
+     * Maps the news to {@link EcoNewsDto} through {@link ModelMapper}.
+     */
+    @Benchmark
+    public EcoNewsDto ecoNewsDtoByModelMapper() {
+        return modelMapper.map(ecoNews, EcoNewsDto.class);
+    }
+
+    /**
+     * Maps the news to {@link EcoNewsDto} with {@link EcoNewsDtoMapper}.
+     */
+    @Benchmark
+    public EcoNewsDto ecoNewsDtoByConverter() {
+        return ecoNewsDtoMapper.convert(ecoNews);
+    }
+
+    /**
+     * Maps the news with users who liked it to {@link EcoNewsVO} through
+     * {@link ModelMapper}.
+     */
+    @Benchmark
+    public EcoNewsVO ecoNewsVOByModelMapper() {
+        return modelMapper.map(ecoNews, EcoNewsVO.class);
+    }
+
+    /**
+     * Maps the news with users who liked it to {@link EcoNewsVO} with
+     * {@link EcoNewsVOMapper}.
+     */
+    @Benchmark
+    public EcoNewsVO ecoNewsVOByConverter() {
+        return ecoNewsVOMapper.convert(ecoNews);
+    }
+
+    /**
+     * Maps tags to list of {@link TagDto} through {@link ModelMapper}.
+     */
+    @Benchmark
+    public List<TagDto> tagDtosByModelMapper() {
+        return modelMapper.map(tagTranslations, new TypeToken<List<TagDto>>() {
+        }.getType());
+    }
+
+    /**
+     * Maps tags to list of {@link TagDto} with {@link TagDtoMapper}.
+     */
+    @Benchmark
+    public List<TagDto> tagDtosByConverter() {
+        return tagDtoMapper.mapAllToList(tagTranslations);
+    }
+}
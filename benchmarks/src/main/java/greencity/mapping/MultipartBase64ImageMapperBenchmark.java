@@ -0,0 +1,76 @@
+package greencity.mapping;
+
+import greencity.benchmark.Fixtures;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Threads;
+import org.openjdk.jmh.annotations.Warmup;
+import org.springframework.web.multipart.MultipartFile;
+import java.time.Duration;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Conversion of Base64 encoded images of common photo sizes, with and without
+ * scaling down, by one request and by several concurrent requests that share
+ * the conversion pool.
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 3, time = 5)
+@Measurement(iterations = 5, time = 5)
+@Fork(1)
+@State(Scope.Benchmark)
+public class MultipartBase64ImageMapperBenchmark {
+    @Param({"640x480", "1920x1080", "4000x3000"})
+    private String size;
+
+    @Param({"0", "1024"})
+    private int maxDimension;
+
+    private MultipartBase64ImageMapper mapper;
+    private String image;
+
+    /**
+     * Generates the image and creates the mapper.
+     */
+    @Setup
+    public void setUp() {
+        String[] dimensions = size.split("x");
+        image = Fixtures.base64Image(Integer.parseInt(dimensions[0]), Integer.parseInt(dimensions[1]));
+        mapper = new MultipartBase64ImageMapper(maxDimension, 2, 16, Duration.ofMinutes(1));
+    }
+
+    /**
+     * Stops the conversion pool.
+     */
+    @TearDown
+    public void tearDown() {
+        mapper.destroy();
+    }
+
+    /**
+     * Converts the image.
+     */
+    @Benchmark
+    public MultipartFile convert() {
+        return mapper.convert(image);
+    }
+
+    /**
+     * Converts the image by four requests at once.
+     */
+    @Benchmark
+    @Threads(4)
+    public MultipartFile convertConcurrently() {
+        return mapper.convert(image);
+    }
+}
@@ -0,0 +1,65 @@
+package greencity.security.jwt;
+
+import greencity.enums.Role;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Work {@link JwtTool} does for every authenticated request: reading the email
+ * out of the access token and checking its signature, and creating tokens on
+ * sign in.
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+@State(Scope.Benchmark)
+public class JwtToolBenchmark {
+    private static final String TOKEN_KEY = "greencity-benchmark-access-token-key-0123456789";
+
+    private JwtTool jwtTool;
+    private String accessToken;
+
+    /**
+     * Creates the tool and an access token.
+     */
+    @Setup
+    public void setUp() {
+        jwtTool = new JwtTool(120, 14400, TOKEN_KEY);
+        accessToken = jwtTool.createAccessToken("user1@greencity.ua", Role.ROLE_USER);
+    }
+
+    /**
+     * Creates an access token.
+     */
+    @Benchmark
+    public String createAccessToken() {
+        return jwtTool.createAccessToken("user1@greencity.ua", Role.ROLE_USER);
+    }
+
+    /**
+     * Reads email out of the access token.
+     */
+    @Benchmark
+    public String getEmailOutOfAccessToken() {
+        return jwtTool.getEmailOutOfAccessToken(accessToken);
+    }
+
+    /**
+     * Checks signature and expiration of the access token.
+     */
+    @Benchmark
+    public boolean isTokenValid() {
+        return jwtTool.isTokenValid(accessToken, TOKEN_KEY);
+    }
+}
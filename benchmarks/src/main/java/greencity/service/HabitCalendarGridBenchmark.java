@@ -0,0 +1,70 @@
+package greencity.service;
+
+import greencity.benchmark.Fixtures;
+import greencity.dto.habit.HabitsDateEnrollmentDto;
+import greencity.entity.HabitAssign;
+import greencity.repository.HabitAssignRepo;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import java.time.LocalDate;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Building of the habit calendar grid by
+ * {@link HabitAssignServiceImpl#findHabitAssignsBetweenDates} for a user with
+ * many assigns. The repository returns prepared assigns, so only the grid
+ * building is measured.
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+@State(Scope.Benchmark)
+public class HabitCalendarGridBenchmark {
+    private static final LocalDate TODAY = LocalDate.of(2024, 6, 1);
+
+    @Param({"100", "500"})
+    private int assigns;
+
+    @Param({"7", "31", "365"})
+    private int days;
+
+    private HabitAssignService habitAssignService;
+    private LocalDate from;
+
+    /**
+     * Generates assigns active in the range and creates the service.
+     */
+    @Setup
+    public void setUp() {
+        from = TODAY.minusDays(days - 1L);
+        List<HabitAssign> habitAssigns = Fixtures.habitAssigns(assigns, TODAY).stream()
+            .filter(habitAssign -> !habitAssign.getCreateDate().toLocalDate()
+                .plusDays(habitAssign.getDuration()).isBefore(from))
+            .toList();
+        HabitAssignRepo habitAssignRepo = Fixtures.stub(HabitAssignRepo.class,
+            Map.of("findAllHabitAssignsBetweenDates", habitAssigns));
+        habitAssignService = new HabitAssignServiceImpl(habitAssignRepo, null, null, null, null, null, null, null,
+            null, null, null, null, null, null, null);
+    }
+
+    /**
+     * Builds the grid of the range.
+     */
+    @Benchmark
+    public List<HabitsDateEnrollmentDto> grid() {
+        return habitAssignService.findHabitAssignsBetweenDates(1L, from, TODAY, "en");
+    }
+}
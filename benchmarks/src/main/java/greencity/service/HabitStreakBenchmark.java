@@ -0,0 +1,122 @@
+package greencity.service;
+
+import greencity.benchmark.Fixtures;
+import greencity.entity.HabitAssign;
+import greencity.entity.HabitStatusCalendar;
+import greencity.mapping.HabitAssignDtoMapper;
+import greencity.mapping.HabitDtoMapper;
+import greencity.repository.HabitAssignRepo;
+import greencity.repository.HabitStatusCalendarRepo;
+import greencity.repository.UserShoppingListItemRepo;
+import org.modelmapper.ModelMapper;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import java.time.LocalDate;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.Set;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Enroll and unenroll of every assign of a user through
+ * {@link HabitAssignService}, both recount the streak of the assign. Assigns
+ * either have their enrolled days stored or read them from their calendars.
+ * Repositories return the prepared assign, so only the service code is
+ * measured.
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+@State(Scope.Benchmark)
+public class HabitStreakBenchmark {
+    private static final Long USER_ID = 1L;
+    private static final String LANGUAGE = "en";
+
+    @Param({"100", "500"})
+    private int assigns;
+
+    @Param({"false", "true"})
+    private boolean storedEnrolledDays;
+
+    private LocalDate today;
+    private ModelMapper modelMapper;
+    private HabitStatusCalendarService habitStatusCalendarService;
+    private UserShoppingListItemRepo userShoppingListItemRepo;
+    private List<Enrollment> enrollments;
+
+    /**
+     * Generates assigns of the user that are not enrolled today and creates a
+     * service for each of them. Assigns one enroll away from being acquired are
+     * skipped, so every invocation enrolls and unenrolls the same data.
+     */
+    @Setup
+    public void setUp() {
+        today = LocalDate.now();
+        modelMapper = Fixtures.modelMapper();
+        habitStatusCalendarService = Fixtures.stub(HabitStatusCalendarService.class,
+            Collections.singletonMap("findHabitStatusCalendarByEnrollDateAndHabitAssign", null));
+        userShoppingListItemRepo = Fixtures.stub(UserShoppingListItemRepo.class,
+            Map.of("getAllAssignedShoppingListItemsFull", List.of()));
+        enrollments = Fixtures.habitAssigns(assigns, today.minusDays(1)).stream()
+            .filter(habitAssign -> habitAssign.getWorkingDays() + 1 < habitAssign.getDuration())
+            .map(habitAssign -> new Enrollment(habitAssign, service(habitAssign)))
+            .toList();
+        if (storedEnrolledDays) {
+            enrollAndUnenroll();
+        }
+    }
+
+    /**
+     * Enrolls every assign today and unenrolls it again, so every invocation starts
+     * from the same data. Without stored enrolled days the days written by the
+     * previous invocation are dropped, so the enroll reads the calendars.
+     */
+    @Benchmark
+    public int enrollAndUnenroll() {
+        int streaks = 0;
+        for (Enrollment enrollment : enrollments) {
+            HabitAssign habitAssign = enrollment.habitAssign();
+            if (!storedEnrolledDays) {
+                habitAssign.setEnrolledDays(null);
+            }
+            streaks += enrollment.service().enrollHabit(habitAssign.getId(), USER_ID, today, LANGUAGE)
+                .getHabitStreak();
+            streaks += enrollment.service().unenrollHabit(habitAssign.getId(), USER_ID, today).getHabitStreak();
+        }
+        return streaks;
+    }
+
+    /**
+     * Creates a service whose repositories return the assign and the calendar of
+     * today's enroll.
+     */
+    private HabitAssignService service(HabitAssign habitAssign) {
+        habitAssign.getHabit().setTags(Set.of());
+        Map<String, Object> calendarResults = new HashMap<>();
+        calendarResults.put("findHabitStatusCalendarByEnrollDateAndHabitAssign",
+            HabitStatusCalendar.builder().enrollDate(today).habitAssign(habitAssign).build());
+        calendarResults.put("delete", null);
+        HabitAssignRepo habitAssignRepo = Fixtures.stub(HabitAssignRepo.class,
+            Map.of("findById", Optional.of(habitAssign), "save", habitAssign));
+        return new HabitAssignServiceImpl(habitAssignRepo, null, null, null, userShoppingListItemRepo, null, null,
+            Fixtures.stub(HabitStatusCalendarRepo.class, calendarResults), null, null, null,
+            habitStatusCalendarService, modelMapper, new HabitAssignDtoMapper(), new HabitDtoMapper());
+    }
+
+    private record Enrollment(HabitAssign habitAssign, HabitAssignService service) {
+    }
+}
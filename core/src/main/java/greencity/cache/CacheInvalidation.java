@@ -0,0 +1,15 @@
+package greencity.cache;
+
+import java.io.Serializable;
+
+/**
+ * Message about a changed value of a shared cache, sent to other instances of
+ * the application so they drop their local copy.
+ *
+ * @param origin    id of the instance that changed the value.
+ * @param cacheName name of the cache.
+ * @param key       key of the changed value, {@code null} when the whole cache
+ *                  is cleared.
+ */
+public record CacheInvalidation(String origin, String cacheName, Object key) implements Serializable {
+}
@@ -0,0 +1,23 @@
+package greencity.cache;
+
+import java.util.function.Consumer;
+
+/**
+ * Delivers {@link CacheInvalidation} messages to all instances of the
+ * application, including the sending one.
+ */
+public interface CacheInvalidationBus {
+    /**
+     * Sends the message to all instances.
+     *
+     * @param invalidation {@link CacheInvalidation} message.
+     */
+    void publish(CacheInvalidation invalidation);
+
+    /**
+     * Registers a listener of messages.
+     *
+     * @param listener consumer of {@link CacheInvalidation} messages.
+     */
+    void subscribe(Consumer<CacheInvalidation> listener);
+}
@@ -0,0 +1,52 @@
+package greencity.cache;
+
+import org.springframework.cache.Cache;
+import org.springframework.cache.support.SimpleValueWrapper;
+import java.time.Duration;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * {@link SharedCacheStore} kept in memory of one process. It stands in for a
+ * real shared store in tests, where several {@link TwoLevelCacheManager}'s play
+ * instances of the application.
+ */
+public class InMemorySharedCacheStore implements SharedCacheStore {
+    private final Map<String, Map<Object, Entry>> caches = new ConcurrentHashMap<>();
+
+    @Override
+    public Cache.ValueWrapper get(String cacheName, Object key) {
+        Map<Object, Entry> cache = caches.get(cacheName);
+        Entry entry = cache == null ? null : cache.get(key);
+        if (entry == null) {
+            return null;
+        }
+        if (entry.expiresAtNanos - System.nanoTime() <= 0) {
+            cache.remove(key, entry);
+            return null;
+        }
+        return new SimpleValueWrapper(entry.value);
+    }
+
+    @Override
+    public void put(String cacheName, Object key, Object value, Duration ttl) {
+        caches.computeIfAbsent(cacheName, name -> new ConcurrentHashMap<>())
+            .put(key, new Entry(value, System.nanoTime() + ttl.toNanos()));
+    }
+
+    @Override
+    public void evict(String cacheName, Object key) {
+        Map<Object, Entry> cache = caches.get(cacheName);
+        if (cache != null) {
+            cache.remove(key);
+        }
+    }
+
+    @Override
+    public void clear(String cacheName) {
+        caches.remove(cacheName);
+    }
+
+    private record Entry(Object value, long expiresAtNanos) {
+    }
+}
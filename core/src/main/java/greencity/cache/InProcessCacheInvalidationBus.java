@@ -0,0 +1,24 @@
+package greencity.cache;
+
+import java.util.List;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.function.Consumer;
+
+/**
+ * {@link CacheInvalidationBus} that delivers messages to listeners of the same
+ * process on the calling thread. It is used when the application runs as one
+ * instance, and in tests to connect several {@link TwoLevelCacheManager}'s.
+ */
+public class InProcessCacheInvalidationBus implements CacheInvalidationBus {
+    private final List<Consumer<CacheInvalidation>> listeners = new CopyOnWriteArrayList<>();
+
+    @Override
+    public void publish(CacheInvalidation invalidation) {
+        listeners.forEach(listener -> listener.accept(invalidation));
+    }
+
+    @Override
+    public void subscribe(Consumer<CacheInvalidation> listener) {
+        listeners.add(listener);
+    }
+}
@@ -0,0 +1,81 @@
+package greencity.cache;
+
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.amqp.AmqpException;
+import org.springframework.amqp.core.Queue;
+import org.springframework.amqp.rabbit.connection.ConnectionFactory;
+import org.springframework.amqp.rabbit.core.RabbitTemplate;
+import org.springframework.amqp.rabbit.listener.SimpleMessageListenerContainer;
+import org.springframework.amqp.support.converter.SimpleMessageConverter;
+import org.springframework.context.SmartLifecycle;
+import java.util.List;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.function.Consumer;
+
+/**
+ * {@link CacheInvalidationBus} over a RabbitMQ fanout exchange. Every instance
+ * reads the exchange through its own auto-deleted queue. A message that cannot
+ * be sent is only logged, because the local level is already changed and the
+ * shared caches have a TTL.
+ */
+@Slf4j
+public class RabbitCacheInvalidationBus implements CacheInvalidationBus, SmartLifecycle {
+    private final RabbitTemplate rabbitTemplate;
+    private final String exchange;
+    private final SimpleMessageListenerContainer container;
+    private final SimpleMessageConverter converter = new SimpleMessageConverter();
+    private final List<Consumer<CacheInvalidation>> listeners = new CopyOnWriteArrayList<>();
+
+    /**
+     * Constructor with parameters.
+     *
+     * @param connectionFactory {@link ConnectionFactory} of RabbitMQ.
+     * @param exchange          name of the fanout exchange.
+     * @param queue             auto-deleted queue of this instance bound to the
+     *                          exchange.
+     */
+    public RabbitCacheInvalidationBus(ConnectionFactory connectionFactory, String exchange, Queue queue) {
+        this.exchange = exchange;
+        converter.setAllowedListPatterns(List.of("greencity.*", "java.lang.*", "java.util.*",
+            "org.springframework.cache.interceptor.SimpleKey"));
+        this.rabbitTemplate = new RabbitTemplate(connectionFactory);
+        rabbitTemplate.setMessageConverter(converter);
+        this.container = new SimpleMessageListenerContainer(connectionFactory);
+        container.setQueues(queue);
+        container.setMissingQueuesFatal(false);
+        container.setMessageListener(message -> {
+            if (converter.fromMessage(message) instanceof CacheInvalidation invalidation) {
+                listeners.forEach(listener -> listener.accept(invalidation));
+            }
+        });
+    }
+
+    @Override
+    public void publish(CacheInvalidation invalidation) {
+        try {
+            rabbitTemplate.convertAndSend(exchange, "", invalidation);
+        } catch (AmqpException e) {
+            log.warn("Invalidation of cache {} was not sent", invalidation.cacheName(), e);
+        }
+    }
+
+    @Override
+    public void subscribe(Consumer<CacheInvalidation> listener) {
+        listeners.add(listener);
+    }
+
+    @Override
+    public void start() {
+        container.start();
+    }
+
+    @Override
+    public void stop() {
+        container.stop();
+    }
+
+    @Override
+    public boolean isRunning() {
+        return container.isRunning();
+    }
+}
@@ -0,0 +1,69 @@
+package greencity.cache;
+
+import org.springframework.cache.Cache;
+import java.time.Duration;
+
+/**
+ * Cache store shared by all instances of the application, it is the second
+ * level behind the local caches of {@link TwoLevelCache}.
+ */
+public interface SharedCacheStore {
+    /**
+     * Store that keeps nothing, so only local caches are used.
+     */
+    SharedCacheStore NONE = new SharedCacheStore() {
+        @Override
+        public Cache.ValueWrapper get(String cacheName, Object key) {
+            return null;
+        }
+
+        @Override
+        public void put(String cacheName, Object key, Object value, Duration ttl) {
+            // nothing is stored
+        }
+
+        @Override
+        public void evict(String cacheName, Object key) {
+            // nothing is stored
+        }
+
+        @Override
+        public void clear(String cacheName) {
+            // nothing is stored
+        }
+    };
+
+    /**
+     * Returns stored value.
+     *
+     * @param cacheName name of the cache.
+     * @param key       key of the value.
+     * @return wrapper of the value, or {@code null} when there is no value.
+     */
+    Cache.ValueWrapper get(String cacheName, Object key);
+
+    /**
+     * Stores the value.
+     *
+     * @param cacheName name of the cache.
+     * @param key       key of the value.
+     * @param value     value, may be {@code null}.
+     * @param ttl       time the value is kept.
+     */
+    void put(String cacheName, Object key, Object value, Duration ttl);
+
+    /**
+     * Removes the value.
+     *
+     * @param cacheName name of the cache.
+     * @param key       key of the value.
+     */
+    void evict(String cacheName, Object key);
+
+    /**
+     * Removes all values of the cache.
+     *
+     * @param cacheName name of the cache.
+     */
+    void clear(String cacheName);
+}
@@ -0,0 +1,126 @@
+package greencity.cache;
+
+import org.springframework.cache.Cache;
+import org.springframework.cache.caffeine.CaffeineCache;
+import java.time.Duration;
+import java.util.concurrent.Callable;
+
+/**
+ * Cache with a local Caffeine near-cache in front of a
+ * {@link SharedCacheStore}. A value missing locally is read from the shared
+ * store, and only when it is missing there too it is loaded and stored in both
+ * levels. Values put into the cache are written to both levels without telling
+ * other instances, since Spring puts values loaded after a miss the same way.
+ * Evictions and clears are announced through the {@link CacheInvalidationBus},
+ * so other instances drop their local copy.
+ */
+public class TwoLevelCache implements Cache {
+    private final CaffeineCache local;
+    private final SharedCacheStore sharedCacheStore;
+    private final CacheInvalidationBus invalidationBus;
+    private final Duration ttl;
+    private final String nodeId;
+
+    /**
+     * Constructor with parameters.
+     *
+     * @param local            local {@link CaffeineCache}.
+     * @param sharedCacheStore {@link SharedCacheStore} of all instances.
+     * @param invalidationBus  {@link CacheInvalidationBus} of all instances.
+     * @param ttl              time values are kept in the shared store.
+     * @param nodeId           id of this instance.
+     */
+    public TwoLevelCache(CaffeineCache local, SharedCacheStore sharedCacheStore,
+        CacheInvalidationBus invalidationBus, Duration ttl, String nodeId) {
+        this.local = local;
+        this.sharedCacheStore = sharedCacheStore;
+        this.invalidationBus = invalidationBus;
+        this.ttl = ttl;
+        this.nodeId = nodeId;
+    }
+
+    @Override
+    public String getName() {
+        return local.getName();
+    }
+
+    @Override
+    public Object getNativeCache() {
+        return local.getNativeCache();
+    }
+
+    @Override
+    public ValueWrapper get(Object key) {
+        ValueWrapper value = local.get(key);
+        if (value != null) {
+            return value;
+        }
+        ValueWrapper shared = sharedCacheStore.get(getName(), key);
+        if (shared != null) {
+            local.put(key, shared.get());
+        }
+        return shared;
+    }
+
+    @Override
+    @SuppressWarnings("unchecked")
+    public <T> T get(Object key, Class<T> type) {
+        ValueWrapper value = get(key);
+        Object stored = value == null ? null : value.get();
+        if (stored != null && type != null && !type.isInstance(stored)) {
+            throw new IllegalStateException(
+                "Cached value is not of required type [" + type.getName() + "]: " + stored);
+        }
+        return (T) stored;
+    }
+
+    @Override
+    @SuppressWarnings("unchecked")
+    public <T> T get(Object key, Callable<T> valueLoader) {
+        return local.get(key, () -> {
+            ValueWrapper shared = sharedCacheStore.get(getName(), key);
+            if (shared != null) {
+                return (T) shared.get();
+            }
+            T value = valueLoader.call();
+            sharedCacheStore.put(getName(), key, value, ttl);
+            return value;
+        });
+    }
+
+    @Override
+    public void put(Object key, Object value) {
+        local.put(key, value);
+        sharedCacheStore.put(getName(), key, value, ttl);
+    }
+
+    @Override
+    public void evict(Object key) {
+        local.evict(key);
+        sharedCacheStore.evict(getName(), key);
+        invalidationBus.publish(new CacheInvalidation(nodeId, getName(), key));
+    }
+
+    @Override
+    public void clear() {
+        local.clear();
+        sharedCacheStore.clear(getName());
+        invalidationBus.publish(new CacheInvalidation(nodeId, getName(), null));
+    }
+
+    /**
+     * Removes the value from the local cache only.
+     *
+     * @param key key of the value.
+     */
+    public void evictLocal(Object key) {
+        local.evict(key);
+    }
+
+    /**
+     * Removes all values from the local cache only.
+     */
+    public void clearLocal() {
+        local.clear();
+    }
+}
@@ -0,0 +1,73 @@
+package greencity.cache;
+
+import com.github.benmanes.caffeine.cache.Caffeine;
+import org.springframework.cache.Cache;
+import org.springframework.cache.caffeine.CaffeineCache;
+import org.springframework.cache.caffeine.CaffeineCacheManager;
+import java.time.Duration;
+import java.util.Map;
+import java.util.UUID;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * {@link CaffeineCacheManager} whose shared caches are {@link TwoLevelCache}'s.
+ * Other caches stay local to the instance. Invalidation messages of other
+ * instances remove values from the local level of the shared caches.
+ */
+public class TwoLevelCacheManager extends CaffeineCacheManager {
+    private final SharedCacheStore sharedCacheStore;
+    private final CacheInvalidationBus invalidationBus;
+    private final String nodeId = UUID.randomUUID().toString();
+    private final Map<String, Duration> sharedCacheTtls = new ConcurrentHashMap<>();
+
+    /**
+     * Constructor with parameters.
+     *
+     * @param sharedCacheStore {@link SharedCacheStore} of all instances.
+     * @param invalidationBus  {@link CacheInvalidationBus} of all instances.
+     */
+    public TwoLevelCacheManager(SharedCacheStore sharedCacheStore, CacheInvalidationBus invalidationBus) {
+        this.sharedCacheStore = sharedCacheStore;
+        this.invalidationBus = invalidationBus;
+        invalidationBus.subscribe(this::onInvalidation);
+    }
+
+    /**
+     * Registers a shared cache with its own size and TTL.
+     *
+     * @param name        name of the cache.
+     * @param maximumSize maximum amount of values in the local cache.
+     * @param ttl         time values are kept in both levels.
+     */
+    public void registerSharedCache(String name, long maximumSize, Duration ttl) {
+        sharedCacheTtls.put(name, ttl);
+        registerCustomCache(name, Caffeine.newBuilder()
+            .maximumSize(maximumSize)
+            .expireAfterWrite(ttl)
+            .recordStats()
+            .build());
+    }
+
+    @Override
+    protected Cache adaptCaffeineCache(String name, com.github.benmanes.caffeine.cache.Cache<Object, Object> cache) {
+        Cache local = super.adaptCaffeineCache(name, cache);
+        Duration ttl = sharedCacheTtls.get(name);
+        if (ttl == null) {
+            return local;
+        }
+        return new TwoLevelCache((CaffeineCache) local, sharedCacheStore, invalidationBus, ttl, nodeId);
+    }
+
+    private void onInvalidation(CacheInvalidation invalidation) {
+        if (nodeId.equals(invalidation.origin()) || !sharedCacheTtls.containsKey(invalidation.cacheName())) {
+            return;
+        }
+        if (getCache(invalidation.cacheName()) instanceof TwoLevelCache cache) {
+            if (invalidation.key() == null) {
+                cache.clearLocal();
+            } else {
+                cache.evictLocal(invalidation.key());
+            }
+        }
+    }
+}
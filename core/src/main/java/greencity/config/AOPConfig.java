@@ -4,7 +4,8 @@ import org.springframework.context.annotation.Configuration;
 import org.springframework.context.annotation.EnableAspectJAutoProxy;
 
 /**
- * Configuration for AOP-related parts of the application.
+ * Configuration for AOP-related parts of the application. Enables the aspects
+ * declared as components, such as {@code greencity.metrics.MethodTimingAspect}.
  */
 @Configuration
 @EnableAspectJAutoProxy
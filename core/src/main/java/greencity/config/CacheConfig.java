@@ -0,0 +1,178 @@
+package greencity.config;
+
+import com.github.benmanes.caffeine.cache.Caffeine;
+import com.github.benmanes.caffeine.cache.stats.CacheStats;
+import greencity.cache.CacheInvalidationBus;
+import greencity.cache.InProcessCacheInvalidationBus;
+import greencity.cache.RabbitCacheInvalidationBus;
+import greencity.cache.SharedCacheStore;
+import greencity.cache.TwoLevelCacheManager;
+import greencity.constant.CacheConstants;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.amqp.core.AnonymousQueue;
+import org.springframework.amqp.core.BindingBuilder;
+import org.springframework.amqp.core.Declarables;
+import org.springframework.amqp.core.FanoutExchange;
+import org.springframework.amqp.core.Queue;
+import org.springframework.amqp.rabbit.connection.ConnectionFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.cache.CacheManagerCustomizer;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.cache.Cache;
+import org.springframework.cache.CacheManager;
+import org.springframework.cache.caffeine.CaffeineCache;
+import org.springframework.cache.caffeine.CaffeineCacheManager;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.scheduling.annotation.Scheduled;
+import java.time.Duration;
+import java.util.List;
+
+@Slf4j
+@Configuration
+public class CacheConfig {
+    private static final String DEFAULT_AUTHENTICATED_USER_CACHE_SPEC =
+        "maximumSize=10000,expireAfterWrite=60s,recordStats";
+    private static final String DEFAULT_USER_LOOKUP_CACHE_SPEC = "maximumSize=10000,expireAfterWrite=5s,recordStats";
+    private static final List<String> USER_LOOKUP_CACHES = List.of(CacheConstants.USER_BY_EMAIL_CACHE,
+        CacheConstants.USER_BY_ID_CACHE, CacheConstants.USER_ID_BY_EMAIL_CACHE, CacheConstants.USER_LANG_CACHE);
+    private static final String CACHE_INVALIDATION_EXCHANGE = "greencity.cache.invalidation";
+    private final ObjectProvider<CacheManager> cacheManager;
+    @Value("${spring.cache.caffeine.spec:}")
+    private String defaultSpec;
+    @Value("${greencity.cache.newest-eco-news.maximum-size:10}")
+    private long newestEcoNewsMaximumSize;
+    @Value("${greencity.cache.newest-eco-news.ttl:PT1H}")
+    private Duration newestEcoNewsTtl;
+    @Value("${greencity.cache.habit-fact-of-day.maximum-size:50}")
+    private long habitFactOfDayMaximumSize;
+    @Value("${greencity.cache.habit-fact-of-day.ttl:PT24H}")
+    private Duration habitFactOfDayTtl;
+
+    /**
+     * Constructor.
+     */
+    public CacheConfig(ObjectProvider<CacheManager> cacheManager) {
+        this.cacheManager = cacheManager;
+    }
+
+    /**
+     * Cache manager of the application. Caches of data shared by all instances are
+     * {@link greencity.cache.TwoLevelCache}'s with their own size and TTL, they use
+     * the {@link SharedCacheStore} bean when there is one and drop local copies on
+     * invalidation messages of other instances. Other caches are local and
+     * configured by {@code spring.cache.caffeine.spec} and the customizers.
+     */
+    @Bean
+    public TwoLevelCacheManager cacheManager(ObjectProvider<SharedCacheStore> sharedCacheStore,
+        ObjectProvider<CacheInvalidationBus> invalidationBus,
+        ObjectProvider<CacheManagerCustomizer<CaffeineCacheManager>> customizers) {
+        TwoLevelCacheManager manager = new TwoLevelCacheManager(
+            sharedCacheStore.getIfAvailable(() -> SharedCacheStore.NONE),
+            invalidationBus.getIfAvailable(InProcessCacheInvalidationBus::new));
+        if (!defaultSpec.isBlank()) {
+            manager.setCacheSpecification(defaultSpec);
+        }
+        manager.registerSharedCache(CacheConstants.NEWEST_ECO_NEWS_CACHE_NAME, newestEcoNewsMaximumSize,
+            newestEcoNewsTtl);
+        manager.registerSharedCache(CacheConstants.HABIT_FACT_OF_DAY_CACHE, habitFactOfDayMaximumSize,
+            habitFactOfDayTtl);
+        customizers.orderedStream().forEach(customizer -> customizer.customize(manager));
+        return manager;
+    }
+
+    /**
+     * Exchange and queue of this instance that carry invalidations of shared caches
+     * when {@code greencity.cache.invalidation} is {@code rabbit}.
+     */
+    @Bean
+    @ConditionalOnProperty(name = "greencity.cache.invalidation", havingValue = "rabbit")
+    public Declarables cacheInvalidationDeclarables(Queue cacheInvalidationQueue) {
+        FanoutExchange exchange = new FanoutExchange(CACHE_INVALIDATION_EXCHANGE, true, false);
+        return new Declarables(exchange, cacheInvalidationQueue,
+            BindingBuilder.bind(cacheInvalidationQueue).to(exchange));
+    }
+
+    /**
+     * Auto-deleted queue of this instance for invalidations of shared caches.
+     */
+    @Bean
+    @ConditionalOnProperty(name = "greencity.cache.invalidation", havingValue = "rabbit")
+    public Queue cacheInvalidationQueue() {
+        return new AnonymousQueue();
+    }
+
+    /**
+     * Sends invalidations of shared caches to other instances through RabbitMQ.
+     */
+    @Bean
+    @ConditionalOnProperty(name = "greencity.cache.invalidation", havingValue = "rabbit")
+    public RabbitCacheInvalidationBus rabbitCacheInvalidationBus(ConnectionFactory connectionFactory,
+        Queue cacheInvalidationQueue) {
+        return new RabbitCacheInvalidationBus(connectionFactory, CACHE_INVALIDATION_EXCHANGE,
+            cacheInvalidationQueue);
+    }
+
+    /**
+     * Registers cache of authenticated users with its own size and TTL, because the
+     * common {@code spring.cache.caffeine.spec} keeps entries for a day.
+     *
+     * @param spec Caffeine specification of the cache, it should contain
+     *             {@code recordStats} to get hit/miss statistics.
+     */
+    @Bean
+    public CacheManagerCustomizer<CaffeineCacheManager> authenticatedUserCacheCustomizer(
+        @Value("${greencity.authentication.cache.spec:" + DEFAULT_AUTHENTICATED_USER_CACHE_SPEC + "}") String spec) {
+        return manager -> manager.registerCustomCache(CacheConstants.AUTHENTICATED_USER_CACHE,
+            Caffeine.from(spec).build());
+    }
+
+    /**
+     * Registers caches of user lookups made through {@code RestClient}. The TTL is
+     * short, because the user service may change users without notifying this
+     * service, while all changes made through {@code RestClient} evict them.
+     *
+     * @param spec Caffeine specification of every cache, it should contain
+     *             {@code recordStats} to get hit/miss statistics.
+     */
+    @Bean
+    public CacheManagerCustomizer<CaffeineCacheManager> userLookupCacheCustomizer(
+        @Value("${greencity.user-lookup.cache.spec:" + DEFAULT_USER_LOOKUP_CACHE_SPEC + "}") String spec) {
+        return manager -> USER_LOOKUP_CACHES
+            .forEach(name -> manager.registerCustomCache(name, Caffeine.from(spec).build()));
+    }
+
+    /**
+     * Logs hit/miss statistics of the authenticated users cache, so the amount of
+     * database lookups it saves is visible.
+     */
+    @Scheduled(fixedRateString = "${greencity.authentication.cache.statistics-log-rate:PT10M}",
+        initialDelayString = "${greencity.authentication.cache.statistics-log-rate:PT10M}")
+    public void logAuthenticatedUserCacheStatistics() {
+        logStatistics(CacheConstants.AUTHENTICATED_USER_CACHE);
+    }
+
+    /**
+     * Logs hit/miss statistics of the user lookup caches. Requests that did not
+     * load the value, because it was cached or already being loaded by another
+     * thread, are the remote calls saved.
+     */
+    @Scheduled(fixedRateString = "${greencity.user-lookup.cache.statistics-log-rate:PT10M}",
+        initialDelayString = "${greencity.user-lookup.cache.statistics-log-rate:PT10M}")
+    public void logUserLookupCacheStatistics() {
+        USER_LOOKUP_CACHES.forEach(this::logStatistics);
+    }
+
+    private void logStatistics(String cacheName) {
+        CacheManager manager = cacheManager.getIfAvailable();
+        Cache cache = manager == null ? null : manager.getCache(cacheName);
+        if (cache instanceof CaffeineCache caffeineCache) {
+            CacheStats stats = caffeineCache.getNativeCache().stats();
+            log.info("Cache {}: size={}, hits={}, misses={}, hitRate={}, evictions={}, loadsSaved={}", cacheName,
+                caffeineCache.getNativeCache().estimatedSize(), stats.hitCount(), stats.missCount(),
+                String.format("%.2f", stats.hitRate()), stats.evictionCount(),
+                stats.requestCount() - stats.loadCount());
+        }
+    }
+}
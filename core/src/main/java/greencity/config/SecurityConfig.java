@@ -1,10 +1,12 @@
 package greencity.config;
 
+import greencity.constant.CacheConstants;
 import greencity.security.filters.AccessTokenAuthenticationFilter;
 import greencity.security.jwt.JwtTool;
 import greencity.security.providers.JwtAuthenticationProvider;
 import greencity.service.UserService;
 import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.cache.CacheManager;
 import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
 import org.springframework.http.HttpMethod;
@@ -49,16 +51,18 @@ public class SecurityConfig {
     private final JwtTool jwtTool;
     private final UserService userService;
     private final AuthenticationConfiguration authenticationConfiguration;
+    private final CacheManager cacheManager;
 
     /**
      * Constructor.
      */
     @Autowired
     public SecurityConfig(JwtTool jwtTool, UserService userService,
-        AuthenticationConfiguration authenticationConfiguration) {
+        AuthenticationConfiguration authenticationConfiguration, CacheManager cacheManager) {
         this.jwtTool = jwtTool;
         this.userService = userService;
         this.authenticationConfiguration = authenticationConfiguration;
+        this.cacheManager = cacheManager;
     }
 
     /**
@@ -93,7 +97,8 @@ public class SecurityConfig {
             .csrf(AbstractHttpConfigurer::disable)
             .sessionManagement(session -> session.sessionCreationPolicy(STATELESS))
             .addFilterBefore(
-                new AccessTokenAuthenticationFilter(jwtTool, authenticationManager(), userService),
+                new AccessTokenAuthenticationFilter(jwtTool, authenticationManager(), userService,
+                    cacheManager.getCache(CacheConstants.AUTHENTICATED_USER_CACHE)),
                 UsernamePasswordAuthenticationFilter.class)
             .exceptionHandling(exception -> exception.authenticationEntryPoint((req, resp, exc) -> resp
                 .sendError(SC_UNAUTHORIZED, "Authorize first."))
@@ -135,6 +140,7 @@ public class SecurityConfig {
                     "/econews",
                     "/econews/newest",
                     "/econews/tags",
+                    "/econews/feed",
                     "/econews/tags/all",
                     "/econews/recommended",
                     "/econews/{id}",
@@ -165,6 +171,7 @@ public class SecurityConfig {
                     "/custom/shopping-list-items/{userId}/{habitId}",
                     "/econews/count",
                     "/econews/isLikedByUser",
+                    "/econews/byUserFeed",
                     "/shopping-list-items",
                     "/habit/assign/allForCurrentUser",
                     "/habit/assign/active/{date}",
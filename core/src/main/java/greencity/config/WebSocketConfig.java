@@ -1,23 +1,71 @@
 package greencity.config;
 
 import com.fasterxml.jackson.databind.ObjectMapper;
+import org.springframework.beans.factory.annotation.Value;
 import org.springframework.context.annotation.Configuration;
 import org.springframework.messaging.converter.DefaultContentTypeResolver;
 import org.springframework.messaging.converter.MappingJackson2MessageConverter;
 import org.springframework.messaging.converter.MessageConverter;
+import org.springframework.messaging.simp.config.ChannelRegistration;
 import org.springframework.messaging.simp.config.MessageBrokerRegistry;
 import org.springframework.util.MimeTypeUtils;
 import org.springframework.web.socket.config.annotation.EnableWebSocketMessageBroker;
 import org.springframework.web.socket.config.annotation.StompEndpointRegistry;
 import org.springframework.web.socket.config.annotation.WebSocketMessageBrokerConfigurer;
+import org.springframework.web.socket.config.annotation.WebSocketTransportRegistration;
+import java.time.Duration;
 import java.util.List;
 
 @Configuration
 @EnableWebSocketMessageBroker
 public class WebSocketConfig implements WebSocketMessageBrokerConfigurer {
+    private static final String RELAY_BROKER = "relay";
+
+    @Value("${greencity.websocket.broker:simple}")
+    private String broker;
+    @Value("${greencity.websocket.relay.host:localhost}")
+    private String relayHost;
+    @Value("${greencity.websocket.relay.port:61613}")
+    private int relayPort;
+    @Value("${greencity.websocket.relay.virtual-host:}")
+    private String relayVirtualHost;
+    @Value("${greencity.websocket.relay.login:guest}")
+    private String relayLogin;
+    @Value("${greencity.websocket.relay.passcode:guest}")
+    private String relayPasscode;
+    @Value("${greencity.websocket.inbound.pool-size:8}")
+    private int inboundPoolSize;
+    @Value("${greencity.websocket.inbound.queue-capacity:1000}")
+    private int inboundQueueCapacity;
+    @Value("${greencity.websocket.outbound.pool-size:8}")
+    private int outboundPoolSize;
+    @Value("${greencity.websocket.outbound.queue-capacity:1000}")
+    private int outboundQueueCapacity;
+    @Value("${greencity.websocket.send-time-limit:PT10S}")
+    private Duration sendTimeLimit;
+    @Value("${greencity.websocket.send-buffer-size-limit:524288}")
+    private int sendBufferSizeLimit;
+
+    /**
+     * Topics are served by the in-memory broker of this instance, or, when
+     * {@code greencity.websocket.broker} is {@code relay}, by an external STOMP
+     * broker (for example RabbitMQ with the STOMP plugin) shared by all instances.
+     * Queues carry replies sent to one user or session.
+     */
     @Override
     public void configureMessageBroker(MessageBrokerRegistry config) {
-        config.enableSimpleBroker("/topic");
+        if (RELAY_BROKER.equals(broker)) {
+            config.enableStompBrokerRelay("/topic", "/queue")
+                .setRelayHost(relayHost)
+                .setRelayPort(relayPort)
+                .setVirtualHost(relayVirtualHost.isEmpty() ? null : relayVirtualHost)
+                .setClientLogin(relayLogin)
+                .setClientPasscode(relayPasscode)
+                .setSystemLogin(relayLogin)
+                .setSystemPasscode(relayPasscode);
+        } else {
+            config.enableSimpleBroker("/topic", "/queue");
+        }
         config.setApplicationDestinationPrefixes("/app");
     }
 
@@ -28,6 +76,39 @@ public class WebSocketConfig implements WebSocketMessageBrokerConfigurer {
             .withSockJS();
     }
 
+    /**
+     * Messages from clients are handled by a bounded pool of threads.
+     */
+    @Override
+    public void configureClientInboundChannel(ChannelRegistration registration) {
+        registration.taskExecutor()
+            .corePoolSize(inboundPoolSize)
+            .maxPoolSize(inboundPoolSize)
+            .queueCapacity(inboundQueueCapacity);
+    }
+
+    /**
+     * Messages to clients are sent by a bounded pool of threads.
+     */
+    @Override
+    public void configureClientOutboundChannel(ChannelRegistration registration) {
+        registration.taskExecutor()
+            .corePoolSize(outboundPoolSize)
+            .maxPoolSize(outboundPoolSize)
+            .queueCapacity(outboundQueueCapacity);
+    }
+
+    /**
+     * A slow client is disconnected when sending to it takes longer than the time
+     * limit or its buffered messages exceed the size limit, so it does not hold the
+     * outbound threads.
+     */
+    @Override
+    public void configureWebSocketTransport(WebSocketTransportRegistration registration) {
+        registration.setSendTimeLimit((int) sendTimeLimit.toMillis())
+            .setSendBufferSizeLimit(sendBufferSizeLimit);
+    }
+
     @Override
     public boolean configureMessageConverters(List<MessageConverter> messageConverters) {
         DefaultContentTypeResolver resolver = new DefaultContentTypeResolver();
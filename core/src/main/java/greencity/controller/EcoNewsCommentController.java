@@ -21,6 +21,7 @@ import org.springframework.http.HttpStatus;
 import org.springframework.http.ResponseEntity;
 import org.springframework.messaging.handler.annotation.MessageMapping;
 import org.springframework.messaging.handler.annotation.Payload;
+import org.springframework.messaging.simp.annotation.SendToUser;
 import org.springframework.validation.annotation.Validated;
 import org.springframework.web.bind.annotation.*;
 import jakarta.validation.Valid;
@@ -170,13 +171,17 @@ public class EcoNewsCommentController {
     }
 
     /**
-     * Method to like/dislike comment and count likes.
+     * Method to like/dislike comment and count likes. The count is sent to the
+     * comment topic, the liked state is sent back to the sender only.
      *
      * @param amountCommentLikesDto dto with id and count likes for comments.
+     * @return {@link AmountCommentLikesDto} with count of likes and liked state of
+     *         the sender.
      */
     @MessageMapping("/likeAndCount")
-    public void getCountOfLike(@Payload AmountCommentLikesDto amountCommentLikesDto) {
-        ecoNewsCommentService.countLikes(amountCommentLikesDto);
+    @SendToUser(destinations = "/queue/comment-likes", broadcast = false)
+    public AmountCommentLikesDto getCountOfLike(@Payload AmountCommentLikesDto amountCommentLikesDto) {
+        return ecoNewsCommentService.countLikes(amountCommentLikesDto);
     }
 
     /**
@@ -3,6 +3,7 @@ package greencity.controller;
 import greencity.annotations.*;
 import greencity.constant.HttpStatuses;
 import greencity.constant.SwaggerExampleModel;
+import greencity.dto.CursorPageDto;
 import greencity.dto.PageableAdvancedDto;
 import greencity.dto.econews.*;
 import greencity.dto.tag.TagDto;
@@ -277,6 +278,52 @@ public class EcoNewsController {
         return ResponseEntity.status(HttpStatus.OK).body(ecoNewsService.find(page, tags));
     }
 
+    /**
+     * Method for getting the eco news feed by cursor. Unlike the page endpoints it
+     * does not skip rows, so deep pages cost the same as the first one.
+     *
+     * @return {@link CursorPageDto} of {@link EcoNewsGenericDto} instances.
+     */
+    @Operation(summary = "Get eco news feed by cursor")
+    @ApiResponses(value = {
+        @ApiResponse(responseCode = "200", description = HttpStatuses.OK),
+        @ApiResponse(responseCode = "400", description = HttpStatuses.BAD_REQUEST)
+    })
+    @GetMapping("/feed")
+    public ResponseEntity<CursorPageDto<EcoNewsGenericDto>> getEcoNewsFeed(
+        @Parameter(description = "Cursor returned with the previous page") @RequestParam(
+            required = false) String cursor,
+        @Parameter(description = "Amount of news on the page") @RequestParam(defaultValue = "10") int size,
+        @Parameter(description = "Tags to filter (if do not input tags get all)") @RequestParam(
+            required = false) List<String> tags,
+        @Parameter(description = "Whether to count the total amount of news") @RequestParam(
+            defaultValue = "false") boolean withTotal) {
+        return ResponseEntity.status(HttpStatus.OK).body(ecoNewsService.findFeed(cursor, size, tags, withTotal));
+    }
+
+    /**
+     * Method for getting the authorised user eco news feed by cursor.
+     *
+     * @return {@link CursorPageDto} of {@link EcoNewsGenericDto} instances.
+     */
+    @Operation(summary = "Get eco news feed of authorised user by cursor")
+    @ApiResponses(value = {
+        @ApiResponse(responseCode = "200", description = HttpStatuses.OK),
+        @ApiResponse(responseCode = "400", description = HttpStatuses.BAD_REQUEST),
+        @ApiResponse(responseCode = "401", description = HttpStatuses.UNAUTHORIZED)
+    })
+    @GetMapping("/byUserFeed")
+    public ResponseEntity<CursorPageDto<EcoNewsGenericDto>> getEcoNewsFeedByUser(
+        @Parameter(hidden = true) @CurrentUser UserVO user,
+        @Parameter(description = "Cursor returned with the previous page") @RequestParam(
+            required = false) String cursor,
+        @Parameter(description = "Amount of news on the page") @RequestParam(defaultValue = "10") int size,
+        @Parameter(description = "Whether to count the total amount of news") @RequestParam(
+            defaultValue = "false") boolean withTotal) {
+        return ResponseEntity.status(HttpStatus.OK)
+            .body(ecoNewsService.findFeedByUser(user, cursor, size, withTotal));
+    }
+
     /**
      * Method for getting three eco news for recommendations widget.
      *
@@ -0,0 +1,68 @@
+package greencity.exporter;
+
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.stereotype.Component;
+import java.io.BufferedWriter;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.io.OutputStreamWriter;
+import java.io.UncheckedIOException;
+import java.io.Writer;
+import java.nio.charset.StandardCharsets;
+
+/**
+ * This class is used for export {@link greencity.entity.RatingStatistics} data
+ * to CSV file. Every row is written to the stream as soon as it is received.
+ */
+@Slf4j
+@Component
+public class RatingCsvExporter {
+    private static final char SEPARATOR = ',';
+
+    /**
+     * Export {@link greencity.entity.RatingStatistics} data to CSV file.
+     *
+     * @param outputStream stream the file is written to.
+     * @param source       rows of the file.
+     */
+    public void export(OutputStream outputStream, RatingStatisticsSource source) {
+        Writer writer = new BufferedWriter(new OutputStreamWriter(outputStream, StandardCharsets.UTF_8));
+        try {
+            writeLine(writer, RatingExcelExporter.HEADERS);
+            source.forEach(dto -> {
+                try {
+                    writeLine(writer, RatingExcelExporter.toValues(dto));
+                } catch (IOException ex) {
+                    throw new UncheckedIOException(ex);
+                }
+            });
+            writer.flush();
+        } catch (IOException | UncheckedIOException ex) {
+            log.error("Export to csv file error {}", ex.getMessage());
+        }
+    }
+
+    private static void writeLine(Writer writer, String[] values) throws IOException {
+        for (int i = 0; i < values.length; i++) {
+            if (i > 0) {
+                writer.write(SEPARATOR);
+            }
+            writer.write(escape(values[i]));
+        }
+        writer.write("\r\n");
+    }
+
+    /**
+     * Quotes the value if it contains a separator, a quote or a line break.
+     */
+    static String escape(String value) {
+        if (value == null) {
+            return "";
+        }
+        if (value.indexOf(SEPARATOR) < 0 && value.indexOf('"') < 0
+            && value.indexOf('\n') < 0 && value.indexOf('\r') < 0) {
+            return value;
+        }
+        return '"' + value.replace("\"", "\"\"") + '"';
+    }
+}
@@ -1,79 +1,96 @@
 package greencity.exporter;
 
-import greencity.dto.ratingstatistics.RatingStatisticsDto;
+import greencity.dto.ratingstatistics.RatingStatisticsDtoForTables;
 import lombok.extern.slf4j.Slf4j;
 import org.apache.poi.ss.usermodel.Cell;
 import org.apache.poi.ss.usermodel.CellStyle;
+import org.apache.poi.ss.usermodel.Font;
 import org.apache.poi.ss.usermodel.Row;
-import org.apache.poi.ss.usermodel.Sheet;
-import org.apache.poi.xssf.usermodel.XSSFFont;
-import org.apache.poi.xssf.usermodel.XSSFSheet;
-import org.apache.poi.xssf.usermodel.XSSFWorkbook;
+import org.apache.poi.xssf.streaming.SXSSFSheet;
+import org.apache.poi.xssf.streaming.SXSSFWorkbook;
 import org.springframework.stereotype.Component;
 import java.io.IOException;
 import java.io.OutputStream;
-import java.util.List;
 
 /**
  * This class is used for export {@link greencity.entity.RatingStatistics} data
- * to Excel file.
+ * to Excel file. Rows are written with {@link SXSSFWorkbook}, which keeps only
+ * a small window of rows in memory and flushes the rest to a temporary file.
  *
  * @author Dovganyuk Taras
  */
 @Slf4j
 @Component
 public class RatingExcelExporter {
+    static final String[] HEADERS =
+        {"Id", "Event", "Date", "UserId", "User email", "Points changed", "Current rating"};
+    private static final int ROW_ACCESS_WINDOW_SIZE = 100;
+    private static final int MAX_COLUMN_WIDTH = 255 * 256;
+    private static final int HEADER_FONT_HEIGHT = 14;
+
     /**
-     * Export {@link greencity.entity.RatingStatistics} data to Excel file.
+     * Export {@link greencity.entity.RatingStatistics} data to Excel file. Column
+     * widths are measured while writing and applied once at the end.
      *
+     * @param outputStream stream the file is written to.
+     * @param source       rows of the file.
      * @author Dovganyuk Taras
      */
-    public void export(OutputStream outputStream, List<RatingStatisticsDto> ratingStatisticsDtoList) {
-        try (XSSFWorkbook workbook = new XSSFWorkbook()) {
+    public void export(OutputStream outputStream, RatingStatisticsSource source) {
+        SXSSFWorkbook workbook = new SXSSFWorkbook(ROW_ACCESS_WINDOW_SIZE);
+        workbook.setCompressTempFiles(true);
+        try (workbook) {
             CellStyle style = workbook.createCellStyle();
-            XSSFFont font = workbook.createFont();
+            Font font = workbook.createFont();
             font.setBold(true);
-            font.setFontHeight(14);
+            font.setFontHeightInPoints((short) HEADER_FONT_HEIGHT);
             style.setFont(font);
 
-            XSSFSheet sheet = workbook.createSheet("Rating");
-            Row row = sheet.createRow(0);
-            setCell(row, 0, style, "Id");
-            setCell(row, 1, style, "Event");
-            setCell(row, 2, style, "Date");
-            setCell(row, 3, style, "UserId");
-            setCell(row, 4, style, "User email");
-            setCell(row, 5, style, "Points changed");
-            setCell(row, 6, style, "Current rating");
+            SXSSFSheet sheet = workbook.createSheet("Rating");
+            int[] columnWidths = new int[HEADERS.length];
+            setCells(sheet.createRow(0), HEADERS, style, columnWidths);
 
-            int rowCount = 1;
-            for (RatingStatisticsDto dto : ratingStatisticsDtoList) {
-                row = sheet.createRow(rowCount++);
+            int[] rowCount = {1};
+            source.forEach(dto -> setCells(sheet.createRow(rowCount[0]++), toValues(dto), null, columnWidths));
 
-                setCell(row, 0, dto.getId().toString(), sheet);
-                setCell(row, 1, dto.getRatingCalculationEnum().toString(), sheet);
-                setCell(row, 2, dto.getCreateDate().toString(), sheet);
-                setCell(row, 3, dto.getUser().getId().toString(), sheet);
-                setCell(row, 4, dto.getUser().getEmail(), sheet);
-                setCell(row, 5, Float.toString(dto.getPointsChanged()), sheet);
-                setCell(row, 6, Float.toString(dto.getRating()), sheet);
+            for (int i = 0; i < columnWidths.length; i++) {
+                sheet.setColumnWidth(i, Math.min(MAX_COLUMN_WIDTH, (columnWidths[i] + 2) * 256));
             }
-
             workbook.write(outputStream);
         } catch (IOException ex) {
             log.error("Export to excel file error {}", ex.getMessage());
+        } finally {
+            workbook.dispose();
         }
     }
 
-    private static void setCell(Row row, Integer cellNumber, CellStyle style, String cellName) {
-        Cell cell = row.createCell(cellNumber);
-        cell.setCellStyle(style);
-        cell.setCellValue(cellName);
+    /**
+     * Returns values of the row cells in the order of {@link #HEADERS}.
+     */
+    static String[] toValues(RatingStatisticsDtoForTables dto) {
+        return new String[] {
+            dto.getId().toString(),
+            dto.getEventName(),
+            dto.getCreateDate().toString(),
+            Long.toString(dto.getUserId()),
+            dto.getUserEmail(),
+            Float.toString(dto.getPointsChanged()),
+            Float.toString(dto.getRating())
+        };
     }
 
-    private static void setCell(Row row, Integer cellNumber, String value, Sheet sheet) {
-        Cell cell = row.createCell(cellNumber);
-        cell.setCellValue(value);
-        sheet.autoSizeColumn(cellNumber);
+    private static void setCells(Row row, String[] values, CellStyle style, int[] columnWidths) {
+        for (int i = 0; i < values.length; i++) {
+            Cell cell = row.createCell(i);
+            if (style != null) {
+                cell.setCellStyle(style);
+            }
+            cell.setCellValue(values[i]);
+            int width = values[i] == null ? 0 : values[i].length();
+            if (style != null) {
+                width = width * HEADER_FONT_HEIGHT / 11;
+            }
+            columnWidths[i] = Math.max(columnWidths[i], width);
+        }
     }
 }
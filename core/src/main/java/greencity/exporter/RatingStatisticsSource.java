@@ -0,0 +1,18 @@
+package greencity.exporter;
+
+import greencity.dto.ratingstatistics.RatingStatisticsDtoForTables;
+import java.util.function.Consumer;
+
+/**
+ * Source of rating statistics rows for export. Rows are pushed to the consumer
+ * one by one, so exporters never hold the whole data set.
+ */
+@FunctionalInterface
+public interface RatingStatisticsSource {
+    /**
+     * Passes every row of the export to the consumer.
+     *
+     * @param consumer receives rows.
+     */
+    void forEach(Consumer<RatingStatisticsDtoForTables> consumer);
+}
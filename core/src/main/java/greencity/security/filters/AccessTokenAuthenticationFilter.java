@@ -5,6 +5,7 @@ import greencity.security.jwt.JwtTool;
 import greencity.service.UserService;
 import io.jsonwebtoken.ExpiredJwtException;
 import lombok.extern.slf4j.Slf4j;
+import org.springframework.cache.Cache;
 import org.springframework.security.authentication.AuthenticationManager;
 import org.springframework.security.authentication.UsernamePasswordAuthenticationToken;
 import org.springframework.security.core.Authentication;
@@ -30,15 +31,20 @@ public class AccessTokenAuthenticationFilter extends OncePerRequestFilter {
     private final JwtTool jwtTool;
     private final AuthenticationManager authenticationManager;
     private final UserService userService;
+    private final Cache authenticatedUserCache;
 
     /**
      * Constructor.
+     *
+     * @param authenticatedUserCache cache of not deactivated users by email, may be
+     *                               {@code null} to always read the user.
      */
     public AccessTokenAuthenticationFilter(JwtTool jwtTool, AuthenticationManager authenticationManager,
-        UserService userService) {
+        UserService userService, Cache authenticatedUserCache) {
         this.jwtTool = jwtTool;
         this.authenticationManager = authenticationManager;
         this.userService = userService;
+        this.authenticatedUserCache = authenticatedUserCache;
     }
 
     private String getTokenFromCookies(Cookie[] cookies) {
@@ -77,7 +83,7 @@ public class AccessTokenAuthenticationFilter extends OncePerRequestFilter {
             try {
                 Authentication authentication = authenticationManager
                     .authenticate(new UsernamePasswordAuthenticationToken(token, null));
-                Optional<UserVO> user = userService.findNotDeactivatedByEmail((String) authentication.getPrincipal());
+                Optional<UserVO> user = findNotDeactivatedUser((String) authentication.getPrincipal());
                 if (user.isPresent()) {
                     log.debug("User successfully authenticate - {}", authentication.getPrincipal());
                     SecurityContextHolder.getContext().setAuthentication(authentication);
@@ -90,4 +96,22 @@ public class AccessTokenAuthenticationFilter extends OncePerRequestFilter {
         }
         chain.doFilter(request, response);
     }
+
+    /**
+     * Returns not deactivated user from the cache or, on a miss, from
+     * {@link UserService} and remembers him until the entry expires or user's
+     * status or role is changed.
+     */
+    private Optional<UserVO> findNotDeactivatedUser(String email) {
+        if (authenticatedUserCache == null) {
+            return userService.findNotDeactivatedByEmail(email);
+        }
+        UserVO cachedUser = authenticatedUserCache.get(email, UserVO.class);
+        if (cachedUser != null) {
+            return Optional.of(cachedUser);
+        }
+        Optional<UserVO> user = userService.findNotDeactivatedByEmail(email);
+        user.ifPresent(userVO -> authenticatedUserCache.put(email, userVO));
+        return user;
+    }
 }
@@ -0,0 +1,29 @@
+package greencity.webcontroller;
+
+import greencity.service.MetricsService;
+import lombok.RequiredArgsConstructor;
+import org.springframework.stereotype.Controller;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.ResponseBody;
+import java.util.Map;
+
+@Controller
+@RequiredArgsConstructor
+@RequestMapping("/management/metrics")
+public class ManagementMetricsController {
+    private final MetricsService metricsService;
+
+    /**
+     * Method returns latency histograms of HTTP endpoints, service and repository
+     * methods, amounts of SQL statements, statistics of outbound HTTP calls and
+     * progress of the last habit notification run.
+     *
+     * @return metrics by section.
+     */
+    @GetMapping
+    @ResponseBody
+    public Map<String, Object> getMetrics() {
+        return metricsService.getMetrics();
+    }
+}
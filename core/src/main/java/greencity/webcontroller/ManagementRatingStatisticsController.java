@@ -2,11 +2,12 @@ package greencity.webcontroller;
 
 import greencity.annotations.ApiPageable;
 import greencity.dto.PageableAdvancedDto;
-import greencity.dto.ratingstatistics.RatingStatisticsDto;
 import greencity.dto.ratingstatistics.RatingStatisticsDtoForTables;
 import greencity.dto.ratingstatistics.RatingStatisticsVO;
 import greencity.dto.ratingstatistics.RatingStatisticsViewDto;
+import greencity.exporter.RatingCsvExporter;
 import greencity.exporter.RatingExcelExporter;
+import greencity.exporter.RatingStatisticsSource;
 import greencity.service.RatingStatisticsService;
 import io.swagger.v3.oas.annotations.Operation;
 import org.springframework.beans.factory.annotation.Autowired;
@@ -21,13 +22,13 @@ import org.springframework.web.bind.annotation.CrossOrigin;
 import org.springframework.web.bind.annotation.GetMapping;
 import org.springframework.web.bind.annotation.PostMapping;
 import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RequestParam;
 import springfox.documentation.annotations.ApiIgnore;
 import jakarta.servlet.http.HttpServletResponse;
 import java.io.IOException;
 import java.text.DateFormat;
 import java.text.SimpleDateFormat;
 import java.util.Date;
-import java.util.List;
 
 @Controller
 @RequestMapping("/management/rating")
@@ -35,6 +36,9 @@ import java.util.List;
 public class ManagementRatingStatisticsController {
     private RatingStatisticsService ratingStatisticsService;
     private RatingExcelExporter ratingExcelExporter;
+    private RatingCsvExporter ratingCsvExporter;
+    private static final String XLSX = "xlsx";
+    private static final String CSV = "csv";
     private final DateFormat dateFormat = new SimpleDateFormat("yyyy-MM-dd");
 
     /**
@@ -42,9 +46,10 @@ public class ManagementRatingStatisticsController {
      */
     @Autowired
     public ManagementRatingStatisticsController(RatingStatisticsService ratingStatisticsService,
-        RatingExcelExporter ratingExcelExporter) {
+        RatingExcelExporter ratingExcelExporter, RatingCsvExporter ratingCsvExporter) {
         this.ratingStatisticsService = ratingStatisticsService;
         this.ratingExcelExporter = ratingExcelExporter;
+        this.ratingCsvExporter = ratingCsvExporter;
     }
 
     /**
@@ -67,47 +72,49 @@ public class ManagementRatingStatisticsController {
     }
 
     /**
-     * Export {@link RatingStatisticsVO} to Excel file.
+     * Export {@link RatingStatisticsVO} to Excel or CSV file.
      *
+     * @param format {@code xlsx} (default) or {@code csv}.
      * @author Dovganyuk Taras
      */
     @GetMapping("/export")
-    public void exportToExcel(HttpServletResponse response) throws IOException {
-        response.setContentType("application/octet-stream");
-        String headerKey = "Content-Disposition";
-
-        String currentDate = dateFormat.format(new Date());
-        String fileName = "user_rating_statistics" + currentDate + ".xlsx";
-        String headerValue = "attachment; filename=" + fileName;
-
-        response.setHeader(headerKey, headerValue);
-
-        List<RatingStatisticsDto> ratingStatisticsList = ratingStatisticsService.getAllRatingStatistics();
-        ratingExcelExporter.export(response.getOutputStream(), ratingStatisticsList);
+    public void exportToExcel(HttpServletResponse response,
+        @RequestParam(defaultValue = XLSX) String format) throws IOException {
+        export(response, format, consumer -> ratingStatisticsService.exportRatingStatistics(null, consumer));
     }
 
     /**
-     * Export filtered {@link RatingStatisticsVO} to Excel file.
+     * Export filtered {@link RatingStatisticsVO} to Excel or CSV file.
      *
+     * @param format {@code xlsx} (default) or {@code csv}.
      * @author Dovganyuk Taras
      */
     @PostMapping(value = "/exportFiltered", consumes = MediaType.APPLICATION_FORM_URLENCODED_VALUE)
     public void exportFilteredToExcel(HttpServletResponse response,
-        RatingStatisticsViewDto ratingStatisticsViewDto)
+        RatingStatisticsViewDto ratingStatisticsViewDto,
+        @RequestParam(defaultValue = XLSX) String format)
+        throws IOException {
+        export(response, format,
+            consumer -> ratingStatisticsService.exportRatingStatistics(ratingStatisticsViewDto, consumer));
+    }
+
+    private void export(HttpServletResponse response, String format, RatingStatisticsSource source)
         throws IOException {
-        response.setContentType("application/octet-stream");
+        boolean csv = CSV.equalsIgnoreCase(format);
+        response.setContentType(csv ? "text/csv" : "application/octet-stream");
         String headerKey = "Content-Disposition";
 
         String currentDate = dateFormat.format(new Date());
-        String fileName = "user_rating_statistics" + currentDate + ".xlsx";
+        String fileName = "user_rating_statistics" + currentDate + (csv ? ".csv" : ".xlsx");
         String headerValue = "attachment; filename=" + fileName;
 
         response.setHeader(headerKey, headerValue);
 
-        List<RatingStatisticsDto> ratingStatisticsList =
-            ratingStatisticsService
-                .getFilteredRatingStatisticsForExcel(ratingStatisticsViewDto);
-        ratingExcelExporter.export(response.getOutputStream(), ratingStatisticsList);
+        if (csv) {
+            ratingCsvExporter.export(response.getOutputStream(), source);
+        } else {
+            ratingExcelExporter.export(response.getOutputStream(), source);
+        }
     }
 
     /**
@@ -0,0 +1,91 @@
+package greencity.cache;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.cache.Cache;
+import org.springframework.cache.caffeine.CaffeineCache;
+import java.time.Duration;
+import java.util.concurrent.atomic.AtomicInteger;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertInstanceOf;
+import static org.junit.jupiter.api.Assertions.assertNull;
+
+class TwoLevelCacheManagerTest {
+    private static final String SHARED_CACHE = "shared_cache";
+
+    private InMemorySharedCacheStore sharedCacheStore;
+    private TwoLevelCacheManager firstNode;
+    private TwoLevelCacheManager secondNode;
+    private final AtomicInteger loads = new AtomicInteger();
+
+    @BeforeEach
+    void setUp() {
+        sharedCacheStore = new InMemorySharedCacheStore();
+        InProcessCacheInvalidationBus invalidationBus = new InProcessCacheInvalidationBus();
+        firstNode = new TwoLevelCacheManager(sharedCacheStore, invalidationBus);
+        secondNode = new TwoLevelCacheManager(sharedCacheStore, invalidationBus);
+        firstNode.registerSharedCache(SHARED_CACHE, 10, Duration.ofMinutes(1));
+        secondNode.registerSharedCache(SHARED_CACHE, 10, Duration.ofMinutes(1));
+    }
+
+    @Test
+    void valueLoadedByOneNodeIsReadFromSharedStoreByOtherNodeTest() {
+        assertEquals("value", firstNode.getCache(SHARED_CACHE).get(1L, this::load));
+        assertEquals("value", secondNode.getCache(SHARED_CACHE).get(1L, this::load));
+
+        assertEquals(1, loads.get());
+    }
+
+    @Test
+    void evictOnOneNodeRemovesLocalValueOfOtherNodeTest() {
+        Cache firstCache = firstNode.getCache(SHARED_CACHE);
+        Cache secondCache = secondNode.getCache(SHARED_CACHE);
+        firstCache.get(1L, this::load);
+        secondCache.get(1L, this::load);
+
+        firstCache.evict(1L);
+
+        assertNull(secondCache.get(1L));
+        assertEquals("value", secondCache.get(1L, this::load));
+        assertEquals(2, loads.get());
+    }
+
+    @Test
+    void valuePutAfterMissOnOneNodeKeepsLocalValueOfOtherNodeTest() {
+        Cache firstCache = firstNode.getCache(SHARED_CACHE);
+        Cache secondCache = secondNode.getCache(SHARED_CACHE);
+        firstCache.get(1L, this::load);
+        sharedCacheStore.evict(SHARED_CACHE, 1L);
+
+        assertNull(secondCache.get(1L));
+        secondCache.put(1L, "reloaded");
+
+        assertEquals("value", firstCache.get(1L, String.class));
+        assertEquals("reloaded", secondCache.get(1L, String.class));
+    }
+
+    @Test
+    void clearOnOneNodeClearsOtherNodeTest() {
+        firstNode.getCache(SHARED_CACHE).put(1L, "old");
+        assertEquals("old", secondNode.getCache(SHARED_CACHE).get(1L, String.class));
+
+        firstNode.getCache(SHARED_CACHE).clear();
+
+        assertNull(secondNode.getCache(SHARED_CACHE).get(1L));
+    }
+
+    @Test
+    void otherCachesStayLocalTest() {
+        Cache localCache = firstNode.getCache("local_cache");
+        localCache.put(1L, "value");
+
+        assertInstanceOf(CaffeineCache.class, localCache);
+        assertInstanceOf(TwoLevelCache.class, firstNode.getCache(SHARED_CACHE));
+        assertNull(secondNode.getCache("local_cache").get(1L));
+    }
+
+    private String load() {
+        loads.incrementAndGet();
+        return "value";
+    }
+}
@@ -0,0 +1,142 @@
+package greencity.config;
+
+import greencity.client.RestClient;
+import greencity.constant.CacheConstants;
+import greencity.dto.user.UserVO;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.cache.CacheManager;
+import org.springframework.cache.annotation.EnableCaching;
+import org.springframework.cache.caffeine.CaffeineCacheManager;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.http.HttpEntity;
+import org.springframework.http.HttpMethod;
+import org.springframework.http.ResponseEntity;
+import org.springframework.test.context.ContextConfiguration;
+import org.springframework.test.context.TestPropertySource;
+import org.springframework.test.context.junit.jupiter.SpringExtension;
+import org.springframework.web.client.RestTemplate;
+
+import jakarta.servlet.http.HttpServletRequest;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CountDownLatch;
+import java.util.stream.IntStream;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNotNull;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.reset;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+@ExtendWith(SpringExtension.class)
+@ContextConfiguration(classes = UserLookupCacheTest.TestConfig.class)
+@TestPropertySource(properties = "greencityuser.server.address=http://localhost:8060")
+class UserLookupCacheTest {
+    private static final String EMAIL = "test@gmail.com";
+
+    @Autowired
+    private RestClient restClient;
+
+    @Autowired
+    private RestTemplate restTemplate;
+
+    @Autowired
+    private CacheManager cacheManager;
+
+    @BeforeEach
+    void setUp() {
+        reset(restTemplate);
+        cacheManager.getCacheNames().forEach(name -> cacheManager.getCache(name).clear());
+        when(restTemplate.exchange(anyString(), eq(HttpMethod.GET), any(HttpEntity.class), eq(UserVO.class)))
+            .thenReturn(ResponseEntity.ok(UserVO.builder().id(1L).email(EMAIL).build()));
+        when(restTemplate.exchange(anyString(), eq(HttpMethod.POST), any(HttpEntity.class), eq(Object.class)))
+            .thenReturn(ResponseEntity.ok().build());
+    }
+
+    @Test
+    void findByEmailIsCachedUntilUserIsSavedTest() {
+        restClient.findByEmail(EMAIL);
+        restClient.findByEmail(EMAIL);
+
+        verify(restTemplate, times(1)).exchange(anyString(), eq(HttpMethod.GET), any(HttpEntity.class),
+            eq(UserVO.class));
+
+        restClient.save(UserVO.builder().id(1L).email(EMAIL).build(), "token");
+        restClient.findByEmail(EMAIL);
+
+        verify(restTemplate, times(2)).exchange(anyString(), eq(HttpMethod.GET), any(HttpEntity.class),
+            eq(UserVO.class));
+    }
+
+    @Test
+    void saveEvictsOnlyLookupsOfSavedUserTest() {
+        String otherEmail = "other@gmail.com";
+        restClient.findByEmail(EMAIL);
+        restClient.findById(1L);
+        restClient.findByEmail(otherEmail);
+        restClient.findById(2L);
+        cacheManager.getCache(CacheConstants.AUTHENTICATED_USER_CACHE).put(EMAIL, UserVO.builder().id(1L).build());
+        cacheManager.getCache(CacheConstants.AUTHENTICATED_USER_CACHE).put(otherEmail,
+            UserVO.builder().id(2L).build());
+
+        restClient.save(UserVO.builder().id(1L).email(EMAIL).build(), "token");
+
+        assertNull(cacheManager.getCache(CacheConstants.USER_BY_EMAIL_CACHE).get(EMAIL));
+        assertNull(cacheManager.getCache(CacheConstants.USER_BY_ID_CACHE).get(1L));
+        assertNull(cacheManager.getCache(CacheConstants.AUTHENTICATED_USER_CACHE).get(EMAIL));
+        assertNotNull(cacheManager.getCache(CacheConstants.USER_BY_EMAIL_CACHE).get(otherEmail));
+        assertNotNull(cacheManager.getCache(CacheConstants.USER_BY_ID_CACHE).get(2L));
+        assertNotNull(cacheManager.getCache(CacheConstants.AUTHENTICATED_USER_CACHE).get(otherEmail));
+    }
+
+    @Test
+    void concurrentMissesShareOneRemoteCallTest() {
+        CountDownLatch release = new CountDownLatch(1);
+        when(restTemplate.exchange(anyString(), eq(HttpMethod.GET), any(HttpEntity.class), eq(UserVO.class)))
+            .thenAnswer(invocation -> {
+                release.await();
+                return ResponseEntity.ok(UserVO.builder().id(2L).build());
+            });
+
+        List<CompletableFuture<UserVO>> lookups = IntStream.range(0, 8)
+            .mapToObj(i -> CompletableFuture.supplyAsync(() -> restClient.findById(2L)))
+            .toList();
+        release.countDown();
+
+        lookups.forEach(lookup -> assertEquals(2L, lookup.join().getId()));
+        verify(restTemplate, times(1)).exchange(anyString(), eq(HttpMethod.GET), any(HttpEntity.class),
+            eq(UserVO.class));
+    }
+
+    @Configuration
+    @EnableCaching
+    static class TestConfig {
+        @Bean
+        RestTemplate restTemplate() {
+            return mock(RestTemplate.class);
+        }
+
+        @Bean
+        RestClient restClient(RestTemplate restTemplate) {
+            return new RestClient(restTemplate, mock(HttpServletRequest.class));
+        }
+
+        @Bean
+        CacheManager cacheManager() {
+            CaffeineCacheManager cacheManager = new CaffeineCacheManager();
+            new CacheConfig(null).userLookupCacheCustomizer("maximumSize=100,expireAfterWrite=5s,recordStats")
+                .customize(cacheManager);
+            return cacheManager;
+        }
+    }
+}
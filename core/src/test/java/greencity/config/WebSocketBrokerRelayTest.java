@@ -0,0 +1,104 @@
+package greencity.config;
+
+import greencity.dto.econewscomment.CommentLikesCountDto;
+import greencity.notification.CommentLikesBroadcaster;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.core.env.MapPropertySource;
+import org.springframework.messaging.converter.MappingJackson2MessageConverter;
+import org.springframework.messaging.simp.broker.AbstractBrokerMessageHandler;
+import org.springframework.messaging.simp.stomp.ReactorNettyTcpStompClient;
+import org.springframework.messaging.simp.stomp.StompFrameHandler;
+import org.springframework.messaging.simp.stomp.StompHeaders;
+import org.springframework.messaging.simp.stomp.StompSession;
+import org.springframework.messaging.simp.stomp.StompSessionHandlerAdapter;
+import org.springframework.mock.web.MockServletContext;
+import org.springframework.web.context.support.AnnotationConfigWebApplicationContext;
+import org.testcontainers.containers.GenericContainer;
+import org.testcontainers.containers.wait.strategy.Wait;
+import org.testcontainers.junit.jupiter.Container;
+import org.testcontainers.junit.jupiter.Testcontainers;
+import java.lang.reflect.Type;
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.TimeUnit;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+/**
+ * Sends comment likes through {@link WebSocketConfig} in relay mode to a
+ * RabbitMQ broker with the STOMP plugin and receives them with a STOMP client
+ * connected to the broker directly.
+ */
+@Testcontainers(disabledWithoutDocker = true)
+class WebSocketBrokerRelayTest {
+    private static final int STOMP_PORT = 61613;
+
+    @Container
+    private static final GenericContainer<?> rabbitMq = new GenericContainer<>("rabbitmq:3.12")
+        .withCommand("sh", "-c", "rabbitmq-plugins enable --offline rabbitmq_stomp && exec rabbitmq-server")
+        .withExposedPorts(STOMP_PORT)
+        .waitingFor(Wait.forLogMessage(".*Server startup complete.*", 1));
+
+    private AnnotationConfigWebApplicationContext context;
+    private ReactorNettyTcpStompClient stompClient;
+
+    @BeforeEach
+    void startContext() throws InterruptedException {
+        context = new AnnotationConfigWebApplicationContext();
+        context.setServletContext(new MockServletContext());
+        context.getEnvironment().getPropertySources().addFirst(new MapPropertySource("relay", Map.of(
+            "greencity.websocket.broker", "relay",
+            "greencity.websocket.relay.host", rabbitMq.getHost(),
+            "greencity.websocket.relay.port", rabbitMq.getMappedPort(STOMP_PORT),
+            "greencity.websocket.comment-likes.coalesce-window", "PT1M",
+            "greencity.websocket.comment-likes.legacy-destination", "/topic/{id}.comment")));
+        context.register(WebSocketConfig.class, CommentLikesBroadcaster.class);
+        context.refresh();
+        AbstractBrokerMessageHandler relay = context.getBean(AbstractBrokerMessageHandler.class);
+        long deadline = System.nanoTime() + TimeUnit.SECONDS.toNanos(30);
+        while (!relay.isBrokerAvailable() && System.nanoTime() < deadline) {
+            Thread.sleep(100);
+        }
+        stompClient = new ReactorNettyTcpStompClient(rabbitMq.getHost(), rabbitMq.getMappedPort(STOMP_PORT));
+        stompClient.setMessageConverter(new MappingJackson2MessageConverter());
+    }
+
+    @AfterEach
+    void stopContext() {
+        stompClient.shutdown();
+        context.close();
+    }
+
+    @Test
+    void coalescedLikesAreDeliveredThroughRelayTest() throws Exception {
+        StompHeaders connectHeaders = new StompHeaders();
+        connectHeaders.setLogin("guest");
+        connectHeaders.setPasscode("guest");
+        StompSession session = stompClient.connectAsync(connectHeaders, new StompSessionHandlerAdapter() {
+        }).get(10, TimeUnit.SECONDS);
+        session.setAutoReceipt(true);
+        CompletableFuture<CommentLikesCountDto> received = new CompletableFuture<>();
+        CompletableFuture<Void> subscribed = new CompletableFuture<>();
+        session.subscribe("/topic/1.comment.v2", new StompFrameHandler() {
+            @Override
+            public Type getPayloadType(StompHeaders headers) {
+                return CommentLikesCountDto.class;
+            }
+
+            @Override
+            public void handleFrame(StompHeaders headers, Object payload) {
+                received.complete((CommentLikesCountDto) payload);
+            }
+        }).addReceiptTask(() -> subscribed.complete(null));
+        subscribed.get(10, TimeUnit.SECONDS);
+
+        CommentLikesBroadcaster broadcaster = context.getBean(CommentLikesBroadcaster.class);
+        broadcaster.broadcast(new CommentLikesCountDto(1L, 1));
+        broadcaster.broadcast(new CommentLikesCountDto(1L, 2));
+        broadcaster.stop();
+
+        assertEquals(2, received.get(10, TimeUnit.SECONDS).getAmountLikes());
+        assertEquals(1, broadcaster.getSentUpdates());
+    }
+}
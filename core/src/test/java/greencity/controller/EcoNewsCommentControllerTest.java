@@ -4,6 +4,7 @@ import com.fasterxml.jackson.databind.ObjectMapper;
 import greencity.config.SecurityConfig;
 import greencity.converters.UserArgumentResolver;
 import greencity.dto.econewscomment.AddEcoNewsCommentDtoRequest;
+import greencity.dto.econewscomment.AmountCommentLikesDto;
 import greencity.dto.user.UserVO;
 import greencity.service.EcoNewsCommentService;
 import greencity.service.UserService;
@@ -29,6 +30,7 @@ import java.security.Principal;
 
 import static greencity.ModelUtils.getPrincipal;
 import static greencity.ModelUtils.getUserVO;
+import static org.junit.jupiter.api.Assertions.assertEquals;
 import static org.mockito.ArgumentMatchers.anyString;
 import static org.mockito.Mockito.verify;
 import static org.mockito.Mockito.when;
@@ -201,4 +203,14 @@ class EcoNewsCommentControllerTest {
         verify(userService).findByEmail("test@gmail.com");
         verify(ecoNewsCommentService).like(1L, userVO);
     }
+
+    @Test
+    void getCountOfLikeReturnsLikedStateToSender() {
+        AmountCommentLikesDto request = AmountCommentLikesDto.builder().id(1L).userId(1L).build();
+        AmountCommentLikesDto response = AmountCommentLikesDto.builder()
+            .id(1L).userId(1L).amountLikes(3).isLiked(true).build();
+        when(ecoNewsCommentService.countLikes(request)).thenReturn(response);
+
+        assertEquals(response, ecoNewsCommentController.getCountOfLike(request));
+    }
 }
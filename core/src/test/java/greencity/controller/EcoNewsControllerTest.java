@@ -210,6 +210,34 @@ class EcoNewsControllerTest {
         verify(ecoNewsService).findGenericAll(pageable);
     }
 
+    @Test
+    void getEcoNewsFeedTest() throws Exception {
+        mockMvc.perform(get(ecoNewsLink + "/feed?cursor=abc&size=5&tags=eco&withTotal=true"))
+            .andExpect(status().isOk());
+
+        verify(ecoNewsService).findFeed("abc", 5, Collections.singletonList("eco"), true);
+    }
+
+    @Test
+    void getEcoNewsFeedDefaultsTest() throws Exception {
+        mockMvc.perform(get(ecoNewsLink + "/feed"))
+            .andExpect(status().isOk());
+
+        verify(ecoNewsService).findFeed(null, 10, null, false);
+    }
+
+    @Test
+    void getEcoNewsFeedByUserTest() throws Exception {
+        UserVO userVO = getUserVO();
+        when(userService.findByEmail(anyString())).thenReturn(userVO);
+
+        mockMvc.perform(get(ecoNewsLink + "/byUserFeed?size=3")
+            .principal(principal))
+            .andExpect(status().isOk());
+
+        verify(ecoNewsService).findFeedByUser(userVO, null, 3, false);
+    }
+
     @Test
     void getThreeRecommendedEcoNewsTest() throws Exception {
         mockMvc.perform(get(ecoNewsLink + "/recommended?openedEcoNewsId=" + 1L))
@@ -0,0 +1,68 @@
+package greencity.exporter;
+
+import greencity.dto.ratingstatistics.RatingStatisticsDtoForTables;
+import org.apache.poi.ss.usermodel.Sheet;
+import org.apache.poi.xssf.usermodel.XSSFWorkbook;
+import org.junit.jupiter.api.Test;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.time.ZonedDateTime;
+import java.util.stream.LongStream;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+class RatingExportersTest {
+    private static final int ROWS = 1000;
+    private static final ZonedDateTime DATE = ZonedDateTime.parse("2024-01-01T10:00:00Z");
+
+    private final RatingStatisticsSource source = consumer -> LongStream.rangeClosed(1, ROWS)
+        .mapToObj(id -> RatingStatisticsDtoForTables.builder()
+            .id(id)
+            .createDate(DATE)
+            .eventName("DO_NOT_USE_PLASTIC")
+            .pointsChanged(1)
+            .rating(id)
+            .userId(id)
+            .userEmail("user" + id + "@mail.com")
+            .build())
+        .forEach(consumer);
+
+    @Test
+    void excelExportWritesAllRowsTest() throws IOException {
+        ByteArrayOutputStream outputStream = new ByteArrayOutputStream();
+
+        new RatingExcelExporter().export(outputStream, source);
+
+        try (XSSFWorkbook workbook = new XSSFWorkbook(new ByteArrayInputStream(outputStream.toByteArray()))) {
+            Sheet sheet = workbook.getSheet("Rating");
+            assertEquals(ROWS, sheet.getLastRowNum());
+            assertEquals("User email", sheet.getRow(0).getCell(4).getStringCellValue());
+            assertEquals("user1000@mail.com", sheet.getRow(ROWS).getCell(4).getStringCellValue());
+            assertTrue(sheet.getColumnWidth(4) >= "user1000@mail.com".length() * 256);
+        }
+    }
+
+    @Test
+    void csvExportWritesAllRowsTest() {
+        ByteArrayOutputStream outputStream = new ByteArrayOutputStream();
+
+        new RatingCsvExporter().export(outputStream, source);
+
+        String[] lines = outputStream.toString(StandardCharsets.UTF_8).split("\r\n");
+        assertEquals(ROWS + 1, lines.length);
+        assertEquals("Id,Event,Date,UserId,User email,Points changed,Current rating", lines[0]);
+        assertEquals("1,DO_NOT_USE_PLASTIC," + DATE + ",1,user1@mail.com,1.0,1.0", lines[1]);
+    }
+
+    @Test
+    void csvEscapeTest() {
+        assertEquals("plain", RatingCsvExporter.escape("plain"));
+        assertEquals("\"a,b\"", RatingCsvExporter.escape("a,b"));
+        assertEquals("\"say \"\"hi\"\"\"", RatingCsvExporter.escape("say \"hi\""));
+        assertEquals("", RatingCsvExporter.escape(null));
+    }
+}
@@ -0,0 +1,129 @@
+package greencity.repository;
+
+import greencity.IntegrationTestBase;
+import jakarta.persistence.EntityManagerFactory;
+import jakarta.persistence.Tuple;
+import org.hibernate.SessionFactory;
+import org.hibernate.stat.Statistics;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.jdbc.AutoConfigureTestDatabase;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.test.context.jdbc.Sql;
+import org.testcontainers.junit.jupiter.Testcontainers;
+import java.util.List;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+/**
+ * Runs {@link EcoNewsCommentRepo#findCommentPage} against the comments of
+ * {@code sqlFiles/ecoNewsCommentRepo/insert.sql}, written and liked by the two
+ * users seeded by liquibase.
+ */
+@Testcontainers(disabledWithoutDocker = true)
+@DataJpaTest(properties = "spring.jpa.properties.hibernate.generate_statistics=true")
+@AutoConfigureTestDatabase(replace = AutoConfigureTestDatabase.Replace.NONE)
+@Sql("classpath:sqlFiles/ecoNewsCommentRepo/insert.sql")
+class EcoNewsCommentRepoTest extends IntegrationTestBase {
+    private static final Long ECO_NEWS_ID = 2001L;
+
+    @Autowired
+    private EcoNewsCommentRepo ecoNewsCommentRepo;
+    @Autowired
+    private EntityManagerFactory entityManagerFactory;
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    private Statistics statistics;
+    private Long serviceUserId;
+    private Long ubsUserId;
+
+    @BeforeEach
+    void setUp() {
+        serviceUserId = userId("c6049b1b-39e7-4cd5-9fb0-3eeeb4bf7ac6");
+        ubsUserId = userId("d0840b34-3f17-4820-a375-305b855dff8b");
+        statistics = entityManagerFactory.unwrap(SessionFactory.class).getStatistics();
+        statistics.clear();
+    }
+
+    @Test
+    void findCommentPageReturnsTopLevelCommentsNewestFirstTest() {
+        Page<Tuple> actual = ecoNewsCommentRepo.findCommentPage(ECO_NEWS_ID, serviceUserId, false,
+            PageRequest.of(0, 10));
+
+        assertEquals(List.of(3004L, 3003L, 3002L, 3001L), ids(actual));
+        assertEquals(4, actual.getTotalElements());
+        assertTrue(actual.getContent().get(1).get("deleted", Boolean.class));
+        assertEquals(serviceUserId, actual.getContent().getFirst().get("authorId", Long.class));
+        assertEquals("service", actual.getContent().getFirst().get("authorName", String.class));
+    }
+
+    @Test
+    void findCommentPageSkipsDeletedCommentsWhenOnlyActiveTest() {
+        Page<Tuple> actual = ecoNewsCommentRepo.findCommentPage(ECO_NEWS_ID, serviceUserId, true,
+            PageRequest.of(0, 10));
+
+        assertEquals(List.of(3004L, 3002L, 3001L), ids(actual));
+        assertEquals(3, actual.getTotalElements());
+    }
+
+    @Test
+    void findCommentPageCountsNotDeletedRepliesAndLikesTest() {
+        List<Tuple> actual = ecoNewsCommentRepo.findCommentPage(ECO_NEWS_ID, serviceUserId, true,
+            PageRequest.of(0, 10)).getContent();
+
+        assertEquals(List.of(0, 0, 2), counts(actual, "replies"));
+        assertEquals(List.of(0, 1, 2), counts(actual, "likes"));
+    }
+
+    @Test
+    void findCommentPageMarksCommentsLikedByUserTest() {
+        Page<Tuple> likedByService = ecoNewsCommentRepo.findCommentPage(ECO_NEWS_ID, serviceUserId, true,
+            PageRequest.of(0, 10));
+        Page<Tuple> likedByUbs = ecoNewsCommentRepo.findCommentPage(ECO_NEWS_ID, ubsUserId, true,
+            PageRequest.of(0, 10));
+        Page<Tuple> anonymous = ecoNewsCommentRepo.findCommentPage(ECO_NEWS_ID, null, true,
+            PageRequest.of(0, 10));
+
+        assertEquals(List.of(0, 0, 1), counts(likedByService.getContent(), "likedByUser"));
+        assertEquals(List.of(0, 1, 1), counts(likedByUbs.getContent(), "likedByUser"));
+        assertEquals(List.of(0, 0, 0), counts(anonymous.getContent(), "likedByUser"));
+    }
+
+    @Test
+    void findCommentPageUsesOneStatementForLastPageTest() {
+        Page<Tuple> actual = ecoNewsCommentRepo.findCommentPage(ECO_NEWS_ID, serviceUserId, true,
+            PageRequest.of(0, 10));
+
+        assertEquals(3, actual.getNumberOfElements());
+        assertEquals(1, statistics.getPrepareStatementCount());
+    }
+
+    @Test
+    void findCommentPageUsesTwoStatementsForFullPageTest() {
+        Page<Tuple> actual = ecoNewsCommentRepo.findCommentPage(ECO_NEWS_ID, serviceUserId, true,
+            PageRequest.of(0, 2));
+
+        assertEquals(List.of(3004L, 3002L), ids(actual));
+        assertEquals(3, actual.getTotalElements());
+        assertFalse(actual.isLast());
+        assertEquals(2, statistics.getPrepareStatementCount());
+    }
+
+    private Long userId(String uuid) {
+        return jdbcTemplate.queryForObject("SELECT id FROM users WHERE uuid = '" + uuid + "'", Long.class);
+    }
+
+    private static List<Long> ids(Page<Tuple> page) {
+        return page.getContent().stream().map(tuple -> tuple.get("id", Long.class)).toList();
+    }
+
+    private static List<Integer> counts(List<Tuple> tuples, String alias) {
+        return tuples.stream().map(tuple -> tuple.get(alias, Number.class).intValue()).toList();
+    }
+}
@@ -0,0 +1,123 @@
+package greencity.repository;
+
+import greencity.IntegrationTestBase;
+import greencity.entity.EcoNews;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.jdbc.AutoConfigureTestDatabase;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.test.context.jdbc.Sql;
+import org.testcontainers.junit.jupiter.Testcontainers;
+import java.time.Instant;
+import java.time.ZoneOffset;
+import java.time.ZonedDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+/**
+ * Walks the keyset feed queries of {@link EcoNewsRepo} over the news of
+ * {@code sqlFiles/ecoNewsFeed/insert.sql}. Three of them share a creation date,
+ * so page boundaries fall inside the tie and the seek has to fall back to the
+ * id.
+ */
+@Testcontainers(disabledWithoutDocker = true)
+@DataJpaTest
+@AutoConfigureTestDatabase(replace = AutoConfigureTestDatabase.Replace.NONE)
+@Sql("classpath:sqlFiles/ecoNewsFeed/insert.sql")
+class EcoNewsRepoFeedTest extends IntegrationTestBase {
+    /**
+     * Same position as the first page cursor of the service.
+     */
+    private static final ZonedDateTime FIRST_DATE = ZonedDateTime.of(9999, 12, 31, 0, 0, 0, 0, ZoneOffset.UTC);
+    private static final Long FIRST_ID = Long.MAX_VALUE;
+    private static final List<String> NEWS_AND_EVENTS = List.of("news", "events");
+
+    @Autowired
+    private EcoNewsRepo ecoNewsRepo;
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    private Long serviceUserId;
+
+    @BeforeEach
+    void setUp() {
+        serviceUserId = jdbcTemplate.queryForObject(
+            "SELECT id FROM users WHERE uuid = 'c6049b1b-39e7-4cd5-9fb0-3eeeb4bf7ac6'", Long.class);
+    }
+
+    @Test
+    void findFeedBeforeSplitsTiedCreationDatesAcrossPagesTest() {
+        List<List<Long>> pages = walk(
+            (creationDate, id) -> ecoNewsRepo.findFeedBefore(creationDate, id, 2));
+
+        assertEquals(List.of(List.of(5005L, 5004L), List.of(5003L, 5002L), List.of(5001L)), pages);
+    }
+
+    @Test
+    void findFeedBeforeBindsCursorOfAnyOffsetAsInstantTest() {
+        ZonedDateTime tiedDateInKyiv = ZonedDateTime.of(2024, 3, 2, 12, 0, 0, 0, ZoneOffset.ofHours(2));
+
+        List<EcoNews> actual = ecoNewsRepo.findFeedBefore(tiedDateInKyiv, 5004L, 10);
+
+        assertEquals(List.of(5003L, 5002L, 5001L), ids(actual));
+        assertEquals(Instant.parse("2024-03-02T10:00:00Z"), actual.getFirst().getCreationDate().toInstant());
+    }
+
+    @Test
+    void findFeedByAuthorBeforeWalksNewsOfAuthorTest() {
+        List<List<Long>> pages = walk(
+            (creationDate, id) -> ecoNewsRepo.findFeedByAuthorBefore(serviceUserId, creationDate, id, 1));
+
+        assertEquals(List.of(List.of(5004L), List.of(5003L), List.of(5001L)), pages);
+    }
+
+    @Test
+    void findFeedByTagsBeforeReturnsNewsWithSeveralMatchingTagsOnceTest() {
+        List<List<Long>> pages = walk(
+            (creationDate, id) -> ecoNewsRepo.findFeedByTagsBefore(NEWS_AND_EVENTS, creationDate, id, 2));
+
+        assertEquals(List.of(List.of(5005L, 5003L), List.of(5002L, 5001L)), pages);
+    }
+
+    @Test
+    void findFeedByTagsBeforeMatchesAnyOfTagsTest() {
+        assertEquals(List.of(5005L), ids(ecoNewsRepo.findFeedByTagsBefore(List.of("education"), FIRST_DATE,
+            FIRST_ID, 10)));
+        assertTrue(ecoNewsRepo.findFeedByTagsBefore(List.of("unknown"), FIRST_DATE, FIRST_ID, 10).isEmpty());
+    }
+
+    @Test
+    void countByTagsCountsNewsWithSeveralMatchingTagsOnceTest() {
+        assertEquals(4, ecoNewsRepo.countByTags(NEWS_AND_EVENTS));
+        assertEquals(1, ecoNewsRepo.countByTags(List.of("education")));
+        assertEquals(0, ecoNewsRepo.countByTags(List.of("unknown")));
+    }
+
+    /**
+     * Loads pages from the first position, continuing after the last news of the
+     * previous page, until a page is empty.
+     */
+    private static List<List<Long>> walk(FeedPage feedPage) {
+        List<List<Long>> pages = new ArrayList<>();
+        List<EcoNews> page = feedPage.before(FIRST_DATE, FIRST_ID);
+        while (!page.isEmpty()) {
+            pages.add(ids(page));
+            EcoNews last = page.getLast();
+            page = feedPage.before(last.getCreationDate(), last.getId());
+        }
+        return pages;
+    }
+
+    private static List<Long> ids(List<EcoNews> ecoNews) {
+        return ecoNews.stream().map(EcoNews::getId).toList();
+    }
+
+    @FunctionalInterface
+    private interface FeedPage {
+        List<EcoNews> before(ZonedDateTime creationDate, Long id);
+    }
+}
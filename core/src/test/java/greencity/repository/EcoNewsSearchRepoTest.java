@@ -0,0 +1,78 @@
+package greencity.repository;
+
+import greencity.IntegrationTestBase;
+import greencity.entity.EcoNews;
+import jakarta.persistence.EntityManagerFactory;
+import org.hibernate.SessionFactory;
+import org.hibernate.stat.Statistics;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.jdbc.AutoConfigureTestDatabase;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.context.annotation.Import;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.test.context.jdbc.Sql;
+import org.testcontainers.junit.jupiter.Testcontainers;
+import java.util.List;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+@Testcontainers(disabledWithoutDocker = true)
+@DataJpaTest(properties = "spring.jpa.properties.hibernate.generate_statistics=true")
+@AutoConfigureTestDatabase(replace = AutoConfigureTestDatabase.Replace.NONE)
+@Import(EcoNewsSearchRepo.class)
+@Sql("classpath:sqlFiles/ecoNewsRepo/insert.sql")
+class EcoNewsSearchRepoTest extends IntegrationTestBase {
+    @Autowired
+    private EcoNewsSearchRepo ecoNewsSearchRepo;
+    @Autowired
+    private EntityManagerFactory entityManagerFactory;
+
+    private Statistics statistics;
+
+    @BeforeEach
+    void clearStatistics() {
+        statistics = entityManagerFactory.unwrap(SessionFactory.class).getStatistics();
+        statistics.clear();
+    }
+
+    @Test
+    void findRanksTitleMatchesBeforeTextMatchesTest() {
+        Page<EcoNews> actual = ecoNewsSearchRepo.find(PageRequest.of(0, 10), "recycl", "en");
+
+        assertEquals(List.of(1001L, 1002L), ids(actual));
+        assertEquals(2, actual.getTotalElements());
+    }
+
+    @Test
+    void findMatchesTagNameOfLanguageTest() {
+        assertEquals(List.of(1003L), ids(ecoNewsSearchRepo.find(PageRequest.of(0, 10), "events", "en")));
+        assertTrue(ecoNewsSearchRepo.find(PageRequest.of(0, 10), "events", "ua").isEmpty());
+    }
+
+    @Test
+    void findFetchesPageAndTotalInOneRoundTripTest() {
+        Page<EcoNews> actual = ecoNewsSearchRepo.find(PageRequest.of(0, 1), "recycling", "en");
+
+        assertEquals(List.of(1001L), ids(actual));
+        assertEquals(2, actual.getTotalElements());
+        assertEquals(2, actual.getTotalPages());
+        assertEquals(1, statistics.getPrepareStatementCount());
+    }
+
+    @Test
+    void findCountsMatchesForPageOutOfRangeTest() {
+        Page<EcoNews> actual = ecoNewsSearchRepo.find(PageRequest.of(5, 10), "recycling", "en");
+
+        assertTrue(actual.getContent().isEmpty());
+        assertEquals(2, actual.getTotalElements());
+        assertEquals(1, actual.getTotalPages());
+        assertEquals(2, statistics.getPrepareStatementCount());
+    }
+
+    private static List<Long> ids(Page<EcoNews> page) {
+        return page.getContent().stream().map(EcoNews::getId).toList();
+    }
+}
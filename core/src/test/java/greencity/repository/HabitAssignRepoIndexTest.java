@@ -0,0 +1,76 @@
+package greencity.repository;
+
+import greencity.IntegrationTestBase;
+import org.hibernate.resource.jdbc.spi.StatementInspector;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.jdbc.AutoConfigureTestDatabase;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.test.context.jdbc.Sql;
+import org.testcontainers.junit.jupiter.Testcontainers;
+import java.time.ZoneId;
+import java.time.ZoneOffset;
+import java.time.ZonedDateTime;
+import java.util.List;
+import java.util.concurrent.CopyOnWriteArrayList;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+/**
+ * Checks {@link HabitAssignRepo#expireInProgressHabitAssigns} on the habit
+ * assigns of {@code sqlFiles/habitAssignRepo/insert.sql}, where 50 of 1000 in
+ * progress assigns are over, and that it finds them with the expression index
+ * on their end.
+ */
+@Testcontainers(disabledWithoutDocker = true)
+@DataJpaTest(properties = "spring.jpa.properties.hibernate.session_factory.statement_inspector="
+    + "greencity.repository.HabitAssignRepoIndexTest$CapturingStatementInspector")
+@AutoConfigureTestDatabase(replace = AutoConfigureTestDatabase.Replace.NONE)
+@Sql("classpath:sqlFiles/habitAssignRepo/insert.sql")
+class HabitAssignRepoIndexTest extends IntegrationTestBase {
+    private static final ZonedDateTime NOW = ZonedDateTime.of(2024, 3, 10, 0, 0, 0, 0, ZoneOffset.UTC);
+
+    @Autowired
+    private HabitAssignRepo habitAssignRepo;
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    @Test
+    void expireInProgressHabitAssignsUpdatesOnlyAssignsThatAreOverTest() {
+        assertEquals(30, habitAssignRepo.expireInProgressHabitAssigns(NOW.withZoneSameInstant(ZoneId.of("Europe/Kyiv")),
+            30));
+        assertEquals(20, habitAssignRepo.expireInProgressHabitAssigns(NOW, 30));
+        assertEquals(0, habitAssignRepo.expireInProgressHabitAssigns(NOW, 30));
+        assertEquals(50, jdbcTemplate.queryForObject(
+            "SELECT count(*) FROM habit_assign WHERE status = 'EXPIRED'", Integer.class));
+    }
+
+    @Test
+    void expireInProgressHabitAssignsUsesExpireDateIndexTest() {
+        CapturingStatementInspector.STATEMENTS.clear();
+        habitAssignRepo.expireInProgressHabitAssigns(NOW, 1000);
+        String sql = CapturingStatementInspector.STATEMENTS.stream()
+            .filter(statement -> statement.contains("habit_assign"))
+            .findFirst()
+            .orElseThrow();
+
+        String plan = String.join("\n", jdbcTemplate.query("EXPLAIN " + sql,
+            (resultSet, rowNum) -> resultSet.getString(1), NOW.toOffsetDateTime(), 1000));
+
+        assertTrue(plan.contains("idx_habit_assign_in_progress_expire_date"), plan);
+    }
+
+    /**
+     * Remembers SQL of statements prepared by Hibernate.
+     */
+    public static class CapturingStatementInspector implements StatementInspector {
+        private static final List<String> STATEMENTS = new CopyOnWriteArrayList<>();
+
+        @Override
+        public String inspect(String sql) {
+            STATEMENTS.add(sql);
+            return sql;
+        }
+    }
+}
@@ -0,0 +1,97 @@
+package greencity.repository;
+
+import greencity.IntegrationTestBase;
+import org.hibernate.resource.jdbc.spi.StatementInspector;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.jdbc.AutoConfigureTestDatabase;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.test.context.jdbc.Sql;
+import org.testcontainers.junit.jupiter.Testcontainers;
+import java.time.ZoneOffset;
+import java.time.ZonedDateTime;
+import java.util.List;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.regex.Pattern;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+/**
+ * Checks with EXPLAIN that the SQL Hibernate generates for the date range
+ * queries of {@link HabitStatisticRepo} is served by the indexes on
+ * {@code habit_statistics.create_date}.
+ */
+@Testcontainers(disabledWithoutDocker = true)
+@DataJpaTest(properties = "spring.jpa.properties.hibernate.session_factory.statement_inspector="
+    + "greencity.repository.HabitStatisticRepoIndexTest$CapturingStatementInspector")
+@AutoConfigureTestDatabase(replace = AutoConfigureTestDatabase.Replace.NONE)
+@Sql("classpath:sqlFiles/habitStatisticRepo/insert.sql")
+class HabitStatisticRepoIndexTest extends IntegrationTestBase {
+    private static final ZonedDateTime FROM = ZonedDateTime.of(2024, 3, 10, 0, 0, 0, 0, ZoneOffset.UTC);
+    private static final ZonedDateTime TO = FROM.plusDays(1);
+    private static final Long HABIT_ASSIGN_ID = 42L;
+    /**
+     * The planner may pick either index for the join, depending on how many assigns
+     * it expects, but the date range has to be an index condition.
+     */
+    private static final Pattern CREATE_DATE_INDEX_CONDITION = Pattern.compile(
+        "Index Cond: .*create_date >= .*create_date < ");
+
+    @Autowired
+    private HabitStatisticRepo habitStatisticRepo;
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    @Test
+    void findStatByIdAndCreateDateBetweenUsesCompositeIndexTest() {
+        String sql = capture(() -> habitStatisticRepo.findStatByIdAndCreateDateBetween(HABIT_ASSIGN_ID, FROM, TO));
+
+        String plan = explain(sql, HABIT_ASSIGN_ID, FROM.toOffsetDateTime(), TO.toOffsetDateTime());
+
+        assertTrue(plan.contains("idx_habit_statistics_habit_assign_id_create_date"), plan);
+        assertFalse(plan.contains("Seq Scan on habit_statistics"), plan);
+    }
+
+    @Test
+    void getStatisticsForAllHabitItemsBetweenUsesCreateDateIndexTest() {
+        String sql = capture(() -> habitStatisticRepo.getStatisticsForAllHabitItemsBetween(FROM, TO, "en"));
+
+        String plan = explain(sql, FROM.toOffsetDateTime(), TO.toOffsetDateTime(), "en");
+
+        assertTrue(CREATE_DATE_INDEX_CONDITION.matcher(plan).find(), plan);
+        assertFalse(plan.contains("Seq Scan on habit_statistics"), plan);
+    }
+
+    /**
+     * Runs the repository method and returns the first statement it sent to
+     * {@code habit_statistics}.
+     */
+    private static String capture(Runnable query) {
+        CapturingStatementInspector.STATEMENTS.clear();
+        query.run();
+        return CapturingStatementInspector.STATEMENTS.stream()
+            .filter(sql -> sql.contains("habit_statistics"))
+            .findFirst()
+            .orElseThrow();
+    }
+
+    private String explain(String sql, Object... parameters) {
+        List<String> plan = jdbcTemplate.query("EXPLAIN " + sql, (resultSet, rowNum) -> resultSet.getString(1),
+            parameters);
+        return String.join("\n", plan);
+    }
+
+    /**
+     * Remembers SQL of statements prepared by Hibernate.
+     */
+    public static class CapturingStatementInspector implements StatementInspector {
+        private static final List<String> STATEMENTS = new CopyOnWriteArrayList<>();
+
+        @Override
+        public String inspect(String sql) {
+            STATEMENTS.add(sql);
+            return sql;
+        }
+    }
+}
@@ -0,0 +1,109 @@
+package greencity.repository.options;
+
+import greencity.IntegrationTestBase;
+import greencity.dto.filter.HabitTranslationFilterDto;
+import greencity.entity.HabitTranslation;
+import greencity.repository.HabitTranslationRepo;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.jdbc.AutoConfigureTestDatabase;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.test.context.jdbc.Sql;
+import org.testcontainers.junit.jupiter.Testcontainers;
+import java.util.List;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+/**
+ * Runs {@link HabitTranslationFilter} against the habits of
+ * {@code sqlFiles/habitTranslationFilter/insert.sql}: user 2001 is a friend of
+ * 2002 and 2004, and only has a friend request from 2003.
+ */
+@Testcontainers(disabledWithoutDocker = true)
+@DataJpaTest
+@AutoConfigureTestDatabase(replace = AutoConfigureTestDatabase.Replace.NONE)
+@Sql("classpath:sqlFiles/habitTranslationFilter/insert.sql")
+class HabitTranslationFilterTest extends IntegrationTestBase {
+    private static final Long USER_ID = 2001L;
+    private static final long FIRST_TEST_HABIT = 3001L;
+    private static final long LAST_TEST_HABIT = 3006L;
+
+    @Autowired
+    private HabitTranslationRepo habitTranslationRepo;
+
+    @Test
+    void languageOnlyReturnsAllHabitsTest() {
+        assertEquals(List.of(3006L, 3005L, 3004L, 3003L, 3002L, 3001L), habitIds(filter().build()));
+    }
+
+    @Test
+    void otherLanguageReturnsNoHabitsTest() {
+        assertEquals(List.of(), habitIds(filter().languageCode("ua").build()));
+    }
+
+    @Test
+    void userSeesDefaultHabitsAndCustomHabitsOfHisOwnAndOfFriendsTest() {
+        assertEquals(List.of(3006L, 3004L, 3003L, 3002L, 3001L), habitIds(filter().userId(USER_ID).build()));
+    }
+
+    @Test
+    void defaultHabitsOnlyTest() {
+        assertEquals(List.of(3002L, 3001L), habitIds(filter().userId(USER_ID).isCustomHabit(false).build()));
+    }
+
+    @Test
+    void customHabitsOfUserAndFriendsTest() {
+        assertEquals(List.of(3006L, 3004L, 3003L), habitIds(filter().userId(USER_ID).isCustomHabit(true).build()));
+    }
+
+    @Test
+    void customHabitsOfAllUsersWithoutUserTest() {
+        assertEquals(List.of(3006L, 3005L, 3004L, 3003L), habitIds(filter().isCustomHabit(true).build()));
+    }
+
+    @Test
+    void tagsAreMatchedByLowerCaseNameTest() {
+        assertEquals(List.of(3002L, 3001L), habitIds(filter().userId(USER_ID).tags(List.of("testtag")).build()));
+    }
+
+    @Test
+    void complexitiesTest() {
+        assertEquals(List.of(3003L, 3001L), habitIds(filter().userId(USER_ID).complexities(List.of(1)).build()));
+    }
+
+    @Test
+    void tagsComplexitiesAndDefaultHabitsTogetherTest() {
+        HabitTranslationFilterDto filterDto = filter().userId(USER_ID).tags(List.of("testtag"))
+            .complexities(List.of(1, 2)).isCustomHabit(false).build();
+
+        assertEquals(List.of(3001L), habitIds(filterDto));
+    }
+
+    @Test
+    void pageCountsAllMatchingHabitsTest() {
+        HabitTranslationFilterDto filterDto = filter().userId(USER_ID).isCustomHabit(true).build();
+
+        Page<HabitTranslation> page =
+            habitTranslationRepo.findAll(new HabitTranslationFilter(filterDto), PageRequest.of(0, 2));
+
+        assertEquals(List.of(3006L, 3004L), page.getContent().stream().map(ht -> ht.getHabit().getId()).toList());
+        assertEquals(3, page.getTotalElements());
+    }
+
+    private static HabitTranslationFilterDto.HabitTranslationFilterDtoBuilder filter() {
+        return HabitTranslationFilterDto.builder().languageCode("en");
+    }
+
+    /**
+     * Returns ids of the habits of the test data matched by the filter, in the
+     * order of the result.
+     */
+    private List<Long> habitIds(HabitTranslationFilterDto filterDto) {
+        return habitTranslationRepo.findAll(new HabitTranslationFilter(filterDto), PageRequest.of(0, 1000))
+            .stream()
+            .map(habitTranslation -> habitTranslation.getHabit().getId())
+            .filter(id -> id >= FIRST_TEST_HABIT && id <= LAST_TEST_HABIT)
+            .toList();
+    }
+}
@@ -1,8 +1,8 @@
 package greencity.security.filters;
 
-import greencity.client.RestClient;
 import greencity.dto.user.UserVO;
 import greencity.security.jwt.JwtTool;
+import greencity.service.UserService;
 import io.jsonwebtoken.ExpiredJwtException;
 import org.junit.jupiter.api.AfterEach;
 import org.junit.jupiter.api.BeforeEach;
@@ -13,6 +13,7 @@ import org.mockito.Mock;
 import org.mockito.junit.jupiter.MockitoExtension;
 import org.mockito.junit.jupiter.MockitoSettings;
 import org.mockito.quality.Strictness;
+import org.springframework.cache.Cache;
 import org.springframework.security.authentication.AuthenticationManager;
 import org.springframework.security.authentication.UsernamePasswordAuthenticationToken;
 
@@ -45,7 +46,9 @@ class AccessTokenAuthenticationFilterTest {
     @Mock
     AuthenticationManager authenticationManager;
     @Mock
-    RestClient restClient;
+    UserService userService;
+    @Mock
+    Cache authenticatedUserCache;
 
     @InjectMocks
     private AccessTokenAuthenticationFilter authenticationFilter;
@@ -67,12 +70,26 @@ class AccessTokenAuthenticationFilterTest {
         when(jwtTool.getTokenFromHttpServletRequest(request)).thenReturn("SuperSecretAccessToken");
         when(authenticationManager.authenticate(any()))
             .thenReturn(new UsernamePasswordAuthenticationToken("test@mail.com", null));
-        when(restClient.findNotDeactivatedByEmail("test@mail.com"))
+        when(userService.findNotDeactivatedByEmail("test@mail.com"))
             .thenReturn(Optional.of(UserVO.builder().id(1L).build()));
         doNothing().when(chain).doFilter(request, response);
 
         authenticationFilter.doFilterInternal(request, response, chain);
         verify(authenticationManager).authenticate(any());
+        verify(authenticatedUserCache).put("test@mail.com", UserVO.builder().id(1L).build());
+        verify(chain).doFilter(request, response);
+    }
+
+    @Test
+    void doFilterInternalTakesUserFromCacheTest() throws IOException, ServletException {
+        when(jwtTool.getTokenFromHttpServletRequest(request)).thenReturn("SuperSecretAccessToken");
+        when(authenticationManager.authenticate(any()))
+            .thenReturn(new UsernamePasswordAuthenticationToken("test@mail.com", null));
+        when(authenticatedUserCache.get("test@mail.com", UserVO.class))
+            .thenReturn(UserVO.builder().id(1L).build());
+
+        authenticationFilter.doFilterInternal(request, response, chain);
+        verify(userService, never()).findNotDeactivatedByEmail(any());
         verify(chain).doFilter(request, response);
     }
 
@@ -94,7 +111,7 @@ class AccessTokenAuthenticationFilterTest {
         when(jwtTool.getTokenFromHttpServletRequest(request)).thenReturn(token);
         when(authenticationManager.authenticate(any()))
             .thenReturn(new UsernamePasswordAuthenticationToken("test@mail.com", null));
-        when(restClient.findNotDeactivatedByEmail("test@mail.com")).thenThrow(RuntimeException.class);
+        when(userService.findNotDeactivatedByEmail("test@mail.com")).thenThrow(RuntimeException.class);
         authenticationFilter.doFilterInternal(request, response, chain);
         verify(jwtTool).getTokenFromHttpServletRequest(request);
         verify(authenticationManager).authenticate(any());
@@ -0,0 +1,109 @@
+package greencity.service;
+
+import greencity.IntegrationTestBase;
+import greencity.dto.PageableDto;
+import greencity.dto.habit.HabitDto;
+import greencity.dto.user.UserVO;
+import greencity.mapping.CustomHabitMapper;
+import greencity.mapping.CustomShoppingListMapper;
+import greencity.mapping.CustomShoppingListResponseDtoMapper;
+import greencity.mapping.HabitDtoMapper;
+import greencity.mapping.HabitTranslationDtoMapper;
+import greencity.mapping.HabitTranslationMapper;
+import jakarta.persistence.EntityManager;
+import jakarta.persistence.EntityManagerFactory;
+import org.hibernate.SessionFactory;
+import org.hibernate.stat.Statistics;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.modelmapper.ModelMapper;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.jdbc.AutoConfigureTestDatabase;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.boot.test.mock.mockito.MockBean;
+import org.springframework.context.annotation.Import;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.test.context.jdbc.Sql;
+import org.testcontainers.junit.jupiter.Testcontainers;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+/**
+ * Counts the SQL statements {@link HabitServiceImpl} needs for a habit
+ * catalogue page of {@code sqlFiles/habitServiceImpl/insert.sql}, where every
+ * habit has its own tag, shopping list item and custom shopping list item. The
+ * test resources shadow the core {@code application.properties}, so its batch
+ * fetch size is repeated here.
+ */
+@Testcontainers(disabledWithoutDocker = true)
+@DataJpaTest(properties = {
+    "spring.jpa.properties.hibernate.generate_statistics=true",
+    "spring.jpa.properties.hibernate.default_batch_fetch_size=50"})
+@AutoConfigureTestDatabase(replace = AutoConfigureTestDatabase.Replace.NONE)
+@Import({HabitServiceImpl.class, HabitDtoMapper.class, CustomShoppingListResponseDtoMapper.class,
+    HabitTranslationDtoMapper.class, CustomShoppingListMapper.class, HabitTranslationMapper.class,
+    CustomHabitMapper.class})
+@Sql("classpath:sqlFiles/habitServiceImpl/insert.sql")
+class HabitServiceImplQueryCountTest extends IntegrationTestBase {
+    private static final int PAGE_SIZE = 20;
+    /**
+     * Page and count queries, three bulk queries of the service and one batch for
+     * each lazy level touched by {@link HabitDtoMapper}.
+     */
+    private static final long MAX_STATEMENTS = 10;
+    private static final UserVO USER = UserVO.builder().id(1L).build();
+
+    @MockBean
+    private ModelMapper modelMapper;
+    @MockBean
+    private FileService fileService;
+
+    @Autowired
+    private HabitService habitService;
+    @Autowired
+    private EntityManager entityManager;
+    @Autowired
+    private EntityManagerFactory entityManagerFactory;
+
+    private Statistics statistics;
+
+    @BeforeEach
+    void setUp() {
+        statistics = entityManagerFactory.unwrap(SessionFactory.class).getStatistics();
+    }
+
+    @Test
+    void pageOfTwentyHabitsUsesBoundedNumberOfStatementsTest() {
+        PageableDto<HabitDto> page = getPage(PAGE_SIZE);
+        long statements = statistics.getPrepareStatementCount();
+
+        assertEquals(PAGE_SIZE, page.getPage().size());
+        page.getPage().forEach(habitDto -> {
+            assertEquals(1, habitDto.getTags().size());
+            assertEquals(1, habitDto.getShoppingListItems().size());
+            assertEquals(1, habitDto.getCustomShoppingListItems().size());
+        });
+        assertTrue(statements <= MAX_STATEMENTS, "statements: " + statements);
+    }
+
+    @Test
+    void statementCountDoesNotGrowWithPageSizeTest() {
+        getPage(1);
+        long onePageStatements = statistics.getPrepareStatementCount();
+
+        getPage(PAGE_SIZE);
+
+        assertEquals(onePageStatements, statistics.getPrepareStatementCount());
+    }
+
+    /**
+     * Loads the first catalogue page with an empty persistence context and
+     * statistics cleared, so only the statements of this page are counted.
+     */
+    private PageableDto<HabitDto> getPage(int size) {
+        entityManager.flush();
+        entityManager.clear();
+        statistics.clear();
+        return habitService.getAllHabitsByLanguageCode(USER, PageRequest.of(0, size), "en");
+    }
+}
@@ -0,0 +1,27 @@
+INSERT INTO eco_news (id, title, short_info, text, creation_date)
+VALUES (2001, 'Recycling of plastic', 'How to sort plastic at home', 'Sort plastic by its type', '2024-01-01 10:00:00+00'),
+       (2002, 'City news', 'New points in the city', 'Recycling points opened in every district', '2024-01-02 10:00:00+00');
+
+INSERT INTO econews_comment (id, text, created_date, modified_date, parent_comment_id, user_id, eco_news_id, deleted)
+VALUES (3001, 'First comment', '2024-02-01 10:00:00+00', '2024-02-01 10:00:00+00', NULL,
+        (SELECT id FROM users WHERE uuid = 'c6049b1b-39e7-4cd5-9fb0-3eeeb4bf7ac6'), 2001, FALSE),
+       (3002, 'Second comment', '2024-02-02 10:00:00+00', '2024-02-02 10:00:00+00', NULL,
+        (SELECT id FROM users WHERE uuid = 'd0840b34-3f17-4820-a375-305b855dff8b'), 2001, FALSE),
+       (3003, 'Deleted comment', '2024-02-03 10:00:00+00', '2024-02-03 10:00:00+00', NULL,
+        (SELECT id FROM users WHERE uuid = 'c6049b1b-39e7-4cd5-9fb0-3eeeb4bf7ac6'), 2001, TRUE),
+       (3004, 'Third comment', '2024-02-04 10:00:00+00', '2024-02-04 10:00:00+00', NULL,
+        (SELECT id FROM users WHERE uuid = 'c6049b1b-39e7-4cd5-9fb0-3eeeb4bf7ac6'), 2001, FALSE),
+       (3005, 'Reply', '2024-02-05 10:00:00+00', '2024-02-05 10:00:00+00', 3001,
+        (SELECT id FROM users WHERE uuid = 'd0840b34-3f17-4820-a375-305b855dff8b'), 2001, FALSE),
+       (3006, 'Second reply', '2024-02-06 10:00:00+00', '2024-02-06 10:00:00+00', 3001,
+        (SELECT id FROM users WHERE uuid = 'c6049b1b-39e7-4cd5-9fb0-3eeeb4bf7ac6'), 2001, FALSE),
+       (3007, 'Deleted reply', '2024-02-07 10:00:00+00', '2024-02-07 10:00:00+00', 3001,
+        (SELECT id FROM users WHERE uuid = 'd0840b34-3f17-4820-a375-305b855dff8b'), 2001, TRUE),
+       (3008, 'Comment of other news', '2024-02-08 10:00:00+00', '2024-02-08 10:00:00+00', NULL,
+        (SELECT id FROM users WHERE uuid = 'c6049b1b-39e7-4cd5-9fb0-3eeeb4bf7ac6'), 2002, FALSE);
+
+INSERT INTO econews_comment_users_liked (econews_comment_id, users_liked_id)
+VALUES (3001, (SELECT id FROM users WHERE uuid = 'c6049b1b-39e7-4cd5-9fb0-3eeeb4bf7ac6')),
+       (3001, (SELECT id FROM users WHERE uuid = 'd0840b34-3f17-4820-a375-305b855dff8b')),
+       (3002, (SELECT id FROM users WHERE uuid = 'd0840b34-3f17-4820-a375-305b855dff8b')),
+       (3005, (SELECT id FROM users WHERE uuid = 'c6049b1b-39e7-4cd5-9fb0-3eeeb4bf7ac6'));
@@ -0,0 +1,20 @@
+INSERT INTO eco_news (id, title, short_info, text, creation_date, author_id)
+VALUES (5001, 'Recycling of plastic', 'How to sort plastic at home', 'Sort plastic by its type', '2024-03-01 10:00:00+00',
+        (SELECT id FROM users WHERE uuid = 'c6049b1b-39e7-4cd5-9fb0-3eeeb4bf7ac6')),
+       (5002, 'City news', 'New points in the city', 'Recycling points opened in every district', '2024-03-02 10:00:00+00',
+        (SELECT id FROM users WHERE uuid = 'd0840b34-3f17-4820-a375-305b855dff8b')),
+       (5003, 'Weekend cleanup', 'Cleanup of the river bank', 'Join us on Saturday', '2024-03-02 10:00:00+00',
+        (SELECT id FROM users WHERE uuid = 'c6049b1b-39e7-4cd5-9fb0-3eeeb4bf7ac6')),
+       (5004, 'Solar panels', 'Energy at home', 'Panels on the roof', '2024-03-02 10:00:00+00',
+        (SELECT id FROM users WHERE uuid = 'c6049b1b-39e7-4cd5-9fb0-3eeeb4bf7ac6')),
+       (5005, 'Zero waste course', 'Lessons of zero waste', 'Starts next week', '2024-03-03 10:00:00+00',
+        (SELECT id FROM users WHERE uuid = 'd0840b34-3f17-4820-a375-305b855dff8b'));
+
+INSERT INTO eco_news_tags (eco_news_id, tags_id)
+VALUES (5001, 1),
+       (5002, 1),
+       (5002, 2),
+       (5003, 2),
+       (5005, 1),
+       (5005, 2),
+       (5005, 3);
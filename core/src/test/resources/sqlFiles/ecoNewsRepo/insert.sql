@@ -0,0 +1,9 @@
+INSERT INTO eco_news (id, title, short_info, text, creation_date)
+VALUES (1001, 'Recycling of plastic', 'How to sort plastic at home', 'Sort plastic by its type', '2024-01-01 10:00:00+00'),
+       (1002, 'City news', 'New points in the city', 'Recycling points opened in every district', '2024-01-03 10:00:00+00'),
+       (1003, 'Weekend cleanup', 'Cleanup of the river bank', 'Join us on Saturday', '2024-01-02 10:00:00+00'),
+       (1004, 'Solar panels', 'Energy at home', 'Panels on the roof', '2024-01-04 10:00:00+00');
+
+INSERT INTO eco_news_tags (eco_news_id, tags_id)
+VALUES (1003, 2),
+       (1004, 1);
@@ -0,0 +1,19 @@
+INSERT INTO habit_assign (id, create_date, status, duration, working_days, habit_streak, last_enrollment,
+                          progress_notification_has_displayed, habit_id, user_id)
+SELECT i, TIMESTAMPTZ '2023-01-01 12:00:00+00' + (i % 400) * INTERVAL '1 day', 'ACQUIRED', 14, 14, 14,
+       TIMESTAMPTZ '2023-01-01 12:00:00+00', false, 1, (SELECT min(id) FROM users)
+FROM generate_series(1, 19000) AS i;
+
+INSERT INTO habit_assign (id, create_date, status, duration, working_days, habit_streak, last_enrollment,
+                          progress_notification_has_displayed, habit_id, user_id)
+SELECT i, TIMESTAMPTZ '2024-03-09 12:00:00+00' - (i % 7) * INTERVAL '1 day', 'INPROGRESS', 7 + i % 50, 0, 0,
+       TIMESTAMPTZ '2024-03-09 12:00:00+00', false, 1, (SELECT min(id) FROM users)
+FROM generate_series(19001, 19950) AS i;
+
+INSERT INTO habit_assign (id, create_date, status, duration, working_days, habit_streak, last_enrollment,
+                          progress_notification_has_displayed, habit_id, user_id)
+SELECT i, TIMESTAMPTZ '2024-01-01 12:00:00+00', 'INPROGRESS', 14, 0, 0, TIMESTAMPTZ '2024-01-01 12:00:00+00', false,
+       1, (SELECT min(id) FROM users)
+FROM generate_series(19951, 20000) AS i;
+
+ANALYZE habit_assign;
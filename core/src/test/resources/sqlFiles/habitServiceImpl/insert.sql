@@ -0,0 +1,43 @@
+CREATE TABLE IF NOT EXISTS users_friends (
+    user_id      BIGINT    NOT NULL,
+    friend_id    BIGINT    NOT NULL,
+    status       VARCHAR   NOT NULL,
+    created_date TIMESTAMPTZ NOT NULL DEFAULT now(),
+    PRIMARY KEY (user_id, friend_id)
+);
+
+INSERT INTO habits (id, image, default_duration, complexity, is_custom_habit, user_id)
+SELECT i, 'image', 14, 1, false, null
+FROM generate_series(4001, 4025) AS i;
+
+INSERT INTO habit_translation (name, description, habit_item, language_id, habit_id)
+SELECT 'Habit ' || i, 'Description', 'Item', 2, i
+FROM generate_series(4001, 4025) AS i;
+
+INSERT INTO tags (id, type)
+SELECT i, 'HABIT'
+FROM generate_series(4001, 4025) AS i;
+
+INSERT INTO tag_translations (id, name, tag_id, language_id)
+SELECT i, 'Tag ' || i, i, 2
+FROM generate_series(4001, 4025) AS i;
+
+INSERT INTO habits_tags (habit_id, tag_id)
+SELECT i, i
+FROM generate_series(4001, 4025) AS i;
+
+INSERT INTO shopping_list_items (id)
+SELECT i
+FROM generate_series(4001, 4025) AS i;
+
+INSERT INTO shopping_list_item_translations (content, language_id, shopping_list_item_id)
+SELECT 'Item ' || i, 2, i
+FROM generate_series(4001, 4025) AS i;
+
+INSERT INTO habit_shopping_list_items (habit_id, shopping_list_item_id, status)
+SELECT i, i, 'ACTUAL'
+FROM generate_series(4001, 4025) AS i;
+
+INSERT INTO custom_shopping_list_items (id, text, user_id, habit_id, status)
+SELECT i, 'Custom item ' || i, (SELECT min(id) FROM users), i, 'ACTIVE'
+FROM generate_series(4001, 4025) AS i;
@@ -0,0 +1,12 @@
+INSERT INTO habit_assign (id, create_date, status, duration, working_days, habit_streak, last_enrollment,
+                          progress_notification_has_displayed, habit_id, user_id)
+SELECT i, TIMESTAMPTZ '2024-01-01 12:00:00+00', 'INPROGRESS', 14, 0, 0, TIMESTAMPTZ '2024-01-01 12:00:00+00',
+       false, 1, (SELECT min(id) FROM users)
+FROM generate_series(1, 1000) AS i;
+
+INSERT INTO habit_statistics (rate, create_date, habit_assign_id, amount_of_items)
+SELECT 'GOOD', TIMESTAMPTZ '2024-01-01 12:00:00+00' + (i / 1000) * INTERVAL '1 day', i % 1000 + 1, i % 10
+FROM generate_series(0, 99999) AS i;
+
+ANALYZE habit_assign;
+ANALYZE habit_statistics;
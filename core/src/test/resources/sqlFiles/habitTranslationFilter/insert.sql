@@ -0,0 +1,35 @@
+CREATE TABLE IF NOT EXISTS users_friends (
+    user_id      BIGINT    NOT NULL,
+    friend_id    BIGINT    NOT NULL,
+    status       VARCHAR   NOT NULL,
+    created_date TIMESTAMPTZ NOT NULL DEFAULT now(),
+    PRIMARY KEY (user_id, friend_id)
+);
+
+INSERT INTO users_friends (user_id, friend_id, status)
+VALUES (2001, 2002, 'FRIEND'),
+       (2004, 2001, 'FRIEND'),
+       (2003, 2001, 'REQUEST');
+
+INSERT INTO tags (id, type)
+VALUES (3001, 'HABIT');
+
+INSERT INTO tag_translations (id, name, tag_id, language_id)
+VALUES (3001, 'TestTag', 3001, 2);
+
+INSERT INTO habits (id, image, default_duration, complexity, is_custom_habit, user_id)
+VALUES (3001, 'image', 14, 1, false, null),
+       (3002, 'image', 14, 3, false, null),
+       (3003, 'image', 14, 1, true, 2001),
+       (3004, 'image', 14, 2, true, 2002),
+       (3005, 'image', 14, 1, true, 2003),
+       (3006, 'image', 14, 3, true, 2004);
+
+INSERT INTO habits_tags (habit_id, tag_id)
+VALUES (3001, 3001),
+       (3002, 3001);
+
+INSERT INTO habit_translation (name, description, habit_item, language_id, habit_id)
+SELECT 'Habit ' || id, 'Description', 'Item', 2, id
+FROM habits
+WHERE id BETWEEN 3001 AND 3006;
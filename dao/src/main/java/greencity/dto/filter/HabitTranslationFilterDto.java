@@ -0,0 +1,30 @@
+package greencity.dto.filter;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+import java.util.List;
+
+/**
+ * Criteria of habit catalogue search. Empty or {@code null} fields are not used
+ * for filtering.
+ */
+@Data
+@Builder
+@AllArgsConstructor
+@NoArgsConstructor
+public class HabitTranslationFilterDto {
+    private String languageCode;
+    /**
+     * Id of the current user. When set, custom habits are limited to those created
+     * by the user or his friends.
+     */
+    private Long userId;
+    /**
+     * Lower-case tag names, habit must have at least one of them.
+     */
+    private List<String> tags;
+    private List<Integer> complexities;
+    private Boolean isCustomHabit;
+}
@@ -17,7 +17,9 @@ import java.time.LocalDateTime;
 @Builder
 public class CustomShoppingListItem {
     @Id
-    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    @GeneratedValue(strategy = GenerationType.SEQUENCE, generator = "custom_shopping_list_items_id_seq")
+    @SequenceGenerator(name = "custom_shopping_list_items_id_seq", sequenceName = "custom_shopping_list_items_id_seq",
+        allocationSize = 50)
     private Long id;
 
     @Column(nullable = false)
@@ -3,6 +3,7 @@ package greencity.entity;
 import greencity.enums.HabitAssignStatus;
 import lombok.*;
 import jakarta.persistence.*;
+import java.time.LocalDate;
 import java.time.ZonedDateTime;
 import java.util.List;
 
@@ -40,6 +41,22 @@ public class HabitAssign {
     @Column(name = "last_enrollment", nullable = false)
     private ZonedDateTime lastEnrollmentDate;
 
+    /**
+     * Enrolled days of the habit as a bit set, see {@code HabitEnrollmentDays}. It
+     * is {@code null} until the next enroll or unenroll for assigns enrolled before
+     * the column was added and for assigns whose {@link HabitStatusCalendar}'s were
+     * changed directly.
+     */
+    @Column(name = "enrolled_days")
+    private byte[] enrolledDays;
+
+    /**
+     * The day bit 0 of {@link #enrolledDays} stands for. It is stored with the bit
+     * set, so the bits keep their dates when {@link #createDate} changes.
+     */
+    @Column(name = "enrolled_days_from")
+    private LocalDate enrolledDaysFrom;
+
     /**
      * This variable shows that the progress notification has displayed and habit
      * has enough progress (from 80 to 100 %) to be in status ACQUIRED. Now user can
@@ -0,0 +1,35 @@
+package greencity.entity;
+
+import lombok.*;
+import jakarta.persistence.*;
+import java.time.LocalDate;
+
+/**
+ * Sum of the not taken items of all {@link HabitStatistic}'s of one
+ * {@link Habit} created on one day. Rows are changed only by applying deltas
+ * when statistics are written.
+ */
+@NoArgsConstructor
+@AllArgsConstructor
+@Getter
+@Setter
+@Builder
+@Table(name = "habit_item_daily_statistics")
+@Entity
+public class HabitItemDailyStatistic {
+    @Id
+    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    private Long id;
+
+    @Column(name = "statistic_date", nullable = false)
+    private LocalDate statisticDate;
+
+    @ManyToOne(fetch = FetchType.LAZY)
+    private Habit habit;
+
+    @Column(name = "amount_of_items", nullable = false)
+    private Long amountOfItems;
+
+    @Column(name = "statistics_count", nullable = false)
+    private Long statisticsCount;
+}
@@ -16,7 +16,9 @@ import jakarta.persistence.*;
     exclude = {"habit", "language"})
 public class HabitTranslation {
     @Id
-    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    @GeneratedValue(strategy = GenerationType.SEQUENCE, generator = "habit_translation_id_seq")
+    @SequenceGenerator(name = "habit_translation_id_seq", sequenceName = "habit_translation_id_seq",
+        allocationSize = 50)
     @Column(nullable = false)
     private Long id;
 
@@ -17,7 +17,9 @@ import java.time.ZonedDateTime;
 @ToString(exclude = "user")
 public class RatingStatistics {
     @Id
-    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    @GeneratedValue(strategy = GenerationType.SEQUENCE, generator = "rating_statistics_id_seq")
+    @SequenceGenerator(name = "rating_statistics_id_seq", sequenceName = "rating_statistics_id_seq",
+        allocationSize = 50)
     private Long id;
 
     @CreationTimestamp
@@ -0,0 +1,42 @@
+package greencity.entity;
+
+import lombok.*;
+import org.hibernate.annotations.Immutable;
+import org.hibernate.annotations.Subselect;
+import org.hibernate.annotations.Synchronize;
+import jakarta.persistence.*;
+import java.io.Serializable;
+
+/**
+ * Read-only view of accepted friendships. Every friendship is exposed in both
+ * directions, so friends of a user are all rows with his {@code userId}.
+ */
+@Entity
+@Immutable
+@Subselect("SELECT uf.user_id, uf.friend_id FROM users_friends uf WHERE uf.status = 'FRIEND' "
+    + "UNION ALL SELECT uf.friend_id, uf.user_id FROM users_friends uf WHERE uf.status = 'FRIEND'")
+@Synchronize("users_friends")
+@IdClass(UserFriendLink.Key.class)
+@NoArgsConstructor
+@AllArgsConstructor
+@Getter
+public class UserFriendLink {
+    @Id
+    @Column(name = "user_id")
+    private Long userId;
+
+    @Id
+    @Column(name = "friend_id")
+    private Long friendId;
+
+    /**
+     * Composite identifier of {@link UserFriendLink}.
+     */
+    @Data
+    @NoArgsConstructor
+    @AllArgsConstructor
+    public static class Key implements Serializable {
+        private Long userId;
+        private Long friendId;
+    }
+}
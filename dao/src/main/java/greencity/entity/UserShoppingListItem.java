@@ -17,7 +17,9 @@ import java.util.Objects;
 @Builder
 public class UserShoppingListItem {
     @Id
-    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    @GeneratedValue(strategy = GenerationType.SEQUENCE, generator = "user_shopping_list_id_seq")
+    @SequenceGenerator(name = "user_shopping_list_id_seq", sequenceName = "user_shopping_list_id_seq",
+        allocationSize = 50)
     private Long id;
 
     @ManyToOne(fetch = FetchType.LAZY)
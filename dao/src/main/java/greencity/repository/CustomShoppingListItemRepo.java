@@ -8,7 +8,10 @@ import org.springframework.data.jpa.repository.Query;
 import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 import org.springframework.transaction.annotation.Transactional;
+import java.util.Collection;
 import java.util.List;
+import java.util.Map;
+import java.util.stream.Collectors;
 
 /**
  * Provides an interface to manage {@link CustomShoppingListItem} entity.
@@ -97,6 +100,30 @@ public interface CustomShoppingListItemRepo extends JpaRepository<CustomShopping
     @Query(value = "SELECT * from custom_shopping_list_items where user_id = :userId", nativeQuery = true)
     List<CustomShoppingListItem> findAllByUserId(@Param(value = "userId") Long userId);
 
+    /**
+     * Method returns custom shopping list items of all given habits.
+     *
+     * @param habitIds {@link Collection} of habit ids
+     * @return list of {@link CustomShoppingListItem}
+     */
+    @Query("SELECT cg FROM CustomShoppingListItem cg WHERE cg.habit.id IN :habitIds ORDER BY cg.id")
+    List<CustomShoppingListItem> findAllByHabitIds(@Param("habitIds") Collection<Long> habitIds);
+
+    /**
+     * Method returns custom shopping list items of all given habits in one query,
+     * grouped by habit id. Habits without items are absent in the result.
+     *
+     * @param habitIds {@link Collection} of habit ids
+     * @return {@link Map} of habit id to list of {@link CustomShoppingListItem}
+     */
+    default Map<Long, List<CustomShoppingListItem>> findAllGroupedByHabitIds(Collection<Long> habitIds) {
+        if (habitIds.isEmpty()) {
+            return Map.of();
+        }
+        return findAllByHabitIds(habitIds).stream()
+            .collect(Collectors.groupingBy(item -> item.getHabit().getId()));
+    }
+
     /**
      * Method delete selected items from custom shopping list.
      *
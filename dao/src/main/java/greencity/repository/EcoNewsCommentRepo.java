@@ -5,20 +5,46 @@ import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
 import org.springframework.data.jpa.repository.JpaRepository;
 import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
+import jakarta.persistence.Tuple;
 
 @Repository
 public interface EcoNewsCommentRepo extends JpaRepository<EcoNewsComment, Long> {
     /**
-     * Method returns all {@link EcoNewsComment} by page.
+     * Method returns a page of top level comments of
+     * {@link greencity.entity.EcoNews}, newest first. Each {@link Tuple} holds the
+     * comment fields, its author and counters computed by sub-selects in the same
+     * statement: {@code id}, {@code text}, {@code createdDate},
+     * {@code modifiedDate}, {@code deleted}, {@code authorId}, {@code authorName},
+     * {@code authorProfilePicturePath}, {@code replies} (amount of not deleted
+     * replies), {@code likes} and {@code likedByUser} (amount of likes of the user,
+     * 0 or 1).
      *
-     * @param pageable  page of news.
-     * @param ecoNewsId id of {@link greencity.entity.EcoNews} for which comments we
-     *                  search.
-     * @return all {@link EcoNewsComment} by page.
+     * @param ecoNewsId  id of {@link greencity.entity.EcoNews} for which comments
+     *                   we search.
+     * @param userId     id of the current user, may be {@code null}.
+     * @param onlyActive whether deleted comments are skipped.
+     * @param pageable   page of comments.
+     * @return page of {@link Tuple}s.
      */
-    Page<EcoNewsComment> findAllByParentCommentIsNullAndEcoNewsIdOrderByCreatedDateDesc(Pageable pageable,
-        Long ecoNewsId);
+    @Query(value = "SELECT c.id AS id, c.text AS text, c.createdDate AS createdDate, "
+        + "c.modifiedDate AS modifiedDate, c.deleted AS deleted, u.id AS authorId, u.name AS authorName, "
+        + "u.profilePicturePath AS authorProfilePicturePath, "
+        + "(SELECT count(r) FROM EcoNewsComment r WHERE r.parentComment.id = c.id AND r.deleted = FALSE) "
+        + "AS replies, "
+        + "size(c.usersLiked) AS likes, "
+        + "(SELECT count(l) FROM EcoNewsComment lc JOIN lc.usersLiked l WHERE lc.id = c.id AND l.id = :userId) "
+        + "AS likedByUser "
+        + "FROM EcoNewsComment c JOIN c.user u "
+        + "WHERE c.parentComment IS NULL AND c.ecoNews.id = :ecoNewsId "
+        + "AND (:onlyActive = FALSE OR c.deleted = FALSE) "
+        + "ORDER BY c.createdDate DESC",
+        countQuery = "SELECT count(c) FROM EcoNewsComment c "
+            + "WHERE c.parentComment IS NULL AND c.ecoNews.id = :ecoNewsId "
+            + "AND (:onlyActive = FALSE OR c.deleted = FALSE)")
+    Page<Tuple> findCommentPage(@Param("ecoNewsId") Long ecoNewsId, @Param("userId") Long userId,
+        @Param("onlyActive") boolean onlyActive, Pageable pageable);
 
     /**
      * Method returns all replies to comment, specified by parentCommentId and by
@@ -60,19 +86,6 @@ public interface EcoNewsCommentRepo extends JpaRepository<EcoNewsComment, Long>
         + "WHERE en.id = :ecoNewsId AND ec.deleted <> 'true'", nativeQuery = true)
     int countEcoNewsCommentByEcoNews(Long ecoNewsId);
 
-    /**
-     * Method returns all {@link EcoNewsComment} by page.
-     *
-     * @param pageable  page of news.
-     * @param ecoNewsId id of {@link greencity.entity.EcoNews} for which comments we
-     *                  search.
-     * @return all active {@link EcoNewsComment} by page.
-     * @author Dovganyuk Taras
-     */
-    Page<EcoNewsComment> findAllByParentCommentIsNullAndDeletedFalseAndEcoNewsIdOrderByCreatedDateDesc(
-        Pageable pageable,
-        Long ecoNewsId);
-
     /**
      * Method returns all {@link EcoNewsComment} by page.
      *
@@ -10,6 +10,7 @@ import org.springframework.data.jpa.repository.Modifying;
 import org.springframework.data.jpa.repository.Query;
 import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
+import java.time.ZonedDateTime;
 import java.util.List;
 import java.util.Optional;
 
@@ -58,6 +59,67 @@ public interface EcoNewsRepo extends JpaRepository<EcoNews, Long>, JpaSpecificat
         + "ORDER BY en.creation_date DESC")
     Page<EcoNews> findByTags(Pageable pageable, List<String> tags);
 
+    /**
+     * Method returns {@link EcoNews} created before the given position of the feed,
+     * newest first. Seeks on (creation_date, id) instead of skipping rows with
+     * OFFSET.
+     *
+     * @param creationDate creation date of the last news of the previous page.
+     * @param id           id of the last news of the previous page.
+     * @param limit        max amount of news.
+     * @return list of {@link EcoNews}.
+     */
+    @Query(nativeQuery = true, value = "SELECT * FROM eco_news "
+        + "WHERE (creation_date, id) < (:creationDate, :id) "
+        + "ORDER BY creation_date DESC, id DESC LIMIT :limit")
+    List<EcoNews> findFeedBefore(ZonedDateTime creationDate, Long id, int limit);
+
+    /**
+     * Method returns {@link EcoNews} of the author created before the given
+     * position of the feed, newest first.
+     *
+     * @param authorId     id of the author.
+     * @param creationDate creation date of the last news of the previous page.
+     * @param id           id of the last news of the previous page.
+     * @param limit        max amount of news.
+     * @return list of {@link EcoNews}.
+     */
+    @Query(nativeQuery = true, value = "SELECT * FROM eco_news "
+        + "WHERE author_id = :authorId AND (creation_date, id) < (:creationDate, :id) "
+        + "ORDER BY creation_date DESC, id DESC LIMIT :limit")
+    List<EcoNews> findFeedByAuthorBefore(Long authorId, ZonedDateTime creationDate, Long id, int limit);
+
+    /**
+     * Method returns {@link EcoNews} having any of the tags created before the
+     * given position of the feed, newest first. Tags are checked with EXISTS, so no
+     * DISTINCT over the joined rows is needed.
+     *
+     * @param tags         lower case names of tags.
+     * @param creationDate creation date of the last news of the previous page.
+     * @param id           id of the last news of the previous page.
+     * @param limit        max amount of news.
+     * @return list of {@link EcoNews}.
+     */
+    @Query(nativeQuery = true, value = "SELECT en.* FROM eco_news AS en "
+        + "WHERE (en.creation_date, en.id) < (:creationDate, :id) "
+        + "AND EXISTS (SELECT 1 FROM eco_news_tags AS entag "
+        + "INNER JOIN tag_translations AS t ON entag.tags_id = t.tag_id "
+        + "WHERE entag.eco_news_id = en.id AND lower(t.name) IN (:tags)) "
+        + "ORDER BY en.creation_date DESC, en.id DESC LIMIT :limit")
+    List<EcoNews> findFeedByTagsBefore(List<String> tags, ZonedDateTime creationDate, Long id, int limit);
+
+    /**
+     * Method returns amount of {@link EcoNews} having any of the tags.
+     *
+     * @param tags lower case names of tags.
+     * @return amount of {@link EcoNews}.
+     */
+    @Query(nativeQuery = true, value = "SELECT count(*) FROM eco_news AS en "
+        + "WHERE EXISTS (SELECT 1 FROM eco_news_tags AS entag "
+        + "INNER JOIN tag_translations AS t ON entag.tags_id = t.tag_id "
+        + "WHERE entag.eco_news_id = en.id AND lower(t.name) IN (:tags))")
+    long countByTags(List<String> tags);
+
     /**
      * Method returns all {@link EcoNews} by page.
      *
@@ -147,4 +209,110 @@ public interface EcoNewsRepo extends JpaRepository<EcoNews, Long>, JpaSpecificat
     @Query(nativeQuery = true,
         value = "select count(id) from eco_news")
     int totalCountOfCreationNews();
-}
\ No newline at end of file
+
+    /**
+     * Method adds a like of the user to {@link EcoNews} and increments the likes
+     * counter in the same statement. Repeated calls are no-ops.
+     *
+     * @param ecoNewsId {@link Long} eco news id.
+     * @param userId    {@link Long} user id.
+     * @return 1 if the like was added, 0 if it already existed.
+     */
+    @Modifying
+    @Query(nativeQuery = true,
+        value = "WITH inserted AS (INSERT INTO eco_news_users_likes (eco_news_id, users_id) "
+            + "VALUES (:ecoNewsId, :userId) ON CONFLICT DO NOTHING RETURNING eco_news_id) "
+            + "UPDATE eco_news SET likes_count = likes_count + 1 "
+            + "WHERE id IN (SELECT eco_news_id FROM inserted)")
+    int addLike(@Param("ecoNewsId") Long ecoNewsId, @Param("userId") Long userId);
+
+    /**
+     * Method removes a like of the user from {@link EcoNews} and decrements the
+     * likes counter in the same statement. Repeated calls are no-ops.
+     *
+     * @param ecoNewsId {@link Long} eco news id.
+     * @param userId    {@link Long} user id.
+     * @return 1 if the like was removed, 0 if there was nothing to remove.
+     */
+    @Modifying
+    @Query(nativeQuery = true,
+        value = "WITH deleted AS (DELETE FROM eco_news_users_likes "
+            + "WHERE eco_news_id = :ecoNewsId AND users_id = :userId RETURNING eco_news_id) "
+            + "UPDATE eco_news SET likes_count = likes_count - (SELECT count(*) FROM deleted) "
+            + "WHERE id IN (SELECT eco_news_id FROM deleted)")
+    int removeLike(@Param("ecoNewsId") Long ecoNewsId, @Param("userId") Long userId);
+
+    /**
+     * Method adds a dislike of the user to {@link EcoNews} and increments the
+     * dislikes counter in the same statement. Repeated calls are no-ops.
+     *
+     * @param ecoNewsId {@link Long} eco news id.
+     * @param userId    {@link Long} user id.
+     * @return 1 if the dislike was added, 0 if it already existed.
+     */
+    @Modifying
+    @Query(nativeQuery = true,
+        value = "WITH inserted AS (INSERT INTO eco_news_users_dislikes (eco_news_id, users_id) "
+            + "VALUES (:ecoNewsId, :userId) ON CONFLICT DO NOTHING RETURNING eco_news_id) "
+            + "UPDATE eco_news SET dislikes_count = dislikes_count + 1 "
+            + "WHERE id IN (SELECT eco_news_id FROM inserted)")
+    int addDislike(@Param("ecoNewsId") Long ecoNewsId, @Param("userId") Long userId);
+
+    /**
+     * Method removes a dislike of the user from {@link EcoNews} and decrements the
+     * dislikes counter in the same statement. Repeated calls are no-ops.
+     *
+     * @param ecoNewsId {@link Long} eco news id.
+     * @param userId    {@link Long} user id.
+     * @return 1 if the dislike was removed, 0 if there was nothing to remove.
+     */
+    @Modifying
+    @Query(nativeQuery = true,
+        value = "WITH deleted AS (DELETE FROM eco_news_users_dislikes "
+            + "WHERE eco_news_id = :ecoNewsId AND users_id = :userId RETURNING eco_news_id) "
+            + "UPDATE eco_news SET dislikes_count = dislikes_count - (SELECT count(*) FROM deleted) "
+            + "WHERE id IN (SELECT eco_news_id FROM deleted)")
+    int removeDislike(@Param("ecoNewsId") Long ecoNewsId, @Param("userId") Long userId);
+
+    /**
+     * Method recalculates the counter of not deleted comments of {@link EcoNews}.
+     *
+     * @param ecoNewsId {@link Long} eco news id.
+     */
+    @Modifying(flushAutomatically = true)
+    @Query(nativeQuery = true,
+        value = "UPDATE eco_news SET comments_count = (SELECT count(*) FROM econews_comment ec "
+            + "WHERE ec.eco_news_id = :ecoNewsId AND ec.deleted = false) "
+            + "WHERE id = :ecoNewsId")
+    void refreshCommentsCount(@Param("ecoNewsId") Long ecoNewsId);
+
+    /**
+     * Method returns the likes counter of {@link EcoNews}.
+     *
+     * @param id {@link Long} eco news id.
+     * @return {@link Optional} of likes amount, empty if news does not exist.
+     */
+    @Query("SELECT e.likesCount FROM EcoNews e WHERE e.id = :id")
+    Optional<Integer> findLikesCountById(@Param("id") Long id);
+
+    /**
+     * Method returns the dislikes counter of {@link EcoNews}.
+     *
+     * @param id {@link Long} eco news id.
+     * @return {@link Optional} of dislikes amount, empty if news does not exist.
+     */
+    @Query("SELECT e.dislikesCount FROM EcoNews e WHERE e.id = :id")
+    Optional<Integer> findDislikesCountById(@Param("id") Long id);
+
+    /**
+     * Method checks if user liked {@link EcoNews}.
+     *
+     * @param ecoNewsId {@link Long} eco news id.
+     * @param userId    {@link Long} user id.
+     * @return true if user liked news.
+     */
+    @Query(nativeQuery = true,
+        value = "SELECT EXISTS (SELECT 1 FROM eco_news_users_likes "
+            + "WHERE eco_news_id = :ecoNewsId AND users_id = :userId)")
+    boolean isLikedByUser(@Param("ecoNewsId") Long ecoNewsId, @Param("userId") Long userId);
+}
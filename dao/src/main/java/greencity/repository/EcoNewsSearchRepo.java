@@ -1,120 +1,109 @@
 package greencity.repository;
 
 import greencity.entity.EcoNews;
-import greencity.entity.Tag;
-import greencity.entity.localization.TagTranslation;
+import org.hibernate.query.NativeQuery;
+import org.hibernate.type.StandardBasicTypes;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.PageImpl;
 import org.springframework.data.domain.Pageable;
 import org.springframework.stereotype.Repository;
 import jakarta.persistence.EntityManager;
-import jakarta.persistence.TypedQuery;
-import jakarta.persistence.criteria.*;
-import java.util.ArrayList;
 import java.util.Arrays;
 import java.util.List;
+import java.util.Locale;
+import java.util.stream.Collectors;
 
 @Repository
 public class EcoNewsSearchRepo {
+    private static final String MATCHES = "WITH search_query AS (SELECT to_tsquery('simple', :query) AS q), "
+        + "matches AS (SELECT en.id FROM eco_news en, search_query WHERE en.search_vector @@ search_query.q "
+        + "UNION "
+        + "SELECT ent.eco_news_id FROM eco_news_tags ent "
+        + "JOIN tag_translations tt ON tt.tag_id = ent.tags_id "
+        + "JOIN languages l ON l.id = tt.language_id, search_query "
+        + "WHERE l.code = :languageCode AND to_tsvector('simple', tt.name) @@ search_query.q) ";
+    private static final String SEARCH_QUERY = MATCHES
+        + "SELECT {en.*}, count(*) OVER () AS total_count "
+        + "FROM matches m JOIN eco_news en ON en.id = m.id, search_query "
+        + "ORDER BY ts_rank(en.search_vector, search_query.q) DESC, en.creation_date DESC, en.id DESC";
+    private static final String COUNT_QUERY = MATCHES + "SELECT count(*) FROM matches";
+    private static final String TOTAL_COUNT = "total_count";
     private final EntityManager entityManager;
-    private final CriteriaBuilder criteriaBuilder;
 
     /**
      * Initialization constructor.
      */
     public EcoNewsSearchRepo(EntityManager entityManager) {
         this.entityManager = entityManager;
-        this.criteriaBuilder = entityManager.getCriteriaBuilder();
     }
 
     /**
-     * Method for search eco news by title,text,short info and tag name.
+     * Method for full-text search of eco news by title, text, short info and tag
+     * name. Ids matched by the GIN indexes of {@code search_vector} and of tag
+     * names are united and only then ranked by the weighted {@code search_vector}
+     * column, and the page together with the total count is fetched in one round
+     * trip.
      *
      * @param searchingText - text criteria for searching.
      * @param languageCode  - code of needed language for finding tag.
      * @return all finding eco news, their tags and also count of finding eco news.
      */
     public Page<EcoNews> find(Pageable pageable, String searchingText, String languageCode) {
-        CriteriaQuery<EcoNews> criteriaQuery = criteriaBuilder.createQuery(EcoNews.class);
-        Root<EcoNews> root = criteriaQuery.from(EcoNews.class);
-
-        Predicate predicate = getPredicate(criteriaBuilder, searchingText, languageCode, root);
-
-        criteriaQuery.select(root).distinct(true).where(predicate);
-
-        TypedQuery<EcoNews> typedQuery = entityManager.createQuery(criteriaQuery)
-            .setFirstResult(pageable.getPageNumber() * pageable.getPageSize())
-            .setMaxResults(pageable.getPageSize());
-
-        List<EcoNews> resultList = typedQuery.getResultList();
-        long total = getEcoNewsCount(criteriaBuilder, searchingText, languageCode);
+        String tsQuery = toPrefixTsQuery(searchingText);
+        if (tsQuery.isEmpty()) {
+            return Page.empty(pageable);
+        }
+
+        @SuppressWarnings("unchecked")
+        List<Object[]> rows = entityManager.createNativeQuery(SEARCH_QUERY)
+            .unwrap(NativeQuery.class)
+            .addEntity("en", EcoNews.class)
+            .addScalar(TOTAL_COUNT, StandardBasicTypes.LONG)
+            .setParameter("query", tsQuery)
+            .setParameter("languageCode", languageCode)
+            .setFirstResult((int) pageable.getOffset())
+            .setMaxResults(pageable.getPageSize())
+            .getResultList();
+
+        List<EcoNews> resultList = rows.stream()
+            .map(row -> (EcoNews) row[0])
+            .collect(Collectors.toList());
+        long total = rows.isEmpty()
+            ? countOutOfRangePage(pageable, tsQuery, languageCode)
+            : (Long) rows.get(0)[1];
 
         return new PageImpl<>(resultList, pageable, total);
     }
 
-    private long getEcoNewsCount(CriteriaBuilder criteriaBuilder, String searchingText, String languageCode) {
-        CriteriaQuery<Long> countQuery = criteriaBuilder.createQuery(Long.class);
-        Root<EcoNews> countRoot = countQuery.from(EcoNews.class);
-
-        Predicate countPredicate = getPredicate(criteriaBuilder, searchingText, languageCode, countRoot);
-        countQuery.select(criteriaBuilder.count(countRoot)).where(countPredicate);
-
-        return entityManager.createQuery(countQuery).getSingleResult();
-    }
-
-    private List<Predicate> formEcoNewsLikePredicate(CriteriaBuilder criteriaBuilder, String searchingText,
-        Root<EcoNews> root) {
-        Expression<String> title = root.get("title").as(String.class);
-        Expression<String> text = root.get("text").as(String.class);
-        Expression<String> shortInfo = root.get("shortInfo").as(String.class);
-
-        List<Predicate> predicateList = new ArrayList<>();
-        Arrays.stream(searchingText.split(" ")).forEach(partOfSearchingText -> predicateList.add(
-            criteriaBuilder.or(
-                criteriaBuilder.like(criteriaBuilder.lower(title), "%"
-                    + partOfSearchingText.toLowerCase() + "%"),
-                criteriaBuilder.like(criteriaBuilder.lower(text), "%"
-                    + partOfSearchingText.toLowerCase() + "%"),
-                criteriaBuilder.like(criteriaBuilder.lower(shortInfo),
-                    "%" + partOfSearchingText.toLowerCase() + "%"))));
-        return predicateList;
-    }
-
-    private Predicate formTagTranslationsPredicate(CriteriaBuilder criteriaBuilder, String searchingText,
-        String languageCode, Root<EcoNews> root) {
-        CriteriaQuery<Long> criteriaQuery = criteriaBuilder.createQuery(Long.class);
-        Subquery<Long> tagSubquery = criteriaQuery.subquery(Long.class);
-        Root<Tag> tagRoot = tagSubquery.from(Tag.class);
-        Join<EcoNews, Tag> ecoNewsTagJoin = tagRoot.join("ecoNews");
-
-        Subquery<Long> tagTranslationSubquery = criteriaQuery.subquery(Long.class);
-        Root<Tag> tagTranslationRoot = tagTranslationSubquery.correlate(tagRoot);
-
-        Join<TagTranslation, Tag> tagTranslationTagJoin = tagTranslationRoot.join("tagTranslations");
-
-        Predicate predicate = predicateForTags(criteriaBuilder, searchingText, languageCode, tagTranslationTagJoin);
-        tagTranslationSubquery.select(tagTranslationTagJoin.get("id"))
-            .where(predicate);
-
-        tagSubquery.select(ecoNewsTagJoin.get("id")).where(criteriaBuilder.exists(tagTranslationSubquery));
-        return criteriaBuilder.in(root.get("id")).value(tagSubquery);
-    }
-
-    private Predicate predicateForTags(CriteriaBuilder criteriaBuilder, String searchingText, String languageCode,
-        Join<TagTranslation, Tag> tagTranslationTagJoin) {
-        List<Predicate> predicateList = new ArrayList<>();
-        Arrays.stream(searchingText.split(" ")).forEach(partOfSearchingText -> predicateList.add(criteriaBuilder.and(
-            criteriaBuilder.like(criteriaBuilder.lower(tagTranslationTagJoin.get("name")),
-                "%" + partOfSearchingText.toLowerCase() + "%"),
-            criteriaBuilder.like(criteriaBuilder.lower(tagTranslationTagJoin.get("language").get("code")),
-                "%" + languageCode.toLowerCase() + "%"))));
-        return criteriaBuilder.or(predicateList.toArray(new Predicate[0]));
+    /**
+     * The window count is only available when the requested page has rows, so a
+     * page past the end of the result set needs a separate count.
+     */
+    private long countOutOfRangePage(Pageable pageable, String tsQuery, String languageCode) {
+        if (pageable.getOffset() == 0) {
+            return 0;
+        }
+        return ((Number) entityManager.createNativeQuery(COUNT_QUERY)
+            .setParameter("query", tsQuery)
+            .setParameter("languageCode", languageCode)
+            .getSingleResult()).longValue();
     }
 
-    private Predicate getPredicate(CriteriaBuilder criteriaBuilder, String searchingText,
-        String languageCode, Root<EcoNews> root) {
-        List<Predicate> predicateList = formEcoNewsLikePredicate(criteriaBuilder, searchingText, root);
-        predicateList.add(formTagTranslationsPredicate(criteriaBuilder, searchingText, languageCode, root));
-        return criteriaBuilder.or(predicateList.toArray(new Predicate[0]));
+    /**
+     * Converts user input into a {@code tsquery} where every word is matched as a
+     * prefix and any of the words is enough for a match.
+     *
+     * @param searchingText raw text from the search field.
+     * @return tsquery text or empty string if there is nothing to search for.
+     */
+    static String toPrefixTsQuery(String searchingText) {
+        if (searchingText == null) {
+            return "";
+        }
+        return Arrays.stream(searchingText.toLowerCase(Locale.ROOT).split("[^\\p{L}\\p{N}]+"))
+            .filter(word -> !word.isEmpty())
+            .distinct()
+            .map(word -> word + ":*")
+            .collect(Collectors.joining(" | "));
     }
 }
@@ -10,10 +10,15 @@ import org.springframework.data.jpa.repository.Modifying;
 import org.springframework.data.jpa.repository.Query;
 import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
+import org.springframework.transaction.annotation.Transactional;
 import java.time.LocalDate;
 import java.time.ZonedDateTime;
+import java.util.Collection;
 import java.util.List;
+import java.util.Map;
 import java.util.Optional;
+import java.util.Set;
+import java.util.stream.Collectors;
 
 @Repository
 public interface HabitAssignRepo extends JpaRepository<HabitAssign, Long>,
@@ -176,20 +181,20 @@ public interface HabitAssignRepo extends JpaRepository<HabitAssign, Long>,
     int countHabitAssignsByUserIdAndAcquiredFalseAndCancelledFalse(@Param("userId") Long userId);
 
     /**
-     * Method for counting {@link HabitAssign} by {@link User} id and period between
-     * start/end {@link ZonedDateTime} (with not cancelled and not expired status).
+     * Method to find which of the given users have not cancelled and not expired
+     * {@link HabitAssign} created between start and end.
      *
-     * @param userId {@link User} id.
-     * @param start  {@link ZonedDateTime} start time.
-     * @param end    {@link ZonedDateTime} end time.
-     * @return amount of items in Optional in case of absence such info.
+     * @param userIds {@link Collection} of {@link User} ids.
+     * @param start   {@link ZonedDateTime} start time.
+     * @param end     {@link ZonedDateTime} end time.
+     * @return {@link Set} of ids of users with at least one such habit assign.
      */
-    @Query(value = "SELECT COUNT(ha) "
+    @Query(value = "SELECT DISTINCT ha.user.id "
         + "FROM HabitAssign ha "
         + "WHERE upper(ha.status) NOT IN ('CANCELLED','EXPIRED') "
-        + "AND ha.user.id = :userId "
+        + "AND ha.user.id IN :userIds "
         + "AND ha.createDate > :start AND ha.createDate < :end")
-    int countMarkedHabitAssignsByUserIdAndPeriod(@Param("userId") Long userId,
+    Set<Long> findUserIdsWithMarkedHabitAssignsInPeriod(@Param("userIds") Collection<Long> userIds,
         @Param("start") ZonedDateTime start,
         @Param("end") ZonedDateTime end);
 
@@ -243,15 +248,38 @@ public interface HabitAssignRepo extends JpaRepository<HabitAssign, Long>,
         @Param("to") LocalDate to);
 
     /**
-     * Method to find all inprogress, habit assigns.
+     * Method drops the stored enrolled days of the {@link HabitAssign}, so they are
+     * built again from its {@code HabitStatusCalendar}'s.
      *
-     * @return list of {@link HabitAssign} instances.
+     * @param habitAssignId id of {@link HabitAssign}.
      */
-    @Query(value = "SELECT DISTINCT ha FROM HabitAssign ha "
-        + "JOIN FETCH ha.habit h JOIN FETCH h.habitTranslations ht "
-        + "JOIN FETCH ht.language l "
-        + "WHERE upper(ha.status) = 'INPROGRESS'")
-    List<HabitAssign> findAllInProgressHabitAssigns();
+    @Modifying
+    @Transactional
+    @Query("UPDATE HabitAssign ha SET ha.enrolledDays = null, ha.enrolledDaysFrom = null WHERE ha.id = :habitAssignId")
+    void clearEnrolledDays(@Param("habitAssignId") Long habitAssignId);
+
+    /**
+     * Method sets status EXPIRED to at most {@code batchSize} in progress habit
+     * assigns whose duration is over. Rows locked by another node running the same
+     * job are skipped, so the method can be called until it returns less than
+     * {@code batchSize}, and every call is a short transaction. The end is computed
+     * in UTC, the same expression {@code idx_habit_assign_in_progress_expire_date}
+     * is built on, so only expired rows are read from the index.
+     *
+     * @param now       the time to compare the end of the habit assign with.
+     * @param batchSize maximum amount of rows to update.
+     * @return amount of updated habit assigns.
+     */
+    @Modifying
+    @Transactional
+    @Query(nativeQuery = true,
+        value = "UPDATE habit_assign SET status = 'EXPIRED' WHERE id IN ("
+            + "SELECT id FROM habit_assign "
+            + "WHERE status = 'INPROGRESS' "
+            + "AND (create_date AT TIME ZONE 'UTC') + make_interval(days => duration) "
+            + "< CAST(:now AS timestamptz) AT TIME ZONE 'UTC' "
+            + "LIMIT :batchSize FOR UPDATE SKIP LOCKED)")
+    int expireInProgressHabitAssigns(@Param("now") ZonedDateTime now, @Param("batchSize") int batchSize);
 
     /**
      * Method to find all habit assigns by status.
@@ -280,6 +308,65 @@ public interface HabitAssignRepo extends JpaRepository<HabitAssign, Long>,
         + "FROM HabitAssign ha WHERE ha.habit.id = :habitId AND ha.status='ACQUIRED'")
     Long findAmountOfUsersAcquired(@Param("habitId") Long habitId);
 
+    /**
+     * Method to find amount of users that acquired each of the given habits.
+     *
+     * @param habitIds {@link Collection} of {@link Habit} ids.
+     * @return list of pairs [habit id, amount of users].
+     */
+    @Query(value = "SELECT ha.habit.id, count(ha) "
+        + "FROM HabitAssign ha WHERE ha.habit.id IN :habitIds AND ha.status = 'ACQUIRED' "
+        + "GROUP BY ha.habit.id")
+    List<Object[]> countUsersAcquiredByHabitIds(@Param("habitIds") Collection<Long> habitIds);
+
+    /**
+     * Method to find amount of users that acquired each of the given habits in one
+     * query. Habits that nobody acquired are absent in the result.
+     *
+     * @param habitIds {@link Collection} of {@link Habit} ids.
+     * @return {@link Map} of {@link Habit} id to amount of users.
+     */
+    default Map<Long, Long> findAmountOfUsersAcquiredByHabitIds(Collection<Long> habitIds) {
+        if (habitIds.isEmpty()) {
+            return Map.of();
+        }
+        return countUsersAcquiredByHabitIds(habitIds).stream()
+            .collect(Collectors.toMap(row -> (Long) row[0], row -> (Long) row[1]));
+    }
+
+    /**
+     * Method to find statuses of {@link User}'s habit assigns (not cancelled and
+     * not expired) for the given habits.
+     *
+     * @param habitIds {@link Collection} of {@link Habit} ids.
+     * @param userId   {@link User} id.
+     * @return list of pairs [habit id, {@link HabitAssignStatus}].
+     */
+    @Query(value = "SELECT ha.habit.id, ha.status FROM HabitAssign ha "
+        + "WHERE ha.habit.id IN :habitIds AND ha.user.id = :userId "
+        + "AND upper(ha.status) NOT IN ('CANCELLED','EXPIRED')")
+    List<Object[]> findStatusesByHabitIdsAndUserId(@Param("habitIds") Collection<Long> habitIds,
+        @Param("userId") Long userId);
+
+    /**
+     * Method to find statuses of {@link User}'s habit assigns (not cancelled and
+     * not expired) for the given habits in one query. Habits that are not assigned
+     * to the user are absent in the result.
+     *
+     * @param habitIds {@link Collection} of {@link Habit} ids.
+     * @param userId   {@link User} id.
+     * @return {@link Map} of {@link Habit} id to {@link HabitAssignStatus}.
+     */
+    default Map<Long, HabitAssignStatus> findAssignStatusesByHabitIdsAndUserId(Collection<Long> habitIds,
+        Long userId) {
+        if (habitIds.isEmpty()) {
+            return Map.of();
+        }
+        return findStatusesByHabitIdsAndUserId(habitIds, userId).stream()
+            .collect(Collectors.toMap(row -> (Long) row[0], row -> (HabitAssignStatus) row[1],
+                (first, second) -> first));
+    }
+
     /**
      * Method to change value progressNotificationHasDisplayed in
      * {@link HabitAssign} to true.
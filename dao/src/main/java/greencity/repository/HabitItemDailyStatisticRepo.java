@@ -0,0 +1,57 @@
+package greencity.repository;
+
+import greencity.entity.Habit;
+import greencity.entity.HabitItemDailyStatistic;
+import greencity.entity.HabitStatistic;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import jakarta.persistence.Tuple;
+import java.time.LocalDate;
+import java.util.List;
+
+/**
+ * Provides an interface to manage {@link HabitItemDailyStatistic} entity.
+ */
+public interface HabitItemDailyStatisticRepo extends JpaRepository<HabitItemDailyStatistic, Long> {
+    /**
+     * Method adds the deltas to the statistic of the {@link Habit} for the day, the
+     * row is created when it does not exist yet.
+     *
+     * @param statisticDate   day of the statistic.
+     * @param habitId         {@link Habit} id.
+     * @param amountOfItems   change of the amount of not taken items.
+     * @param statisticsCount change of the amount of {@link HabitStatistic}'s.
+     */
+    @Modifying
+    @Query(nativeQuery = true,
+        value = "INSERT INTO habit_item_daily_statistics AS s "
+            + "(statistic_date, habit_id, amount_of_items, statistics_count) "
+            + "VALUES (:statisticDate, :habitId, :amountOfItems, :statisticsCount) "
+            + "ON CONFLICT (statistic_date, habit_id) DO UPDATE "
+            + "SET amount_of_items = s.amount_of_items + EXCLUDED.amount_of_items, "
+            + "statistics_count = s.statistics_count + EXCLUDED.statistics_count")
+    void applyDelta(@Param("statisticDate") LocalDate statisticDate, @Param("habitId") Long habitId,
+        @Param("amountOfItems") long amountOfItems, @Param("statisticsCount") long statisticsCount);
+
+    /**
+     * Returns {@link Tuple} consisting of habit item name and amount of not taken
+     * items of the day, sorted by amount of statistics in descending order.
+     *
+     * @param statisticDate day of the statistics.
+     * @param languageCode  Language code of habit items, for example, 'en'.
+     * @return {@link List} of {@link Tuple}s that contain item names and not taken
+     *         amount of that items.
+     */
+    @Query(value = "SELECT ht.habitItem, SUM(s.amountOfItems) "
+        + "FROM HabitItemDailyStatistic s "
+        + "     INNER JOIN HabitTranslation ht ON ht.habit.id = s.habit.id "
+        + "     WHERE s.statisticDate = :statisticDate "
+        + "     AND s.statisticsCount > 0 "
+        + "     AND ht.language.code = :languageCode "
+        + "GROUP BY ht.habitItem "
+        + "ORDER BY SUM(s.statisticsCount) DESC")
+    List<Tuple> getStatisticsForAllHabitItems(@Param("statisticDate") LocalDate statisticDate,
+        @Param("languageCode") String languageCode);
+}
@@ -27,11 +27,23 @@ public interface HabitStatisticRepo extends JpaRepository<HabitStatistic, Long>,
      * @return {@link HabitStatistic} instance, if it doesn't exist returns
      *         Optional.
      */
+    default Optional<HabitStatistic> findStatByDateAndId(ZonedDateTime localDate, Long habitAssignId) {
+        return findStatByIdAndCreateDateBetween(habitAssignId, startOfDay(localDate),
+            startOfDay(localDate).plusDays(1));
+    }
+
+    /**
+     * Method for finding {@link HabitStatistic} of {@link HabitAssign} created in
+     * the half-open range {@code [from, to)}.
+     *
+     * @return {@link HabitStatistic} instance, if it doesn't exist returns
+     *         Optional.
+     */
     @Query(value = "SELECT hs FROM HabitStatistic hs "
-        + "WHERE cast(hs.createDate as date) = cast(:localDate as date) "
-        + "AND hs.habitAssign.id = :habitAssignId")
-    Optional<HabitStatistic> findStatByDateAndId(@Param("localDate") ZonedDateTime localDate,
-        @Param("habitAssignId") Long habitAssignId);
+        + "WHERE hs.habitAssign.id = :habitAssignId "
+        + "AND hs.createDate >= :from AND hs.createDate < :to")
+    Optional<HabitStatistic> findStatByIdAndCreateDateBetween(@Param("habitAssignId") Long habitAssignId,
+        @Param("from") ZonedDateTime from, @Param("to") ZonedDateTime to);
 
     /**
      * Method for finding {@link HabitStatistic} for certain
@@ -40,13 +52,25 @@ public interface HabitStatisticRepo extends JpaRepository<HabitStatistic, Long>,
      * @return {@link HabitStatistic} instance, if it doesn't exist returns
      *         Optional.
      */
+    default Optional<HabitStatistic> findStatByDateAndHabitIdAndUserId(ZonedDateTime localDate, Long habitId,
+        Long userId) {
+        return findStatByHabitIdAndUserIdAndCreateDateBetween(habitId, userId, startOfDay(localDate),
+            startOfDay(localDate).plusDays(1));
+    }
+
+    /**
+     * Method for finding {@link HabitStatistic} of {@link Habit} with {@link User}
+     * id's created in the half-open range {@code [from, to)}.
+     *
+     * @return {@link HabitStatistic} instance, if it doesn't exist returns
+     *         Optional.
+     */
     @Query(value = "SELECT hs FROM HabitStatistic hs "
-        + "WHERE cast(hs.createDate as date) = cast(:localDate as date) "
-        + "AND hs.habitAssign.habit.id = :habitId "
-        + "AND hs.habitAssign.user.id = :userId ")
-    Optional<HabitStatistic> findStatByDateAndHabitIdAndUserId(@Param("localDate") ZonedDateTime localDate,
-        @Param("habitId") Long habitId,
-        @Param("userId") Long userId);
+        + "WHERE hs.habitAssign.habit.id = :habitId "
+        + "AND hs.habitAssign.user.id = :userId "
+        + "AND hs.createDate >= :from AND hs.createDate < :to")
+    Optional<HabitStatistic> findStatByHabitIdAndUserIdAndCreateDateBetween(@Param("habitId") Long habitId,
+        @Param("userId") Long userId, @Param("from") ZonedDateTime from, @Param("to") ZonedDateTime to);
 
     /**
      * Method for finding the sum of all untaken items of one {@link Habit} for
@@ -56,11 +80,25 @@ public interface HabitStatisticRepo extends JpaRepository<HabitStatistic, Long>,
      * @param firstDay first day of current month.
      * @return sum of items per month.
      */
+    default Optional<Integer> getSumOfAllItemsPerMonth(Long habitId, ZonedDateTime firstDay) {
+        return getSumOfAllItemsBetween(habitId, startOfDay(firstDay),
+            startOfDay(ZonedDateTime.now(firstDay.getZone())).plusDays(1));
+    }
+
+    /**
+     * Method for finding the sum of all untaken items of one {@link Habit} created
+     * in the half-open range {@code [from, to)}.
+     *
+     * @param habitId {@link Habit} id.
+     * @param from    start of the range.
+     * @param to      end of the range, exclusive.
+     * @return sum of items.
+     */
     @Query(value = "SELECT SUM(hs.amountOfItems) FROM HabitStatistic hs "
-        + "WHERE hs.habitAssign.habit.id = :habitId AND cast(hs.createDate as date) <= CURRENT_DATE "
-        + "AND cast(hs.createDate as date) >= cast(:firstDayOfMonth as date)")
-    Optional<Integer> getSumOfAllItemsPerMonth(@Param("habitId") Long habitId,
-        @Param("firstDayOfMonth") ZonedDateTime firstDay);
+        + "WHERE hs.habitAssign.habit.id = :habitId "
+        + "AND hs.createDate >= :from AND hs.createDate < :to")
+    Optional<Integer> getSumOfAllItemsBetween(@Param("habitId") Long habitId, @Param("from") ZonedDateTime from,
+        @Param("to") ZonedDateTime to);
 
     /**
      * Method for finding all {@link HabitStatistic} by {@link HabitAssign} id
@@ -89,10 +127,25 @@ public interface HabitStatisticRepo extends JpaRepository<HabitStatistic, Long>,
      * @param habitAssignId {@link HabitAssign} id.
      * @return amount of items in Optional in case of absence such info.
      */
+    default Optional<Integer> getAmountOfItemsOfAssignedHabitToday(Long habitAssignId) {
+        ZonedDateTime today = startOfDay(ZonedDateTime.now());
+        return getAmountOfItemsOfAssignedHabitBetween(habitAssignId, today, today.plusDays(1));
+    }
+
+    /**
+     * Method for finding amount of items for one {@link HabitAssign} created in the
+     * half-open range {@code [from, to)}.
+     *
+     * @param habitAssignId {@link HabitAssign} id.
+     * @param from          start of the range.
+     * @param to            end of the range, exclusive.
+     * @return amount of items in Optional in case of absence such info.
+     */
     @Query(value = "SELECT hs.amountOfItems FROM HabitStatistic hs "
-        + "WHERE cast(hs.createDate as date) = CURRENT_DATE "
-        + "AND hs.habitAssign.id = :habitAssignId")
-    Optional<Integer> getAmountOfItemsOfAssignedHabitToday(@Param("habitAssignId") Long habitAssignId);
+        + "WHERE hs.habitAssign.id = :habitAssignId "
+        + "AND hs.createDate >= :from AND hs.createDate < :to")
+    Optional<Integer> getAmountOfItemsOfAssignedHabitBetween(@Param("habitAssignId") Long habitAssignId,
+        @Param("from") ZonedDateTime from, @Param("to") ZonedDateTime to);
 
     /**
      * Method for finding general amount of {@link Habit} items for the current day.
@@ -100,9 +153,25 @@ public interface HabitStatisticRepo extends JpaRepository<HabitStatistic, Long>,
      * @param habitId {@link Habit} id.
      * @return amount of items in Optional in case of absence such info.
      */
+    default Optional<Integer> getGeneralAmountOfHabitItemsToday(Long habitId) {
+        ZonedDateTime today = startOfDay(ZonedDateTime.now());
+        return getGeneralAmountOfHabitItemsBetween(habitId, today, today.plusDays(1));
+    }
+
+    /**
+     * Method for finding general amount of {@link Habit} items created in the
+     * half-open range {@code [from, to)}.
+     *
+     * @param habitId {@link Habit} id.
+     * @param from    start of the range.
+     * @param to      end of the range, exclusive.
+     * @return amount of items in Optional in case of absence such info.
+     */
     @Query(value = "SELECT hs.amountOfItems FROM HabitStatistic hs "
-        + "WHERE cast(hs.createDate as date) = CURRENT_DATE AND hs.habitAssign.habit.id = :habitId")
-    Optional<Integer> getGeneralAmountOfHabitItemsToday(@Param("habitId") Long habitId);
+        + "WHERE hs.habitAssign.habit.id = :habitId "
+        + "AND hs.createDate >= :from AND hs.createDate < :to")
+    Optional<Integer> getGeneralAmountOfHabitItemsBetween(@Param("habitId") Long habitId,
+        @Param("from") ZonedDateTime from, @Param("to") ZonedDateTime to);
 
     /**
      * Returns {@link Tuple} consisting of habit item name(like 'cup' or 'bag') and
@@ -118,17 +187,33 @@ public interface HabitStatisticRepo extends JpaRepository<HabitStatistic, Long>,
      *         amount of that items.
      * @author Shevtsiv Rostyslav
      */
+    default List<Tuple> getStatisticsForAllHabitItemsByDate(ZonedDateTime statisticCreationDate,
+        String languageCode) {
+        return getStatisticsForAllHabitItemsBetween(startOfDay(statisticCreationDate),
+            startOfDay(statisticCreationDate).plusDays(1), languageCode);
+    }
+
+    /**
+     * Returns {@link Tuple} consisting of habit item name and amount of not taken
+     * items of statistics created in the half-open range {@code [from, to)}, see
+     * {@link #getStatisticsForAllHabitItemsByDate(ZonedDateTime, String)}.
+     *
+     * @param from         start of the range.
+     * @param to           end of the range, exclusive.
+     * @param languageCode Language code of habit items, for example, 'en'.
+     * @return {@link List} of {@link Tuple}s that contain item names and not taken
+     *         amount of that items.
+     */
     @Query(value = "SELECT ht.habitItem, SUM(hs.amountOfItems) "
         + "FROM HabitStatistic hs "
         + "     INNER JOIN HabitTranslation ht ON ht.habit.id = hs.habitAssign.habit.id "
         + "     WHERE upper(hs.habitAssign.status) <> 'CANCELLED' "
-        + "     AND cast(hs.createDate as date) = cast(:statisticCreationDate as date)"
+        + "     AND hs.createDate >= :from AND hs.createDate < :to"
         + "     AND ht.language.code = :languageCode "
         + "GROUP BY ht.habitItem "
         + "ORDER BY COUNT(hs.habitAssign.habit) DESC")
-    List<Tuple> getStatisticsForAllHabitItemsByDate(
-        @Param("statisticCreationDate") ZonedDateTime statisticCreationDate,
-        @Param("languageCode") String languageCode);
+    List<Tuple> getStatisticsForAllHabitItemsBetween(@Param("from") ZonedDateTime from,
+        @Param("to") ZonedDateTime to, @Param("languageCode") String languageCode);
 
     /**
      * Method for getting amount of {@link Habit} in progress by {@link User} id.
@@ -154,4 +239,13 @@ public interface HabitStatisticRepo extends JpaRepository<HabitStatistic, Long>,
         + " WHERE ha.user.id = :userId"
         + " AND upper(ha.status) = 'ACQUIRED'")
     Long getAmountOfAcquiredHabitsByUserId(@Param("userId") Long id);
-}
\ No newline at end of file
+
+    /**
+     * Returns start of the day of the date in its time zone, the day is the range
+     * {@code [startOfDay, startOfDay + 1 day)} queries compare {@code create_date}
+     * with, so the index on it can be used.
+     */
+    private static ZonedDateTime startOfDay(ZonedDateTime date) {
+        return date.toLocalDate().atStartOfDay(date.getZone());
+    }
+}
@@ -0,0 +1,84 @@
+package greencity.repository;
+
+import greencity.dto.ratingstatistics.RatingStatisticsDtoForTables;
+import greencity.entity.RatingStatistics;
+import greencity.entity.RatingStatistics_;
+import greencity.entity.User;
+import greencity.entity.User_;
+import org.hibernate.jpa.HibernateHints;
+import org.springframework.data.jpa.domain.Specification;
+import org.springframework.stereotype.Repository;
+import jakarta.persistence.EntityManager;
+import jakarta.persistence.Tuple;
+import jakarta.persistence.criteria.CriteriaBuilder;
+import jakarta.persistence.criteria.CriteriaQuery;
+import jakarta.persistence.criteria.Join;
+import jakarta.persistence.criteria.Predicate;
+import jakarta.persistence.criteria.Root;
+import java.time.ZonedDateTime;
+import java.util.function.Consumer;
+import java.util.stream.Stream;
+
+@Repository
+public class RatingStatisticsExportRepo {
+    private static final int FETCH_SIZE = 1000;
+    private final EntityManager entityManager;
+
+    /**
+     * Initialization constructor.
+     */
+    public RatingStatisticsExportRepo(EntityManager entityManager) {
+        this.entityManager = entityManager;
+    }
+
+    /**
+     * Method streams rating statistics rows ordered by id to the consumer. Only the
+     * exported columns are selected, so no entities are kept in the persistence
+     * context and memory use does not depend on the amount of rows. Must be called
+     * inside a transaction, otherwise the driver loads the whole result at once.
+     *
+     * @param specification filter of rows, may be {@code null} to export all.
+     * @param consumer      receives every row.
+     */
+    public void streamAll(Specification<RatingStatistics> specification,
+        Consumer<RatingStatisticsDtoForTables> consumer) {
+        CriteriaBuilder criteriaBuilder = entityManager.getCriteriaBuilder();
+        CriteriaQuery<Tuple> query = criteriaBuilder.createTupleQuery();
+        Root<RatingStatistics> root = query.from(RatingStatistics.class);
+        Join<RatingStatistics, User> user = root.join(RatingStatistics_.user);
+        query.multiselect(
+            root.get(RatingStatistics_.id),
+            root.get(RatingStatistics_.createDate),
+            root.get(RatingStatistics_.ratingCalculationEnum),
+            root.get(RatingStatistics_.pointsChanged),
+            root.get(RatingStatistics_.rating),
+            user.get(User_.id),
+            user.get(User_.email));
+        if (specification != null) {
+            Predicate predicate = specification.toPredicate(root, query, criteriaBuilder);
+            if (predicate != null) {
+                query.where(predicate);
+            }
+        }
+        query.orderBy(criteriaBuilder.asc(root.get(RatingStatistics_.id)));
+
+        try (Stream<Tuple> rows = entityManager.createQuery(query)
+            .setHint(HibernateHints.HINT_FETCH_SIZE, FETCH_SIZE)
+            .setHint(HibernateHints.HINT_READ_ONLY, true)
+            .getResultStream()) {
+            rows.map(RatingStatisticsExportRepo::toDto).forEach(consumer);
+        }
+    }
+
+    private static RatingStatisticsDtoForTables toDto(Tuple row) {
+        return RatingStatisticsDtoForTables.builder()
+            .id(row.get(0, Long.class))
+            .createDate(row.get(1, ZonedDateTime.class))
+            .eventName(String.valueOf(row.get(2)))
+            .pointsChanged(row.get(3, Double.class).floatValue())
+            .rating(row.get(4, Double.class).floatValue())
+            .userId(row.get(5, Long.class))
+            .userEmail(row.get(6, String.class))
+            .build();
+    }
+}
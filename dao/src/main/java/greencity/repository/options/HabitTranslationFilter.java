@@ -0,0 +1,118 @@
+package greencity.repository.options;
+
+import greencity.dto.filter.HabitTranslationFilterDto;
+import greencity.entity.Habit;
+import greencity.entity.HabitTranslation;
+import greencity.entity.HabitTranslation_;
+import greencity.entity.Habit_;
+import greencity.entity.Language;
+import greencity.entity.Language_;
+import greencity.entity.Tag;
+import greencity.entity.Tag_;
+import greencity.entity.UserFriendLink;
+import greencity.entity.UserFriendLink_;
+import greencity.entity.localization.TagTranslation;
+import greencity.entity.localization.TagTranslation_;
+import org.springframework.data.jpa.domain.Specification;
+import jakarta.persistence.criteria.*;
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * The class implements {@link Specification} for the habit catalogue. Only the
+ * joins needed by the set criteria are added: tags are checked with a
+ * correlated {@code EXISTS} and friends with a subquery, so rows of the page
+ * are never multiplied and no {@code DISTINCT} is needed.
+ */
+public class HabitTranslationFilter implements Specification<HabitTranslation> {
+    private final transient HabitTranslationFilterDto filterDto;
+
+    /**
+     * The constructor takes {@link HabitTranslationFilterDto} object.
+     *
+     * @param filterDto object contains fields to filter by.
+     */
+    public HabitTranslationFilter(HabitTranslationFilterDto filterDto) {
+        this.filterDto = filterDto;
+    }
+
+    /**
+     * Forms a list of {@link Predicate} based on the set fields of
+     * {@link HabitTranslationFilterDto}.
+     */
+    @Override
+    @SuppressWarnings("unchecked")
+    public Predicate toPredicate(Root<HabitTranslation> root, CriteriaQuery<?> criteriaQuery,
+        CriteriaBuilder criteriaBuilder) {
+        Join<HabitTranslation, Habit> habit;
+        Join<HabitTranslation, Language> language;
+        if (isCountQuery(criteriaQuery)) {
+            habit = root.join(HabitTranslation_.habit);
+            language = root.join(HabitTranslation_.language);
+        } else {
+            habit = (Join<HabitTranslation, Habit>) root.fetch(HabitTranslation_.habit);
+            language = (Join<HabitTranslation, Language>) root.fetch(HabitTranslation_.language);
+            if (criteriaQuery.getOrderList().isEmpty()) {
+                criteriaQuery.orderBy(criteriaBuilder.desc(habit.get(Habit_.id)));
+            }
+        }
+
+        List<Predicate> predicates = new ArrayList<>();
+        predicates.add(criteriaBuilder.equal(language.get(Language_.code), filterDto.getLanguageCode()));
+        if (filterDto.getComplexities() != null && !filterDto.getComplexities().isEmpty()) {
+            predicates.add(habit.get(Habit_.complexity).in(filterDto.getComplexities()));
+        }
+        if (filterDto.getTags() != null && !filterDto.getTags().isEmpty()) {
+            predicates.add(hasAnyTag(habit, criteriaQuery, criteriaBuilder));
+        }
+        Predicate defaultHabit = criteriaBuilder.isFalse(habit.get(Habit_.isCustomHabit));
+        if (Boolean.FALSE.equals(filterDto.getIsCustomHabit())) {
+            predicates.add(defaultHabit);
+        } else if (Boolean.TRUE.equals(filterDto.getIsCustomHabit())) {
+            predicates.add(isCustomHabitAvailable(habit, criteriaQuery, criteriaBuilder));
+        } else if (filterDto.getUserId() != null) {
+            predicates.add(criteriaBuilder.or(defaultHabit,
+                isCustomHabitAvailable(habit, criteriaQuery, criteriaBuilder)));
+        }
+        return criteriaBuilder.and(predicates.toArray(new Predicate[] {}));
+    }
+
+    private boolean isCountQuery(CriteriaQuery<?> criteriaQuery) {
+        return Long.class.equals(criteriaQuery.getResultType()) || long.class.equals(criteriaQuery.getResultType());
+    }
+
+    /**
+     * Returns a predicate where {@link Habit} has at least one tag with a name from
+     * {@link HabitTranslationFilterDto#getTags()}.
+     */
+    private Predicate hasAnyTag(Join<HabitTranslation, Habit> habit, CriteriaQuery<?> criteriaQuery,
+        CriteriaBuilder criteriaBuilder) {
+        Subquery<Integer> subquery = criteriaQuery.subquery(Integer.class);
+        Root<Habit> taggedHabit = subquery.from(Habit.class);
+        Join<Habit, Tag> tag = taggedHabit.join(Habit_.tags);
+        Join<Tag, TagTranslation> tagTranslation = tag.join(Tag_.tagTranslations);
+        subquery.select(criteriaBuilder.literal(1))
+            .where(criteriaBuilder.equal(taggedHabit.get(Habit_.id), habit.get(Habit_.id)),
+                criteriaBuilder.lower(tagTranslation.get(TagTranslation_.name)).in(filterDto.getTags()));
+        return criteriaBuilder.exists(subquery);
+    }
+
+    /**
+     * Returns a predicate where {@link Habit} is custom and, when the user is
+     * known, created by the user or one of his friends.
+     */
+    private Predicate isCustomHabitAvailable(Join<HabitTranslation, Habit> habit, CriteriaQuery<?> criteriaQuery,
+        CriteriaBuilder criteriaBuilder) {
+        Predicate custom = criteriaBuilder.isTrue(habit.get(Habit_.isCustomHabit));
+        if (filterDto.getUserId() == null) {
+            return custom;
+        }
+        Subquery<Long> friendIds = criteriaQuery.subquery(Long.class);
+        Root<UserFriendLink> friendLink = friendIds.from(UserFriendLink.class);
+        friendIds.select(friendLink.get(UserFriendLink_.friendId))
+            .where(criteriaBuilder.equal(friendLink.get(UserFriendLink_.userId), filterDto.getUserId()));
+        return criteriaBuilder.and(custom, criteriaBuilder.or(
+            criteriaBuilder.equal(habit.get(Habit_.userId), filterDto.getUserId()),
+            habit.get(Habit_.userId).in(friendIds)));
+    }
+}
@@ -0,0 +1,132 @@
+package greencity.entity;
+
+import greencity.enums.ShoppingListItemStatus;
+import jakarta.persistence.Embeddable;
+import jakarta.persistence.Entity;
+import jakarta.persistence.MappedSuperclass;
+import org.h2.jdbcx.JdbcDataSource;
+import org.hibernate.Session;
+import org.hibernate.SessionFactory;
+import org.hibernate.boot.MetadataSources;
+import org.hibernate.boot.registry.StandardServiceRegistry;
+import org.hibernate.boot.registry.StandardServiceRegistryBuilder;
+import org.hibernate.cfg.AvailableSettings;
+import org.hibernate.dialect.H2Dialect;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.config.BeanDefinition;
+import org.springframework.context.annotation.ClassPathScanningCandidateComponentProvider;
+import org.springframework.core.type.filter.AnnotationTypeFilter;
+import org.springframework.util.ClassUtils;
+import javax.sql.DataSource;
+import java.lang.reflect.InvocationHandler;
+import java.lang.reflect.InvocationTargetException;
+import java.lang.reflect.Proxy;
+import java.sql.Connection;
+import java.sql.Statement;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.atomic.AtomicInteger;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+/**
+ * Counts database round trips of saving a shopping list of 100 custom items
+ * with and without JDBC batching.
+ */
+class ShoppingListBatchInsertTest {
+    private static final int ITEMS = 100;
+
+    @Test
+    void saveShoppingListWithBatchingTest() {
+        SaveResult unbatched = saveShoppingList("unbatched", Map.of(AvailableSettings.STATEMENT_BATCH_SIZE, "1"));
+        SaveResult batched = saveShoppingList("batched", Map.of(
+            AvailableSettings.STATEMENT_BATCH_SIZE, "50",
+            AvailableSettings.ORDER_INSERTS, "true",
+            AvailableSettings.ORDER_UPDATES, "true",
+            AvailableSettings.BATCH_VERSIONED_DATA, "true"));
+
+        assertEquals(ITEMS, unbatched.ids().stream().distinct().count());
+        assertEquals(ITEMS, batched.ids().stream().distinct().count());
+        assertTrue(unbatched.roundTrips() >= ITEMS,
+            "unbatched save took " + unbatched.roundTrips() + " round trips");
+        assertTrue(batched.roundTrips() <= 5,
+            "batched save took " + batched.roundTrips() + " round trips instead of " + unbatched.roundTrips());
+    }
+
+    private SaveResult saveShoppingList(String database, Map<String, String> batchSettings) {
+        AtomicInteger roundTrips = new AtomicInteger();
+        Map<String, Object> settings = new HashMap<>(batchSettings);
+        settings.put(AvailableSettings.DATASOURCE, countingDataSource(database, roundTrips));
+        settings.put(AvailableSettings.HBM2DDL_AUTO, "create-drop");
+        settings.put(AvailableSettings.DIALECT, H2Dialect.class.getName());
+        StandardServiceRegistry registry = new StandardServiceRegistryBuilder().applySettings(settings).build();
+        MetadataSources sources = new MetadataSources(registry);
+        persistentClasses().forEach(sources::addAnnotatedClass);
+        try (SessionFactory sessionFactory = sources.buildMetadata().buildSessionFactory();
+            Session session = sessionFactory.openSession()) {
+            List<CustomShoppingListItem> items = new ArrayList<>(ITEMS);
+            session.beginTransaction();
+            roundTrips.set(0);
+            for (int i = 0; i < ITEMS; i++) {
+                CustomShoppingListItem item = CustomShoppingListItem.builder()
+                    .text("item " + i)
+                    .status(ShoppingListItemStatus.ACTIVE)
+                    .build();
+                session.persist(item);
+                items.add(item);
+            }
+            session.getTransaction().commit();
+            return new SaveResult(roundTrips.get(), items.stream().map(CustomShoppingListItem::getId).toList());
+        } finally {
+            StandardServiceRegistryBuilder.destroy(registry);
+        }
+    }
+
+    private static List<Class<?>> persistentClasses() {
+        ClassPathScanningCandidateComponentProvider scanner = new ClassPathScanningCandidateComponentProvider(false);
+        scanner.addIncludeFilter(new AnnotationTypeFilter(Entity.class));
+        scanner.addIncludeFilter(new AnnotationTypeFilter(Embeddable.class));
+        scanner.addIncludeFilter(new AnnotationTypeFilter(MappedSuperclass.class));
+        return scanner.findCandidateComponents("greencity.entity").stream()
+            .map(BeanDefinition::getBeanClassName)
+            .<Class<?>>map(
+                name -> ClassUtils.resolveClassName(name, ShoppingListBatchInsertTest.class.getClassLoader()))
+            .toList();
+    }
+
+    /**
+     * H2 data source that counts every statement execution, a JDBC batch is counted
+     * once.
+     */
+    private static DataSource countingDataSource(String database, AtomicInteger roundTrips) {
+        JdbcDataSource dataSource = new JdbcDataSource();
+        dataSource.setURL("jdbc:h2:mem:" + database + ";MODE=PostgreSQL;DB_CLOSE_DELAY=-1");
+        return (DataSource) proxy(DataSource.class, dataSource, roundTrips);
+    }
+
+    private static Object proxy(Class<?> type, Object target, AtomicInteger roundTrips) {
+        InvocationHandler handler = (instance, method, args) -> {
+            if (Statement.class.isAssignableFrom(type) && method.getName().startsWith("execute")) {
+                roundTrips.incrementAndGet();
+            }
+            Object result;
+            try {
+                result = method.invoke(target, args);
+            } catch (InvocationTargetException e) {
+                throw e.getCause();
+            }
+            for (Class<?> wrapped : List.of(Connection.class, Statement.class)) {
+                if (result != null && wrapped.isAssignableFrom(method.getReturnType())) {
+                    return proxy(method.getReturnType(), result, roundTrips);
+                }
+            }
+            return result;
+        };
+        return Proxy.newProxyInstance(type.getClassLoader(), new Class<?>[] {type}, handler);
+    }
+
+    private record SaveResult(int roundTrips, List<Long> ids) {
+    }
+}
@@ -1,6 +1,7 @@
 package greencity.client;
 
 import com.google.gson.Gson;
+import greencity.constant.CacheConstants;
 import greencity.constant.RestTemplateLinks;
 import greencity.dto.PageableAdvancedDto;
 import greencity.dto.econews.EcoNewsForSendEmailDto;
@@ -12,6 +13,9 @@ import greencity.message.SendReportEmailMessage;
 import lombok.RequiredArgsConstructor;
 import lombok.Setter;
 import org.springframework.beans.factory.annotation.Value;
+import org.springframework.cache.annotation.CacheEvict;
+import org.springframework.cache.annotation.Cacheable;
+import org.springframework.cache.annotation.Caching;
 import org.springframework.core.ParameterizedTypeReference;
 import org.springframework.data.domain.Pageable;
 import org.springframework.data.domain.Sort;
@@ -89,6 +93,7 @@ public class RestClient {
      * @param email of {@link UserVO}
      * @author Orest Mamchuk
      */
+    @Cacheable(value = CacheConstants.USER_BY_EMAIL_CACHE, sync = true)
     public UserVO findByEmail(String email) {
         HttpEntity<String> entity = new HttpEntity<>(setHeader());
         UriComponentsBuilder url = UriComponentsBuilder.fromHttpUrl(greenCityUserServerAddress
@@ -104,6 +109,7 @@ public class RestClient {
      * @return {@link UserVO}
      * @author Orest Mamchuk
      */
+    @Cacheable(value = CacheConstants.USER_BY_ID_CACHE, sync = true)
     public UserVO findById(Long id) {
         HttpEntity<String> entity = new HttpEntity<>(setHeader());
         return restTemplate.exchange(greenCityUserServerAddress
@@ -111,6 +117,24 @@ public class RestClient {
             .getBody();
     }
 
+    /**
+     * Method that finds the current state of {@link UserVO} by Id. Unlike
+     * {@link #findById(Long)} it is not cached and can be called outside of an HTTP
+     * request.
+     *
+     * @param id          a value of {@link Long}
+     * @param accessToken accessToken for security
+     * @return {@link UserVO}
+     */
+    public UserVO findById(Long id, String accessToken) {
+        HttpHeaders headers = new HttpHeaders();
+        headers.set(AUTHORIZATION, accessToken);
+        HttpEntity<String> entity = new HttpEntity<>(headers);
+        return restTemplate.exchange(greenCityUserServerAddress
+            + RestTemplateLinks.USER_FIND_BY_ID + RestTemplateLinks.ID + id, HttpMethod.GET, entity, UserVO.class)
+            .getBody();
+    }
+
     /**
      * Find {@link UserVO} for management by page .
      *
@@ -164,6 +188,9 @@ public class RestClient {
      * @param userDto dto with updated fields.
      * @author Orest Mamchuk
      */
+    @CacheEvict(value = {CacheConstants.AUTHENTICATED_USER_CACHE, CacheConstants.USER_BY_EMAIL_CACHE,
+        CacheConstants.USER_BY_ID_CACHE, CacheConstants.USER_ID_BY_EMAIL_CACHE, CacheConstants.USER_LANG_CACHE},
+        allEntries = true)
     public void updateUser(UserManagementDto userDto) {
         UserManagementUpdateDto updateDto = managementDtoToUpdateDto(userDto);
         HttpHeaders headers = setHeader();
@@ -189,6 +216,9 @@ public class RestClient {
      * @param id   of user whose role is being changed
      * @param role new role
      */
+    @CacheEvict(value = {CacheConstants.AUTHENTICATED_USER_CACHE, CacheConstants.USER_BY_EMAIL_CACHE,
+        CacheConstants.USER_BY_ID_CACHE, CacheConstants.USER_ID_BY_EMAIL_CACHE, CacheConstants.USER_LANG_CACHE},
+        allEntries = true)
     public void updateRole(Long id, Role role) {
         String url = greenCityUserServerAddress
             + RestTemplateLinks.USER + "/" + id + "/role";
@@ -237,6 +267,7 @@ public class RestClient {
      * @param email of {@link UserVO}
      * @author Orest Mamchuk
      */
+    @Cacheable(value = CacheConstants.USER_ID_BY_EMAIL_CACHE, sync = true)
     public Long findIdByEmail(String email) {
         HttpEntity<String> entity = new HttpEntity<>(setHeader());
         UriComponentsBuilder url = UriComponentsBuilder.fromHttpUrl(greenCityUserServerAddress
@@ -252,6 +283,9 @@ public class RestClient {
      * @param userReasons {@link List} of {@link String}.
      * @author Orest Mamchuk
      */
+    @CacheEvict(value = {CacheConstants.AUTHENTICATED_USER_CACHE, CacheConstants.USER_BY_EMAIL_CACHE,
+        CacheConstants.USER_BY_ID_CACHE, CacheConstants.USER_ID_BY_EMAIL_CACHE, CacheConstants.USER_LANG_CACHE},
+        allEntries = true)
     public void deactivateUser(Long userId, List<String> userReasons) {
         HttpHeaders headers = setHeader();
         headers.setContentType(MediaType.APPLICATION_JSON);
@@ -267,6 +301,7 @@ public class RestClient {
      * @return current user language {@link String}.
      * @author Vlad Pikhotskyi
      */
+    @Cacheable(value = CacheConstants.USER_LANG_CACHE, sync = true)
     public String getUserLang(Long userId) {
         HttpEntity<String> entity = new HttpEntity<>(setHeader());
         String body = restTemplate.exchange(greenCityUserServerAddress + RestTemplateLinks.USER_LANG
@@ -281,6 +316,9 @@ public class RestClient {
      * @param userId - {@link UserVO}'s id
      * @author Orest Mamchuk
      */
+    @CacheEvict(value = {CacheConstants.AUTHENTICATED_USER_CACHE, CacheConstants.USER_BY_EMAIL_CACHE,
+        CacheConstants.USER_BY_ID_CACHE, CacheConstants.USER_ID_BY_EMAIL_CACHE, CacheConstants.USER_LANG_CACHE},
+        allEntries = true)
     public void setActivatedStatus(Long userId) {
         HttpEntity<String> entity = new HttpEntity<>(setHeader());
         restTemplate.exchange(greenCityUserServerAddress + RestTemplateLinks.USER_ACTIVATE
@@ -314,6 +352,9 @@ public class RestClient {
      *               deleted.
      * @author Orest Mamchuk
      */
+    @CacheEvict(value = {CacheConstants.AUTHENTICATED_USER_CACHE, CacheConstants.USER_BY_EMAIL_CACHE,
+        CacheConstants.USER_BY_ID_CACHE, CacheConstants.USER_ID_BY_EMAIL_CACHE, CacheConstants.USER_LANG_CACHE},
+        allEntries = true)
     public void deactivateAllUsers(List<Long> listId) {
         Gson gson = new Gson();
         String json = gson.toJson(listId);
@@ -397,11 +438,17 @@ public class RestClient {
     }
 
     /**
-     * Method that allow you to save new {@link UserVO}.
+     * Method that allow you to save new {@link UserVO}. Only cached lookups of this
+     * user are evicted.
      *
      * @param userVO for save User.
      * @author Orest Mamchuk
      */
+    @Caching(evict = {
+        @CacheEvict(value = {CacheConstants.AUTHENTICATED_USER_CACHE, CacheConstants.USER_BY_EMAIL_CACHE,
+            CacheConstants.USER_ID_BY_EMAIL_CACHE}, key = "#userVO.email", condition = "#userVO.email != null"),
+        @CacheEvict(value = {CacheConstants.USER_BY_ID_CACHE, CacheConstants.USER_LANG_CACHE}, key = "#userVO.id",
+            condition = "#userVO.id != null")})
     public void save(UserVO userVO) {
         HttpEntity<UserVO> entity = new HttpEntity<>(userVO, setHeader());
         restTemplate.exchange(greenCityUserServerAddress
@@ -410,11 +457,17 @@ public class RestClient {
     }
 
     /**
-     * Method that allow you to save new {@link UserVO}.
+     * Method that allow you to save new {@link UserVO}. Only cached lookups of this
+     * user are evicted.
      *
      * @param userVO for save User.
      * @author Orest Mamchuk
      */
+    @Caching(evict = {
+        @CacheEvict(value = {CacheConstants.AUTHENTICATED_USER_CACHE, CacheConstants.USER_BY_EMAIL_CACHE,
+            CacheConstants.USER_ID_BY_EMAIL_CACHE}, key = "#userVO.email", condition = "#userVO.email != null"),
+        @CacheEvict(value = {CacheConstants.USER_BY_ID_CACHE, CacheConstants.USER_LANG_CACHE}, key = "#userVO.id",
+            condition = "#userVO.id != null")})
     public void save(UserVO userVO, String accessToken) {
         HttpHeaders headers = new HttpHeaders();
         headers.set(AUTHORIZATION, accessToken);
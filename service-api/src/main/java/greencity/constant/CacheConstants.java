@@ -4,10 +4,14 @@ package greencity.constant;
  * Class, that contains constants used for caching.
  */
 public final class CacheConstants {
-    public static final String HABIT_ITEM_STATISTIC_CACHE = "habit_item_statistic_cache";
     public static final String FACT_OF_THE_DAY_CACHE_NAME = "fact_of_the_day_cache";
     public static final String HABIT_FACT_OF_DAY_CACHE = "habit_fact_of_day_cache";
     public static final String NEWEST_ECO_NEWS_CACHE_NAME = "newest_eco_news_cache";
+    public static final String AUTHENTICATED_USER_CACHE = "authenticated_user_cache";
+    public static final String USER_BY_EMAIL_CACHE = "user_by_email_cache";
+    public static final String USER_BY_ID_CACHE = "user_by_id_cache";
+    public static final String USER_ID_BY_EMAIL_CACHE = "user_id_by_email_cache";
+    public static final String USER_LANG_CACHE = "user_lang_cache";
 
     private CacheConstants() {
     }
@@ -0,0 +1,26 @@
+package greencity.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+import java.util.List;
+
+/**
+ * Page of a feed read by cursor. {@code nextCursor} is passed back to get the
+ * next page and is {@code null} on the last page. {@code totalElements} is
+ * {@code null} when the total count was not requested.
+ */
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class CursorPageDto<T> {
+    private List<T> page;
+
+    private String nextCursor;
+
+    private boolean hasNext;
+
+    private Long totalElements;
+}
@@ -48,5 +48,5 @@ public class EcoNewsGenericDto {
 
     private int countComments;
 
-    private int countOfEcoNews;
+    private Integer countOfEcoNews;
 }
@@ -38,4 +38,10 @@ public class EcoNewsVO {
     private List<TagVO> tags;
 
     private Set<UserVO> usersDislikedNews = new HashSet<>();
+
+    private int likesCount;
+
+    private int dislikesCount;
+
+    private int commentsCount;
 }
@@ -0,0 +1,15 @@
+package greencity.dto.econewscomment;
+
+import lombok.*;
+
+@Getter
+@Setter
+@NoArgsConstructor
+@AllArgsConstructor
+@Builder
+@EqualsAndHashCode
+public class CommentLikesCountDto {
+    private Long id;
+
+    private Integer amountLikes;
+}
@@ -66,11 +66,14 @@ public interface EcoNewsCommentService {
 
     /**
      * Method returns count of likes to certain {@link EcoNewsCommentVO} specified
-     * by id.
+     * by id and whether the user liked it, and sends the count to the comment
+     * topic.
      *
      * @param amountCommentLikesDto dto with id and count likes for comments.
+     * @return {@link AmountCommentLikesDto} with count of likes and liked state of
+     *         the user.
      */
-    void countLikes(AmountCommentLikesDto amountCommentLikesDto);
+    AmountCommentLikesDto countLikes(AmountCommentLikesDto amountCommentLikesDto);
 
     /**
      * Method to count replies to certain {@link EcoNewsCommentVO}.
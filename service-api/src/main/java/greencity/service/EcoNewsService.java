@@ -1,5 +1,6 @@
 package greencity.service;
 
+import greencity.dto.CursorPageDto;
 import greencity.dto.PageableAdvancedDto;
 import greencity.dto.PageableDto;
 import greencity.dto.econews.*;
@@ -79,6 +80,30 @@ public interface EcoNewsService {
      */
     PageableAdvancedDto<EcoNewsGenericDto> find(Pageable page, List<String> tags);
 
+    /**
+     * Method for getting the eco news feed by cursor, newest first.
+     *
+     * @param cursor    cursor returned with the previous page, {@code null} for the
+     *                  first page.
+     * @param size      amount of news on the page.
+     * @param tags      tags to filter, all news if empty or {@code null}.
+     * @param withTotal whether to count the total amount of news.
+     * @return {@link CursorPageDto} of {@link EcoNewsGenericDto} instances.
+     */
+    CursorPageDto<EcoNewsGenericDto> findFeed(String cursor, int size, List<String> tags, boolean withTotal);
+
+    /**
+     * Method for getting the users eco news feed by cursor, newest first.
+     *
+     * @param user      author of news.
+     * @param cursor    cursor returned with the previous page, {@code null} for the
+     *                  first page.
+     * @param size      amount of news on the page.
+     * @param withTotal whether to count the total amount of news.
+     * @return {@link CursorPageDto} of {@link EcoNewsGenericDto} instances.
+     */
+    CursorPageDto<EcoNewsGenericDto> findFeedByUser(UserVO user, String cursor, int size, boolean withTotal);
+
     /**
      * Method for getting the {@link EcoNewsVO} instance by its id.
      *
@@ -1,6 +1,7 @@
 package greencity.service;
 
 import org.springframework.web.multipart.MultipartFile;
+import java.util.Arrays;
 
 public interface FileService {
     /**
@@ -11,6 +12,16 @@ public interface FileService {
      **/
     String upload(MultipartFile multipartFile);
 
+    /**
+     * Upload several files.
+     *
+     * @param multipartFiles image files to save.
+     * @return public image urls in the order of the files.
+     **/
+    default String[] uploadAll(MultipartFile[] multipartFiles) {
+        return Arrays.stream(multipartFiles).map(this::upload).toArray(String[]::new);
+    }
+
     /**
      * Convert string to MultipartFile.
      *
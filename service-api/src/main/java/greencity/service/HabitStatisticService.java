@@ -2,6 +2,7 @@ package greencity.service;
 
 import greencity.dto.habit.HabitAssignVO;
 import greencity.dto.habitstatistic.*;
+import greencity.enums.HabitAssignStatus;
 import java.util.List;
 
 public interface HabitStatisticService {
@@ -89,4 +90,16 @@ public interface HabitStatisticService {
      * @param habitAssign {HabitAssign} instance.
      */
     void deleteAllStatsByHabitAssign(HabitAssignVO habitAssign);
+
+    /**
+     * Method updates the daily statistics of habit items after the status of the
+     * {@code HabitAssign} has changed. Statistics of cancelled habit assigns are
+     * not counted, so they are removed when the assign is cancelled and added back
+     * when it is assigned again.
+     *
+     * @param habitAssignId  id of {@code HabitAssign}.
+     * @param previousStatus {@link HabitAssignStatus} before the change.
+     * @param status         {@link HabitAssignStatus} after the change.
+     */
+    void updateStatsOnStatusChange(Long habitAssignId, HabitAssignStatus previousStatus, HabitAssignStatus status);
 }
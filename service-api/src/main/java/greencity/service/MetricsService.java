@@ -0,0 +1,17 @@
+package greencity.service;
+
+import java.util.Map;
+
+/**
+ * Provides runtime metrics of the application.
+ */
+public interface MetricsService {
+    /**
+     * Method returns latency histograms of HTTP endpoints, service and repository
+     * methods, amounts of SQL statements per endpoint, statistics of outbound HTTP
+     * calls and progress of the last habit notification run.
+     *
+     * @return metrics by section.
+     */
+    Map<String, Object> getMetrics();
+}
@@ -2,13 +2,13 @@ package greencity.service;
 
 import greencity.dto.PageableAdvancedDto;
 import greencity.dto.PageableDto;
-import greencity.dto.ratingstatistics.RatingStatisticsDto;
 import greencity.dto.ratingstatistics.RatingStatisticsDtoForTables;
 import greencity.dto.ratingstatistics.RatingStatisticsVO;
 import greencity.dto.ratingstatistics.RatingStatisticsViewDto;
 import greencity.filters.SearchCriteria;
 import org.springframework.data.domain.Pageable;
 import java.util.List;
+import java.util.function.Consumer;
 
 /**
  * Provides the interface to manage {@link RatingStatisticsVO}.
@@ -24,29 +24,30 @@ public interface RatingStatisticsService {
     RatingStatisticsVO save(RatingStatisticsVO ratingStatistics);
 
     /**
-     * Find {@link RatingStatisticsVO} for management by page .
+     * Method for saving a batch of {@link RatingStatisticsVO} in one transaction.
      *
-     * @param pageable a value with pageable configuration.
-     * @return a dto of {@link PageableAdvancedDto}.
-     * @author Dovganyuk Taras
+     * @param ratingStatistics - list of ratingStatistics to save
      */
-    PageableAdvancedDto<RatingStatisticsDtoForTables> getRatingStatisticsForManagementByPage(Pageable pageable);
+    void saveAll(List<RatingStatisticsVO> ratingStatistics);
 
     /**
-     * Find {@link RatingStatisticsVO} for management.
+     * Find {@link RatingStatisticsVO} for management by page .
      *
-     * @return a list of {@link RatingStatisticsDto}.
+     * @param pageable a value with pageable configuration.
+     * @return a dto of {@link PageableAdvancedDto}.
      * @author Dovganyuk Taras
      */
-    List<RatingStatisticsDto> getAllRatingStatistics();
+    PageableAdvancedDto<RatingStatisticsDtoForTables> getRatingStatisticsForManagementByPage(Pageable pageable);
 
     /**
-     * Find {@link RatingStatisticsVO} for export to excel file.
+     * Passes {@link RatingStatisticsVO} for export to file to the consumer one by
+     * one, without loading all of them into memory.
      *
-     * @return a list of {@link RatingStatisticsDto}.
-     * @author Dovganyuk Taras
+     * @param ratingStatisticsViewDto filter of rows, {@code null} to export all.
+     * @param consumer                receives every row.
      */
-    List<RatingStatisticsDto> getFilteredRatingStatisticsForExcel(RatingStatisticsViewDto ratingStatisticsViewDto);
+    void exportRatingStatistics(RatingStatisticsViewDto ratingStatisticsViewDto,
+        Consumer<RatingStatisticsDtoForTables> consumer);
 
     /**
      * Find {@link RatingStatisticsVO} for management.
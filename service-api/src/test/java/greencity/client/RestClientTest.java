@@ -74,6 +74,20 @@ class RestClientTest {
         assertEquals(userVO, restClient.findById(1L));
     }
 
+    @Test
+    void findByIdWithAccessToken() {
+        UserVO userVO = ModelUtils.getUserVO();
+        String accessToken = "accessToken";
+        HttpHeaders headers = new HttpHeaders();
+        headers.set(AUTHORIZATION, accessToken);
+        HttpEntity<String> entity = new HttpEntity<>(headers);
+        when(restTemplate.exchange(greenCityUserServerAddress
+            + RestTemplateLinks.USER_FIND_BY_ID + RestTemplateLinks.ID + 1L, HttpMethod.GET, entity, UserVO.class))
+            .thenReturn(ResponseEntity.ok(userVO));
+        assertEquals(userVO, restClient.findById(1L, accessToken));
+        verify(httpServletRequest, never()).getHeader(AUTHORIZATION);
+    }
+
     @Test
     void searchBy() {
         String accessToken = "accessToken";
@@ -0,0 +1,107 @@
+package greencity.client;
+
+import org.springframework.http.HttpMethod;
+import org.springframework.http.HttpRequest;
+import org.springframework.http.client.ClientHttpRequestExecution;
+import org.springframework.http.client.ClientHttpRequestInterceptor;
+import org.springframework.http.client.ClientHttpResponse;
+import java.io.IOException;
+import java.io.InterruptedIOException;
+import java.time.Duration;
+import java.util.Set;
+import java.util.concurrent.Semaphore;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Retries GET requests to the configured endpoints after an I/O or server error
+ * with exponential backoff, and limits how many of them may run at once, so a
+ * slow user service can not occupy all request threads. Other requests are
+ * passed through unchanged.
+ */
+public class IdempotentRequestInterceptor implements ClientHttpRequestInterceptor {
+    private final Set<String> endpoints;
+    private final int maxAttempts;
+    private final Duration backoff;
+    private final Semaphore bulkhead;
+    private final Duration maxWait;
+    private final RestClientStatistics statistics;
+
+    /**
+     * Constructor with parameters.
+     *
+     * @param endpoints     names of {@code RestTemplateLinks} constants of
+     *                      endpoints to retry.
+     * @param maxAttempts   maximum amount of attempts of one call.
+     * @param backoff       delay before the first retry, doubled for every next
+     *                      one.
+     * @param maxConcurrent maximum amount of calls running at once.
+     * @param maxWait       maximum time to wait for a free place.
+     * @param statistics    {@link RestClientStatistics} to record retries.
+     */
+    public IdempotentRequestInterceptor(Set<String> endpoints, int maxAttempts, Duration backoff, int maxConcurrent,
+        Duration maxWait, RestClientStatistics statistics) {
+        this.endpoints = Set.copyOf(endpoints);
+        this.maxAttempts = Math.max(1, maxAttempts);
+        this.backoff = backoff;
+        this.bulkhead = new Semaphore(maxConcurrent);
+        this.maxWait = maxWait;
+        this.statistics = statistics;
+    }
+
+    @Override
+    public ClientHttpResponse intercept(HttpRequest request, byte[] body, ClientHttpRequestExecution execution)
+        throws IOException {
+        String endpoint = RestClientStatistics.endpointOf(request.getURI());
+        if (request.getMethod() != HttpMethod.GET || !endpoints.contains(endpoint)) {
+            return execution.execute(request, body);
+        }
+        acquire(endpoint);
+        try {
+            return executeWithRetries(request, body, execution, endpoint);
+        } finally {
+            bulkhead.release();
+        }
+    }
+
+    private ClientHttpResponse executeWithRetries(HttpRequest request, byte[] body,
+        ClientHttpRequestExecution execution, String endpoint) throws IOException {
+        for (int attempt = 1;; attempt++) {
+            try {
+                ClientHttpResponse response = execution.execute(request, body);
+                if (attempt == maxAttempts || !response.getStatusCode().is5xxServerError()) {
+                    return response;
+                }
+                response.close();
+            } catch (IOException e) {
+                if (attempt == maxAttempts) {
+                    throw e;
+                }
+            }
+            statistics.recordRetry(endpoint);
+            sleep(attempt);
+        }
+    }
+
+    private void acquire(String endpoint) throws IOException {
+        try {
+            if (!bulkhead.tryAcquire(maxWait.toMillis(), TimeUnit.MILLISECONDS)) {
+                throw new IOException("Too many concurrent calls of " + endpoint);
+            }
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new InterruptedIOException("Interrupted while waiting to call " + endpoint);
+        }
+    }
+
+    private void sleep(int attempt) throws InterruptedIOException {
+        long delay = backoff.toMillis() << (attempt - 1);
+        delay += ThreadLocalRandom.current().nextLong(delay / 2 + 1);
+        try {
+            Thread.sleep(delay);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new InterruptedIOException("Interrupted while waiting to retry");
+        }
+    }
+}
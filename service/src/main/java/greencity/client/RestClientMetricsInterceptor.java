@@ -0,0 +1,43 @@
+package greencity.client;
+
+import greencity.metrics.RequestMetrics;
+import org.springframework.http.HttpRequest;
+import org.springframework.http.client.ClientHttpRequestExecution;
+import org.springframework.http.client.ClientHttpRequestInterceptor;
+import org.springframework.http.client.ClientHttpResponse;
+import java.io.IOException;
+
+/**
+ * Records duration and result of every HTTP call in
+ * {@link RestClientStatistics}, and counts the call for the request handled by
+ * the current thread.
+ */
+public class RestClientMetricsInterceptor implements ClientHttpRequestInterceptor {
+    private final RestClientStatistics statistics;
+
+    /**
+     * Constructor with parameters.
+     */
+    public RestClientMetricsInterceptor(RestClientStatistics statistics) {
+        this.statistics = statistics;
+    }
+
+    @Override
+    public ClientHttpResponse intercept(HttpRequest request, byte[] body, ClientHttpRequestExecution execution)
+        throws IOException {
+        String endpoint = RestClientStatistics.endpointOf(request.getURI());
+        RequestMetrics requestMetrics = RequestMetrics.current();
+        if (requestMetrics != null) {
+            requestMetrics.recordRestCall(endpoint);
+        }
+        long start = System.nanoTime();
+        boolean failed = true;
+        try {
+            ClientHttpResponse response = execution.execute(request, body);
+            failed = response.getStatusCode().is5xxServerError();
+            return response;
+        } finally {
+            statistics.record(endpoint, System.nanoTime() - start, failed);
+        }
+    }
+}
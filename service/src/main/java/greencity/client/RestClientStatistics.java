@@ -0,0 +1,160 @@
+package greencity.client;
+
+import greencity.constant.RestTemplateLinks;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import java.lang.reflect.Field;
+import java.lang.reflect.Modifier;
+import java.net.URI;
+import java.util.Arrays;
+import java.util.Comparator;
+import java.util.List;
+import java.util.Map;
+import java.util.TreeMap;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * Latency and error statistics of calls made with the {@code RestTemplate},
+ * kept per endpoint. An endpoint is named after the {@link RestTemplateLinks}
+ * constant its path was built from, calls to other urls are counted as
+ * {@value #OTHER_ENDPOINT}.
+ */
+@Slf4j
+@Component
+public class RestClientStatistics {
+    static final String OTHER_ENDPOINT = "OTHER";
+    private static final List<Map.Entry<String, String>> ENDPOINT_PATHS = endpointPaths();
+    private final ConcurrentMap<String, Endpoint> endpoints = new ConcurrentHashMap<>();
+
+    /**
+     * Returns name of the {@link RestTemplateLinks} constant the url was built
+     * from.
+     *
+     * @param uri url of the request.
+     * @return name of the constant or {@value #OTHER_ENDPOINT}.
+     */
+    public static String endpointOf(URI uri) {
+        String path = trimSlashes(uri.getPath() == null ? "" : uri.getPath().trim());
+        for (Map.Entry<String, String> endpoint : ENDPOINT_PATHS) {
+            if (path.equals(endpoint.getValue()) || path.endsWith("/" + endpoint.getValue())) {
+                return endpoint.getKey();
+            }
+        }
+        return OTHER_ENDPOINT;
+    }
+
+    /**
+     * Records one call of the endpoint.
+     *
+     * @param endpoint      name of the endpoint.
+     * @param durationNanos duration of the call.
+     * @param failed        whether the call failed with an I/O or server error.
+     */
+    public void record(String endpoint, long durationNanos, boolean failed) {
+        endpoints.computeIfAbsent(endpoint, key -> new Endpoint()).record(durationNanos, failed);
+    }
+
+    /**
+     * Records a retry of a call of the endpoint.
+     *
+     * @param endpoint name of the endpoint.
+     */
+    public void recordRetry(String endpoint) {
+        endpoints.computeIfAbsent(endpoint, key -> new Endpoint()).retries.increment();
+    }
+
+    /**
+     * Returns statistics of all called endpoints sorted by name.
+     */
+    public Map<String, Endpoint> getEndpoints() {
+        return new TreeMap<>(endpoints);
+    }
+
+    /**
+     * Logs statistics of the called endpoints.
+     */
+    @Scheduled(fixedRateString = "${greencity.user-service.http.statistics-log-rate:PT10M}",
+        initialDelayString = "${greencity.user-service.http.statistics-log-rate:PT10M}")
+    public void logStatistics() {
+        getEndpoints().forEach((name, endpoint) -> log.info(
+            "HTTP endpoint {}: calls={}, errors={}, retries={}, averageMillis={}, maxMillis={}", name,
+            endpoint.getCalls(), endpoint.getErrors(), endpoint.getRetries(), endpoint.getAverageMillis(),
+            endpoint.getMaxMillis()));
+    }
+
+    private static List<Map.Entry<String, String>> endpointPaths() {
+        return Arrays.stream(RestTemplateLinks.class.getDeclaredFields())
+            .filter(field -> Modifier.isStatic(field.getModifiers()) && field.getType() == String.class)
+            .map(field -> Map.entry(field.getName(), constantValue(field).trim()))
+            .filter(entry -> entry.getValue().contains("/") && !entry.getValue().matches(".*[?&=].*"))
+            .map(entry -> Map.entry(entry.getKey(), trimSlashes(entry.getValue())))
+            .sorted(Comparator.comparing((Map.Entry<String, String> entry) -> entry.getValue().length()).reversed())
+            .toList();
+    }
+
+    private static String constantValue(Field field) {
+        try {
+            return (String) field.get(null);
+        } catch (IllegalAccessException e) {
+            throw new IllegalStateException(e);
+        }
+    }
+
+    private static String trimSlashes(String path) {
+        int start = 0;
+        int end = path.length();
+        while (start < end && path.charAt(start) == '/') {
+            start++;
+        }
+        while (end > start && path.charAt(end - 1) == '/') {
+            end--;
+        }
+        return path.substring(start, end);
+    }
+
+    /**
+     * Statistics of one endpoint.
+     */
+    public static class Endpoint {
+        private final LongAdder calls = new LongAdder();
+        private final LongAdder errors = new LongAdder();
+        private final LongAdder retries = new LongAdder();
+        private final LongAdder totalNanos = new LongAdder();
+        private final AtomicLong maxNanos = new AtomicLong();
+
+        void record(long durationNanos, boolean failed) {
+            calls.increment();
+            totalNanos.add(durationNanos);
+            maxNanos.accumulateAndGet(durationNanos, Math::max);
+            if (failed) {
+                errors.increment();
+            }
+        }
+
+        public long getCalls() {
+            return calls.sum();
+        }
+
+        public long getErrors() {
+            return errors.sum();
+        }
+
+        public long getRetries() {
+            return retries.sum();
+        }
+
+        public long getAverageMillis() {
+            long count = calls.sum();
+            return count == 0 ? 0 : TimeUnit.NANOSECONDS.toMillis(totalNanos.sum() / count);
+        }
+
+        public long getMaxMillis() {
+            return TimeUnit.NANOSECONDS.toMillis(maxNanos.get());
+        }
+    }
+}
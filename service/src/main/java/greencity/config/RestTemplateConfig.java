@@ -1,17 +1,96 @@
 package greencity.config;
 
+import greencity.client.IdempotentRequestInterceptor;
+import greencity.client.RestClientMetricsInterceptor;
+import greencity.client.RestClientStatistics;
+import org.apache.hc.client5.http.config.ConnectionConfig;
+import org.apache.hc.client5.http.config.RequestConfig;
+import org.apache.hc.client5.http.impl.classic.CloseableHttpClient;
+import org.apache.hc.client5.http.impl.classic.HttpClients;
+import org.apache.hc.client5.http.impl.io.PoolingHttpClientConnectionManager;
+import org.apache.hc.client5.http.impl.io.PoolingHttpClientConnectionManagerBuilder;
+import org.apache.hc.core5.util.TimeValue;
+import org.apache.hc.core5.util.Timeout;
+import org.springframework.beans.factory.annotation.Value;
 import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
 import org.springframework.http.client.HttpComponentsClientHttpRequestFactory;
 import org.springframework.web.client.RestTemplate;
+import java.time.Duration;
+import java.util.List;
+import java.util.Set;
 
 @Configuration
 public class RestTemplateConfig {
+    @Value("${greencity.user-service.http.max-total:100}")
+    private int maxTotal;
+    @Value("${greencity.user-service.http.max-per-route:50}")
+    private int maxPerRoute;
+    @Value("${greencity.user-service.http.keep-alive:PT30S}")
+    private Duration keepAlive;
+    @Value("${greencity.user-service.http.connect-timeout:PT2S}")
+    private Duration connectTimeout;
+    @Value("${greencity.user-service.http.read-timeout:PT10S}")
+    private Duration readTimeout;
+    @Value("${greencity.user-service.http.pool-timeout:PT2S}")
+    private Duration poolTimeout;
+    @Value("${greencity.user-service.http.retry.endpoints:USER_FIND_BY_ID,USER_FIND_BY_EMAIL,"
+        + "USER_FIND_ID_BY_EMAIL,USER_LANG}")
+    private String[] retryEndpoints;
+    @Value("${greencity.user-service.http.retry.max-attempts:3}")
+    private int retryMaxAttempts;
+    @Value("${greencity.user-service.http.retry.backoff:PT0.1S}")
+    private Duration retryBackoff;
+    @Value("${greencity.user-service.http.bulkhead.max-concurrent:50}")
+    private int bulkheadMaxConcurrent;
+    @Value("${greencity.user-service.http.bulkhead.max-wait:PT0.5S}")
+    private Duration bulkheadMaxWait;
+
+    /**
+     * HTTP client with a connection pool shared by all calls of
+     * {@link RestTemplate}. Connections idle longer than the keep-alive time are
+     * closed, and automatic retries are turned off because they are done by
+     * {@link IdempotentRequestInterceptor} for idempotent calls only.
+     */
+    @Bean
+    public CloseableHttpClient restTemplateHttpClient() {
+        PoolingHttpClientConnectionManager connectionManager = PoolingHttpClientConnectionManagerBuilder.create()
+            .setMaxConnTotal(maxTotal)
+            .setMaxConnPerRoute(maxPerRoute)
+            .setDefaultConnectionConfig(ConnectionConfig.custom()
+                .setConnectTimeout(Timeout.of(connectTimeout))
+                .setSocketTimeout(Timeout.of(readTimeout))
+                .setValidateAfterInactivity(TimeValue.ofSeconds(2))
+                .build())
+            .build();
+        return HttpClients.custom()
+            .setConnectionManager(connectionManager)
+            .setDefaultRequestConfig(RequestConfig.custom()
+                .setConnectionRequestTimeout(Timeout.of(poolTimeout))
+                .setResponseTimeout(Timeout.of(readTimeout))
+                .build())
+            .setKeepAliveStrategy((response, context) -> TimeValue.of(keepAlive))
+            .evictExpiredConnections()
+            .evictIdleConnections(TimeValue.of(keepAlive))
+            .disableAutomaticRetries()
+            .build();
+    }
+
     /**
-     * {@inheritDoc}
+     * {@link RestTemplate} that records statistics of every call and retries
+     * idempotent calls. The retrying interceptor is the last one, because only the
+     * last interceptor may execute a request more than once.
      */
     @Bean
-    public RestTemplate restTemplate() {
-        return new RestTemplate(new HttpComponentsClientHttpRequestFactory());
+    public RestTemplate restTemplate(CloseableHttpClient restTemplateHttpClient,
+        RestClientStatistics restClientStatistics) {
+        RestTemplate restTemplate =
+            new RestTemplate(new HttpComponentsClientHttpRequestFactory(restTemplateHttpClient));
+        restTemplate.setInterceptors(List.of(
+            new RestClientMetricsInterceptor(restClientStatistics),
+            new IdempotentRequestInterceptor(Set.of(retryEndpoints), retryMaxAttempts, retryBackoff,
+                bulkheadMaxConcurrent,
+                bulkheadMaxWait, restClientStatistics)));
+        return restTemplate;
     }
-}
\ No newline at end of file
+}
@@ -3,11 +3,10 @@ package greencity.config;
 import greencity.client.RestClient;
 import greencity.constant.CacheConstants;
 import greencity.dto.user.UserVO;
-import greencity.entity.HabitAssign;
 import greencity.entity.HabitFactTranslation;
 import greencity.entity.User;
-import greencity.enums.HabitAssignStatus;
 import greencity.message.SendHabitNotification;
+import greencity.notification.HabitNotificationDispatcher;
 import greencity.repository.HabitAssignRepo;
 import greencity.repository.HabitFactTranslationRepo;
 import greencity.repository.RatingStatisticsRepo;
@@ -20,6 +19,7 @@ import org.springframework.scheduling.annotation.Scheduled;
 import org.springframework.transaction.annotation.Transactional;
 import java.time.ZonedDateTime;
 import java.util.List;
+import java.util.concurrent.TimeUnit;
 import static greencity.enums.EmailNotification.*;
 import static greencity.enums.FactOfDayStatus.*;
 
@@ -34,10 +34,12 @@ import static greencity.enums.FactOfDayStatus.*;
 @EnableScheduling
 @AllArgsConstructor
 public class ScheduleConfig {
+    private static final int EXPIRE_BATCH_SIZE = 1000;
     private final HabitFactTranslationRepo habitFactTranslationRepo;
     private final HabitAssignRepo habitAssignRepo;
     private final RatingStatisticsRepo ratingStatisticsRepo;
     private final RestClient restClient;
+    private final HabitNotificationDispatcher habitNotificationDispatcher;
 
     /**
      * Invoke {@link SendHabitNotification} from EmailMessageReceiver to send email
@@ -48,12 +50,7 @@ public class ScheduleConfig {
     private void sendHabitNotificationIfNeed(List<UserVO> users) {
         ZonedDateTime end = ZonedDateTime.now();
         ZonedDateTime start = end.minusDays(3);
-        for (UserVO user : users) {
-            int count = habitAssignRepo.countMarkedHabitAssignsByUserIdAndPeriod(user.getId(), start, end);
-            if (count == 0) {
-                restClient.sendHabitNotification(new SendHabitNotification(user.getName(), user.getEmail()));
-            }
-        }
+        habitNotificationDispatcher.dispatch(users, start, end);
     }
 
     /**
@@ -133,20 +130,22 @@ public class ScheduleConfig {
 
     /**
      * Every day at 00:00 checks all Assigned Habits and if they are timed out set
-     * status EXPIRED.
+     * status EXPIRED. Habit assigns are updated by the database in batches, so they
+     * are not loaded into memory and locks are held only for one batch.
      *
      * @author Ostap Mykhaylivskii
      **/
-    @Transactional
     @Scheduled(cron = "0 0 0 * * ?", zone = "Europe/Kiev")
     public void setExpiredStatus() {
+        long start = System.nanoTime();
         ZonedDateTime now = ZonedDateTime.now();
-        List<HabitAssign> habitsInProgress = habitAssignRepo.findAllInProgressHabitAssigns();
-        habitsInProgress.forEach(h -> {
-            if (h.getCreateDate().plusDays(h.getDuration().longValue()).isBefore(now)) {
-                log.info("Set status expired");
-                h.setStatus(HabitAssignStatus.EXPIRED);
-            }
-        });
+        int expired = 0;
+        int updated;
+        do {
+            updated = habitAssignRepo.expireInProgressHabitAssigns(now, EXPIRE_BATCH_SIZE);
+            expired += updated;
+        } while (updated == EXPIRE_BATCH_SIZE);
+        log.info("Set status expired to {} habit assigns in {} ms", expired,
+            TimeUnit.NANOSECONDS.toMillis(System.nanoTime() - start));
     }
 }
@@ -11,9 +11,26 @@ import org.springframework.stereotype.Component;
 public class EcoNewsCommentDtoMapper extends AbstractConverter<EcoNewsComment, EcoNewsCommentDto> {
     @Override
     protected EcoNewsCommentDto convert(EcoNewsComment ecoNewsComment) {
+        int likes = ecoNewsComment.isDeleted() ? 0 : ecoNewsComment.getUsersLiked().size();
+        return convert(ecoNewsComment, 0, likes, ecoNewsComment.isCurrentUserLiked());
+    }
+
+    /**
+     * Method converts {@link EcoNewsComment} with counters computed by the query
+     * that loaded it, so neither its replies nor its likes are loaded.
+     *
+     * @param ecoNewsComment   {@link EcoNewsComment} with its author.
+     * @param replies          amount of not deleted replies.
+     * @param likes            amount of likes.
+     * @param currentUserLiked whether the current user liked the comment.
+     * @return {@link EcoNewsCommentDto}
+     */
+    public EcoNewsCommentDto convert(EcoNewsComment ecoNewsComment, int replies, int likes,
+        boolean currentUserLiked) {
         EcoNewsCommentDto dto = new EcoNewsCommentDto();
         dto.setId(ecoNewsComment.getId());
         dto.setModifiedDate(ecoNewsComment.getModifiedDate());
+        dto.setReplies(replies);
         if (ecoNewsComment.isDeleted()) {
             dto.setStatus(CommentStatus.DELETED);
             return dto;
@@ -28,8 +45,8 @@ public class EcoNewsCommentDtoMapper extends AbstractConverter<EcoNewsComment, E
             .name(ecoNewsComment.getUser().getName())
             .userProfilePicturePath(ecoNewsComment.getUser().getProfilePicturePath())
             .build());
-        dto.setLikes(ecoNewsComment.getUsersLiked().size());
-        dto.setCurrentUserLiked(ecoNewsComment.isCurrentUserLiked());
+        dto.setLikes(likes);
+        dto.setCurrentUserLiked(currentUserLiked);
         return dto;
     }
-}
\ No newline at end of file
+}
@@ -33,7 +33,6 @@ public class EcoNewsDtoMapper extends AbstractConverter<EcoNews, EcoNewsDto> {
             .content(ecoNews.getText())
             .creationDate(ecoNews.getCreationDate())
             .imagePath(ecoNews.getImagePath())
-            .likes(ecoNews.getUsersLikedNews().size())
             .shortInfo(ecoNews.getShortInfo())
             .tags(ecoNews.getTags().stream()
                 .flatMap(t -> t.getTagTranslations().stream())
@@ -43,11 +42,10 @@ public class EcoNewsDtoMapper extends AbstractConverter<EcoNews, EcoNewsDto> {
                 .flatMap(t -> t.getTagTranslations().stream())
                 .filter(t -> t.getLanguage().getCode().equals("ua"))
                 .map(TagTranslation::getName).collect(Collectors.toList()))
-            .likes(ecoNews.getUsersLikedNews().size())
-            .dislikes(ecoNews.getUsersDislikedNews().size())
+            .likes(ecoNews.getLikesCount())
+            .dislikes(ecoNews.getDislikesCount())
             .title(ecoNews.getTitle())
-            .countComments(
-                (int) ecoNews.getEcoNewsComments().stream().filter(deleted -> !deleted.isDeleted()).count())
+            .countComments(ecoNews.getCommentsCount())
             .build();
     }
 }
@@ -53,6 +53,9 @@ public class EcoNewsVOMapper extends AbstractConverter<EcoNews, EcoNewsVO> {
                     .id(user.getId())
                     .build())
                 .collect(Collectors.toSet()))
+            .likesCount(ecoNews.getLikesCount())
+            .dislikesCount(ecoNews.getDislikesCount())
+            .commentsCount(ecoNews.getCommentsCount())
             .ecoNewsComments(ecoNews.getEcoNewsComments().stream()
                 .map(ecoNewsComment -> EcoNewsCommentVO.builder()
                     .id(ecoNewsComment.getId())
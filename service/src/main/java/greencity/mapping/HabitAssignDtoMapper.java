@@ -20,7 +20,7 @@ public class HabitAssignDtoMapper extends AbstractConverter<HabitAssign, HabitAs
      * @return {@link HabitAssignDto}
      */
     @Override
-    protected HabitAssignDto convert(HabitAssign habitAssign) {
+    public HabitAssignDto convert(HabitAssign habitAssign) {
         return HabitAssignDto.builder()
             .id(habitAssign.getId())
             .status(habitAssign.getStatus())
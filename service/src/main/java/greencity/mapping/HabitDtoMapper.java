@@ -25,7 +25,7 @@ public class HabitDtoMapper extends AbstractConverter<HabitTranslation, HabitDto
      * @return {@link HabitDto}
      */
     @Override
-    protected HabitDto convert(HabitTranslation habitTranslation) {
+    public HabitDto convert(HabitTranslation habitTranslation) {
         var language = habitTranslation.getLanguage();
         var habit = habitTranslation.getHabit();
         return HabitDto.builder()
@@ -1,26 +1,68 @@
 package greencity.mapping;
 
 import greencity.exception.exceptions.NotSavedException;
+import java.awt.Graphics2D;
+import java.awt.RenderingHints;
 import java.awt.image.BufferedImage;
-import java.io.*;
-import java.nio.file.Files;
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.time.Duration;
+import java.util.Base64;
+import java.util.Objects;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.Future;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
 import javax.imageio.ImageIO;
 import greencity.service.MultipartFileImpl;
-import org.apache.commons.io.IOUtils;
-import org.apache.tomcat.util.http.fileupload.FileItem;
-import org.apache.tomcat.util.http.fileupload.disk.DiskFileItem;
 import org.modelmapper.AbstractConverter;
 import org.modelmapper.ModelMapper;
+import org.springframework.beans.factory.DisposableBean;
+import org.springframework.beans.factory.annotation.Value;
 import org.springframework.stereotype.Component;
 import org.springframework.web.multipart.MultipartFile;
-import static org.apache.tomcat.util.codec.binary.Base64.decodeBase64;
 
 /**
  * Class that is used by {@link ModelMapper} to map Base64 encoded image into
- * MultipartFile.
+ * MultipartFile. The image is decoded and re-encoded in memory on a small
+ * bounded pool, so concurrent uploads never share a file and a burst of large
+ * images can not occupy all request threads.
  */
 @Component
-public class MultipartBase64ImageMapper extends AbstractConverter<String, MultipartFile> {
+public class MultipartBase64ImageMapper extends AbstractConverter<String, MultipartFile> implements DisposableBean {
+    static final String FILE_NAME = "image.png";
+    private static final String PARAMETER_NAME = "mainFile";
+    private static final String FORMAT = "png";
+    private static final String CONTENT_TYPE = "image/png";
+    private final int maxDimension;
+    private final Duration timeout;
+    private final ThreadPoolExecutor executor;
+
+    /**
+     * Constructor with parameters.
+     *
+     * @param maxDimension  maximum width and height of the saved image, bigger
+     *                      images are scaled down. {@code 0} keeps the size.
+     * @param poolSize      amount of threads that convert images.
+     * @param queueCapacity amount of images that may wait for a free thread.
+     * @param timeout       maximum time to wait for a converted image.
+     */
+    public MultipartBase64ImageMapper(@Value("${greencity.image.max-dimension:0}") int maxDimension,
+        @Value("${greencity.image.pool-size:2}") int poolSize,
+        @Value("${greencity.image.queue-capacity:16}") int queueCapacity,
+        @Value("${greencity.image.timeout:PT30S}") Duration timeout) {
+        this.maxDimension = maxDimension;
+        this.timeout = timeout;
+        this.executor = new ThreadPoolExecutor(poolSize, poolSize, 0L, TimeUnit.MILLISECONDS,
+            new ArrayBlockingQueue<>(queueCapacity),
+            Thread.ofPlatform().name("image-conversion-", 1).daemon(true).factory(),
+            new ThreadPoolExecutor.AbortPolicy());
+    }
+
     /**
      * Method for converting Base64 encoded image into MultipartFile.
      *
@@ -29,24 +71,118 @@ public class MultipartBase64ImageMapper extends AbstractConverter<String, Multip
      */
     @Override
     public MultipartFile convert(String image) {
-        String imageToConvert = image.substring(image.indexOf(',') + 1);
-        File tempFile = new File("tempImage.jpg");
-        byte[] imageByte = decodeBase64(imageToConvert);
-        ByteArrayInputStream bis = new ByteArrayInputStream(imageByte);
+        Future<byte[]> result;
         try {
-            BufferedImage bufferedImage = ImageIO.read(bis);
-            ImageIO.write(bufferedImage, "png", tempFile);
-            FileItem fileItem = new DiskFileItem("mainFile", Files.probeContentType(tempFile.toPath()),
-                false, tempFile.getName(), (int) tempFile.length(), tempFile.getParentFile());
-            try (InputStream input = new FileInputStream(tempFile);
-                OutputStream outputStream = fileItem.getOutputStream()) {
-                IOUtils.copy(input, outputStream);
-                outputStream.flush();
-                return new MultipartFileImpl("mainFile", tempFile.getName(),
-                    Files.probeContentType(tempFile.toPath()), Files.readAllBytes(tempFile.toPath()));
-            }
-        } catch (IOException e) {
+            result = executor.submit(() -> encode(decode(image)));
+        } catch (RejectedExecutionException e) {
+            throw new NotSavedException("Too many images are being converted, try again later");
+        }
+        try {
+            return new MultipartFileImpl(PARAMETER_NAME, FILE_NAME, CONTENT_TYPE,
+                result.get(timeout.toMillis(), TimeUnit.MILLISECONDS));
+        } catch (InterruptedException e) {
+            result.cancel(true);
+            Thread.currentThread().interrupt();
             throw new NotSavedException("Cannot convert to BASE64 image");
+        } catch (ExecutionException | TimeoutException e) {
+            result.cancel(true);
+            throw new NotSavedException("Cannot convert to BASE64 image");
+        }
+    }
+
+    /**
+     * Decodes the image while reading it. The encoded characters are read straight
+     * from the string after the data URI prefix, so neither the encoded nor the
+     * decoded bytes are copied into a separate array.
+     */
+    private BufferedImage decode(String image) throws IOException {
+        try (InputStream input = Base64.getMimeDecoder()
+            .wrap(new CharsInputStream(image, image.indexOf(',') + 1))) {
+            BufferedImage bufferedImage = ImageIO.read(input);
+            if (bufferedImage == null) {
+                throw new IOException("Unsupported image format");
+            }
+            return bufferedImage;
+        }
+    }
+
+    private byte[] encode(BufferedImage image) throws IOException {
+        ByteArrayOutputStream output = new ByteArrayOutputStream();
+        ImageIO.write(resize(image), FORMAT, output);
+        return output.toByteArray();
+    }
+
+    private BufferedImage resize(BufferedImage image) {
+        int largestSide = Math.max(image.getWidth(), image.getHeight());
+        if (maxDimension <= 0 || largestSide <= maxDimension) {
+            return image;
+        }
+        double scale = (double) maxDimension / largestSide;
+        int width = Math.max(1, (int) Math.round(image.getWidth() * scale));
+        int height = Math.max(1, (int) Math.round(image.getHeight() * scale));
+        BufferedImage resized = new BufferedImage(width, height,
+            image.getColorModel().hasAlpha() ? BufferedImage.TYPE_INT_ARGB : BufferedImage.TYPE_INT_RGB);
+        Graphics2D graphics = resized.createGraphics();
+        try {
+            graphics.setRenderingHint(RenderingHints.KEY_INTERPOLATION, RenderingHints.VALUE_INTERPOLATION_BILINEAR);
+            graphics.setRenderingHint(RenderingHints.KEY_RENDERING, RenderingHints.VALUE_RENDER_QUALITY);
+            graphics.drawImage(image, 0, 0, width, height, null);
+        } finally {
+            graphics.dispose();
+        }
+        return resized;
+    }
+
+    /**
+     * Stops the conversion threads when the context is closed.
+     */
+    @Override
+    public void destroy() {
+        executor.shutdownNow();
+    }
+
+    /**
+     * Reads the characters of a string as ISO-8859-1 bytes, characters outside of
+     * it are read as {@code '?'} like {@link String#getBytes} does. Base64 uses
+     * only ASCII characters.
+     */
+    private static final class CharsInputStream extends InputStream {
+        private final String chars;
+        private int position;
+
+        private CharsInputStream(String chars, int position) {
+            this.chars = chars;
+            this.position = position;
+        }
+
+        @Override
+        public int read() {
+            return position < chars.length() ? toByte(chars.charAt(position++)) : -1;
+        }
+
+        @Override
+        public int read(byte[] bytes, int offset, int length) {
+            Objects.checkFromIndexSize(offset, length, bytes.length);
+            if (length == 0) {
+                return 0;
+            }
+            int count = Math.min(length, chars.length() - position);
+            if (count <= 0) {
+                return -1;
+            }
+            for (int i = 0; i < count; i++) {
+                bytes[offset + i] = (byte) toByte(chars.charAt(position++));
+            }
+            return count;
+        }
+
+        @Override
+        public int available() {
+            return chars.length() - position;
+        }
+
+        private static int toByte(char c) {
+            return c <= 0xFF ? c : '?';
         }
     }
-}
\ No newline at end of file
+}
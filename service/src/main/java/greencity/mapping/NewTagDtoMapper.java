@@ -5,12 +5,14 @@ import greencity.entity.Tag;
 import greencity.entity.localization.TagTranslation;
 import org.modelmapper.AbstractConverter;
 import org.springframework.stereotype.Component;
+import java.util.List;
 import java.util.Optional;
+import java.util.stream.Collectors;
 
 @Component
 public class NewTagDtoMapper extends AbstractConverter<Tag, NewTagDto> {
     @Override
-    protected NewTagDto convert(Tag source) {
+    public NewTagDto convert(Tag source) {
         Optional<TagTranslation> tagTranslationEn = source.getTagTranslations().stream()
             .filter(tagTranslation -> tagTranslation.getLanguage().getCode().equals("en"))
             .findFirst();
@@ -26,4 +28,15 @@ public class NewTagDtoMapper extends AbstractConverter<Tag, NewTagDto> {
             .id(source.getId())
             .build();
     }
-}
\ No newline at end of file
+
+    /**
+     * Method that build {@link List} of {@link NewTagDto} from {@link List} of
+     * {@link Tag}.
+     *
+     * @param tagList {@link List} of {@link Tag}
+     * @return {@link List} of {@link NewTagDto}
+     */
+    public List<NewTagDto> mapAllToList(List<Tag> tagList) {
+        return tagList.stream().map(this::convert).collect(Collectors.toList());
+    }
+}
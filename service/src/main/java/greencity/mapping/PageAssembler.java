@@ -0,0 +1,58 @@
+package greencity.mapping;
+
+import greencity.dto.PageableAdvancedDto;
+import org.springframework.data.domain.Page;
+import org.springframework.stereotype.Component;
+import java.util.List;
+import java.util.function.BiFunction;
+import java.util.function.Function;
+
+/**
+ * Builds {@link PageableAdvancedDto} from a {@link Page}. Values shared by all
+ * items of the page, such as counters, are computed once per page and passed to
+ * the mapping of every item, so items never query them on their own.
+ */
+@Component
+public class PageAssembler {
+    /**
+     * Maps every item of the page.
+     *
+     * @param page       page of entities.
+     * @param itemMapper maps one entity.
+     * @return {@link PageableAdvancedDto} of mapped items.
+     */
+    public <T, R> PageableAdvancedDto<R> assemble(Page<T> page, Function<? super T, ? extends R> itemMapper) {
+        return toDto(page, page.getContent().stream().<R>map(itemMapper).toList());
+    }
+
+    /**
+     * Computes the aggregate of the page and maps every item with it. The aggregate
+     * is not computed for an empty page.
+     *
+     * @param page       page of entities.
+     * @param aggregator computes the value shared by items of the page.
+     * @param itemMapper maps one entity with the aggregate.
+     * @return {@link PageableAdvancedDto} of mapped items.
+     */
+    public <T, A, R> PageableAdvancedDto<R> assemble(Page<T> page, Function<? super Page<T>, ? extends A> aggregator,
+        BiFunction<? super T, ? super A, ? extends R> itemMapper) {
+        if (page.isEmpty()) {
+            return toDto(page, List.of());
+        }
+        A aggregate = aggregator.apply(page);
+        return toDto(page, page.getContent().stream().<R>map(item -> itemMapper.apply(item, aggregate)).toList());
+    }
+
+    private static <R> PageableAdvancedDto<R> toDto(Page<?> page, List<R> items) {
+        return new PageableAdvancedDto<>(
+            items,
+            page.getTotalElements(),
+            page.getPageable().getPageNumber(),
+            page.getTotalPages(),
+            page.getNumber(),
+            page.hasPrevious(),
+            page.hasNext(),
+            page.isFirst(),
+            page.isLast());
+    }
+}
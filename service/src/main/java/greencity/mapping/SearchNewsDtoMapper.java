@@ -13,7 +13,7 @@ import java.util.stream.Collectors;
 @Component
 public class SearchNewsDtoMapper extends AbstractConverter<EcoNews, SearchNewsDto> {
     @Override
-    protected SearchNewsDto convert(EcoNews ecoNews) {
+    public SearchNewsDto convert(EcoNews ecoNews) {
         User author = ecoNews.getAuthor();
         String language = LocaleContextHolder.getLocale().getLanguage();
 
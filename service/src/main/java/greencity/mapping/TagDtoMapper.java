@@ -4,14 +4,27 @@ import greencity.dto.tag.TagDto;
 import greencity.entity.localization.TagTranslation;
 import org.modelmapper.AbstractConverter;
 import org.springframework.stereotype.Component;
+import java.util.List;
+import java.util.stream.Collectors;
 
 @Component
 public class TagDtoMapper extends AbstractConverter<TagTranslation, TagDto> {
     @Override
-    protected TagDto convert(TagTranslation tagTranslation) {
+    public TagDto convert(TagTranslation tagTranslation) {
         return TagDto.builder()
             .id(tagTranslation.getTag().getId())
             .name(tagTranslation.getName())
             .build();
     }
+
+    /**
+     * Method that build {@link List} of {@link TagDto} from {@link List} of
+     * {@link TagTranslation}.
+     *
+     * @param tagTranslationList {@link List} of {@link TagTranslation}
+     * @return {@link List} of {@link TagDto}
+     */
+    public List<TagDto> mapAllToList(List<TagTranslation> tagTranslationList) {
+        return tagTranslationList.stream().map(this::convert).collect(Collectors.toList());
+    }
 }
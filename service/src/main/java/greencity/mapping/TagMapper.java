@@ -8,11 +8,12 @@ import org.modelmapper.AbstractConverter;
 import org.springframework.stereotype.Component;
 import java.util.ArrayList;
 import java.util.List;
+import java.util.stream.Collectors;
 
 @Component
 public class TagMapper extends AbstractConverter<TagVO, Tag> {
     @Override
-    protected Tag convert(TagVO tagVO) {
+    public Tag convert(TagVO tagVO) {
         Tag tag = new Tag();
         tag.setId(tagVO.getId());
         tag.setType(tagVO.getType());
@@ -24,4 +25,15 @@ public class TagMapper extends AbstractConverter<TagVO, Tag> {
         tag.setTagTranslations(tagTranslations);
         return tag;
     }
+
+    /**
+     * Method that build {@link List} of {@link Tag} from {@link List} of
+     * {@link TagVO}.
+     *
+     * @param tagVOList {@link List} of {@link TagVO}
+     * @return {@link List} of {@link Tag}
+     */
+    public List<Tag> mapAllToList(List<TagVO> tagVOList) {
+        return tagVOList.stream().map(this::convert).collect(Collectors.toList());
+    }
 }
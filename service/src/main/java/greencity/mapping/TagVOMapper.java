@@ -7,11 +7,12 @@ import greencity.entity.Tag;
 import org.modelmapper.AbstractConverter;
 import org.springframework.stereotype.Component;
 import java.util.stream.Collectors;
+import java.util.List;
 
 @Component
 public class TagVOMapper extends AbstractConverter<Tag, TagVO> {
     @Override
-    protected TagVO convert(Tag tag) {
+    public TagVO convert(Tag tag) {
         return TagVO.builder()
             .id(tag.getId())
             .type(tag.getType())
@@ -27,4 +28,15 @@ public class TagVOMapper extends AbstractConverter<Tag, TagVO> {
                 .collect(Collectors.toList()))
             .build();
     }
+
+    /**
+     * Method that build {@link List} of {@link TagVO} from {@link List} of
+     * {@link Tag}.
+     *
+     * @param tagList {@link List} of {@link Tag}
+     * @return {@link List} of {@link TagVO}
+     */
+    public List<TagVO> mapAllToList(List<Tag> tagList) {
+        return tagList.stream().map(this::convert).collect(Collectors.toList());
+    }
 }
@@ -10,7 +10,7 @@ import org.springframework.stereotype.Component;
 @Component
 public class UserVOMapper extends AbstractConverter<User, UserVO> {
     @Override
-    protected UserVO convert(User user) {
+    public UserVO convert(User user) {
         return UserVO.builder()
             .id(user.getId())
             .name(user.getName())
@@ -0,0 +1,104 @@
+package greencity.metrics;
+
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * Histogram of durations with fixed buckets from one millisecond to ten
+ * seconds. Percentiles are reported as the upper bound of the bucket they fall
+ * into, durations longer than the last bucket are reported as the maximum.
+ */
+public class LatencyHistogram {
+    private static final long[] BUCKET_MILLIS = {1, 2, 5, 10, 25, 50, 100, 250, 500, 1000, 2500, 5000, 10000};
+    private final LongAdder[] buckets = new LongAdder[BUCKET_MILLIS.length + 1];
+    private final LongAdder count = new LongAdder();
+    private final LongAdder totalNanos = new LongAdder();
+    private final AtomicLong maxNanos = new AtomicLong();
+
+    /**
+     * Constructor.
+     */
+    public LatencyHistogram() {
+        for (int i = 0; i < buckets.length; i++) {
+            buckets[i] = new LongAdder();
+        }
+    }
+
+    /**
+     * Records one duration.
+     *
+     * @param durationNanos duration in nanoseconds.
+     */
+    public void record(long durationNanos) {
+        long millis = TimeUnit.NANOSECONDS.toMillis(durationNanos);
+        int bucket = 0;
+        while (bucket < BUCKET_MILLIS.length && millis >= BUCKET_MILLIS[bucket]) {
+            bucket++;
+        }
+        buckets[bucket].increment();
+        count.increment();
+        totalNanos.add(durationNanos);
+        maxNanos.accumulateAndGet(durationNanos, Math::max);
+    }
+
+    public long getCount() {
+        return count.sum();
+    }
+
+    public long getTotalMillis() {
+        return TimeUnit.NANOSECONDS.toMillis(totalNanos.sum());
+    }
+
+    public long getAverageMillis() {
+        long calls = count.sum();
+        return calls == 0 ? 0 : TimeUnit.NANOSECONDS.toMillis(totalNanos.sum() / calls);
+    }
+
+    public long getMaxMillis() {
+        return TimeUnit.NANOSECONDS.toMillis(maxNanos.get());
+    }
+
+    public long getP50Millis() {
+        return percentileMillis(0.5);
+    }
+
+    public long getP95Millis() {
+        return percentileMillis(0.95);
+    }
+
+    public long getP99Millis() {
+        return percentileMillis(0.99);
+    }
+
+    /**
+     * Returns amounts of durations by bucket, a bucket is named after the duration
+     * its durations are shorter than.
+     */
+    public Map<String, Long> getBuckets() {
+        Map<String, Long> result = new LinkedHashMap<>();
+        for (int i = 0; i < BUCKET_MILLIS.length; i++) {
+            result.put("<" + BUCKET_MILLIS[i] + "ms", buckets[i].sum());
+        }
+        result.put(">=" + BUCKET_MILLIS[BUCKET_MILLIS.length - 1] + "ms", buckets[BUCKET_MILLIS.length].sum());
+        return result;
+    }
+
+    private long percentileMillis(double percentile) {
+        long calls = count.sum();
+        if (calls == 0) {
+            return 0;
+        }
+        long rank = (long) Math.ceil(calls * percentile);
+        long seen = 0;
+        for (int i = 0; i < BUCKET_MILLIS.length; i++) {
+            seen += buckets[i].sum();
+            if (seen >= rank) {
+                return BUCKET_MILLIS[i];
+            }
+        }
+        return getMaxMillis();
+    }
+}
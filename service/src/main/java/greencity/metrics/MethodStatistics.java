@@ -0,0 +1,52 @@
+package greencity.metrics;
+
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import java.util.Comparator;
+import java.util.Map;
+import java.util.TreeMap;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+
+/**
+ * Latency histograms of service and repository methods, kept per method name.
+ */
+@Slf4j
+@Component
+public class MethodStatistics {
+    private static final int LOGGED_METHODS = 10;
+    private final ConcurrentMap<String, LatencyHistogram> methods = new ConcurrentHashMap<>();
+
+    /**
+     * Records one call of the method.
+     *
+     * @param method        name of the class and the method.
+     * @param durationNanos duration of the call.
+     */
+    public void record(String method, long durationNanos) {
+        methods.computeIfAbsent(method, key -> new LatencyHistogram()).record(durationNanos);
+    }
+
+    /**
+     * Returns histograms of all called methods sorted by name.
+     */
+    public Map<String, LatencyHistogram> getMethods() {
+        return new TreeMap<>(methods);
+    }
+
+    /**
+     * Logs methods that took the most time in total.
+     */
+    @Scheduled(fixedRateString = "${greencity.metrics.statistics-log-rate:PT10M}",
+        initialDelayString = "${greencity.metrics.statistics-log-rate:PT10M}")
+    public void logStatistics() {
+        methods.entrySet().stream()
+            .sorted(Comparator.comparingLong(
+                (Map.Entry<String, LatencyHistogram> entry) -> entry.getValue().getTotalMillis()).reversed())
+            .limit(LOGGED_METHODS)
+            .forEach(entry -> log.info("Method {}: calls={}, totalMillis={}, p95Millis={}, maxMillis={}",
+                entry.getKey(), entry.getValue().getCount(), entry.getValue().getTotalMillis(),
+                entry.getValue().getP95Millis(), entry.getValue().getMaxMillis()));
+    }
+}
@@ -0,0 +1,87 @@
+package greencity.metrics;
+
+import org.aspectj.lang.ProceedingJoinPoint;
+import org.aspectj.lang.annotation.Around;
+import org.aspectj.lang.annotation.Aspect;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.data.repository.Repository;
+import org.springframework.stereotype.Component;
+import org.springframework.util.ClassUtils;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * Records duration of every public method of the service implementations and of
+ * the repositories in {@link MethodStatistics}. Repository calls are also
+ * counted for the request handled by the current thread.
+ */
+@Aspect
+@Component
+@ConditionalOnProperty(name = "greencity.metrics.enabled", havingValue = "true", matchIfMissing = true)
+public class MethodTimingAspect {
+    private final MethodStatistics methodStatistics;
+    private final Map<Class<?>, String> componentNames = new ConcurrentHashMap<>();
+
+    /**
+     * Constructor with parameters.
+     */
+    public MethodTimingAspect(MethodStatistics methodStatistics) {
+        this.methodStatistics = methodStatistics;
+    }
+
+    /**
+     * Measures a call of a service method.
+     *
+     * @param joinPoint the call.
+     * @return result of the call.
+     * @throws Throwable thrown by the call.
+     */
+    @Around("execution(public * greencity.service..*ServiceImpl.*(..))")
+    public Object timeService(ProceedingJoinPoint joinPoint) throws Throwable {
+        return time(joinPoint, methodName(joinPoint));
+    }
+
+    /**
+     * Measures a call of a repository method.
+     *
+     * @param joinPoint the call.
+     * @return result of the call.
+     * @throws Throwable thrown by the call.
+     */
+    @Around("execution(* org.springframework.data.repository.Repository+.*(..))")
+    public Object timeRepository(ProceedingJoinPoint joinPoint) throws Throwable {
+        String method = methodName(joinPoint);
+        RequestMetrics requestMetrics = RequestMetrics.current();
+        if (requestMetrics != null) {
+            requestMetrics.recordRepositoryCall(method);
+        }
+        return time(joinPoint, method);
+    }
+
+    private Object time(ProceedingJoinPoint joinPoint, String method) throws Throwable {
+        long start = System.nanoTime();
+        try {
+            return joinPoint.proceed();
+        } finally {
+            methodStatistics.record(method, System.nanoTime() - start);
+        }
+    }
+
+    private String methodName(ProceedingJoinPoint joinPoint) {
+        return componentNames.computeIfAbsent(joinPoint.getTarget().getClass(), MethodTimingAspect::componentName)
+            + "." + joinPoint.getSignature().getName();
+    }
+
+    /**
+     * Returns name of the class, or of the repository interface the class is a
+     * proxy of.
+     */
+    private static String componentName(Class<?> type) {
+        for (Class<?> userInterface : ClassUtils.getAllInterfacesForClassAsSet(type)) {
+            if (Repository.class.isAssignableFrom(userInterface) && userInterface.getName().startsWith("greencity.")) {
+                return userInterface.getSimpleName();
+            }
+        }
+        return ClassUtils.getUserClass(type).getSimpleName();
+    }
+}
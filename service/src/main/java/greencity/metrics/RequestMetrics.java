@@ -0,0 +1,124 @@
+package greencity.metrics;
+
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * SQL statements, repository calls and outbound HTTP calls made while one HTTP
+ * request is handled. The metrics are bound to the thread that handles the
+ * request, work done by other threads is not counted. An instance is used by
+ * one thread only, so it is not synchronized.
+ */
+public final class RequestMetrics {
+    static final String OTHER_STATEMENTS = "<other statements>";
+    private static final int MAX_DISTINCT_STATEMENTS = 200;
+    private static final ThreadLocal<RequestMetrics> CURRENT = new ThreadLocal<>();
+    private final Map<String, Integer> statements = new HashMap<>();
+    private final Map<String, Integer> repositoryCalls = new HashMap<>();
+    private final Map<String, Integer> restCalls = new HashMap<>();
+    private int statementCount;
+    private int restCallCount;
+
+    private RequestMetrics() {
+    }
+
+    /**
+     * Starts collecting metrics of the current thread.
+     *
+     * @return metrics of the request.
+     */
+    public static RequestMetrics begin() {
+        RequestMetrics requestMetrics = new RequestMetrics();
+        CURRENT.set(requestMetrics);
+        return requestMetrics;
+    }
+
+    /**
+     * Returns metrics of the request handled by the current thread.
+     *
+     * @return metrics or {@code null} if the thread handles no request.
+     */
+    public static RequestMetrics current() {
+        return CURRENT.get();
+    }
+
+    /**
+     * Stops collecting metrics of the current thread.
+     */
+    public static void end() {
+        CURRENT.remove();
+    }
+
+    /**
+     * Records an executed SQL statement. Statements are counted by their text,
+     * after the amount of distinct statements reaches its limit new ones are
+     * counted together.
+     *
+     * @param sql text of the statement.
+     */
+    public void recordStatement(String sql) {
+        statementCount++;
+        String key = statements.containsKey(sql) || statements.size() < MAX_DISTINCT_STATEMENTS
+            ? sql
+            : OTHER_STATEMENTS;
+        statements.merge(key, 1, Integer::sum);
+    }
+
+    /**
+     * Records a call of a repository method.
+     *
+     * @param method name of the repository and the method.
+     */
+    public void recordRepositoryCall(String method) {
+        repositoryCalls.merge(method, 1, Integer::sum);
+    }
+
+    /**
+     * Records an outbound HTTP call.
+     *
+     * @param endpoint name of the called endpoint.
+     */
+    public void recordRestCall(String endpoint) {
+        restCallCount++;
+        restCalls.merge(endpoint, 1, Integer::sum);
+    }
+
+    public int getStatementCount() {
+        return statementCount;
+    }
+
+    public int getRestCallCount() {
+        return restCallCount;
+    }
+
+    /**
+     * Returns executed statements with their amounts, most frequent first.
+     */
+    public List<Map.Entry<String, Integer>> getStatements() {
+        return sortedByCount(statements);
+    }
+
+    /**
+     * Returns called repository methods with their amounts, most frequent first.
+     */
+    public List<Map.Entry<String, Integer>> getRepositoryCalls() {
+        return sortedByCount(repositoryCalls);
+    }
+
+    /**
+     * Returns called HTTP endpoints with their amounts, most frequent first.
+     */
+    public List<Map.Entry<String, Integer>> getRestCalls() {
+        return sortedByCount(restCalls);
+    }
+
+    private static List<Map.Entry<String, Integer>> sortedByCount(Map<String, Integer> counts) {
+        return counts.entrySet().stream()
+            .sorted(Map.Entry.<String, Integer>comparingByValue(Comparator.reverseOrder())
+                .thenComparing(Map.Entry.comparingByKey()))
+            .map(entry -> Map.entry(entry.getKey(), entry.getValue()))
+            .toList();
+    }
+}
@@ -0,0 +1,112 @@
+package greencity.metrics;
+
+import jakarta.servlet.FilterChain;
+import jakarta.servlet.ServletException;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.core.Ordered;
+import org.springframework.core.annotation.Order;
+import org.springframework.stereotype.Component;
+import org.springframework.web.filter.OncePerRequestFilter;
+import org.springframework.web.servlet.HandlerMapping;
+import java.io.IOException;
+import java.time.Duration;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Collects {@link RequestMetrics} of every HTTP request and records them in
+ * {@link RequestStatistics}. Requests that take longer than the threshold or
+ * execute more SQL statements than the limit are logged with their statements
+ * and repository calls, so repeated queries of one request are easy to spot.
+ */
+@Slf4j
+@Component
+@Order(Ordered.HIGHEST_PRECEDENCE)
+@ConditionalOnProperty(name = "greencity.metrics.enabled", havingValue = "true", matchIfMissing = true)
+public class RequestMetricsFilter extends OncePerRequestFilter {
+    static final String UNMAPPED = "UNMAPPED";
+    private static final int LOGGED_ENTRIES = 10;
+    private static final int LOGGED_STATEMENT_LENGTH = 200;
+    private final RequestStatistics requestStatistics;
+    private final Duration slowRequestThreshold;
+    private final int slowRequestStatements;
+
+    /**
+     * Constructor with parameters.
+     *
+     * @param requestStatistics     statistics requests are recorded in.
+     * @param slowRequestThreshold  requests that take longer are logged.
+     * @param slowRequestStatements requests that execute more statements are
+     *                              logged.
+     */
+    public RequestMetricsFilter(RequestStatistics requestStatistics,
+        @Value("${greencity.metrics.slow-request.threshold:PT1S}") Duration slowRequestThreshold,
+        @Value("${greencity.metrics.slow-request.statements:50}") int slowRequestStatements) {
+        this.requestStatistics = requestStatistics;
+        this.slowRequestThreshold = slowRequestThreshold;
+        this.slowRequestStatements = slowRequestStatements;
+    }
+
+    @Override
+    protected void doFilterInternal(HttpServletRequest request, HttpServletResponse response, FilterChain chain)
+        throws ServletException, IOException {
+        RequestMetrics requestMetrics = RequestMetrics.begin();
+        long start = System.nanoTime();
+        try {
+            chain.doFilter(request, response);
+        } finally {
+            long durationNanos = System.nanoTime() - start;
+            RequestMetrics.end();
+            String endpoint = request.getMethod() + " " + pathPattern(request);
+            requestStatistics.record(endpoint, durationNanos, requestMetrics);
+            if (durationNanos >= slowRequestThreshold.toNanos()
+                || requestMetrics.getStatementCount() > slowRequestStatements) {
+                logSlowRequest(endpoint, request.getRequestURI(), durationNanos, requestMetrics);
+            }
+        }
+    }
+
+    private static String pathPattern(HttpServletRequest request) {
+        Object pattern = request.getAttribute(HandlerMapping.BEST_MATCHING_PATTERN_ATTRIBUTE);
+        return pattern == null ? UNMAPPED : pattern.toString();
+    }
+
+    private static void logSlowRequest(String endpoint, String uri, long durationNanos,
+        RequestMetrics requestMetrics) {
+        StringBuilder message = new StringBuilder()
+            .append("Slow request ").append(endpoint).append(" (").append(uri).append("): ")
+            .append(TimeUnit.NANOSECONDS.toMillis(durationNanos)).append(" ms, ")
+            .append(requestMetrics.getStatementCount()).append(" SQL statements, ")
+            .append(requestMetrics.getRestCallCount()).append(" HTTP calls");
+        appendEntries(message, "SQL statements", requestMetrics.getStatements());
+        appendEntries(message, "Repository calls", requestMetrics.getRepositoryCalls());
+        appendEntries(message, "HTTP calls", requestMetrics.getRestCalls());
+        log.warn(message.toString());
+    }
+
+    private static void appendEntries(StringBuilder message, String title, List<Map.Entry<String, Integer>> entries) {
+        if (entries.isEmpty()) {
+            return;
+        }
+        message.append(System.lineSeparator()).append(title).append(':');
+        entries.stream().limit(LOGGED_ENTRIES).forEach(entry -> message.append(System.lineSeparator())
+            .append(String.format("%6dx ", entry.getValue()))
+            .append(abbreviate(entry.getKey())));
+        if (entries.size() > LOGGED_ENTRIES) {
+            message.append(System.lineSeparator()).append("  and ").append(entries.size() - LOGGED_ENTRIES)
+                .append(" more");
+        }
+    }
+
+    private static String abbreviate(String text) {
+        String singleLine = text.replaceAll("\\s+", " ").trim();
+        return singleLine.length() <= LOGGED_STATEMENT_LENGTH
+            ? singleLine
+            : singleLine.substring(0, LOGGED_STATEMENT_LENGTH) + "...";
+    }
+}
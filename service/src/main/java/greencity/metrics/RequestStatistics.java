@@ -0,0 +1,89 @@
+package greencity.metrics;
+
+import org.springframework.stereotype.Component;
+import java.util.Map;
+import java.util.TreeMap;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * Latency and SQL statement statistics of HTTP requests, kept per endpoint. An
+ * endpoint is the HTTP method and the path pattern of the handler.
+ */
+@Component
+public class RequestStatistics {
+    private final ConcurrentMap<String, Endpoint> endpoints = new ConcurrentHashMap<>();
+    private final LongAdder statements = new LongAdder();
+
+    /**
+     * Records one request.
+     *
+     * @param endpoint       HTTP method and path pattern.
+     * @param durationNanos  duration of the request.
+     * @param requestMetrics metrics collected while the request was handled.
+     */
+    public void record(String endpoint, long durationNanos, RequestMetrics requestMetrics) {
+        endpoints.computeIfAbsent(endpoint, key -> new Endpoint()).record(durationNanos, requestMetrics);
+    }
+
+    /**
+     * Records a SQL statement, whether or not it was executed by a request.
+     */
+    public void recordStatement() {
+        statements.increment();
+    }
+
+    /**
+     * Returns amount of all executed SQL statements.
+     */
+    public long getStatements() {
+        return statements.sum();
+    }
+
+    /**
+     * Returns statistics of all requested endpoints sorted by name.
+     */
+    public Map<String, Endpoint> getEndpoints() {
+        return new TreeMap<>(endpoints);
+    }
+
+    /**
+     * Statistics of one endpoint.
+     */
+    public static class Endpoint {
+        private final LatencyHistogram latency = new LatencyHistogram();
+        private final LongAdder statements = new LongAdder();
+        private final AtomicLong maxStatements = new AtomicLong();
+        private final LongAdder restCalls = new LongAdder();
+
+        void record(long durationNanos, RequestMetrics requestMetrics) {
+            latency.record(durationNanos);
+            statements.add(requestMetrics.getStatementCount());
+            maxStatements.accumulateAndGet(requestMetrics.getStatementCount(), Math::max);
+            restCalls.add(requestMetrics.getRestCallCount());
+        }
+
+        public LatencyHistogram getLatency() {
+            return latency;
+        }
+
+        public long getStatements() {
+            return statements.sum();
+        }
+
+        public long getAverageStatements() {
+            long requests = latency.getCount();
+            return requests == 0 ? 0 : statements.sum() / requests;
+        }
+
+        public long getMaxStatements() {
+            return maxStatements.get();
+        }
+
+        public long getRestCalls() {
+            return restCalls.sum();
+        }
+    }
+}
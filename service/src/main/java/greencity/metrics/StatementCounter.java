@@ -0,0 +1,41 @@
+package greencity.metrics;
+
+import org.hibernate.cfg.AvailableSettings;
+import org.hibernate.resource.jdbc.spi.StatementInspector;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.boot.autoconfigure.orm.jpa.HibernatePropertiesCustomizer;
+import org.springframework.stereotype.Component;
+import java.util.Map;
+
+/**
+ * Counts SQL statements prepared by Hibernate, in total and for the request
+ * handled by the current thread. Registers itself as the statement inspector of
+ * the session factory.
+ */
+@Component
+@ConditionalOnProperty(name = "greencity.metrics.enabled", havingValue = "true", matchIfMissing = true)
+public class StatementCounter implements StatementInspector, HibernatePropertiesCustomizer {
+    private final transient RequestStatistics requestStatistics;
+
+    /**
+     * Constructor with parameters.
+     */
+    public StatementCounter(RequestStatistics requestStatistics) {
+        this.requestStatistics = requestStatistics;
+    }
+
+    @Override
+    public void customize(Map<String, Object> hibernateProperties) {
+        hibernateProperties.put(AvailableSettings.STATEMENT_INSPECTOR, this);
+    }
+
+    @Override
+    public String inspect(String sql) {
+        requestStatistics.recordStatement();
+        RequestMetrics requestMetrics = RequestMetrics.current();
+        if (requestMetrics != null) {
+            requestMetrics.recordStatement(sql);
+        }
+        return sql;
+    }
+}
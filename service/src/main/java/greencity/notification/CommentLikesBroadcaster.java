@@ -0,0 +1,179 @@
+package greencity.notification;
+
+import greencity.dto.econewscomment.AmountCommentLikesDto;
+import greencity.dto.econewscomment.CommentLikesCountDto;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.SmartLifecycle;
+import org.springframework.messaging.MessagingException;
+import org.springframework.messaging.simp.SimpMessagingTemplate;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import java.time.Duration;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * Sends amounts of comment likes to the comment topics. Messages carry only the
+ * amount, which is the same for every subscriber, so updates of one comment
+ * received during the coalesce window are merged and only the latest amount is
+ * sent once per window, and a burst of likes does not turn into a burst of
+ * messages for every subscriber. With a zero window, or while the application
+ * is not running, updates are sent at once. Updates left at shutdown are sent
+ * before the application stops. Until clients move to the count topic, every
+ * update with the liked state of the user is also sent at once to the legacy
+ * topic, the way it was sent before.
+ */
+@Slf4j
+@Component
+public class CommentLikesBroadcaster implements SmartLifecycle {
+    private final SimpMessagingTemplate messagingTemplate;
+    private final Duration coalesceWindow;
+    private final String destination;
+    private final String legacyDestination;
+    private final Map<Long, CommentLikesCountDto> pending = new ConcurrentHashMap<>();
+    private final AtomicLong receivedUpdates = new AtomicLong();
+    private final AtomicLong sentUpdates = new AtomicLong();
+    private ScheduledExecutorService executor;
+    private volatile boolean running;
+
+    /**
+     * Constructor with parameters.
+     *
+     * @param messagingTemplate {@link SimpMessagingTemplate} that sends updates.
+     * @param coalesceWindow    time updates of one comment are merged.
+     * @param destination       topic of a comment, {@code {id}} is replaced with id
+     *                          of the comment.
+     * @param legacyDestination legacy topic of a comment, {@code {id}} is replaced
+     *                          with id of the comment, empty when nothing is sent
+     *                          there.
+     */
+    public CommentLikesBroadcaster(SimpMessagingTemplate messagingTemplate,
+        @Value("${greencity.websocket.comment-likes.coalesce-window:PT0.2S}") Duration coalesceWindow,
+        @Value("${greencity.websocket.comment-likes.destination:/topic/{id}.comment.v2}") String destination,
+        @Value("${greencity.websocket.comment-likes.legacy-destination:}") String legacyDestination) {
+        this.messagingTemplate = messagingTemplate;
+        this.coalesceWindow = coalesceWindow;
+        this.destination = destination;
+        this.legacyDestination = legacyDestination;
+    }
+
+    /**
+     * Sends the amount of likes of the comment, or replaces the amount that waits
+     * to be sent.
+     *
+     * @param commentLikesCountDto dto with id and amount of likes of the comment.
+     */
+    public void broadcast(CommentLikesCountDto commentLikesCountDto) {
+        receivedUpdates.incrementAndGet();
+        if (running && !coalesceWindow.isZero()) {
+            pending.put(commentLikesCountDto.getId(), commentLikesCountDto);
+        } else {
+            send(commentLikesCountDto);
+        }
+    }
+
+    /**
+     * Sends the amount of likes of the comment with the liked state of the user to
+     * the legacy topic at once. Does nothing when the legacy topic is not set.
+     *
+     * @param amountCommentLikesDto dto with id and amount of likes of the comment,
+     *                              id of the user and whether the user liked it.
+     */
+    public void broadcastLegacy(AmountCommentLikesDto amountCommentLikesDto) {
+        if (!legacyDestination.isEmpty()) {
+            send(legacyDestination, amountCommentLikesDto.getId(), amountCommentLikesDto);
+        }
+    }
+
+    /**
+     * Returns amount of comments with updates waiting to be sent.
+     */
+    public int getPendingComments() {
+        return pending.size();
+    }
+
+    /**
+     * Returns amount of received updates.
+     */
+    public long getReceivedUpdates() {
+        return receivedUpdates.get();
+    }
+
+    /**
+     * Returns amount of sent messages.
+     */
+    public long getSentUpdates() {
+        return sentUpdates.get();
+    }
+
+    /**
+     * Logs amounts of received and sent updates.
+     */
+    @Scheduled(fixedRateString = "${greencity.websocket.statistics-log-rate:PT1M}",
+        initialDelayString = "${greencity.websocket.statistics-log-rate:PT1M}")
+    public void logStatistics() {
+        log.info("Comment likes updates: received={}, sent={}, pending={}", getReceivedUpdates(), getSentUpdates(),
+            getPendingComments());
+    }
+
+    @Override
+    public void start() {
+        if (!coalesceWindow.isZero()) {
+            executor = Executors.newSingleThreadScheduledExecutor(
+                Thread.ofPlatform().name("comment-likes").daemon(true).factory());
+            executor.scheduleAtFixedRate(this::flush, coalesceWindow.toNanos(), coalesceWindow.toNanos(),
+                TimeUnit.NANOSECONDS);
+        }
+        running = true;
+    }
+
+    /**
+     * Stops merging updates and sends the waiting ones.
+     */
+    @Override
+    public void stop() {
+        running = false;
+        if (executor != null) {
+            executor.shutdownNow();
+        }
+        flush();
+    }
+
+    @Override
+    public boolean isRunning() {
+        return running;
+    }
+
+    /**
+     * Sends the latest waiting update of every comment.
+     */
+    void flush() {
+        for (Long commentId : pending.keySet()) {
+            CommentLikesCountDto update = pending.remove(commentId);
+            if (update != null) {
+                send(update);
+            }
+        }
+    }
+
+    private void send(CommentLikesCountDto commentLikesCountDto) {
+        if (send(destination, commentLikesCountDto.getId(), commentLikesCountDto)) {
+            sentUpdates.incrementAndGet();
+        }
+    }
+
+    private boolean send(String topic, Long commentId, Object payload) {
+        try {
+            messagingTemplate.convertAndSend(topic.replace("{id}", String.valueOf(commentId)), payload);
+            return true;
+        } catch (MessagingException e) {
+            log.warn("Likes of comment {} were not sent to {}", commentId, topic, e);
+            return false;
+        }
+    }
+}
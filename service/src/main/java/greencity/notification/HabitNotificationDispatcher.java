@@ -0,0 +1,117 @@
+package greencity.notification;
+
+import greencity.client.RestClient;
+import greencity.dto.user.UserVO;
+import greencity.message.SendHabitNotification;
+import greencity.repository.HabitAssignRepo;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.DisposableBean;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+import java.time.ZonedDateTime;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.stream.Collectors;
+
+/**
+ * Sends emails about not marked habits. Users are checked a page at a time with
+ * one query per page, and the notifications of a page are sent in parallel by a
+ * fixed amount of threads. The list of users itself is not paged: the user
+ * service returns all subscribers of an email notification type at once, so the
+ * whole list is held in memory for the run.
+ */
+@Slf4j
+@Component
+public class HabitNotificationDispatcher implements DisposableBean {
+    private final HabitAssignRepo habitAssignRepo;
+    private final RestClient restClient;
+    private final int pageSize;
+    private final ExecutorService executor;
+    private volatile HabitNotificationRun lastRun;
+
+    /**
+     * Constructor with parameters.
+     *
+     * @param habitAssignRepo {@link HabitAssignRepo} to check habit assigns.
+     * @param restClient      {@link RestClient} to send notifications.
+     * @param pageSize        amount of users checked by one query.
+     * @param parallelism     maximum amount of notifications sent at once.
+     */
+    public HabitNotificationDispatcher(HabitAssignRepo habitAssignRepo, RestClient restClient,
+        @Value("${greencity.habit-notification.page-size:1000}") int pageSize,
+        @Value("${greencity.habit-notification.parallelism:8}") int parallelism) {
+        this.habitAssignRepo = habitAssignRepo;
+        this.restClient = restClient;
+        this.pageSize = pageSize;
+        this.executor = Executors.newFixedThreadPool(parallelism,
+            Thread.ofPlatform().name("habit-notification-", 1).daemon(true).factory());
+    }
+
+    /**
+     * Sends {@link SendHabitNotification} to each user that has no habit assigns
+     * created between start and end.
+     *
+     * @param users list of potential {@link UserVO} to send notifications.
+     * @param start {@link ZonedDateTime} start of the period.
+     * @param end   {@link ZonedDateTime} end of the period.
+     * @return {@link HabitNotificationRun} with statistics of the run.
+     */
+    public HabitNotificationRun dispatch(List<UserVO> users, ZonedDateTime start, ZonedDateTime end) {
+        long startTime = System.nanoTime();
+        AtomicInteger sent = new AtomicInteger();
+        AtomicInteger failed = new AtomicInteger();
+        int pages = (users.size() + pageSize - 1) / pageSize;
+        for (int page = 0; page < pages; page++) {
+            List<UserVO> pageUsers = users.subList(page * pageSize, Math.min(users.size(), (page + 1) * pageSize));
+            Set<Long> usersWithHabits = habitAssignRepo.findUserIdsWithMarkedHabitAssignsInPeriod(
+                pageUsers.stream().map(UserVO::getId).collect(Collectors.toList()), start, end);
+            CompletableFuture.allOf(pageUsers.stream()
+                .filter(user -> !usersWithHabits.contains(user.getId()))
+                .map(user -> CompletableFuture
+                    .runAsync(() -> restClient.sendHabitNotification(
+                        new SendHabitNotification(user.getName(), user.getEmail())), executor)
+                    .whenComplete((result, e) -> countResult(user, e, sent, failed)))
+                .toArray(CompletableFuture[]::new))
+                .exceptionally(e -> null)
+                .join();
+            log.debug("Habit notifications: page {} of {} done, sent {}, failed {}", page + 1, pages, sent.get(),
+                failed.get());
+        }
+        HabitNotificationRun run = new HabitNotificationRun(users.size(), sent.get(), failed.get(),
+            TimeUnit.NANOSECONDS.toMillis(System.nanoTime() - startTime));
+        lastRun = run;
+        log.info("Habit notifications: checked {} users, sent {}, failed {} in {} ms ({} users/s)",
+            run.getCheckedUsers(), run.getSentNotifications(), run.getFailedNotifications(), run.getDurationMillis(),
+            String.format("%.1f", run.getUsersPerSecond()));
+        return run;
+    }
+
+    /**
+     * Returns statistics of the last run or {@code null} if there was no run yet.
+     */
+    public HabitNotificationRun getLastRun() {
+        return lastRun;
+    }
+
+    private void countResult(UserVO user, Throwable e, AtomicInteger sent, AtomicInteger failed) {
+        if (e == null) {
+            sent.incrementAndGet();
+        } else {
+            failed.incrementAndGet();
+            log.warn("Habit notification was not sent to user {}", user.getId(), e);
+        }
+    }
+
+    /**
+     * Stops the sending threads when the context is closed.
+     */
+    @Override
+    public void destroy() {
+        executor.shutdownNow();
+    }
+}
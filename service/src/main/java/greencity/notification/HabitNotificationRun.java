@@ -0,0 +1,21 @@
+package greencity.notification;
+
+import lombok.Value;
+
+/**
+ * Result of one {@link HabitNotificationDispatcher} run.
+ */
+@Value
+public class HabitNotificationRun {
+    int checkedUsers;
+    int sentNotifications;
+    int failedNotifications;
+    long durationMillis;
+
+    /**
+     * Returns amount of checked users per second.
+     */
+    public double getUsersPerSecond() {
+        return durationMillis == 0 ? checkedUsers : checkedUsers * 1000D / durationMillis;
+    }
+}
@@ -8,9 +8,16 @@ import greencity.entity.RatingStatistics;
 import greencity.entity.User;
 import greencity.service.RatingStatisticsService;
 import lombok.AllArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
 import org.modelmapper.ModelMapper;
 import org.springframework.stereotype.Component;
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.stream.Collectors;
 
+@Slf4j
 @Component
 @AllArgsConstructor
 public class RatingCalculation {
@@ -26,16 +33,57 @@ public class RatingCalculation {
      * @param accessToken accessToken for security
      */
     public void ratingCalculation(RatingCalculationEnum rating, UserVO userVo, String accessToken) {
+        ratingCalculation(List.of(RatingEvent.of(rating, userVo, accessToken)));
+    }
+
+    /**
+     * Method that calculates the rating for a batch of events. Points of one user
+     * are summed up, so the user is saved once per batch, and all
+     * {@link RatingStatistics} rows of the batch are saved together.
+     *
+     * @param events list of {@link RatingEvent} in order of occurrence.
+     */
+    public void ratingCalculation(List<RatingEvent> events) {
+        Map<Long, List<RatingEvent>> eventsByUser = events.stream()
+            .collect(Collectors.groupingBy(event -> event.getUser().getId(), LinkedHashMap::new,
+                Collectors.toList()));
+        List<RatingStatisticsVO> ratingStatistics = new ArrayList<>();
+        eventsByUser.values().forEach(userEvents -> {
+            try {
+                ratingStatistics.addAll(calculateUserRating(userEvents));
+            } catch (RuntimeException e) {
+                log.error("Rating of user {} was not updated", userEvents.get(0).getUser().getId(), e);
+            }
+        });
+        if (!ratingStatistics.isEmpty()) {
+            ratingStatisticsService.saveAll(ratingStatistics);
+        }
+    }
+
+    /**
+     * Events carry a snapshot of the user taken when they were submitted, and the
+     * events of one user may be split across batches. So the deltas are added to
+     * the rating the user service holds right now, read without the lookup cache,
+     * and the submitted {@link UserVO} is left untouched.
+     */
+    private List<RatingStatisticsVO> calculateUserRating(List<RatingEvent> userEvents) {
+        RatingEvent latest = userEvents.get(userEvents.size() - 1);
+        UserVO userVo = restClient.findById(latest.getUser().getId(), latest.getAccessToken());
         User user = modelMapper.map(userVo, User.class);
-        userVo.setRating(userVo.getRating() + rating.getRatingPoints());
-        restClient.save(userVo, accessToken);
-        RatingStatistics ratingStatistics = RatingStatistics
-            .builder()
-            .rating(userVo.getRating())
-            .ratingCalculationEnum(rating)
-            .user(user)
-            .pointsChanged(rating.getRatingPoints())
-            .build();
-        ratingStatisticsService.save(modelMapper.map(ratingStatistics, RatingStatisticsVO.class));
+        double rating = userVo.getRating();
+        List<RatingStatisticsVO> ratingStatistics = new ArrayList<>(userEvents.size());
+        for (RatingEvent event : userEvents) {
+            rating += event.getRating().getRatingPoints();
+            ratingStatistics.add(modelMapper.map(RatingStatistics
+                .builder()
+                .rating(rating)
+                .ratingCalculationEnum(event.getRating())
+                .user(user)
+                .pointsChanged(event.getRating().getRatingPoints())
+                .build(), RatingStatisticsVO.class));
+        }
+        userVo.setRating(rating);
+        restClient.save(userVo, latest.getAccessToken());
+        return ratingStatistics;
     }
 }
@@ -0,0 +1,23 @@
+package greencity.rating;
+
+import greencity.annotations.RatingCalculationEnum;
+import greencity.dto.user.UserVO;
+import lombok.Value;
+
+/**
+ * Rating change of one user waiting in {@link RatingEventPipeline}.
+ */
+@Value
+public class RatingEvent {
+    RatingCalculationEnum rating;
+    UserVO user;
+    String accessToken;
+    long createdAtNanos;
+
+    /**
+     * Creates an event that happened now.
+     */
+    public static RatingEvent of(RatingCalculationEnum rating, UserVO user, String accessToken) {
+        return new RatingEvent(rating, user, accessToken, System.nanoTime());
+    }
+}
@@ -0,0 +1,232 @@
+package greencity.rating;
+
+import greencity.annotations.RatingCalculationEnum;
+import greencity.dto.user.UserVO;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.SmartLifecycle;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * Collects rating events into a bounded queue and hands them to
+ * {@link RatingCalculation} in batches from one dedicated thread. A batch is
+ * closed when it reaches the maximum size or when the batch window since its
+ * first event is over. When the queue stays full for the submit timeout, or the
+ * pipeline is not running, the event is dropped and counted, so a caller is
+ * never blocked by the calculation itself. Events left in the queue are
+ * processed before the application stops.
+ */
+@Slf4j
+@Component
+public class RatingEventPipeline implements SmartLifecycle {
+    private static final long STOP_CHECK_NANOS = TimeUnit.MILLISECONDS.toNanos(100);
+    private final RatingCalculation ratingCalculation;
+    private final BlockingQueue<RatingEvent> queue;
+    private final long submitTimeoutNanos;
+    private final long batchWindowNanos;
+    private final int batchSize;
+    private final Duration shutdownTimeout;
+    private final AtomicLong processedEvents = new AtomicLong();
+    private final AtomicLong processedBatches = new AtomicLong();
+    private final AtomicLong droppedEvents = new AtomicLong();
+    private final AtomicLong lastLagMillis = new AtomicLong();
+    private ExecutorService executor;
+    private volatile boolean running;
+
+    /**
+     * Constructor with parameters.
+     *
+     * @param ratingCalculation {@link RatingCalculation} that processes batches.
+     * @param queueCapacity     maximum amount of waiting events.
+     * @param submitTimeout     time to wait for a free place in a full queue.
+     * @param batchWindow       time events are collected into one batch.
+     * @param batchSize         maximum amount of events in one batch.
+     * @param shutdownTimeout   time to process the waiting events on shutdown.
+     */
+    public RatingEventPipeline(RatingCalculation ratingCalculation,
+        @Value("${greencity.rating.queue-capacity:10000}") int queueCapacity,
+        @Value("${greencity.rating.submit-timeout:PT0.1S}") Duration submitTimeout,
+        @Value("${greencity.rating.batch-window:PT1S}") Duration batchWindow,
+        @Value("${greencity.rating.batch-size:500}") int batchSize,
+        @Value("${greencity.rating.shutdown-timeout:PT30S}") Duration shutdownTimeout) {
+        this.ratingCalculation = ratingCalculation;
+        this.queue = new ArrayBlockingQueue<>(queueCapacity);
+        this.submitTimeoutNanos = submitTimeout.toNanos();
+        this.batchWindowNanos = batchWindow.toNanos();
+        this.batchSize = batchSize;
+        this.shutdownTimeout = shutdownTimeout;
+    }
+
+    /**
+     * Adds the rating change to the queue, or drops it when the pipeline is not
+     * running or the queue stays full for the submit timeout. An event added while
+     * the pipeline stops is taken back unless the final drain of {@link #stop()}
+     * already has it.
+     *
+     * @param rating      of {@link RatingCalculationEnum}
+     * @param userVo      of {@link UserVO}
+     * @param accessToken accessToken for security
+     */
+    public void submit(RatingCalculationEnum rating, UserVO userVo, String accessToken) {
+        RatingEvent event = RatingEvent.of(rating, userVo, accessToken);
+        try {
+            if (running && queue.offer(event, submitTimeoutNanos, TimeUnit.NANOSECONDS)
+                && (running || !queue.remove(event))) {
+                return;
+            }
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+        droppedEvents.incrementAndGet();
+    }
+
+    /**
+     * Returns amount of events waiting in the queue.
+     */
+    public int getQueueDepth() {
+        return queue.size();
+    }
+
+    /**
+     * Returns age in milliseconds of the oldest waiting event.
+     */
+    public long getLagMillis() {
+        RatingEvent oldest = queue.peek();
+        return oldest == null ? 0 : TimeUnit.NANOSECONDS.toMillis(System.nanoTime() - oldest.getCreatedAtNanos());
+    }
+
+    /**
+     * Returns time in milliseconds the last processed batch waited in the queue.
+     */
+    public long getLastLagMillis() {
+        return lastLagMillis.get();
+    }
+
+    /**
+     * Returns amount of processed events.
+     */
+    public long getProcessedEvents() {
+        return processedEvents.get();
+    }
+
+    /**
+     * Returns amount of dropped events.
+     */
+    public long getDroppedEvents() {
+        return droppedEvents.get();
+    }
+
+    /**
+     * Logs state of the queue.
+     */
+    @Scheduled(fixedRateString = "${greencity.rating.statistics-log-rate:PT1M}",
+        initialDelayString = "${greencity.rating.statistics-log-rate:PT1M}")
+    public void logStatistics() {
+        log.info("Rating events: queueDepth={}, lagMillis={}, lastBatchLagMillis={}, processed={}, batches={}, "
+            + "dropped={}", getQueueDepth(), getLagMillis(), getLastLagMillis(), getProcessedEvents(),
+            processedBatches.get(), getDroppedEvents());
+    }
+
+    @Override
+    public void start() {
+        executor = Executors.newSingleThreadExecutor(
+            Thread.ofPlatform().name("rating-events").daemon(true).factory());
+        running = true;
+        executor.execute(this::processEvents);
+    }
+
+    /**
+     * Stops accepting events and waits until the queued ones are processed. Events
+     * added after the processing thread saw the stop flag are drained once more
+     * here.
+     */
+    @Override
+    public void stop() {
+        running = false;
+        executor.shutdown();
+        try {
+            if (executor.awaitTermination(shutdownTimeout.toMillis(), TimeUnit.MILLISECONDS)) {
+                processRemainingEvents();
+            } else {
+                log.warn("{} rating events were not processed before shutdown", queue.size());
+                executor.shutdownNow();
+            }
+        } catch (InterruptedException e) {
+            executor.shutdownNow();
+            Thread.currentThread().interrupt();
+        }
+    }
+
+    @Override
+    public boolean isRunning() {
+        return running;
+    }
+
+    private void processEvents() {
+        List<RatingEvent> batch = new ArrayList<>(batchSize);
+        try {
+            while (running || !queue.isEmpty()) {
+                collectBatch(batch);
+                if (!batch.isEmpty()) {
+                    processBatch(batch);
+                    batch.clear();
+                }
+            }
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+    }
+
+    /**
+     * Waits for events at most {@link #STOP_CHECK_NANOS} at a time, so a stop is
+     * noticed without waiting for the whole batch window.
+     */
+    private void collectBatch(List<RatingEvent> batch) throws InterruptedException {
+        RatingEvent first = queue.poll(Math.min(batchWindowNanos, STOP_CHECK_NANOS), TimeUnit.NANOSECONDS);
+        if (first == null) {
+            return;
+        }
+        batch.add(first);
+        long deadline = first.getCreatedAtNanos() + batchWindowNanos;
+        while (batch.size() < batchSize && running) {
+            long remaining = deadline - System.nanoTime();
+            if (remaining <= 0) {
+                break;
+            }
+            RatingEvent next = queue.poll(Math.min(remaining, STOP_CHECK_NANOS), TimeUnit.NANOSECONDS);
+            if (next != null) {
+                batch.add(next);
+            }
+        }
+        queue.drainTo(batch, batchSize - batch.size());
+    }
+
+    private void processRemainingEvents() {
+        List<RatingEvent> batch = new ArrayList<>(batchSize);
+        while (queue.drainTo(batch, batchSize) > 0) {
+            processBatch(batch);
+            batch.clear();
+        }
+    }
+
+    private void processBatch(List<RatingEvent> batch) {
+        lastLagMillis.set(TimeUnit.NANOSECONDS.toMillis(System.nanoTime() - batch.get(0).getCreatedAtNanos()));
+        try {
+            ratingCalculation.ratingCalculation(List.copyOf(batch));
+        } catch (RuntimeException e) {
+            log.error("Batch of {} rating events was not saved", batch.size(), e);
+        }
+        processedEvents.addAndGet(batch.size());
+        processedBatches.incrementAndGet();
+    }
+}
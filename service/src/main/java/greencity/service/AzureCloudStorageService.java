@@ -2,14 +2,15 @@ package greencity.service;
 
 import com.azure.storage.blob.BlobClient;
 import com.azure.storage.blob.BlobContainerClient;
-import com.azure.storage.blob.BlobServiceClient;
 import com.azure.storage.blob.BlobServiceClientBuilder;
 import greencity.constant.ErrorMessage;
 import greencity.exception.exceptions.BadRequestException;
 import greencity.exception.exceptions.ImageUrlParseException;
 import greencity.exception.exceptions.NotSavedException;
 import org.modelmapper.ModelMapper;
+import org.springframework.beans.factory.DisposableBean;
 import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
 import org.springframework.core.env.PropertyResolver;
 import org.springframework.stereotype.Service;
 import org.springframework.web.multipart.MultipartFile;
@@ -18,13 +19,23 @@ import java.io.IOException;
 import java.net.URI;
 import java.net.URISyntaxException;
 import java.nio.file.Paths;
+import java.util.Arrays;
+import java.util.List;
 import java.util.UUID;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
 
 @Service
-public class AzureCloudStorageService implements FileService {
+@ConditionalOnProperty(name = "greencity.file-storage", havingValue = "azure", matchIfMissing = true)
+public class AzureCloudStorageService implements FileService, DisposableBean {
+    private static final int DEFAULT_UPLOAD_PARALLELISM = 4;
     private final String connectionString;
     private final String containerName;
     private final ModelMapper modelMapper;
+    private final ExecutorService uploadExecutor;
+    private volatile BlobContainerClient containerClient;
 
     /**
      * Constructor with parameters.
@@ -34,6 +45,10 @@ public class AzureCloudStorageService implements FileService {
         this.connectionString = propertyResolver.getProperty("azure.connection.string");
         this.containerName = propertyResolver.getProperty("azure.container.name");
         this.modelMapper = modelMapper;
+        Integer parallelism = propertyResolver.getProperty("azure.upload.parallelism", Integer.class);
+        this.uploadExecutor = Executors.newFixedThreadPool(
+            parallelism == null || parallelism < 1 ? DEFAULT_UPLOAD_PARALLELISM : parallelism,
+            Thread.ofPlatform().name("azure-upload-", 1).daemon(true).factory());
     }
 
     /**
@@ -52,10 +67,44 @@ public class AzureCloudStorageService implements FileService {
         return client.getBlobUrl();
     }
 
+    /**
+     * {@inheritDoc} Files are uploaded in parallel, but never more at once than
+     * {@code azure.upload.parallelism} for the whole application.
+     */
+    @Override
+    public String[] uploadAll(MultipartFile[] multipartFiles) {
+        List<CompletableFuture<String>> uploads = Arrays.stream(multipartFiles)
+            .map(multipartFile -> CompletableFuture.supplyAsync(() -> upload(multipartFile), uploadExecutor))
+            .toList();
+        try {
+            return uploads.stream().map(CompletableFuture::join).toArray(String[]::new);
+        } catch (CompletionException e) {
+            uploads.forEach(upload -> upload.cancel(true));
+            if (e.getCause() instanceof RuntimeException cause) {
+                throw cause;
+            }
+            throw new NotSavedException(ErrorMessage.FILE_NOT_SAVED);
+        }
+    }
+
+    /**
+     * The container client is thread-safe and keeps its HTTP pipeline, so it is
+     * built once on first use and shared by all uploads and deletes.
+     */
     private BlobContainerClient containerClient() {
-        BlobServiceClient serviceClient = new BlobServiceClientBuilder()
-            .connectionString(connectionString).buildClient();
-        return serviceClient.getBlobContainerClient(containerName);
+        BlobContainerClient client = containerClient;
+        if (client == null) {
+            synchronized (this) {
+                client = containerClient;
+                if (client == null) {
+                    client = new BlobServiceClientBuilder()
+                        .connectionString(connectionString).buildClient()
+                        .getBlobContainerClient(containerName);
+                    containerClient = client;
+                }
+            }
+        }
+        return client;
     }
 
     /**
@@ -85,4 +134,12 @@ public class AzureCloudStorageService implements FileService {
             client.delete();
         }
     }
+
+    /**
+     * Stops the upload threads when the context is closed.
+     */
+    @Override
+    public void destroy() {
+        uploadExecutor.shutdownNow();
+    }
 }
@@ -13,18 +13,21 @@ import greencity.enums.Role;
 import greencity.exception.exceptions.BadRequestException;
 import greencity.exception.exceptions.NotFoundException;
 import greencity.exception.exceptions.UserHasNoPermissionToAccessException;
+import greencity.mapping.EcoNewsCommentDtoMapper;
+import greencity.notification.CommentLikesBroadcaster;
+import greencity.rating.RatingEventPipeline;
 import greencity.repository.EcoNewsCommentRepo;
 import greencity.repository.EcoNewsRepo;
 import lombok.AllArgsConstructor;
 import org.modelmapper.ModelMapper;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
-import org.springframework.messaging.simp.SimpMessagingTemplate;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
+import jakarta.persistence.Tuple;
 import jakarta.servlet.http.HttpServletRequest;
+import java.time.LocalDateTime;
 import java.util.List;
-import java.util.concurrent.CompletableFuture;
 import java.util.stream.Collectors;
 import static greencity.constant.AppConstant.AUTHORIZATION;
 
@@ -34,10 +37,11 @@ public class EcoNewsCommentServiceImpl implements EcoNewsCommentService {
     private EcoNewsCommentRepo ecoNewsCommentRepo;
     private EcoNewsService ecoNewsService;
     private ModelMapper modelMapper;
-    private final SimpMessagingTemplate messagingTemplate;
-    private final greencity.rating.RatingCalculation ratingCalculation;
+    private final CommentLikesBroadcaster commentLikesBroadcaster;
+    private final RatingEventPipeline ratingEventPipeline;
     private final HttpServletRequest httpServletRequest;
     private final EcoNewsRepo ecoNewsRepo;
+    private final EcoNewsCommentDtoMapper ecoNewsCommentDtoMapper;
 
     /**
      * Method to save {@link greencity.entity.EcoNewsComment}.
@@ -50,8 +54,8 @@ public class EcoNewsCommentServiceImpl implements EcoNewsCommentService {
      * @param userVO                      {@link User} that saves the comment.
      * @return {@link AddEcoNewsCommentDtoResponse} instance.
      */
-
     @Override
+    @Transactional
     public AddEcoNewsCommentDtoResponse save(Long econewsId, AddEcoNewsCommentDtoRequest addEcoNewsCommentDtoRequest,
         UserVO userVO) {
         EcoNewsVO ecoNewsVO = ecoNewsService.findById(econewsId);
@@ -69,9 +73,10 @@ public class EcoNewsCommentServiceImpl implements EcoNewsCommentService {
             }
         }
         String accessToken = httpServletRequest.getHeader(AUTHORIZATION);
-        CompletableFuture.runAsync(
-            () -> ratingCalculation.ratingCalculation(RatingCalculationEnum.ADD_COMMENT, userVO, accessToken));
-        return modelMapper.map(ecoNewsCommentRepo.save(ecoNewsComment), AddEcoNewsCommentDtoResponse.class);
+        ratingEventPipeline.submit(RatingCalculationEnum.ADD_COMMENT, userVO, accessToken);
+        EcoNewsComment savedComment = ecoNewsCommentRepo.save(ecoNewsComment);
+        ecoNewsRepo.refreshCommentsCount(econewsId);
+        return modelMapper.map(savedComment, AddEcoNewsCommentDtoResponse.class);
     }
 
     /**
@@ -84,21 +89,25 @@ public class EcoNewsCommentServiceImpl implements EcoNewsCommentService {
      */
     @Override
     public PageableDto<EcoNewsCommentDto> findAllComments(Pageable pageable, UserVO userVO, Long ecoNewsId) {
-        ecoNewsService.findById(ecoNewsId);
-        Page<EcoNewsComment> pages = ecoNewsCommentRepo.findAllByParentCommentIsNullAndEcoNewsIdOrderByCreatedDateDesc(
-            pageable, ecoNewsId);
+        Page<Tuple> pages = ecoNewsCommentRepo.findCommentPage(ecoNewsId, userVO.getId(), false, pageable);
+        if (pages.isEmpty() && !ecoNewsRepo.existsById(ecoNewsId)) {
+            throw new NotFoundException(ErrorMessage.ECO_NEWS_NOT_FOUND_BY_ID + ecoNewsId);
+        }
+        return buildCommentPage(pages);
+    }
+
+    /**
+     * Method builds {@link PageableDto} of {@link EcoNewsCommentDto} from the rows
+     * of {@link EcoNewsCommentRepo#findCommentPage(Long, Long, boolean, Pageable)},
+     * which already contain reply and like counters of the comments.
+     *
+     * @param pages page of comment rows.
+     * @return {@link PageableDto} of {@link EcoNewsCommentDto}.
+     */
+    private PageableDto<EcoNewsCommentDto> buildCommentPage(Page<Tuple> pages) {
         List<EcoNewsCommentDto> ecoNewsCommentDtos = pages
             .stream()
-            .map(comment -> {
-                comment.setCurrentUserLiked(comment.getUsersLiked().stream()
-                    .anyMatch(u -> u.getId().equals(userVO.getId())));
-                return comment;
-            })
-            .map(ecoNewsComment -> modelMapper.map(ecoNewsComment, EcoNewsCommentDto.class))
-            .map(comment -> {
-                comment.setReplies(ecoNewsCommentRepo.countByParentCommentId(comment.getId()));
-                return comment;
-            })
+            .map(this::buildEcoNewsCommentDto)
             .collect(Collectors.toList());
 
         return new PageableDto<>(
@@ -108,6 +117,23 @@ public class EcoNewsCommentServiceImpl implements EcoNewsCommentService {
             pages.getTotalPages());
     }
 
+    private EcoNewsCommentDto buildEcoNewsCommentDto(Tuple row) {
+        EcoNewsComment comment = EcoNewsComment.builder()
+            .id(row.get("id", Long.class))
+            .text(row.get("text", String.class))
+            .createdDate(row.get("createdDate", LocalDateTime.class))
+            .modifiedDate(row.get("modifiedDate", LocalDateTime.class))
+            .deleted(Boolean.TRUE.equals(row.get("deleted", Boolean.class)))
+            .user(User.builder()
+                .id(row.get("authorId", Long.class))
+                .name(row.get("authorName", String.class))
+                .profilePicturePath(row.get("authorProfilePicturePath", String.class))
+                .build())
+            .build();
+        return ecoNewsCommentDtoMapper.convert(comment, ((Number) row.get("replies")).intValue(),
+            ((Number) row.get("likes")).intValue(), ((Number) row.get("likedByUser")).longValue() > 0);
+    }
+
     /**
      * Method returns all replies to certain comment specified by parentCommentId.
      *
@@ -145,6 +171,7 @@ public class EcoNewsCommentServiceImpl implements EcoNewsCommentService {
      * @param userVO current {@link User} that wants to delete.
      */
     @Override
+    @Transactional
     public void deleteById(Long id, UserVO userVO) {
         EcoNewsComment comment = ecoNewsCommentRepo.findById(id)
             .orElseThrow(() -> new NotFoundException(ErrorMessage.COMMENT_NOT_FOUND_EXCEPTION));
@@ -157,9 +184,9 @@ public class EcoNewsCommentServiceImpl implements EcoNewsCommentService {
         }
         comment.setDeleted(true);
         String accessToken = httpServletRequest.getHeader(AUTHORIZATION);
-        CompletableFuture.runAsync(
-            () -> ratingCalculation.ratingCalculation(RatingCalculationEnum.DELETE_COMMENT, userVO, accessToken));
+        ratingEventPipeline.submit(RatingCalculationEnum.DELETE_COMMENT, userVO, accessToken);
         ecoNewsCommentRepo.save(comment);
+        ecoNewsRepo.refreshCommentsCount(comment.getEcoNews().getId());
     }
 
     /**
@@ -205,13 +232,17 @@ public class EcoNewsCommentServiceImpl implements EcoNewsCommentService {
 
     /**
      * Method returns count of likes to certain
-     * {@link greencity.entity.EcoNewsComment} specified by id.
+     * {@link greencity.entity.EcoNewsComment} specified by id and whether the user
+     * liked it. Only the count is sent to the comment topic, the legacy topic still
+     * gets the whole dto.
      *
      * @param amountCommentLikesDto dto with id and count likes for comments.
+     * @return {@link AmountCommentLikesDto} with count of likes and liked state of
+     *         the user.
      */
     @Override
     @Transactional
-    public void countLikes(AmountCommentLikesDto amountCommentLikesDto) {
+    public AmountCommentLikesDto countLikes(AmountCommentLikesDto amountCommentLikesDto) {
         EcoNewsComment comment = ecoNewsCommentRepo.findById(amountCommentLikesDto.getId()).orElseThrow(
             () -> new BadRequestException(ErrorMessage.COMMENT_NOT_FOUND_EXCEPTION));
         boolean isLiked = comment.getUsersLiked().stream().map(User::getId)
@@ -219,8 +250,9 @@ public class EcoNewsCommentServiceImpl implements EcoNewsCommentService {
         amountCommentLikesDto.setLiked(isLiked);
         int size = comment.getUsersLiked().size();
         amountCommentLikesDto.setAmountLikes(size);
-        messagingTemplate
-            .convertAndSend("/topic/" + amountCommentLikesDto.getId() + "/comment", amountCommentLikesDto);
+        commentLikesBroadcaster.broadcast(new CommentLikesCountDto(amountCommentLikesDto.getId(), size));
+        commentLikesBroadcaster.broadcastLegacy(amountCommentLikesDto);
+        return amountCommentLikesDto;
     }
 
     /**
@@ -266,29 +298,8 @@ public class EcoNewsCommentServiceImpl implements EcoNewsCommentService {
      */
     @Override
     public PageableDto<EcoNewsCommentDto> getAllActiveComments(Pageable pageable, UserVO userVO, Long ecoNewsId) {
-        Page<EcoNewsComment> pages =
-            ecoNewsCommentRepo
-                .findAllByParentCommentIsNullAndDeletedFalseAndEcoNewsIdOrderByCreatedDateDesc(pageable, ecoNewsId);
-        UserVO user = userVO == null ? UserVO.builder().build() : userVO;
-        List<EcoNewsCommentDto> ecoNewsCommentDtos = pages
-            .stream()
-            .map(comment -> {
-                comment.setCurrentUserLiked(comment.getUsersLiked().stream()
-                    .anyMatch(u -> u.getId().equals(user.getId())));
-                return comment;
-            })
-            .map(ecoNewsComment -> modelMapper.map(ecoNewsComment, EcoNewsCommentDto.class))
-            .map(comment -> {
-                comment.setReplies(ecoNewsCommentRepo.countByParentCommentId(comment.getId()));
-                return comment;
-            })
-            .collect(Collectors.toList());
-
-        return new PageableDto<>(
-            ecoNewsCommentDtos,
-            pages.getTotalElements(),
-            pages.getPageable().getPageNumber(),
-            pages.getTotalPages());
+        Long userId = userVO == null ? null : userVO.getId();
+        return buildCommentPage(ecoNewsCommentRepo.findCommentPage(ecoNewsId, userId, true, pageable));
     }
 
     /**
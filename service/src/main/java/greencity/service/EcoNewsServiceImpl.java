@@ -4,6 +4,7 @@ import greencity.annotations.RatingCalculationEnum;
 import greencity.client.RestClient;
 import greencity.constant.CacheConstants;
 import greencity.constant.ErrorMessage;
+import greencity.dto.CursorPageDto;
 import greencity.dto.PageableAdvancedDto;
 import greencity.dto.PageableDto;
 import greencity.dto.econews.*;
@@ -24,11 +25,16 @@ import greencity.exception.exceptions.NotSavedException;
 import greencity.exception.exceptions.UnsupportedSortException;
 import greencity.filters.EcoNewsSpecification;
 import greencity.filters.SearchCriteria;
+import greencity.mapping.EcoNewsDtoMapper;
+import greencity.mapping.PageAssembler;
+import greencity.mapping.SearchNewsDtoMapper;
+import greencity.mapping.TagMapper;
+import greencity.mapping.UserVOMapper;
+import greencity.rating.RatingEventPipeline;
 import greencity.repository.EcoNewsRepo;
 import greencity.repository.EcoNewsSearchRepo;
 import lombok.RequiredArgsConstructor;
 import org.modelmapper.ModelMapper;
-import org.modelmapper.TypeToken;
 import org.springframework.cache.annotation.CacheEvict;
 import org.springframework.cache.annotation.Cacheable;
 import org.springframework.cache.annotation.EnableCaching;
@@ -42,7 +48,7 @@ import org.springframework.util.StringUtils;
 import org.springframework.web.multipart.MultipartFile;
 import jakarta.servlet.http.HttpServletRequest;
 import java.util.*;
-import java.util.concurrent.CompletableFuture;
+import java.util.function.ToIntFunction;
 import java.util.stream.Collectors;
 import static greencity.constant.AppConstant.AUTHORIZATION;
 
@@ -50,14 +56,20 @@ import static greencity.constant.AppConstant.AUTHORIZATION;
 @EnableCaching
 @RequiredArgsConstructor
 public class EcoNewsServiceImpl implements EcoNewsService {
+    private static final int MAX_FEED_SIZE = 100;
     private final EcoNewsRepo ecoNewsRepo;
     private final RestClient restClient;
     private final ModelMapper modelMapper;
+    private final EcoNewsDtoMapper ecoNewsDtoMapper;
+    private final SearchNewsDtoMapper searchNewsDtoMapper;
+    private final TagMapper tagMapper;
+    private final UserVOMapper userVOMapper;
     private final TagsService tagService;
     private final FileService fileService;
-    private final greencity.rating.RatingCalculation ratingCalculation;
+    private final RatingEventPipeline ratingEventPipeline;
     private final HttpServletRequest httpServletRequest;
     private final EcoNewsSearchRepo ecoNewsSearchRepo;
+    private final PageAssembler pageAssembler;
     private final List<String> languageCode = List.of("en", "ua");
 
     /**
@@ -196,7 +208,7 @@ public class EcoNewsServiceImpl implements EcoNewsService {
                 throw new UnsupportedSortException(ErrorMessage.INVALID_SORTING_VALUE);
             }
         }
-        return buildPageableAdvancedGeneticDto(pages);
+        return buildPageableAdvancedGeneticDto(pages, unfiltered -> (int) unfiltered.getTotalElements());
     }
 
     /**
@@ -212,7 +224,7 @@ public class EcoNewsServiceImpl implements EcoNewsService {
         } else {
             throw new UnsupportedSortException(ErrorMessage.INVALID_SORTING_VALUE);
         }
-        return buildPageableAdvancedGeneticDto(pages);
+        return buildPageableAdvancedGeneticDto(pages, filtered -> ecoNewsRepo.totalCountOfCreationNews());
     }
 
     /**
@@ -225,42 +237,78 @@ public class EcoNewsServiceImpl implements EcoNewsService {
         List<String> lowerCaseTags = tags.stream().map(String::toLowerCase).collect(Collectors.toList());
         Page<EcoNews> pages = ecoNewsRepo.findByTags(page, lowerCaseTags);
 
-        return buildPageableAdvancedGeneticDto(pages);
+        return buildPageableAdvancedGeneticDto(pages, filtered -> ecoNewsRepo.totalCountOfCreationNews());
     }
 
-    private PageableAdvancedDto<EcoNewsDto> buildPageableAdvancedDto(Page<EcoNews> ecoNewsPage) {
-        List<EcoNewsDto> ecoNewsDtos = ecoNewsPage.stream()
-            .map(ecoNews -> modelMapper.map(ecoNews, EcoNewsDto.class))
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public CursorPageDto<EcoNewsGenericDto> findFeed(String cursor, int size, List<String> tags, boolean withTotal) {
+        checkFeedSize(size);
+        FeedCursor position = FeedCursor.decode(cursor);
+        if (tags == null || tags.isEmpty()) {
+            List<EcoNews> ecoNews = ecoNewsRepo.findFeedBefore(position.creationDate(), position.id(), size + 1);
+            return buildCursorPageDto(ecoNews, size, withTotal ? (long) ecoNewsRepo.totalCountOfCreationNews() : null);
+        }
+        List<String> lowerCaseTags = tags.stream().map(String::toLowerCase).toList();
+        List<EcoNews> ecoNews =
+            ecoNewsRepo.findFeedByTagsBefore(lowerCaseTags, position.creationDate(), position.id(), size + 1);
+        return buildCursorPageDto(ecoNews, size, withTotal ? ecoNewsRepo.countByTags(lowerCaseTags) : null);
+    }
 
-            .collect(Collectors.toList());
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public CursorPageDto<EcoNewsGenericDto> findFeedByUser(UserVO user, String cursor, int size, boolean withTotal) {
+        checkFeedSize(size);
+        FeedCursor position = FeedCursor.decode(cursor);
+        List<EcoNews> ecoNews =
+            ecoNewsRepo.findFeedByAuthorBefore(user.getId(), position.creationDate(), position.id(), size + 1);
+        return buildCursorPageDto(ecoNews, size,
+            withTotal ? ecoNewsRepo.getAmountOfPublishedNewsByUserId(user.getId()) : null);
+    }
+
+    private void checkFeedSize(int size) {
+        if (size < 1 || size > MAX_FEED_SIZE) {
+            throw new BadRequestException(ErrorMessage.INVALID_FEED_SIZE + MAX_FEED_SIZE);
+        }
+    }
 
-        return new PageableAdvancedDto<>(
-            ecoNewsDtos,
-            ecoNewsPage.getTotalElements(),
-            ecoNewsPage.getPageable().getPageNumber(),
-            ecoNewsPage.getTotalPages(),
-            ecoNewsPage.getNumber(),
-            ecoNewsPage.hasPrevious(),
-            ecoNewsPage.hasNext(),
-            ecoNewsPage.isFirst(),
-            ecoNewsPage.isLast());
-    }
-
-    private PageableAdvancedDto<EcoNewsGenericDto> buildPageableAdvancedGeneticDto(Page<EcoNews> ecoNewsPage) {
-        List<EcoNewsGenericDto> ecoNewsDtos = ecoNewsPage.stream()
-            .map(this::getEcoNewsGenericDtoWithEnTags)
-            .collect(Collectors.toList());
+    /**
+     * Builds the page of the feed from rows fetched with one extra row, which tells
+     * whether the next page exists. {@code countOfEcoNews} of the items is the
+     * total amount of news in the feed, or {@code null} if it was not counted.
+     */
+    private CursorPageDto<EcoNewsGenericDto> buildCursorPageDto(List<EcoNews> rows, int size, Long totalElements) {
+        boolean hasNext = rows.size() > size;
+        List<EcoNews> ecoNews = hasNext ? rows.subList(0, size) : rows;
+        Integer countOfEcoNews = totalElements == null ? null : totalElements.intValue();
+        String nextCursor = null;
+        if (hasNext) {
+            EcoNews last = ecoNews.get(size - 1);
+            nextCursor = new FeedCursor(last.getCreationDate(), last.getId()).encode();
+        }
+        return CursorPageDto.<EcoNewsGenericDto>builder()
+            .page(ecoNews.stream().map(news -> getEcoNewsGenericDtoWithEnTags(news, countOfEcoNews)).toList())
+            .nextCursor(nextCursor)
+            .hasNext(hasNext)
+            .totalElements(totalElements)
+            .build();
+    }
 
-        return new PageableAdvancedDto<>(
-            ecoNewsDtos,
-            ecoNewsPage.getTotalElements(),
-            ecoNewsPage.getPageable().getPageNumber(),
-            ecoNewsPage.getTotalPages(),
-            ecoNewsPage.getNumber(),
-            ecoNewsPage.hasPrevious(),
-            ecoNewsPage.hasNext(),
-            ecoNewsPage.isFirst(),
-            ecoNewsPage.isLast());
+    private PageableAdvancedDto<EcoNewsDto> buildPageableAdvancedDto(Page<EcoNews> ecoNewsPage) {
+        return pageAssembler.assemble(ecoNewsPage, ecoNewsDtoMapper::convert);
+    }
+
+    /**
+     * Builds the page of {@link EcoNewsGenericDto}. The total amount of eco news is
+     * computed once per page and not at all for an empty page.
+     */
+    private PageableAdvancedDto<EcoNewsGenericDto> buildPageableAdvancedGeneticDto(Page<EcoNews> ecoNewsPage,
+        ToIntFunction<Page<EcoNews>> countOfEcoNews) {
+        return pageAssembler.assemble(ecoNewsPage, countOfEcoNews::applyAsInt, this::getEcoNewsGenericDtoWithEnTags);
     }
 
     /**
@@ -285,7 +333,7 @@ public class EcoNewsServiceImpl implements EcoNewsService {
     public EcoNewsDto getById(Long id) {
         EcoNews ecoNews = ecoNewsRepo.findById(id)
             .orElseThrow(() -> new NotFoundException(ErrorMessage.ECO_NEWS_NOT_FOUND_BY_ID + id));
-        return modelMapper.map(ecoNews, EcoNewsDto.class);
+        return ecoNewsDtoMapper.convert(ecoNews);
     }
 
     /**
@@ -320,8 +368,7 @@ public class EcoNewsServiceImpl implements EcoNewsService {
             throw new BadRequestException(ErrorMessage.USER_HAS_NO_PERMISSION);
         }
         String accessToken = httpServletRequest.getHeader(AUTHORIZATION);
-        CompletableFuture.runAsync(
-            () -> ratingCalculation.ratingCalculation(RatingCalculationEnum.DELETE_ECO_NEWS, user, accessToken));
+        ratingEventPipeline.submit(RatingCalculationEnum.DELETE_ECO_NEWS, user, accessToken);
         ecoNewsRepo.deleteById(ecoNewsVO.getId());
     }
 
@@ -352,7 +399,7 @@ public class EcoNewsServiceImpl implements EcoNewsService {
 
     private PageableDto<SearchNewsDto> getSearchNewsDtoPageableDto(Page<EcoNews> page) {
         List<SearchNewsDto> searchNewsDtos = page.stream()
-            .map(ecoNews -> modelMapper.map(ecoNews, SearchNewsDto.class))
+            .map(searchNewsDtoMapper::convert)
             .collect(Collectors.toList());
 
         return new PageableDto<>(
@@ -371,7 +418,7 @@ public class EcoNewsServiceImpl implements EcoNewsService {
     @Override
     public List<EcoNewsDto> getAllPublishedNewsByUserId(Long userId) {
         return ecoNewsRepo.findAllByUserId(userId).stream()
-            .map(ecoNews -> modelMapper.map(ecoNews, EcoNewsDto.class))
+            .map(ecoNewsDtoMapper::convert)
             .collect(Collectors.toList());
     }
 
@@ -385,7 +432,7 @@ public class EcoNewsServiceImpl implements EcoNewsService {
     @Override
     public List<EcoNewsDto> getAllPublishedNewsByUser(UserVO user) {
         return ecoNewsRepo.findAllByUserId(user.getId()).stream()
-            .map(ecoNews -> modelMapper.map(ecoNews, EcoNewsDto.class))
+            .map(ecoNewsDtoMapper::convert)
             .collect(Collectors.toList());
     }
 
@@ -411,8 +458,7 @@ public class EcoNewsServiceImpl implements EcoNewsService {
     public void likeComment(UserVO user, EcoNewsCommentVO comment) {
         comment.getUsersLiked().add(user);
         String accessToken = httpServletRequest.getHeader(AUTHORIZATION);
-        CompletableFuture
-            .runAsync(() -> ratingCalculation.ratingCalculation(RatingCalculationEnum.LIKE_COMMENT, user, accessToken));
+        ratingEventPipeline.submit(RatingCalculationEnum.LIKE_COMMENT, user, accessToken);
     }
 
     /**
@@ -425,8 +471,7 @@ public class EcoNewsServiceImpl implements EcoNewsService {
     public void unlikeComment(UserVO user, EcoNewsCommentVO comment) {
         String accessToken = httpServletRequest.getHeader(AUTHORIZATION);
         comment.getUsersLiked().removeIf(u -> u.getId().equals(user.getId()));
-        CompletableFuture
-            .runAsync(() -> ratingCalculation.ratingCalculation(RatingCalculationEnum.LIKE_COMMENT, user, accessToken));
+        ratingEventPipeline.submit(RatingCalculationEnum.LIKE_COMMENT, user, accessToken);
     }
 
     @Override
@@ -439,10 +484,8 @@ public class EcoNewsServiceImpl implements EcoNewsService {
         MultipartFile image) {
         toUpdate.setTitle(ecoNewsDtoManagement.getTitle());
         toUpdate.setText(ecoNewsDtoManagement.getText());
-        toUpdate.setTags(modelMapper
-            .map(tagService.findTagsByNamesAndType(ecoNewsDtoManagement.getTags(), TagType.ECO_NEWS),
-                new TypeToken<List<Tag>>() {
-                }.getType()));
+        toUpdate.setTags(tagMapper
+            .mapAllToList(tagService.findTagsByNamesAndType(ecoNewsDtoManagement.getTags(), TagType.ECO_NEWS)));
         if (image != null) {
             toUpdate.setImagePath(fileService.upload(image));
         }
@@ -454,10 +497,8 @@ public class EcoNewsServiceImpl implements EcoNewsService {
         toUpdate.setText(updateEcoNewsDto.getContent());
         toUpdate.setShortInfo(updateEcoNewsDto.getShortInfo());
         toUpdate.setSource(updateEcoNewsDto.getSource());
-        toUpdate.setTags(modelMapper.map(tagService
-            .findTagsByNamesAndType(updateEcoNewsDto.getTags(), TagType.ECO_NEWS),
-            new TypeToken<List<Tag>>() {
-            }.getType()));
+        toUpdate.setTags(tagMapper.mapAllToList(tagService
+            .findTagsByNamesAndType(updateEcoNewsDto.getTags(), TagType.ECO_NEWS)));
         if (updateEcoNewsDto.getImage() != null) {
             image = fileService.convertToMultipartImage(updateEcoNewsDto.getImage());
         }
@@ -472,7 +513,7 @@ public class EcoNewsServiceImpl implements EcoNewsService {
     @CacheEvict(value = CacheConstants.NEWEST_ECO_NEWS_CACHE_NAME, allEntries = true)
     @Override
     public void update(EcoNewsDtoManagement ecoNewsDtoManagement, MultipartFile image) {
-        EcoNews toUpdate = modelMapper.map(findById(ecoNewsDtoManagement.getId()), EcoNews.class);
+        EcoNews toUpdate = findEcoNews(ecoNewsDtoManagement.getId());
         enhanceWithNewManagementData(toUpdate, ecoNewsDtoManagement, image);
 
         ecoNewsRepo.save(toUpdate);
@@ -486,7 +527,7 @@ public class EcoNewsServiceImpl implements EcoNewsService {
     @CacheEvict(value = CacheConstants.NEWEST_ECO_NEWS_CACHE_NAME, allEntries = true)
     @Override
     public EcoNewsGenericDto update(UpdateEcoNewsDto updateEcoNewsDto, MultipartFile image, UserVO user) {
-        EcoNews toUpdate = modelMapper.map(findById(updateEcoNewsDto.getId()), EcoNews.class);
+        EcoNews toUpdate = findEcoNews(updateEcoNewsDto.getId());
         if (user.getRole() != Role.ROLE_ADMIN && !user.getId().equals(toUpdate.getAuthor().getId())) {
             throw new BadRequestException(ErrorMessage.USER_HAS_NO_PERMISSION);
         }
@@ -508,18 +549,14 @@ public class EcoNewsServiceImpl implements EcoNewsService {
      * @param userVO - current {@link User} that like/dislike news.
      * @param id     - @{@link Long} eco news id.
      */
+    @Transactional
     @Override
     public void like(UserVO userVO, Long id) {
-        EcoNewsVO ecoNewsVO = findById(id);
-        if (ecoNewsVO.getUsersDislikedNews().stream().anyMatch(u -> u.getId().equals(userVO.getId()))) {
-            ecoNewsVO.getUsersDislikedNews().removeIf(u -> u.getId().equals(userVO.getId()));
+        checkEcoNewsExists(id);
+        ecoNewsRepo.removeDislike(id, userVO.getId());
+        if (ecoNewsRepo.removeLike(id, userVO.getId()) == 0) {
+            ecoNewsRepo.addLike(id, userVO.getId());
         }
-        if (ecoNewsVO.getUsersLikedNews().stream().anyMatch(u -> u.getId().equals(userVO.getId()))) {
-            ecoNewsVO.getUsersLikedNews().removeIf(u -> u.getId().equals(userVO.getId()));
-        } else {
-            ecoNewsVO.getUsersLikedNews().add(userVO);
-        }
-        ecoNewsRepo.save(modelMapper.map(ecoNewsVO, EcoNews.class));
     }
 
     /**
@@ -528,18 +565,25 @@ public class EcoNewsServiceImpl implements EcoNewsService {
      * @param userVO - current {@link User} that like/dislike news.
      * @param id     - @{@link Long} eco news id.
      */
+    @Transactional
     @Override
     public void dislike(UserVO userVO, Long id) {
-        EcoNewsVO ecoNewsVO = findById(id);
-        if (ecoNewsVO.getUsersLikedNews().stream().anyMatch(user -> user.getId().equals(userVO.getId()))) {
-            ecoNewsVO.getUsersLikedNews().removeIf(u -> u.getId().equals(userVO.getId()));
+        checkEcoNewsExists(id);
+        ecoNewsRepo.removeLike(id, userVO.getId());
+        if (ecoNewsRepo.removeDislike(id, userVO.getId()) == 0) {
+            ecoNewsRepo.addDislike(id, userVO.getId());
         }
-        if (ecoNewsVO.getUsersDislikedNews().stream().anyMatch(user -> user.getId().equals(userVO.getId()))) {
-            ecoNewsVO.getUsersDislikedNews().removeIf(u -> u.getId().equals(userVO.getId()));
-        } else {
-            ecoNewsVO.getUsersDislikedNews().add(userVO);
+    }
+
+    private EcoNews findEcoNews(Long id) {
+        return ecoNewsRepo.findById(id)
+            .orElseThrow(() -> new NotFoundException(ErrorMessage.ECO_NEWS_NOT_FOUND_BY_ID + id));
+    }
+
+    private void checkEcoNewsExists(Long id) {
+        if (!ecoNewsRepo.existsById(id)) {
+            throw new NotFoundException(ErrorMessage.ECO_NEWS_NOT_FOUND_BY_ID + id);
         }
-        ecoNewsRepo.save(modelMapper.map(ecoNewsVO, EcoNews.class));
     }
 
     /**
@@ -550,8 +594,8 @@ public class EcoNewsServiceImpl implements EcoNewsService {
      */
     @Override
     public Integer countLikesForEcoNews(Long id) {
-        EcoNewsVO ecoNewsVO = findById(id);
-        return ecoNewsVO.getUsersLikedNews().size();
+        return ecoNewsRepo.findLikesCountById(id)
+            .orElseThrow(() -> new NotFoundException(ErrorMessage.ECO_NEWS_NOT_FOUND_BY_ID + id));
     }
 
     /**
@@ -562,22 +606,26 @@ public class EcoNewsServiceImpl implements EcoNewsService {
      */
     @Override
     public Integer countDislikesForEcoNews(Long id) {
-        EcoNewsVO ecoNewsV0 = findById(id);
-        return ecoNewsV0.getUsersDislikedNews().size();
+        return ecoNewsRepo.findDislikesCountById(id)
+            .orElseThrow(() -> new NotFoundException(ErrorMessage.ECO_NEWS_NOT_FOUND_BY_ID + id));
     }
 
     /**
-     * Method to check if user liked news.
+     * Method to check if user liked news. The existence of the news is only checked
+     * when it is not liked, a like already proves it.
      *
      * @param id     - id of {@link EcoNewsVO} to check liked or not.
      * @param userVO - current {@link UserVO}.
      * @return user liked news or not.
+     * @throws NotFoundException if there is no news with the id.
      */
-
     @Override
     public Boolean checkNewsIsLikedByUser(Long id, UserVO userVO) {
-        EcoNewsVO ecoNewsVO = findById(id);
-        return ecoNewsVO.getUsersLikedNews().stream().anyMatch(u -> u.getId().equals(userVO.getId()));
+        boolean liked = ecoNewsRepo.isLikedByUser(id, userVO.getId());
+        if (!liked) {
+            checkEcoNewsExists(id);
+        }
+        return liked;
     }
 
     /**
@@ -602,7 +650,7 @@ public class EcoNewsServiceImpl implements EcoNewsService {
      */
     @Override
     public String[] uploadImages(MultipartFile[] images) {
-        return Arrays.stream(images).map(fileService::upload).toArray(String[]::new);
+        return fileService.uploadAll(images);
     }
 
     /**
@@ -657,7 +705,7 @@ public class EcoNewsServiceImpl implements EcoNewsService {
     private List<EcoNewsDto> getEcoNewsList(List<EcoNews> ecoNewsList) {
         return ecoNewsList
             .stream()
-            .map(ecoNews -> modelMapper.map(ecoNews, EcoNewsDto.class))
+            .map(ecoNewsDtoMapper::convert)
             .collect(Collectors.toList());
     }
 
@@ -667,10 +715,10 @@ public class EcoNewsServiceImpl implements EcoNewsService {
             .map(TagTranslation::getName)
             .collect(Collectors.toList());
 
-        return buildEcoNewsGenericDto(ecoNews, tags);
+        return buildEcoNewsGenericDto(ecoNews, tags, ecoNewsRepo.totalCountOfCreationNews());
     }
 
-    private EcoNewsGenericDto getEcoNewsGenericDtoWithEnTags(EcoNews ecoNews) {
+    private EcoNewsGenericDto getEcoNewsGenericDtoWithEnTags(EcoNews ecoNews, Integer countOfEcoNews) {
         List<String> tags = new ArrayList<>();
         for (String language : languageCode) {
             tags.addAll(ecoNews.getTags().stream()
@@ -680,16 +728,12 @@ public class EcoNewsServiceImpl implements EcoNewsService {
                 .collect(Collectors.toList()));
         }
 
-        return buildEcoNewsGenericDto(ecoNews, tags);
+        return buildEcoNewsGenericDto(ecoNews, tags, countOfEcoNews);
     }
 
-    private EcoNewsGenericDto buildEcoNewsGenericDto(EcoNews ecoNews, List<String> tags) {
+    private EcoNewsGenericDto buildEcoNewsGenericDto(EcoNews ecoNews, List<String> tags, Integer countOfEcoNews) {
         User author = ecoNews.getAuthor();
         var ecoNewsAuthorDto = new EcoNewsAuthorDto(author.getId(), author.getName());
-        int countOfComments = ecoNews.getEcoNewsComments() != null
-            ? (int) ecoNews.getEcoNewsComments().stream().filter(notDeleted -> !notDeleted.isDeleted()).count()
-            : 0;
-        int countOfEcoNews = ecoNewsRepo.totalCountOfCreationNews();
         return EcoNewsGenericDto.builder()
             .id(ecoNews.getId())
             .imagePath(ecoNews.getImagePath())
@@ -701,8 +745,8 @@ public class EcoNewsServiceImpl implements EcoNewsService {
             .title(ecoNews.getTitle())
             .creationDate(ecoNews.getCreationDate())
             .source(ecoNews.getSource())
-            .likes(ecoNews.getUsersLikedNews() != null ? ecoNews.getUsersLikedNews().size() : 0)
-            .countComments(countOfComments)
+            .likes(ecoNews.getLikesCount())
+            .countComments(ecoNews.getCommentsCount())
             .countOfEcoNews(countOfEcoNews)
             .build();
     }
@@ -716,7 +760,7 @@ public class EcoNewsServiceImpl implements EcoNewsService {
             .id(ecoNews.getId())
             .imagePath(ecoNews.getImagePath())
             .author(ecoNewsAuthorDto)
-            .likes(ecoNews.getUsersLikedNews().size())
+            .likes(ecoNews.getLikesCount())
             .tags(list.stream().filter(tag -> tag.matches("^([A-Za-z-])+$")).collect(Collectors.toList()))
             .tagsUa(list.stream().filter(tag -> tag.matches("^([А-Яа-яієїґ'-])+$")).collect(Collectors.toList()))
             .shortInfo(ecoNews.getShortInfo())
@@ -767,14 +811,11 @@ public class EcoNewsServiceImpl implements EcoNewsService {
         List<TagVO> tagVOS = tagService.findTagsByNamesAndType(
             addEcoNewsDtoRequest.getTags(), TagType.ECO_NEWS);
 
-        toSave.setTags(modelMapper.map(tagVOS,
-            new TypeToken<List<Tag>>() {
-            }.getType()));
+        toSave.setTags(tagMapper.mapAllToList(tagVOS));
         try {
             ecoNewsRepo.save(toSave);
             String accessToken = httpServletRequest.getHeader(AUTHORIZATION);
-            CompletableFuture.runAsync(
-                () -> ratingCalculation.ratingCalculation(RatingCalculationEnum.ADD_ECO_NEWS, byEmail, accessToken));
+            ratingEventPipeline.submit(RatingCalculationEnum.ADD_ECO_NEWS, byEmail, accessToken);
         } catch (DataIntegrityViolationException e) {
             throw new NotSavedException(ErrorMessage.ECO_NEWS_NOT_SAVED);
         }
@@ -787,7 +828,7 @@ public class EcoNewsServiceImpl implements EcoNewsService {
             .findById(id)
             .orElseThrow(() -> new NotFoundException(ErrorMessage.ECO_NEWS_NOT_FOUND_BY_ID + id));
         Set<User> usersLikedNews = ecoNews.getUsersLikedNews();
-        return usersLikedNews.stream().map(u -> modelMapper.map(u, UserVO.class)).collect(Collectors.toSet());
+        return usersLikedNews.stream().map(userVOMapper::convert).collect(Collectors.toSet());
     }
 
     @Override
@@ -796,6 +837,6 @@ public class EcoNewsServiceImpl implements EcoNewsService {
             .findById(id)
             .orElseThrow(() -> new NotFoundException(ErrorMessage.ECO_NEWS_NOT_FOUND_BY_ID + id));
         Set<User> usersDislikedNews = ecoNews.getUsersDislikedNews();
-        return usersDislikedNews.stream().map(u -> modelMapper.map(u, UserVO.class)).collect(Collectors.toSet());
+        return usersDislikedNews.stream().map(userVOMapper::convert).collect(Collectors.toSet());
     }
 }
\ No newline at end of file
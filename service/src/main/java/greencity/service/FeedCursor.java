@@ -0,0 +1,59 @@
+package greencity.service;
+
+import greencity.constant.ErrorMessage;
+import greencity.exception.exceptions.BadRequestException;
+import java.nio.charset.StandardCharsets;
+import java.time.DateTimeException;
+import java.time.Instant;
+import java.time.ZoneOffset;
+import java.time.ZonedDateTime;
+import java.util.Base64;
+
+/**
+ * Position in a feed ordered by (creation_date, id) descending. The next page
+ * holds rows strictly before the position. Clients get it as an opaque string.
+ *
+ * @param creationDate creation date of the last row of the previous page.
+ * @param id           id of the last row of the previous page.
+ */
+record FeedCursor(ZonedDateTime creationDate, Long id) {
+    /**
+     * Position before the newest row, used when no cursor is given.
+     */
+    static final FeedCursor FIRST =
+        new FeedCursor(ZonedDateTime.of(9999, 12, 31, 0, 0, 0, 0, ZoneOffset.UTC), Long.MAX_VALUE);
+
+    private static final String SEPARATOR = "_";
+
+    /**
+     * Method returns the position for the given cursor.
+     *
+     * @param cursor cursor returned with the previous page, or {@code null} for the
+     *               first page.
+     * @return {@link FeedCursor}.
+     * @throws BadRequestException if the cursor is malformed.
+     */
+    static FeedCursor decode(String cursor) {
+        if (cursor == null || cursor.isBlank()) {
+            return FIRST;
+        }
+        try {
+            String value = new String(Base64.getUrlDecoder().decode(cursor), StandardCharsets.UTF_8);
+            int separator = value.lastIndexOf(SEPARATOR);
+            ZonedDateTime creationDate = Instant.parse(value.substring(0, separator)).atZone(ZoneOffset.UTC);
+            return new FeedCursor(creationDate, Long.parseLong(value.substring(separator + 1)));
+        } catch (IllegalArgumentException | IndexOutOfBoundsException | DateTimeException e) {
+            throw new BadRequestException(ErrorMessage.INVALID_FEED_CURSOR);
+        }
+    }
+
+    /**
+     * Method returns the cursor of this position.
+     *
+     * @return opaque cursor.
+     */
+    String encode() {
+        String value = creationDate.toInstant() + SEPARATOR + id;
+        return Base64.getUrlEncoder().withoutPadding().encodeToString(value.getBytes(StandardCharsets.UTF_8));
+    }
+}
@@ -13,6 +13,8 @@ import greencity.entity.localization.ShoppingListItemTranslation;
 import greencity.enums.HabitAssignStatus;
 import greencity.enums.ShoppingListItemStatus;
 import greencity.exception.exceptions.*;
+import greencity.mapping.HabitAssignDtoMapper;
+import greencity.mapping.HabitDtoMapper;
 import greencity.repository.*;
 import lombok.AllArgsConstructor;
 import org.modelmapper.ModelMapper;
@@ -45,6 +47,8 @@ public class HabitAssignServiceImpl implements HabitAssignService {
     private final HabitStatisticService habitStatisticService;
     private final HabitStatusCalendarService habitStatusCalendarService;
     private final ModelMapper modelMapper;
+    private final HabitAssignDtoMapper habitAssignDtoMapper;
+    private final HabitDtoMapper habitDtoMapper;
 
     /**
      * {@inheritDoc}
@@ -86,8 +90,7 @@ public class HabitAssignServiceImpl implements HabitAssignService {
             habitAssignRepo.findByHabitIdAndUserIdAndStatusIsCancelled(habitId, user.getId());
 
         if (habitAssign != null) {
-            habitAssign.setStatus(HabitAssignStatus.INPROGRESS);
-            habitAssign.setCreateDate(ZonedDateTime.now());
+            reactivateHabitAssign(habitAssign, HabitAssignStatus.INPROGRESS);
         } else {
             List<ShoppingListItem> shoppingList =
                 shoppingListItemRepo.getShoppingListByListOfId(
@@ -114,6 +117,20 @@ public class HabitAssignServiceImpl implements HabitAssignService {
         habitAssign.setDuration(habitAssign.getHabit().getDefaultDuration());
     }
 
+    /**
+     * Method assigns the cancelled {@link HabitAssign} again, its statistics are
+     * counted again from now on.
+     *
+     * @param habitAssign cancelled {@link HabitAssign} instance.
+     * @param status      new {@link HabitAssignStatus}.
+     */
+    private void reactivateHabitAssign(HabitAssign habitAssign, HabitAssignStatus status) {
+        HabitAssignStatus previousStatus = habitAssign.getStatus();
+        habitAssign.setStatus(status);
+        habitAssign.setCreateDate(ZonedDateTime.now());
+        habitStatisticService.updateStatsOnStatusChange(habitAssign.getId(), previousStatus, status);
+    }
+
     /**
      * {@inheritDoc}
      */
@@ -131,8 +148,7 @@ public class HabitAssignServiceImpl implements HabitAssignService {
         HabitAssign habitAssign =
             habitAssignRepo.findByHabitIdAndUserIdAndStatusIsCancelled(habitId, user.getId());
         if (habitAssign != null) {
-            habitAssign.setStatus(HabitAssignStatus.INPROGRESS);
-            habitAssign.setCreateDate(ZonedDateTime.now());
+            reactivateHabitAssign(habitAssign, HabitAssignStatus.INPROGRESS);
         } else {
             habitAssign = buildHabitAssign(habit, user, HabitAssignStatus.INPROGRESS);
         }
@@ -177,8 +193,7 @@ public class HabitAssignServiceImpl implements HabitAssignService {
             HabitAssign habitAssign =
                 habitAssignRepo.findByHabitIdAndUserIdAndStatusIsCancelled(habit.getId(), friendOfUser.getId());
             if (habitAssign != null) {
-                habitAssign.setStatus(HabitAssignStatus.REQUESTED);
-                habitAssign.setCreateDate(ZonedDateTime.now());
+                reactivateHabitAssign(habitAssign, HabitAssignStatus.REQUESTED);
             } else {
                 habitAssign = buildHabitAssign(habit, friendOfUser, HabitAssignStatus.REQUESTED);
             }
@@ -332,8 +347,8 @@ public class HabitAssignServiceImpl implements HabitAssignService {
      */
     private HabitAssignDto buildHabitAssignDto(HabitAssign habitAssign, String language) {
         HabitTranslation habitTranslation = getHabitTranslation(habitAssign, language);
-        HabitAssignDto habitAssignDto = modelMapper.map(habitAssign, HabitAssignDto.class);
-        habitAssignDto.setHabit(modelMapper.map(habitTranslation, HabitDto.class));
+        HabitAssignDto habitAssignDto = habitAssignDtoMapper.convert(habitAssign);
+        habitAssignDto.setHabit(habitDtoMapper.convert(habitTranslation));
         setShoppingListItems(habitAssignDto, habitAssign, language);
         return habitAssignDto;
     }
@@ -607,7 +622,9 @@ public class HabitAssignServiceImpl implements HabitAssignService {
             .orElseThrow(() -> new NotFoundException(
                 ErrorMessage.HABIT_ASSIGN_NOT_FOUND_WITH_CURRENT_USER_ID_AND_HABIT_ASSIGN_ID + habitAssignId));
 
+        HabitAssignStatus previousStatus = updatable.getStatus();
         updatable.setStatus(dto.getStatus());
+        habitStatisticService.updateStatsOnStatusChange(habitAssignId, previousStatus, dto.getStatus());
 
         return modelMapper.map(habitAssignRepo.save(updatable), HabitAssignManagementDto.class);
     }
@@ -681,13 +698,15 @@ public class HabitAssignServiceImpl implements HabitAssignService {
         habitAssign.setWorkingDays(habitAssign.getWorkingDays() + 1);
         habitAssign.setLastEnrollmentDate(ZonedDateTime.now());
 
-        List<HabitStatusCalendar> habitStatusCalendars =
-            new ArrayList<>(habitAssign.getHabitStatusCalendars());
-        habitStatusCalendars.add(habitCalendar);
-        habitAssign.setHabitStatusCalendars(habitStatusCalendars);
+        HabitEnrollmentDays enrollmentDays = HabitEnrollmentDays.of(habitAssign);
+        enrollmentDays.enroll(habitCalendar.getEnrollDate());
+        enrollmentDays.writeTo(habitAssign);
+        if (habitAssign.getHabitStatusCalendars() == null) {
+            habitAssign.setHabitStatusCalendars(new ArrayList<>());
+        }
+        habitAssign.getHabitStatusCalendars().add(habitCalendar);
 
-        int habitStreak = countNewHabitStreak(habitAssign.getHabitStatusCalendars());
-        habitAssign.setHabitStreak(habitStreak);
+        habitAssign.setHabitStreak(enrollmentDays.streakOn(LocalDate.now()));
 
         if (isHabitAcquired(habitAssign)) {
             habitAssign.setStatus(HabitAssignStatus.ACQUIRED);
@@ -729,9 +748,9 @@ public class HabitAssignServiceImpl implements HabitAssignService {
         }
 
         deleteHabitStatusCalendar(date, habitAssign);
-        updateHabitAssignAfterUnenroll(habitAssign);
+        updateHabitAssignAfterUnenroll(habitAssign, date);
 
-        return modelMapper.map(habitAssign, HabitAssignDto.class);
+        return habitAssignDtoMapper.convert(habitAssign);
     }
 
     /**
@@ -756,36 +775,18 @@ public class HabitAssignServiceImpl implements HabitAssignService {
      * Method updates {@link HabitAssign} after unenroll.
      *
      * @param habitAssign {@link HabitAssign} instance.
+     * @param date        {@link LocalDate} unenrolled date.
      */
-    private void updateHabitAssignAfterUnenroll(HabitAssign habitAssign) {
+    private void updateHabitAssignAfterUnenroll(HabitAssign habitAssign, LocalDate date) {
         habitAssign.setWorkingDays(habitAssign.getWorkingDays() - 1);
-        habitAssign.setHabitStreak(countNewHabitStreak(habitAssign.getHabitStatusCalendars()));
+        HabitEnrollmentDays enrollmentDays = HabitEnrollmentDays.of(habitAssign);
+        enrollmentDays.unenroll(date);
+        enrollmentDays.writeTo(habitAssign);
+        habitAssign.setHabitStreak(enrollmentDays.streakOn(LocalDate.now()));
 
         habitAssignRepo.save(habitAssign);
     }
 
-    /**
-     * Method counts new habit streak for {@link HabitAssign}.
-     *
-     * @param habitCalendars {@link List} of {@link HabitStatusCalendar}'s.
-     * @return int of habit days streak.
-     */
-    private int countNewHabitStreak(List<HabitStatusCalendar> habitCalendars) {
-        habitCalendars.sort(Comparator.comparing(HabitStatusCalendar::getEnrollDate).reversed());
-
-        LocalDate today = LocalDate.now();
-        int daysStreak = 0;
-        int daysPast = 0;
-        for (HabitStatusCalendar hc : habitCalendars) {
-            if (today.minusDays(daysPast++).equals(hc.getEnrollDate())) {
-                daysStreak++;
-            } else {
-                return daysStreak;
-            }
-        }
-        return daysStreak;
-    }
-
     /**
      * {@inheritDoc}
      */
@@ -817,11 +818,8 @@ public class HabitAssignServiceImpl implements HabitAssignService {
         }
         List<HabitAssign> habitAssignsBetweenDates = habitAssignRepo
             .findAllHabitAssignsBetweenDates(userId, from, to);
-        List<LocalDate> dates = Stream.iterate(from, date -> date.plusDays(1))
+        List<HabitsDateEnrollmentDto> dtos = Stream.iterate(from, date -> date.plusDays(1))
             .limit(ChronoUnit.DAYS.between(from, to.plusDays(1)))
-            .collect(Collectors.toList());
-
-        List<HabitsDateEnrollmentDto> dtos = dates.stream()
             .map(date -> HabitsDateEnrollmentDto.builder().enrollDate(date)
                 .habitAssigns(new ArrayList<>())
                 .build())
@@ -834,20 +832,32 @@ public class HabitAssignServiceImpl implements HabitAssignService {
 
     /**
      * Method to fill in all user enrollment activity in the list of
-     * {@code HabitsDateEnrollmentDto}'s by {@code HabitAssign}'s list of habit
-     * status calendar.
+     * {@code HabitsDateEnrollmentDto}'s. Only the days the {@code HabitAssign} is
+     * active on are visited, and each of them is looked up in its enrolled days
+     * directly.
      *
      * @param habitAssign {@code HabitAssign} habit assign.
      * @param language    {@link String} of language code value.
-     * @param list        of {@link HabitsDateEnrollmentDto} instances.
+     * @param list        of {@link HabitsDateEnrollmentDto} instances, one per day
+     *                    starting from the first day of the range.
      */
     private void buildHabitsDateEnrollmentDto(HabitAssign habitAssign, String language,
         List<HabitsDateEnrollmentDto> list) {
+        LocalDate from = list.get(0).getEnrollDate();
+        LocalDate createDate = habitAssign.getCreateDate().toLocalDate();
+        long firstIndex = Math.max(0, ChronoUnit.DAYS.between(from, createDate));
+        long lastIndex = Math.min(list.size() - 1L,
+            ChronoUnit.DAYS.between(from, createDate.plusDays(habitAssign.getDuration())));
+        if (firstIndex > lastIndex) {
+            return;
+        }
         HabitTranslation habitTranslation = getHabitTranslation(habitAssign, language);
-
-        list.stream().filter(dto -> checkIfHabitIsActiveOnDay(dto, habitAssign))
-            .forEach(dto -> markHabitOnHabitsEnrollmentDto(dto, checkIfHabitIsEnrolledOnDay(dto, habitAssign),
-                habitTranslation, habitAssign));
+        HabitEnrollmentDays enrollmentDays = HabitEnrollmentDays.of(habitAssign);
+        for (int i = (int) firstIndex; i <= lastIndex; i++) {
+            HabitsDateEnrollmentDto dto = list.get(i);
+            markHabitOnHabitsEnrollmentDto(dto, enrollmentDays.isEnrolled(dto.getEnrollDate()), habitTranslation,
+                habitAssign);
+        }
     }
 
     /**
@@ -865,32 +875,6 @@ public class HabitAssignServiceImpl implements HabitAssignService {
             .isEnrolled(isEnrolled).habitAssignId(habitAssign.getId()).build());
     }
 
-    /**
-     * Method to check if {@code HabitAssign} was enrolled on concrete date.
-     *
-     * @param dto         {@link HabitsDateEnrollmentDto} which contains date.
-     * @param habitAssign {@link HabitAssign} contains enroll dates.
-     * @return boolean.
-     */
-    private boolean checkIfHabitIsEnrolledOnDay(HabitsDateEnrollmentDto dto, HabitAssign habitAssign) {
-        return habitAssign.getHabitStatusCalendars().stream()
-            .anyMatch(habitStatusCalendar -> habitStatusCalendar.getEnrollDate().equals(dto.getEnrollDate()));
-    }
-
-    /**
-     * Method to check if {@code HabitAssign} is active on concrete date.
-     *
-     * @param dto         {@link HabitsDateEnrollmentDto} which contains date.
-     * @param habitAssign {@link HabitAssign} contains habit date borders.
-     * @return boolean.
-     */
-    private boolean checkIfHabitIsActiveOnDay(HabitsDateEnrollmentDto dto, HabitAssign habitAssign) {
-        return dto.getEnrollDate()
-            .isBefore(habitAssign.getCreateDate().toLocalDate().plusDays(habitAssign.getDuration() + 1L))
-            && dto.getEnrollDate()
-                .isAfter(habitAssign.getCreateDate().toLocalDate().minusDays(1L));
-    }
-
     /**
      * {@inheritDoc}
      */
@@ -917,6 +901,8 @@ public class HabitAssignServiceImpl implements HabitAssignService {
             .orElseThrow(() -> new NotFoundException(
                 ErrorMessage.HABIT_ASSIGN_NOT_FOUND_WITH_CURRENT_USER_ID_AND_HABIT_ID_AND_INPROGRESS_STATUS + habitId));
         habitAssignToCancel.setStatus(HabitAssignStatus.CANCELLED);
+        habitStatisticService.updateStatsOnStatusChange(habitAssignToCancel.getId(), HabitAssignStatus.INPROGRESS,
+            HabitAssignStatus.CANCELLED);
         habitAssignRepo.save(habitAssignToCancel);
         return buildHabitAssignDto(habitAssignToCancel, "en");
     }
@@ -936,6 +922,7 @@ public class HabitAssignServiceImpl implements HabitAssignService {
         }
         userShoppingListItemRepo.deleteShoppingListItemsByHabitAssignId(habitAssign.getId());
         customShoppingListItemRepo.deleteCustomShoppingListItemsByHabitId(habitAssign.getHabit().getId());
+        habitStatisticService.deleteAllStatsByHabitAssign(HabitAssignVO.builder().id(habitAssign.getId()).build());
         habitAssignRepo.delete(habitAssign);
     }
 
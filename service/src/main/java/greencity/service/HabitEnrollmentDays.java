@@ -0,0 +1,113 @@
+package greencity.service;
+
+import greencity.constant.AppConstant;
+import greencity.entity.HabitAssign;
+import greencity.entity.HabitStatusCalendar;
+import java.time.LocalDate;
+import java.time.temporal.ChronoUnit;
+import java.util.BitSet;
+
+/**
+ * Enrolled days of a {@link HabitAssign} as a bit set. Bit {@code i} is set
+ * when the habit is enrolled {@code i} days after the first day of the set. A
+ * new set starts on the earliest day that can be enrolled, which is
+ * {@link AppConstant#MAX_PASSED_DAYS_OF_ABILITY_TO_ENROLL} days before the
+ * assign was created. The set and its first day are stored in
+ * {@link HabitAssign#getEnrolledDays()} and
+ * {@link HabitAssign#getEnrolledDaysFrom()}, for assigns that have not stored
+ * them it is built from their {@link HabitStatusCalendar}'s.
+ */
+final class HabitEnrollmentDays {
+    private final LocalDate firstDay;
+    private final BitSet days;
+
+    private HabitEnrollmentDays(LocalDate firstDay, BitSet days) {
+        this.firstDay = firstDay;
+        this.days = days;
+    }
+
+    /**
+     * Reads enrolled days of the {@link HabitAssign}.
+     *
+     * @param habitAssign {@link HabitAssign} instance.
+     * @return {@link HabitEnrollmentDays} of the assign.
+     */
+    static HabitEnrollmentDays of(HabitAssign habitAssign) {
+        if (habitAssign.getEnrolledDays() != null && habitAssign.getEnrolledDaysFrom() != null) {
+            return new HabitEnrollmentDays(habitAssign.getEnrolledDaysFrom(),
+                BitSet.valueOf(habitAssign.getEnrolledDays()));
+        }
+        LocalDate firstDay = habitAssign.getCreateDate().toLocalDate()
+            .minusDays(AppConstant.MAX_PASSED_DAYS_OF_ABILITY_TO_ENROLL);
+        HabitEnrollmentDays enrollmentDays = new HabitEnrollmentDays(firstDay, new BitSet());
+        if (habitAssign.getHabitStatusCalendars() != null) {
+            habitAssign.getHabitStatusCalendars()
+                .forEach(habitStatusCalendar -> enrollmentDays.enroll(habitStatusCalendar.getEnrollDate()));
+        }
+        return enrollmentDays;
+    }
+
+    /**
+     * Checks if the habit is enrolled on the date.
+     *
+     * @param date {@link LocalDate} date.
+     * @return boolean.
+     */
+    boolean isEnrolled(LocalDate date) {
+        int index = indexOf(date);
+        return index >= 0 && days.get(index);
+    }
+
+    /**
+     * Marks the date as enrolled, dates before the earliest day are ignored.
+     *
+     * @param date {@link LocalDate} date.
+     */
+    void enroll(LocalDate date) {
+        int index = indexOf(date);
+        if (index >= 0) {
+            days.set(index);
+        }
+    }
+
+    /**
+     * Marks the date as not enrolled.
+     *
+     * @param date {@link LocalDate} date.
+     */
+    void unenroll(LocalDate date) {
+        int index = indexOf(date);
+        if (index >= 0) {
+            days.clear(index);
+        }
+    }
+
+    /**
+     * Counts enrolled days in a row that end on the date.
+     *
+     * @param date {@link LocalDate} last day of the streak.
+     * @return int of habit days streak, {@code 0} if the date is not enrolled.
+     */
+    int streakOn(LocalDate date) {
+        int index = indexOf(date);
+        if (index < 0 || !days.get(index)) {
+            return 0;
+        }
+        return index - days.previousClearBit(index);
+    }
+
+    /**
+     * Stores the enrolled days in the {@link HabitAssign}.
+     *
+     * @param habitAssign {@link HabitAssign} instance.
+     */
+    void writeTo(HabitAssign habitAssign) {
+        habitAssign.setEnrolledDays(days.toByteArray());
+        habitAssign.setEnrolledDaysFrom(firstDay);
+    }
+
+    private int indexOf(LocalDate date) {
+        long index = ChronoUnit.DAYS.between(firstDay, date);
+        return index < 0 || index > Integer.MAX_VALUE ? -1 : (int) index;
+    }
+}
@@ -8,12 +8,15 @@ import greencity.dto.habit.AddCustomHabitDtoResponse;
 import greencity.dto.habit.HabitDto;
 import greencity.dto.shoppinglistitem.ShoppingListItemDto;
 import greencity.dto.user.UserProfilePictureDto;
+import greencity.dto.filter.HabitTranslationFilterDto;
 import greencity.dto.user.UserVO;
 import greencity.entity.*;
+import greencity.enums.HabitAssignStatus;
 import greencity.exception.exceptions.NotFoundException;
 import greencity.exception.exceptions.WrongEmailException;
 import greencity.mapping.*;
 import greencity.repository.*;
+import greencity.repository.options.HabitTranslationFilter;
 import lombok.AllArgsConstructor;
 import org.apache.commons.lang3.StringUtils;
 import org.modelmapper.ModelMapper;
@@ -34,6 +37,7 @@ public class HabitServiceImpl implements HabitService {
     private final HabitRepo habitRepo;
     private final HabitTranslationRepo habitTranslationRepo;
     private final ModelMapper modelMapper;
+    private final HabitDtoMapper habitDtoMapper;
     private final CustomShoppingListResponseDtoMapper customShoppingListResponseDtoMapper;
     private final HabitTranslationDtoMapper habitTranslationDtoMapper;
     private final CustomShoppingListMapper customShoppingListMapper;
@@ -61,7 +65,7 @@ public class HabitServiceImpl implements HabitService {
             .orElseThrow(() -> new NotFoundException(ErrorMessage.HABIT_NOT_FOUND_BY_ID + id));
         HabitTranslation habitTranslation = habitTranslationRepo.findByHabitAndLanguageCode(habit, languageCode)
             .orElseThrow(() -> new NotFoundException(ErrorMessage.HABIT_TRANSLATION_NOT_FOUND + id));
-        var habitDto = modelMapper.map(habitTranslation, HabitDto.class);
+        var habitDto = habitDtoMapper.convert(habitTranslation);
         List<ShoppingListItemDto> shoppingListItems = new ArrayList<>();
         shoppingListItemTranslationRepo
             .findShoppingListByHabitIdAndByLanguageCode(languageCode, id)
@@ -82,14 +86,12 @@ public class HabitServiceImpl implements HabitService {
      */
     @Override
     public PageableDto<HabitDto> getAllHabitsByLanguageCode(UserVO userVO, Pageable pageable, String language) {
-        long userId = userVO.getId();
-        List<Long> availableUsersIds =
-            userRepo.getAllUserFriends(userId).stream().map(user -> user.getId())
-                .collect(Collectors.toList());
-        availableUsersIds.add(userId);
-
+        HabitTranslationFilterDto filter = HabitTranslationFilterDto.builder()
+            .languageCode(language)
+            .userId(userVO.getId())
+            .build();
         Page<HabitTranslation> habitTranslationPage =
-            habitTranslationRepo.findAllByLanguageCode(pageable, language, availableUsersIds);
+            habitTranslationRepo.findAll(new HabitTranslationFilter(filter), pageable);
         return buildPageableDtoForDifferentParameters(habitTranslationPage, userVO);
     }
 
@@ -100,8 +102,12 @@ public class HabitServiceImpl implements HabitService {
     public PageableDto<HabitDto> getAllByTagsAndLanguageCode(Pageable pageable, List<String> tags,
         String languageCode) {
         List<String> lowerCaseTags = tags.stream().map(String::toLowerCase).collect(Collectors.toList());
+        HabitTranslationFilterDto filter = HabitTranslationFilterDto.builder()
+            .languageCode(languageCode)
+            .tags(lowerCaseTags)
+            .build();
         Page<HabitTranslation> habitTranslationsPage =
-            habitTranslationRepo.findAllByTagsAndLanguageCode(pageable, lowerCaseTags, languageCode);
+            habitTranslationRepo.findAll(new HabitTranslationFilter(filter), pageable);
         return buildPageableDto(habitTranslationsPage);
     }
 
@@ -116,10 +122,9 @@ public class HabitServiceImpl implements HabitService {
     private PageableDto<HabitDto> buildPageableDto(Page<HabitTranslation> habitTranslationsPage) {
         List<HabitDto> habits =
             habitTranslationsPage.stream()
-                .map(habitTranslation -> modelMapper.map(habitTranslation, HabitDto.class))
+                .map(habitDtoMapper::convert)
                 .collect(Collectors.toList());
-        habits.forEach(
-            habitDto -> habitDto.setAmountAcquiredUsers(habitAssignRepo.findAmountOfUsersAcquired(habitDto.getId())));
+        setAmountAcquiredUsers(habits);
         return new PageableDto<>(habits, habitTranslationsPage.getTotalElements(),
             habitTranslationsPage.getPageable().getPageNumber(),
             habitTranslationsPage.getTotalPages());
@@ -132,76 +137,15 @@ public class HabitServiceImpl implements HabitService {
     public PageableDto<HabitDto> getAllByDifferentParameters(UserVO userVO, Pageable pageable,
         Optional<List<String>> tags,
         Optional<Boolean> isCustomHabit, Optional<List<Integer>> complexities, String languageCode) {
-        List<String> lowerCaseTags = new ArrayList<>();
-        List<Integer> complexitiesList = new ArrayList<>();
-        if (tags.isPresent()) {
-            lowerCaseTags = tags.get().stream().map(String::toLowerCase).collect(Collectors.toList());
-        }
-        if (complexities.isPresent()) {
-            complexitiesList = complexities.get().stream().collect(Collectors.toList());
-        }
-        Page<HabitTranslation> habitTranslationsPage;
-        long userId = userVO.getId();
-        List<Long> availableUsersIds =
-            userRepo.getAllUserFriends(userId).stream().map(user -> user.getId())
-                .collect(Collectors.toList());
-        availableUsersIds.add(userId);
-
-        if (isCustomHabit.isPresent() && !lowerCaseTags.isEmpty() && !complexitiesList.isEmpty()) {
-            boolean checkIsCustomHabit = isCustomHabit.get();
-            if (checkIsCustomHabit) {
-                habitTranslationsPage =
-                    habitTranslationRepo.findAllByDifferentParametersIsCustomHabitTrue(pageable, lowerCaseTags,
-                        complexities, languageCode, availableUsersIds);
-            } else {
-                habitTranslationsPage =
-                    habitTranslationRepo.findAllByDifferentParametersIsCustomHabitFalse(pageable, lowerCaseTags,
-                        complexities, languageCode);
-            }
-        } else if (!complexitiesList.isEmpty() && isCustomHabit.isPresent()) {
-            boolean checkIsCustomHabit = isCustomHabit.get();
-            if (checkIsCustomHabit) {
-                habitTranslationsPage =
-                    habitTranslationRepo.findAllByIsCustomHabitTrueAndComplexityAndLanguageCode(pageable,
-                        complexities, languageCode, availableUsersIds);
-            } else {
-                habitTranslationsPage =
-                    habitTranslationRepo.findAllByIsCustomHabitFalseAndComplexityAndLanguageCode(pageable,
-                        complexities, languageCode);
-            }
-        } else if (!complexitiesList.isEmpty() && !lowerCaseTags.isEmpty()) {
-            habitTranslationsPage =
-                habitTranslationRepo.findAllByTagsAndComplexityAndLanguageCodeForAvailableUsersIfIsCustomTrue(pageable,
-                    lowerCaseTags,
-                    complexities, languageCode, availableUsersIds);
-        } else if (isCustomHabit.isPresent() && !lowerCaseTags.isEmpty()) {
-            boolean checkIsCustomHabit = isCustomHabit.get();
-            if (checkIsCustomHabit) {
-                habitTranslationsPage = habitTranslationRepo.findAllByTagsAndIsCustomHabitTrueAndLanguageCode(pageable,
-                    lowerCaseTags, languageCode, availableUsersIds);
-            } else {
-                habitTranslationsPage = habitTranslationRepo.findAllByTagsAndIsCustomHabitFalseAndLanguageCode(pageable,
-                    lowerCaseTags, languageCode);
-            }
-        } else if (!lowerCaseTags.isEmpty()) {
-            habitTranslationsPage =
-                habitTranslationRepo.findAllByTagsAndLanguageCodeAndForAvailableUsersIfIsCustomHabitTrue(pageable,
-                    lowerCaseTags,
-                    languageCode, availableUsersIds);
-        } else if (isCustomHabit.isPresent()) {
-            boolean checkIsCustomHabit = isCustomHabit.get();
-            if (checkIsCustomHabit) {
-                habitTranslationsPage = habitTranslationRepo.findAllByIsCustomHabitTrueAndLanguageCode(pageable,
-                    languageCode, availableUsersIds);
-            } else {
-                habitTranslationsPage = habitTranslationRepo.findAllByIsCustomFalseHabitAndLanguageCode(pageable,
-                    languageCode);
-            }
-        } else {
-            habitTranslationsPage =
-                habitTranslationRepo.findAllByComplexityAndLanguageCodeAndForAvailableUsersIfIsCustomHabit(pageable,
-                    complexities, languageCode, availableUsersIds);
-        }
+        HabitTranslationFilterDto filter = HabitTranslationFilterDto.builder()
+            .languageCode(languageCode)
+            .userId(userVO.getId())
+            .tags(tags.map(list -> list.stream().map(String::toLowerCase).collect(Collectors.toList())).orElse(null))
+            .complexities(complexities.orElse(null))
+            .isCustomHabit(isCustomHabit.orElse(null))
+            .build();
+        Page<HabitTranslation> habitTranslationsPage =
+            habitTranslationRepo.findAll(new HabitTranslationFilter(filter), pageable);
         return buildPageableDtoForDifferentParameters(habitTranslationsPage, userVO);
     }
 
@@ -215,25 +159,27 @@ public class HabitServiceImpl implements HabitService {
      */
     private PageableDto<HabitDto> buildPageableDtoForDifferentParameters(Page<HabitTranslation> habitTranslationsPage,
         UserVO userVO) {
-        List<HabitDto> habits = habitTranslationsPage.stream()
-            .map(habitTranslation -> modelMapper.map(habitTranslation, HabitDto.class))
-            .collect(Collectors.toList());
-        habits.forEach(
-            habitDto -> habitDto.setAmountAcquiredUsers(habitAssignRepo.findAmountOfUsersAcquired(habitDto.getId())));
+        List<Long> habitIds = getHabitIds(habitTranslationsPage);
+        Map<Long, Long> amountAcquiredUsers = habitAssignRepo.findAmountOfUsersAcquiredByHabitIds(habitIds);
+        Map<Long, HabitAssignStatus> habitAssignStatuses =
+            habitAssignRepo.findAssignStatusesByHabitIdsAndUserId(habitIds, userVO.getId());
+        Map<Long, List<CustomShoppingListItem>> customShoppingListItems =
+            customShoppingListItemRepo.findAllGroupedByHabitIds(habitIds);
 
-        for (HabitDto habitDto : habits) {
-            Habit habit = habitRepo.findById(habitDto.getId())
-                .orElseThrow(() -> new NotFoundException(ErrorMessage.HABIT_NOT_FOUND_BY_ID + habitDto.getId()));
-            Optional<HabitAssign> habitAssign =
-                habitAssignRepo.findByHabitIdAndUserId(habitDto.getId(), userVO.getId());
-            habitAssign.ifPresent(assign -> habitDto.setHabitAssignStatus(assign.getStatus()));
+        List<HabitDto> habits = new ArrayList<>();
+        for (HabitTranslation habitTranslation : habitTranslationsPage) {
+            Habit habit = habitTranslation.getHabit();
+            HabitDto habitDto = habitDtoMapper.convert(habitTranslation);
+            habitDto.setAmountAcquiredUsers(amountAcquiredUsers.getOrDefault(habit.getId(), 0L));
+            habitDto.setHabitAssignStatus(habitAssignStatuses.get(habit.getId()));
             boolean isCustomHabit = habit.getIsCustomHabit();
             habitDto.setIsCustomHabit(isCustomHabit);
             if (isCustomHabit) {
                 habitDto.setUsersIdWhoCreatedCustomHabit(habit.getUserId());
             }
-            habitDto.setCustomShoppingListItems(
-                customShoppingListResponseDtoMapper.mapAllToList(habit.getCustomShoppingListItems()));
+            habitDto.setCustomShoppingListItems(customShoppingListResponseDtoMapper
+                .mapAllToList(customShoppingListItems.getOrDefault(habit.getId(), Collections.emptyList())));
+            habits.add(habitDto);
         }
         return new PageableDto<>(habits,
             habitTranslationsPage.getTotalElements(),
@@ -241,6 +187,26 @@ public class HabitServiceImpl implements HabitService {
             habitTranslationsPage.getTotalPages());
     }
 
+    /**
+     * Method sets amount of users that acquired habit for every {@link HabitDto} of
+     * the page using one query for the whole page.
+     *
+     * @param habits list of {@link HabitDto}
+     */
+    private void setAmountAcquiredUsers(List<HabitDto> habits) {
+        List<Long> habitIds = habits.stream().map(HabitDto::getId).collect(Collectors.toList());
+        Map<Long, Long> amountAcquiredUsers = habitAssignRepo.findAmountOfUsersAcquiredByHabitIds(habitIds);
+        habits.forEach(habitDto -> habitDto
+            .setAmountAcquiredUsers(amountAcquiredUsers.getOrDefault(habitDto.getId(), 0L)));
+    }
+
+    private List<Long> getHabitIds(Page<HabitTranslation> habitTranslationsPage) {
+        return habitTranslationsPage.stream()
+            .map(habitTranslation -> habitTranslation.getHabit().getId())
+            .distinct()
+            .collect(Collectors.toList());
+    }
+
     /**
      * {@inheritDoc}
      */
@@ -1,6 +1,5 @@
 package greencity.service;
 
-import greencity.constant.CacheConstants;
 import greencity.constant.ErrorMessage;
 import greencity.converters.DateService;
 import greencity.dto.habit.HabitAssignVO;
@@ -8,33 +7,31 @@ import greencity.dto.habitstatistic.*;
 import greencity.entity.Habit;
 import greencity.entity.HabitAssign;
 import greencity.entity.HabitStatistic;
+import greencity.enums.HabitAssignStatus;
 import greencity.exception.exceptions.BadRequestException;
 import greencity.exception.exceptions.NotFoundException;
 import greencity.exception.exceptions.NotSavedException;
 import greencity.repository.HabitAssignRepo;
+import greencity.repository.HabitItemDailyStatisticRepo;
 import greencity.repository.HabitRepo;
 import greencity.repository.HabitStatisticRepo;
 import lombok.AllArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.modelmapper.ModelMapper;
 import org.modelmapper.TypeToken;
-import org.springframework.cache.annotation.CacheEvict;
-import org.springframework.cache.annotation.Cacheable;
-import org.springframework.cache.annotation.EnableCaching;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 import java.time.LocalDate;
 import java.time.Period;
-import java.time.ZonedDateTime;
 import java.util.List;
 import java.util.stream.Collectors;
 
 @Service
 @Slf4j
-@EnableCaching
 @AllArgsConstructor
 public class HabitStatisticServiceImpl implements HabitStatisticService {
     private final HabitStatisticRepo habitStatisticRepo;
+    private final HabitItemDailyStatisticRepo habitItemDailyStatisticRepo;
     private final HabitAssignRepo habitAssignRepo;
     private final HabitRepo habitRepo;
     private final DateService dateService;
@@ -44,7 +41,6 @@ public class HabitStatisticServiceImpl implements HabitStatisticService {
      * {@inheritDoc}
      */
     @Transactional
-    @CacheEvict(value = CacheConstants.HABIT_ITEM_STATISTIC_CACHE, allEntries = true)
     @Override
     public HabitStatisticDto saveByHabitIdAndUserId(Long habitId, Long userId, AddHabitStatisticDto dto) {
         if (habitStatisticRepo.findStatByDateAndHabitIdAndUserId(dto.getCreateDate(), habitId, userId).isPresent()) {
@@ -58,7 +54,9 @@ public class HabitStatisticServiceImpl implements HabitStatisticService {
                     () -> new NotFoundException(ErrorMessage.HABIT_ASSIGN_NOT_FOUND_WITH_CURRENT_USER_ID_AND_HABIT_ID
                         + userId + ", " + habitId));
             habitStatistic.setHabitAssign(habitAssign);
-            return modelMapper.map(habitStatisticRepo.save(habitStatistic), HabitStatisticDto.class);
+            HabitStatistic saved = habitStatisticRepo.save(habitStatistic);
+            applyItemsDelta(saved, itemsOf(saved), 1);
+            return modelMapper.map(saved, HabitStatisticDto.class);
         }
         throw new BadRequestException(ErrorMessage.WRONG_DATE);
     }
@@ -81,14 +79,15 @@ public class HabitStatisticServiceImpl implements HabitStatisticService {
      * @author Yuriy Olkhovskyi
      */
     @Transactional
-    @CacheEvict(value = CacheConstants.HABIT_ITEM_STATISTIC_CACHE, allEntries = true)
     @Override
     public UpdateHabitStatisticDto update(Long habitStatisticId, Long userId, UpdateHabitStatisticDto dto) {
         HabitStatistic updatable = habitStatisticRepo.findById(habitStatisticId)
             .orElseThrow(() -> new NotFoundException(ErrorMessage.HABIT_STATISTIC_NOT_FOUND_BY_ID + habitStatisticId));
 
         if (updatable.getHabitAssign().getUser().getId().equals(userId)) {
+            long previousItems = itemsOf(updatable);
             enhanceHabitStatWithDto(dto, updatable);
+            applyItemsDelta(updatable, itemsOf(updatable) - previousItems, 0);
             return modelMapper.map(habitStatisticRepo.save(updatable),
                 UpdateHabitStatisticDto.class);
         } else {
@@ -96,6 +95,35 @@ public class HabitStatisticServiceImpl implements HabitStatisticService {
         }
     }
 
+    /**
+     * Adds the change of not taken items to the daily statistic of the habit, so
+     * {@link #getTodayStatisticsForAllHabitItems(String)} reads one row per habit
+     * instead of aggregating all statistics of the day. Statistics of cancelled
+     * habit assigns are not counted.
+     */
+    private void applyItemsDelta(HabitStatistic habitStatistic, long amountOfItems, long statisticsCount) {
+        if (isCounted(habitStatistic.getHabitAssign().getStatus())) {
+            applyDelta(habitStatistic, amountOfItems, statisticsCount);
+        }
+    }
+
+    private void applyDelta(HabitStatistic habitStatistic, long amountOfItems, long statisticsCount) {
+        if (amountOfItems == 0 && statisticsCount == 0) {
+            return;
+        }
+        habitItemDailyStatisticRepo.applyDelta(
+            dateService.convertToDatasourceTimezone(habitStatistic.getCreateDate()).toLocalDate(),
+            habitStatistic.getHabitAssign().getHabit().getId(), amountOfItems, statisticsCount);
+    }
+
+    private static boolean isCounted(HabitAssignStatus status) {
+        return !HabitAssignStatus.CANCELLED.equals(status);
+    }
+
+    private static long itemsOf(HabitStatistic habitStatistic) {
+        return habitStatistic.getAmountOfItems() == null ? 0 : habitStatistic.getAmountOfItems();
+    }
+
     private void enhanceHabitStatWithDto(UpdateHabitStatisticDto dto, HabitStatistic updatable) {
         updatable.setAmountOfItems(dto.getAmountOfItems());
         updatable.setHabitRate(dto.getHabitRate());
@@ -148,10 +176,10 @@ public class HabitStatisticServiceImpl implements HabitStatisticService {
     /**
      * {@inheritDoc}
      */
-    @Cacheable(value = CacheConstants.HABIT_ITEM_STATISTIC_CACHE, key = "#language")
     @Override
     public List<HabitItemsAmountStatisticDto> getTodayStatisticsForAllHabitItems(String language) {
-        return habitStatisticRepo.getStatisticsForAllHabitItemsByDate(ZonedDateTime.now(), language).stream()
+        return habitItemDailyStatisticRepo.getStatisticsForAllHabitItems(
+            dateService.getDatasourceZonedDateTime().toLocalDate(), language).stream()
             .map(it -> HabitItemsAmountStatisticDto.builder()
                 .habitItem((String) it.get(0))
                 .notTakenItems((long) it.get(1))
@@ -178,9 +206,29 @@ public class HabitStatisticServiceImpl implements HabitStatisticService {
     /**
      * {@inheritDoc}
      */
+    @Transactional
     @Override
     public void deleteAllStatsByHabitAssign(HabitAssignVO habitAssignVO) {
         habitStatisticRepo.findAllByHabitAssignId(habitAssignVO.getId())
-            .forEach(habitStatisticRepo::delete);
+            .forEach(habitStatistic -> {
+                applyItemsDelta(habitStatistic, -itemsOf(habitStatistic), -1);
+                habitStatisticRepo.delete(habitStatistic);
+            });
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Transactional
+    @Override
+    public void updateStatsOnStatusChange(Long habitAssignId, HabitAssignStatus previousStatus,
+        HabitAssignStatus status) {
+        boolean wasCounted = isCounted(previousStatus);
+        if (wasCounted == isCounted(status)) {
+            return;
+        }
+        long sign = wasCounted ? -1 : 1;
+        habitStatisticRepo.findAllByHabitAssignId(habitAssignId)
+            .forEach(habitStatistic -> applyDelta(habitStatistic, sign * itemsOf(habitStatistic), sign));
     }
 }
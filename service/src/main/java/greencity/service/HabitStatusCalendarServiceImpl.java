@@ -4,10 +4,12 @@ import greencity.dto.habit.HabitAssignVO;
 import greencity.dto.habitstatuscalendar.HabitStatusCalendarVO;
 import greencity.entity.HabitAssign;
 import greencity.entity.HabitStatusCalendar;
+import greencity.repository.HabitAssignRepo;
 import greencity.repository.HabitStatusCalendarRepo;
 import lombok.AllArgsConstructor;
 import org.modelmapper.ModelMapper;
 import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
 import java.time.LocalDate;
 import java.util.LinkedList;
 import java.util.List;
@@ -16,6 +18,7 @@ import java.util.List;
 @AllArgsConstructor
 public class HabitStatusCalendarServiceImpl implements HabitStatusCalendarService {
     private final HabitStatusCalendarRepo habitStatusCalendarRepo;
+    private final HabitAssignRepo habitAssignRepo;
     private final ModelMapper modelMapper;
 
     /**
@@ -34,18 +37,24 @@ public class HabitStatusCalendarServiceImpl implements HabitStatusCalendarServic
      * {@inheritDoc}
      */
     @Override
+    @Transactional
     public HabitStatusCalendarVO save(HabitStatusCalendarVO habitStatusCalendarVO) {
         HabitStatusCalendar habitStatusCalendar = modelMapper.map(habitStatusCalendarVO, HabitStatusCalendar.class);
-        return modelMapper.map(habitStatusCalendarRepo.save(habitStatusCalendar), HabitStatusCalendarVO.class);
+        HabitStatusCalendarVO saved =
+            modelMapper.map(habitStatusCalendarRepo.save(habitStatusCalendar), HabitStatusCalendarVO.class);
+        clearEnrolledDays(habitStatusCalendarVO.getHabitAssignVO());
+        return saved;
     }
 
     /**
      * {@inheritDoc}
      */
     @Override
+    @Transactional
     public void delete(HabitStatusCalendarVO habitStatusCalendarVO) {
         HabitStatusCalendar habitStatusCalendar = modelMapper.map(habitStatusCalendarVO, HabitStatusCalendar.class);
         habitStatusCalendarRepo.delete(habitStatusCalendar);
+        clearEnrolledDays(habitStatusCalendarVO.getHabitAssignVO());
     }
 
     /**
@@ -87,7 +96,21 @@ public class HabitStatusCalendarServiceImpl implements HabitStatusCalendarServic
      * {@inheritDoc}
      */
     @Override
+    @Transactional
     public void deleteAllByHabitAssign(HabitAssignVO habitAssignVO) {
         habitStatusCalendarRepo.deleteAllByHabitAssign(modelMapper.map(habitAssignVO, HabitAssign.class));
+        clearEnrolledDays(habitAssignVO);
+    }
+
+    /**
+     * Enrolled days stored in the {@link HabitAssign} are kept in sync only by
+     * enroll and unenroll of {@code HabitAssignService}, so after a direct change
+     * of its {@link HabitStatusCalendar}'s they are dropped and built again from
+     * the calendars.
+     */
+    private void clearEnrolledDays(HabitAssignVO habitAssignVO) {
+        if (habitAssignVO != null && habitAssignVO.getId() != null) {
+            habitAssignRepo.clearEnrolledDays(habitAssignVO.getId());
+        }
     }
 }
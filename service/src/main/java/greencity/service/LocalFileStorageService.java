@@ -0,0 +1,114 @@
+package greencity.service;
+
+import greencity.constant.ErrorMessage;
+import greencity.exception.exceptions.BadRequestException;
+import greencity.exception.exceptions.ImageUrlParseException;
+import greencity.exception.exceptions.NotSavedException;
+import org.modelmapper.ModelMapper;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.stereotype.Service;
+import org.springframework.web.multipart.MultipartFile;
+import java.io.IOException;
+import java.io.InputStream;
+import java.net.URI;
+import java.net.URISyntaxException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.util.UUID;
+
+/**
+ * {@link FileService} that keeps files in a local directory. It is enabled with
+ * {@code greencity.file-storage=local} and lets the upload path run and be load
+ * tested without Azure.
+ */
+@Service
+@ConditionalOnProperty(name = "greencity.file-storage", havingValue = "local")
+public class LocalFileStorageService implements FileService {
+    private final Path directory;
+    private final String baseUrl;
+    private final ModelMapper modelMapper;
+
+    /**
+     * Constructor with parameters.
+     *
+     * @param directory   directory to save files to, created when missing.
+     * @param baseUrl     url the file names are appended to, the file URI of the
+     *                    directory when empty.
+     * @param modelMapper mapper used to convert Base64 images.
+     */
+    public LocalFileStorageService(
+        @Value("${greencity.file-storage.local.directory:${java.io.tmpdir}/greencity-files}") String directory,
+        @Value("${greencity.file-storage.local.base-url:}") String baseUrl,
+        ModelMapper modelMapper) {
+        this.directory = Paths.get(directory).toAbsolutePath().normalize();
+        try {
+            Files.createDirectories(this.directory);
+        } catch (IOException e) {
+            throw new IllegalStateException("Cannot create directory for files: " + this.directory, e);
+        }
+        String url = baseUrl.isEmpty() ? this.directory.toUri().toString() : baseUrl;
+        this.baseUrl = url.endsWith("/") ? url : url + "/";
+        this.modelMapper = modelMapper;
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public String upload(MultipartFile multipartFile) {
+        String fileName = UUID.randomUUID() + sanitize(multipartFile.getOriginalFilename());
+        try (InputStream input = multipartFile.getInputStream()) {
+            Files.copy(input, directory.resolve(fileName));
+        } catch (IOException e) {
+            throw new NotSavedException(ErrorMessage.FILE_NOT_SAVED);
+        }
+        return baseUrl + fileName;
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public MultipartFile convertToMultipartImage(String image) {
+        try {
+            return modelMapper.map(image, MultipartFile.class);
+        } catch (Exception e) {
+            throw new BadRequestException(ErrorMessage.MULTIPART_FILE_BAD_REQUEST + image);
+        }
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public void delete(String path) {
+        String fileName;
+        try {
+            fileName = sanitize(new URI(path).getPath());
+        } catch (URISyntaxException e) {
+            throw new ImageUrlParseException(ErrorMessage.PARSING_URL_FAILED + path);
+        }
+        if (fileName.isEmpty()) {
+            throw new ImageUrlParseException(ErrorMessage.PARSING_URL_FAILED + path);
+        }
+        try {
+            Files.deleteIfExists(directory.resolve(fileName));
+        } catch (IOException e) {
+            throw new NotSavedException(ErrorMessage.FILE_NOT_SAVED);
+        }
+    }
+
+    /**
+     * Keeps only the last name element, so a file name can not point outside of the
+     * directory.
+     */
+    private static String sanitize(String fileName) {
+        if (fileName == null || fileName.isBlank()) {
+            return "";
+        }
+        Path name = Paths.get(fileName).getFileName();
+        return name == null || "..".equals(name.toString()) ? "" : name.toString();
+    }
+}
@@ -0,0 +1,36 @@
+package greencity.service;
+
+import greencity.client.RestClientStatistics;
+import greencity.metrics.MethodStatistics;
+import greencity.metrics.RequestStatistics;
+import greencity.notification.HabitNotificationDispatcher;
+import lombok.RequiredArgsConstructor;
+import org.springframework.stereotype.Service;
+import java.util.LinkedHashMap;
+import java.util.Map;
+
+/**
+ * Implementation of {@link MetricsService}.
+ */
+@Service
+@RequiredArgsConstructor
+public class MetricsServiceImpl implements MetricsService {
+    private final RequestStatistics requestStatistics;
+    private final MethodStatistics methodStatistics;
+    private final RestClientStatistics restClientStatistics;
+    private final HabitNotificationDispatcher habitNotificationDispatcher;
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public Map<String, Object> getMetrics() {
+        Map<String, Object> metrics = new LinkedHashMap<>();
+        metrics.put("statements", requestStatistics.getStatements());
+        metrics.put("requests", requestStatistics.getEndpoints());
+        metrics.put("methods", methodStatistics.getMethods());
+        metrics.put("restClient", restClientStatistics.getEndpoints());
+        metrics.put("habitNotifications", habitNotificationDispatcher.getLastRun());
+        return metrics;
+    }
+}
@@ -9,6 +9,7 @@ import greencity.entity.RatingStatistics;
 import greencity.entity.RatingStatistics_;
 import greencity.filters.RatingStatisticsSpecification;
 import greencity.filters.SearchCriteria;
+import greencity.repository.RatingStatisticsExportRepo;
 import greencity.repository.RatingStatisticsRepo;
 import lombok.AllArgsConstructor;
 import org.modelmapper.ModelMapper;
@@ -18,12 +19,14 @@ import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 import java.util.ArrayList;
 import java.util.List;
+import java.util.function.Consumer;
 import java.util.stream.Collectors;
 
 @AllArgsConstructor
 @Service
 public class RatingStatisticsServiceImpl implements RatingStatisticsService {
     private RatingStatisticsRepo ratingStatisticsRepo;
+    private final RatingStatisticsExportRepo ratingStatisticsExportRepo;
     private final ModelMapper modelMapper;
 
     private PageableAdvancedDto<RatingStatisticsDtoForTables> ratingStatisticsDtoMapper(
@@ -62,25 +65,26 @@ public class RatingStatisticsServiceImpl implements RatingStatisticsService {
         return modelMapper.map(saved, RatingStatisticsVO.class);
     }
 
+    @Transactional
     @Override
-    public PageableAdvancedDto<RatingStatisticsDtoForTables> getRatingStatisticsForManagementByPage(Pageable pageable) {
-        Page<RatingStatistics> ratingStatistics = ratingStatisticsRepo.findAll(pageable);
-        return ratingStatisticsDtoMapper(ratingStatistics);
+    public void saveAll(List<RatingStatisticsVO> ratingStatistics) {
+        ratingStatisticsRepo.saveAll(ratingStatistics.stream()
+            .map(ratingStatisticsVO -> modelMapper.map(ratingStatisticsVO, RatingStatistics.class))
+            .collect(Collectors.toList()));
     }
 
     @Override
-    public List<RatingStatisticsDto> getAllRatingStatistics() {
-        return ratingStatisticsRepo.findAll().stream()
-            .map(ratingStat -> modelMapper.map(ratingStat, RatingStatisticsDto.class))
-            .collect(Collectors.toList());
+    public PageableAdvancedDto<RatingStatisticsDtoForTables> getRatingStatisticsForManagementByPage(Pageable pageable) {
+        Page<RatingStatistics> ratingStatistics = ratingStatisticsRepo.findAll(pageable);
+        return ratingStatisticsDtoMapper(ratingStatistics);
     }
 
     @Override
-    public List<RatingStatisticsDto> getFilteredRatingStatisticsForExcel(
-        RatingStatisticsViewDto ratingStatisticsViewDto) {
-        return ratingStatisticsRepo.findAll(getSpecification(ratingStatisticsViewDto)).stream()
-            .map(ratingStat -> modelMapper.map(ratingStat, RatingStatisticsDto.class))
-            .collect(Collectors.toList());
+    @Transactional(readOnly = true)
+    public void exportRatingStatistics(RatingStatisticsViewDto ratingStatisticsViewDto,
+        Consumer<RatingStatisticsDtoForTables> consumer) {
+        ratingStatisticsExportRepo.streamAll(
+            ratingStatisticsViewDto == null ? null : getSpecification(ratingStatisticsViewDto), consumer);
     }
 
     @Override
@@ -10,11 +10,13 @@ import greencity.enums.TagType;
 import greencity.exception.exceptions.*;
 import greencity.filters.SearchCriteria;
 import greencity.filters.TagSpecification;
+import greencity.mapping.NewTagDtoMapper;
+import greencity.mapping.TagDtoMapper;
+import greencity.mapping.TagVOMapper;
 import greencity.repository.TagTranslationRepo;
 import greencity.repository.TagsRepo;
 import lombok.RequiredArgsConstructor;
 import org.modelmapper.ModelMapper;
-import org.modelmapper.TypeToken;
 import org.springframework.dao.EmptyResultDataAccessException;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
@@ -30,6 +32,9 @@ public class TagsServiceImpl implements TagsService {
     private final TagsRepo tagRepo;
     private final TagTranslationRepo tagTranslationRepo;
     private final ModelMapper modelMapper;
+    private final TagVOMapper tagVOMapper;
+    private final TagDtoMapper tagDtoMapper;
+    private final NewTagDtoMapper newTagDtoMapper;
 
     /**
      * {@inheritDoc}
@@ -124,7 +129,7 @@ public class TagsServiceImpl implements TagsService {
 
     private PageableAdvancedDto<TagVO> buildPageableAdvanceDtoFromPage(Page<Tag> pageTags) {
         List<TagVO> tagVOs = pageTags.getContent().stream()
-            .map(t -> modelMapper.map(t, TagVO.class))
+            .map(tagVOMapper::convert)
             .collect(Collectors.toList());
 
         return new PageableAdvancedDto<>(
@@ -173,8 +178,7 @@ public class TagsServiceImpl implements TagsService {
         if (tags.isEmpty()) {
             throw new TagNotFoundException(ErrorMessage.TAGS_NOT_FOUND);
         }
-        return modelMapper.map(tags, new TypeToken<List<TagVO>>() {
-        }.getType());
+        return tagVOMapper.mapAllToList(tags);
     }
 
     /**
@@ -184,16 +188,14 @@ public class TagsServiceImpl implements TagsService {
     public List<TagDto> findByTypeAndLanguageCode(TagType type, String languageCode) {
         List<TagTranslation> tagTranslations = tagRepo.findTagsByTypeAndLanguageCode(type, languageCode);
 
-        return modelMapper.map(tagTranslations, new TypeToken<List<TagDto>>() {
-        }.getType());
+        return tagDtoMapper.mapAllToList(tagTranslations);
     }
 
     @Override
     public List<NewTagDto> findByType(TagType type) {
         List<Tag> tags = tagRepo.findTagsByType(type);
 
-        return modelMapper.map(tags, new TypeToken<List<NewTagDto>>() {
-        }.getType());
+        return newTagDtoMapper.mapAllToList(tags);
     }
 
     /**
@@ -203,8 +205,7 @@ public class TagsServiceImpl implements TagsService {
     public List<TagDto> findAllEcoNewsTags(String languageCode) {
         List<TagTranslation> tagTranslations = tagTranslationRepo.findAllEcoNewsTags(languageCode);
 
-        return modelMapper.map(tagTranslations, new TypeToken<List<TagDto>>() {
-        }.getType());
+        return tagDtoMapper.mapAllToList(tagTranslations);
     }
 
     @Override
@@ -236,7 +237,6 @@ public class TagsServiceImpl implements TagsService {
         if (tags.isEmpty()) {
             throw new TagNotFoundException(ErrorMessage.TAGS_NOT_FOUND);
         }
-        return modelMapper.map(tags, new TypeToken<List<TagVO>>() {
-        }.getType());
+        return tagVOMapper.mapAllToList(tags);
     }
 }
\ No newline at end of file
@@ -1,5 +1,6 @@
 package greencity.service;
 
+import greencity.constant.CacheConstants;
 import greencity.constant.ErrorMessage;
 import greencity.constant.LogMessage;
 import greencity.dto.PageableDto;
@@ -21,6 +22,7 @@ import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.modelmapper.ModelMapper;
 import org.springframework.beans.factory.annotation.Value;
+import org.springframework.cache.annotation.CacheEvict;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
 import org.springframework.stereotype.Service;
@@ -97,6 +99,7 @@ public class UserServiceImpl implements UserService {
      * {@inheritDoc}
      */
     @Override
+    @CacheEvict(value = CacheConstants.AUTHENTICATED_USER_CACHE, allEntries = true)
     public UserStatusDto updateStatus(Long id, UserStatus userStatus, String email) {
         checkUpdatableUser(id, email);
         accessForUpdateUserStatus(id, email);
@@ -119,6 +122,7 @@ public class UserServiceImpl implements UserService {
     @Deprecated
     @Override
     @Transactional
+    @CacheEvict(value = CacheConstants.AUTHENTICATED_USER_CACHE, allEntries = true)
     public UserRoleDto updateRole(Long id, Role role, String email) {
         checkUpdatableUser(id, email);
         User user = userRepo.findById(id)
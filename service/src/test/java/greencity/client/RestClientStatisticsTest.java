@@ -0,0 +1,39 @@
+package greencity.client;
+
+import greencity.constant.RestTemplateLinks;
+import org.junit.jupiter.api.Test;
+
+import java.net.URI;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+class RestClientStatisticsTest {
+    private static final String ADDRESS = "http://localhost:8060";
+
+    @Test
+    void endpointOfTest() {
+        assertEquals("USER_FIND_BY_ID",
+            RestClientStatistics.endpointOf(URI.create(ADDRESS + RestTemplateLinks.USER_FIND_BY_ID + "?id=1")));
+        assertEquals("USER_FIND_BY_EMAIL",
+            RestClientStatistics.endpointOf(URI.create(ADDRESS + RestTemplateLinks.USER_FIND_BY_EMAIL + "?email=a")));
+        assertEquals("USER", RestClientStatistics.endpointOf(URI.create(ADDRESS + RestTemplateLinks.USER)));
+        assertEquals("DELETE_DEACTIVATED_USERS",
+            RestClientStatistics.endpointOf(URI.create(ADDRESS + "/user/deleteDeactivatedUsers")));
+        assertEquals(RestClientStatistics.OTHER_ENDPOINT,
+            RestClientStatistics.endpointOf(URI.create("https://maps.googleapis.com/maps/api/geocode/json")));
+    }
+
+    @Test
+    void recordTest() {
+        RestClientStatistics statistics = new RestClientStatistics();
+
+        statistics.record("USER_LANG", 2_000_000, false);
+        statistics.record("USER_LANG", 4_000_000, true);
+
+        RestClientStatistics.Endpoint endpoint = statistics.getEndpoints().get("USER_LANG");
+        assertEquals(2, endpoint.getCalls());
+        assertEquals(1, endpoint.getErrors());
+        assertEquals(3, endpoint.getAverageMillis());
+        assertEquals(4, endpoint.getMaxMillis());
+    }
+}
@@ -0,0 +1,121 @@
+package greencity.config;
+
+import com.sun.net.httpserver.HttpServer;
+import greencity.client.RestClientStatistics;
+import greencity.constant.RestTemplateLinks;
+import org.apache.hc.client5.http.impl.classic.CloseableHttpClient;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.http.HttpMethod;
+import org.springframework.test.util.ReflectionTestUtils;
+import org.springframework.web.client.HttpServerErrorException;
+import org.springframework.web.client.ResourceAccessException;
+import org.springframework.web.client.RestTemplate;
+
+import java.io.IOException;
+import java.io.OutputStream;
+import java.net.InetSocketAddress;
+import java.nio.charset.StandardCharsets;
+import java.time.Duration;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+class RestTemplateConfigTest {
+    private final AtomicInteger findByIdCalls = new AtomicInteger();
+    private final AtomicInteger saveCalls = new AtomicInteger();
+    private HttpServer server;
+    private CloseableHttpClient httpClient;
+    private RestClientStatistics statistics;
+    private RestTemplate restTemplate;
+    private String address;
+
+    @BeforeEach
+    void setUp() throws IOException {
+        server = HttpServer.create(new InetSocketAddress("localhost", 0), 0);
+        server.createContext(RestTemplateLinks.USER_FIND_BY_ID, exchange -> {
+            int status = findByIdCalls.incrementAndGet() == 1 ? 503 : 200;
+            respond(exchange, status, "1");
+        });
+        server.createContext(RestTemplateLinks.USER, exchange -> {
+            saveCalls.incrementAndGet();
+            respond(exchange, 503, "");
+        });
+        server.createContext(RestTemplateLinks.USER_LANG, exchange -> {
+            try {
+                Thread.sleep(1000);
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+            }
+            respond(exchange, 200, "en");
+        });
+        server.start();
+        address = "http://localhost:" + server.getAddress().getPort();
+
+        RestTemplateConfig config = new RestTemplateConfig();
+        ReflectionTestUtils.setField(config, "maxTotal", 10);
+        ReflectionTestUtils.setField(config, "maxPerRoute", 10);
+        ReflectionTestUtils.setField(config, "keepAlive", Duration.ofSeconds(30));
+        ReflectionTestUtils.setField(config, "connectTimeout", Duration.ofSeconds(1));
+        ReflectionTestUtils.setField(config, "readTimeout", Duration.ofMillis(300));
+        ReflectionTestUtils.setField(config, "poolTimeout", Duration.ofSeconds(1));
+        ReflectionTestUtils.setField(config, "retryEndpoints", new String[] {"USER_FIND_BY_ID"});
+        ReflectionTestUtils.setField(config, "retryMaxAttempts", 3);
+        ReflectionTestUtils.setField(config, "retryBackoff", Duration.ofMillis(10));
+        ReflectionTestUtils.setField(config, "bulkheadMaxConcurrent", 5);
+        ReflectionTestUtils.setField(config, "bulkheadMaxWait", Duration.ofMillis(100));
+        statistics = new RestClientStatistics();
+        httpClient = config.restTemplateHttpClient();
+        restTemplate = config.restTemplate(httpClient, statistics);
+    }
+
+    @AfterEach
+    void tearDown() throws IOException {
+        httpClient.close();
+        server.stop(0);
+    }
+
+    @Test
+    void idempotentGetIsRetriedAfterServerErrorTest() {
+        Long actual = restTemplate.getForObject(address + RestTemplateLinks.USER_FIND_BY_ID + "?id=1", Long.class);
+
+        assertEquals(1L, actual);
+        assertEquals(2, findByIdCalls.get());
+        RestClientStatistics.Endpoint endpoint = statistics.getEndpoints().get("USER_FIND_BY_ID");
+        assertEquals(1, endpoint.getCalls());
+        assertEquals(1, endpoint.getRetries());
+        assertEquals(0, endpoint.getErrors());
+    }
+
+    @Test
+    void postIsNotRetriedTest() {
+        String url = address + RestTemplateLinks.USER;
+
+        assertThrows(HttpServerErrorException.class,
+            () -> restTemplate.exchange(url, HttpMethod.POST, null, Object.class));
+
+        assertEquals(1, saveCalls.get());
+        assertEquals(1, statistics.getEndpoints().get("USER").getErrors());
+    }
+
+    @Test
+    void slowResponseFailsWithReadTimeoutTest() {
+        String url = address + RestTemplateLinks.USER_LANG + "?id=1";
+
+        assertThrows(ResourceAccessException.class, () -> restTemplate.getForObject(url, String.class));
+
+        assertEquals(1, statistics.getEndpoints().get("USER_LANG").getErrors());
+    }
+
+    private static void respond(com.sun.net.httpserver.HttpExchange exchange, int status, String body)
+        throws IOException {
+        byte[] bytes = body.getBytes(StandardCharsets.UTF_8);
+        exchange.getResponseHeaders().add("Content-Type", "application/json");
+        exchange.sendResponseHeaders(status, bytes.length == 0 ? -1 : bytes.length);
+        try (OutputStream output = exchange.getResponseBody()) {
+            output.write(bytes);
+        }
+    }
+}
@@ -0,0 +1,44 @@
+package greencity.config;
+
+import greencity.repository.HabitAssignRepo;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import java.time.ZonedDateTime;
+
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyInt;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+@ExtendWith(MockitoExtension.class)
+class ScheduleConfigTest {
+    @Mock
+    private HabitAssignRepo habitAssignRepo;
+
+    @InjectMocks
+    private ScheduleConfig scheduleConfig;
+
+    @Test
+    void setExpiredStatusUpdatesInBatchesUntilLastIsNotFullTest() {
+        when(habitAssignRepo.expireInProgressHabitAssigns(any(ZonedDateTime.class), anyInt()))
+            .thenReturn(1000, 1000, 15);
+
+        scheduleConfig.setExpiredStatus();
+
+        verify(habitAssignRepo, times(3)).expireInProgressHabitAssigns(any(ZonedDateTime.class), anyInt());
+    }
+
+    @Test
+    void setExpiredStatusStopsWhenNothingIsExpiredTest() {
+        when(habitAssignRepo.expireInProgressHabitAssigns(any(ZonedDateTime.class), anyInt())).thenReturn(0);
+
+        scheduleConfig.setExpiredStatus();
+
+        verify(habitAssignRepo, times(1)).expireInProgressHabitAssigns(any(ZonedDateTime.class), anyInt());
+    }
+}
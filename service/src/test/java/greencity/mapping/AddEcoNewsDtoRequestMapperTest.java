@@ -35,6 +35,7 @@ class AddEcoNewsDtoRequestMapperTest {
         actual.setUsersLikedNews(Collections.emptySet());
         actual.setUsersDislikedNews(Collections.emptySet());
         actual.setEcoNewsComments(List.of(EcoNewsComment.builder().id(1L).text("test").build()));
+        actual.setCommentsCount(1);
 
         assertEquals(ecoNews, actual);
     }
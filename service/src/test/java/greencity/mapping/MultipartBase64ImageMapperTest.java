@@ -0,0 +1,98 @@
+package greencity.mapping;
+
+import greencity.exception.exceptions.NotSavedException;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.web.multipart.MultipartFile;
+
+import javax.imageio.ImageIO;
+import java.awt.image.BufferedImage;
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.time.Duration;
+import java.util.Base64;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.stream.IntStream;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+class MultipartBase64ImageMapperTest {
+    private MultipartBase64ImageMapper mapper;
+
+    @AfterEach
+    void tearDown() {
+        mapper.destroy();
+    }
+
+    @Test
+    void convertKeepsSizeTest() throws IOException {
+        mapper = new MultipartBase64ImageMapper(0, 2, 16, Duration.ofSeconds(10));
+
+        MultipartFile actual = mapper.convert("data:image/png;base64," + encodedImage(300, 200));
+
+        BufferedImage image = ImageIO.read(actual.getInputStream());
+        assertEquals(300, image.getWidth());
+        assertEquals(200, image.getHeight());
+        assertEquals("image/png", actual.getContentType());
+        assertEquals(MultipartBase64ImageMapper.FILE_NAME, actual.getOriginalFilename());
+    }
+
+    @Test
+    void convertScalesDownToMaxDimensionTest() throws IOException {
+        mapper = new MultipartBase64ImageMapper(100, 2, 16, Duration.ofSeconds(10));
+
+        MultipartFile actual = mapper.convert("data:image/png;base64," + encodedImage(400, 200));
+
+        BufferedImage image = ImageIO.read(actual.getInputStream());
+        assertEquals(100, image.getWidth());
+        assertEquals(50, image.getHeight());
+    }
+
+    @Test
+    void convertReadsImageWithLineBreaksTest() throws IOException {
+        mapper = new MultipartBase64ImageMapper(0, 2, 16, Duration.ofSeconds(10));
+        String encoded = Base64.getMimeEncoder()
+            .encodeToString(Base64.getDecoder().decode(encodedImage(300, 200)));
+
+        MultipartFile actual = mapper.convert("data:image/png;base64," + encoded);
+
+        BufferedImage image = ImageIO.read(actual.getInputStream());
+        assertEquals(300, image.getWidth());
+        assertEquals(200, image.getHeight());
+    }
+
+    @Test
+    void convertConcurrentImagesTest() throws IOException {
+        mapper = new MultipartBase64ImageMapper(0, 2, 16, Duration.ofSeconds(10));
+        List<CompletableFuture<MultipartFile>> futures = IntStream.rangeClosed(1, 8)
+            .mapToObj(size -> encodedImage(size * 10, size))
+            .map(encoded -> CompletableFuture.supplyAsync(() -> mapper.convert(encoded)))
+            .toList();
+
+        for (int i = 0; i < futures.size(); i++) {
+            BufferedImage image = ImageIO.read(new ByteArrayInputStream(futures.get(i).join().getBytes()));
+            assertEquals((i + 1) * 10, image.getWidth());
+        }
+    }
+
+    @Test
+    void convertThrowsNotSavedExceptionForInvalidImageTest() {
+        mapper = new MultipartBase64ImageMapper(0, 2, 16, Duration.ofSeconds(10));
+        String notImage = Base64.getEncoder().encodeToString("not an image".getBytes());
+
+        assertThrows(NotSavedException.class, () -> mapper.convert(notImage));
+    }
+
+    private static String encodedImage(int width, int height) {
+        try {
+            ByteArrayOutputStream output = new ByteArrayOutputStream();
+            ImageIO.write(new BufferedImage(width, height, BufferedImage.TYPE_INT_RGB), "png", output);
+            return Base64.getEncoder().encodeToString(output.toByteArray());
+        } catch (IOException e) {
+            throw new IllegalStateException(e);
+        }
+    }
+}
@@ -0,0 +1,49 @@
+package greencity.mapping;
+
+import greencity.dto.PageableAdvancedDto;
+import org.junit.jupiter.api.Test;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.PageImpl;
+import org.springframework.data.domain.PageRequest;
+import java.util.Collections;
+import java.util.List;
+import java.util.concurrent.atomic.AtomicInteger;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+class PageAssemblerTest {
+    private final PageAssembler pageAssembler = new PageAssembler();
+
+    @Test
+    void assembleMapsItemsAndCopiesPageData() {
+        Page<Integer> page = new PageImpl<>(List.of(1, 2), PageRequest.of(1, 2), 5);
+
+        PageableAdvancedDto<String> actual = pageAssembler.assemble(page, String::valueOf);
+
+        assertEquals(new PageableAdvancedDto<>(List.of("1", "2"), 5, 1, 3, 1, true, true, false, false), actual);
+    }
+
+    @Test
+    void assembleComputesAggregateOncePerPage() {
+        Page<Integer> page = new PageImpl<>(List.of(1, 2, 3), PageRequest.of(0, 3), 3);
+        AtomicInteger calls = new AtomicInteger();
+
+        PageableAdvancedDto<Integer> actual = pageAssembler.assemble(page,
+            p -> calls.incrementAndGet() * 10, Integer::sum);
+
+        assertEquals(List.of(11, 12, 13), actual.getPage());
+        assertEquals(1, calls.get());
+    }
+
+    @Test
+    void assembleSkipsAggregateForEmptyPage() {
+        Page<Integer> page = new PageImpl<>(Collections.emptyList(), PageRequest.of(0, 3), 0);
+        AtomicInteger calls = new AtomicInteger();
+
+        PageableAdvancedDto<Integer> actual = pageAssembler.assemble(page,
+            p -> calls.incrementAndGet(), Integer::sum);
+
+        assertTrue(actual.getPage().isEmpty());
+        assertEquals(0, calls.get());
+    }
+}
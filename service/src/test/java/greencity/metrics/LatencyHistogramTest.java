@@ -0,0 +1,35 @@
+package greencity.metrics;
+
+import org.junit.jupiter.api.Test;
+import java.util.concurrent.TimeUnit;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+class LatencyHistogramTest {
+    @Test
+    void percentilesAreUpperBoundsOfBucketsTest() {
+        LatencyHistogram histogram = new LatencyHistogram();
+        for (int i = 0; i < 94; i++) {
+            histogram.record(TimeUnit.MILLISECONDS.toNanos(3));
+        }
+        for (int i = 0; i < 5; i++) {
+            histogram.record(TimeUnit.MILLISECONDS.toNanos(300));
+        }
+        histogram.record(TimeUnit.SECONDS.toNanos(20));
+
+        assertEquals(100, histogram.getCount());
+        assertEquals(5, histogram.getP50Millis());
+        assertEquals(500, histogram.getP95Millis());
+        assertEquals(500, histogram.getP99Millis());
+        assertEquals(20000, histogram.getMaxMillis());
+        assertEquals(1, histogram.getBuckets().get(">=10000ms"));
+        assertEquals(94, histogram.getBuckets().get("<5ms"));
+    }
+
+    @Test
+    void emptyHistogramReportsZeroTest() {
+        LatencyHistogram histogram = new LatencyHistogram();
+
+        assertEquals(0, histogram.getAverageMillis());
+        assertEquals(0, histogram.getP99Millis());
+    }
+}
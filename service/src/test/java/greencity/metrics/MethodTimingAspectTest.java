@@ -0,0 +1,76 @@
+package greencity.metrics;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.aop.aspectj.annotation.AspectJProxyFactory;
+import org.springframework.data.repository.Repository;
+import java.util.List;
+import java.util.Map;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+class MethodTimingAspectTest {
+    private final MethodStatistics methodStatistics = new MethodStatistics();
+
+    @AfterEach
+    void tearDown() {
+        RequestMetrics.end();
+    }
+
+    @Test
+    void repositoryCallsAreTimedAndCountedForRequestTest() {
+        SampleRepo sampleRepo = proxy(new SampleRepoImpl());
+        RequestMetrics requestMetrics = RequestMetrics.begin();
+
+        sampleRepo.findName(1L);
+        sampleRepo.findName(2L);
+
+        assertEquals(2, methodStatistics.getMethods().get("SampleRepo.findName").getCount());
+        assertEquals(List.of(Map.entry("SampleRepo.findName", 2)), requestMetrics.getRepositoryCalls());
+    }
+
+    @Test
+    void callsOutsideOfRequestAreOnlyTimedTest() {
+        SampleRepo sampleRepo = proxy(new SampleRepoImpl());
+
+        assertEquals("name1", sampleRepo.findName(1L));
+
+        assertEquals(1, methodStatistics.getMethods().get("SampleRepo.findName").getCount());
+        assertTrue(methodStatistics.getMethods().get("SampleRepo.findName").getMaxMillis() >= 0);
+    }
+
+    @Test
+    void statementsAreCountedByTextTest() {
+        RequestStatistics requestStatistics = new RequestStatistics();
+        StatementCounter statementCounter = new StatementCounter(requestStatistics);
+        RequestMetrics requestMetrics = RequestMetrics.begin();
+
+        statementCounter.inspect("select * from users where id=?");
+        statementCounter.inspect("select * from habits where id=?");
+        statementCounter.inspect("select * from users where id=?");
+        RequestMetrics.end();
+        statementCounter.inspect("select * from users where id=?");
+
+        assertEquals(3, requestMetrics.getStatementCount());
+        assertEquals(Map.entry("select * from users where id=?", 2), requestMetrics.getStatements().get(0));
+        assertEquals(4, requestStatistics.getStatements());
+    }
+
+    private SampleRepo proxy(SampleRepo target) {
+        AspectJProxyFactory proxyFactory = new AspectJProxyFactory(target);
+        proxyFactory.addInterface(SampleRepo.class);
+        proxyFactory.addAspect(new MethodTimingAspect(methodStatistics));
+        return proxyFactory.getProxy();
+    }
+
+    interface SampleRepo extends Repository<Object, Long> {
+        String findName(Long id);
+    }
+
+    static class SampleRepoImpl implements SampleRepo {
+        @Override
+        public String findName(Long id) {
+            return "name" + id;
+        }
+    }
+}
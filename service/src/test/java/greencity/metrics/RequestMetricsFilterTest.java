@@ -0,0 +1,46 @@
+package greencity.metrics;
+
+import org.junit.jupiter.api.Test;
+import org.springframework.mock.web.MockHttpServletRequest;
+import org.springframework.mock.web.MockHttpServletResponse;
+import org.springframework.web.servlet.HandlerMapping;
+import java.time.Duration;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNull;
+
+class RequestMetricsFilterTest {
+    private final RequestStatistics requestStatistics = new RequestStatistics();
+    private final StatementCounter statementCounter = new StatementCounter(requestStatistics);
+
+    @Test
+    void requestIsRecordedByPathPatternWithItsStatementsTest() throws Exception {
+        RequestMetricsFilter filter = new RequestMetricsFilter(requestStatistics, Duration.ofSeconds(1), 1);
+        MockHttpServletRequest request = new MockHttpServletRequest("GET", "/econews/1");
+
+        filter.doFilter(request, new MockHttpServletResponse(), (servletRequest, servletResponse) -> {
+            servletRequest.setAttribute(HandlerMapping.BEST_MATCHING_PATTERN_ATTRIBUTE, "/econews/{id}");
+            statementCounter.inspect("select * from eco_news where id=?");
+            statementCounter.inspect("select * from users where id=?");
+            RequestMetrics.current().recordRestCall("USER_FIND_BY_ID");
+        });
+
+        RequestStatistics.Endpoint endpoint = requestStatistics.getEndpoints().get("GET /econews/{id}");
+        assertEquals(1, endpoint.getLatency().getCount());
+        assertEquals(2, endpoint.getStatements());
+        assertEquals(2, endpoint.getMaxStatements());
+        assertEquals(1, endpoint.getRestCalls());
+        assertNull(RequestMetrics.current());
+    }
+
+    @Test
+    void requestWithoutHandlerIsRecordedAsUnmappedTest() throws Exception {
+        RequestMetricsFilter filter = new RequestMetricsFilter(requestStatistics, Duration.ofSeconds(1), 50);
+
+        filter.doFilter(new MockHttpServletRequest("POST", "/unknown"), new MockHttpServletResponse(),
+            (servletRequest, servletResponse) -> {
+            });
+
+        assertEquals(1,
+            requestStatistics.getEndpoints().get("POST " + RequestMetricsFilter.UNMAPPED).getLatency().getCount());
+    }
+}
@@ -0,0 +1,111 @@
+package greencity.notification;
+
+import greencity.dto.econewscomment.AmountCommentLikesDto;
+import greencity.dto.econewscomment.CommentLikesCountDto;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.messaging.simp.SimpMessagingTemplate;
+import java.time.Duration;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.timeout;
+import static org.mockito.Mockito.verify;
+
+@ExtendWith(MockitoExtension.class)
+class CommentLikesBroadcasterTest {
+    private static final String DESTINATION = "/topic/{id}.comment.v2";
+    private static final String LEGACY_DESTINATION = "/topic/{id}/comment";
+
+    @Mock
+    private SimpMessagingTemplate messagingTemplate;
+
+    private CommentLikesBroadcaster broadcaster;
+
+    @AfterEach
+    void tearDown() {
+        if (broadcaster.isRunning()) {
+            broadcaster.stop();
+        }
+    }
+
+    @Test
+    void updatesOfOneCommentAreSentOncePerWindowTest() {
+        broadcaster = new CommentLikesBroadcaster(messagingTemplate, Duration.ofMillis(100), DESTINATION,
+            LEGACY_DESTINATION);
+        broadcaster.start();
+        CommentLikesCountDto latest = likes(1L, 3);
+
+        broadcaster.broadcast(likes(1L, 1));
+        broadcaster.broadcast(likes(1L, 2));
+        broadcaster.broadcast(latest);
+        broadcaster.broadcast(likes(2L, 5));
+
+        verify(messagingTemplate, timeout(5000)).convertAndSend("/topic/1.comment.v2", latest);
+        verify(messagingTemplate, timeout(5000)).convertAndSend("/topic/2.comment.v2", likes(2L, 5));
+        verify(messagingTemplate, never()).convertAndSend("/topic/1.comment.v2", likes(1L, 1));
+        verify(messagingTemplate, never()).convertAndSend("/topic/1.comment.v2", likes(1L, 2));
+        assertEquals(4, broadcaster.getReceivedUpdates());
+        assertEquals(2, broadcaster.getSentUpdates());
+    }
+
+    @Test
+    void stopSendsPendingUpdatesTest() {
+        broadcaster =
+            new CommentLikesBroadcaster(messagingTemplate, Duration.ofMinutes(1), DESTINATION, LEGACY_DESTINATION);
+        broadcaster.start();
+
+        broadcaster.broadcast(likes(1L, 2));
+        verify(messagingTemplate, never()).convertAndSend(anyString(), any(Object.class));
+        broadcaster.stop();
+
+        verify(messagingTemplate).convertAndSend("/topic/1.comment.v2", likes(1L, 2));
+        assertEquals(0, broadcaster.getPendingComments());
+    }
+
+    @Test
+    void updateIsSentAtOnceWhenWindowIsZeroTest() {
+        broadcaster = new CommentLikesBroadcaster(messagingTemplate, Duration.ZERO, "/topic/{id}.comment", "");
+        broadcaster.start();
+
+        broadcaster.broadcast(likes(7L, 1));
+
+        verify(messagingTemplate).convertAndSend("/topic/7.comment", likes(7L, 1));
+    }
+
+    @Test
+    void legacyUpdatesAreSentAtOnceWithLikedStateTest() {
+        broadcaster = new CommentLikesBroadcaster(messagingTemplate, Duration.ofMinutes(1), DESTINATION,
+            LEGACY_DESTINATION);
+        broadcaster.start();
+        AmountCommentLikesDto first = AmountCommentLikesDto.builder().id(1L).amountLikes(1).userId(2L).isLiked(true)
+            .build();
+        AmountCommentLikesDto second = AmountCommentLikesDto.builder().id(1L).amountLikes(2).userId(3L).isLiked(true)
+            .build();
+
+        broadcaster.broadcastLegacy(first);
+        broadcaster.broadcastLegacy(second);
+
+        verify(messagingTemplate).convertAndSend("/topic/1/comment", first);
+        verify(messagingTemplate).convertAndSend("/topic/1/comment", second);
+        assertEquals(0, broadcaster.getPendingComments());
+    }
+
+    @Test
+    void legacyUpdatesAreNotSentWithoutLegacyDestinationTest() {
+        broadcaster = new CommentLikesBroadcaster(messagingTemplate, Duration.ZERO, DESTINATION, "");
+        broadcaster.start();
+
+        broadcaster.broadcastLegacy(AmountCommentLikesDto.builder().id(1L).amountLikes(1).build());
+
+        verify(messagingTemplate, never()).convertAndSend(anyString(), any(Object.class));
+    }
+
+    private static CommentLikesCountDto likes(Long id, int amount) {
+        return new CommentLikesCountDto(id, amount);
+    }
+}
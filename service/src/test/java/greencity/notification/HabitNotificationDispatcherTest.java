@@ -0,0 +1,96 @@
+package greencity.notification;
+
+import greencity.ModelUtils;
+import greencity.client.RestClient;
+import greencity.dto.user.UserVO;
+import greencity.message.SendHabitNotification;
+import greencity.repository.HabitAssignRepo;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import java.time.ZonedDateTime;
+import java.util.List;
+import java.util.Set;
+import java.util.stream.Collectors;
+import java.util.stream.LongStream;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyCollection;
+import static org.mockito.ArgumentMatchers.argThat;
+import static org.mockito.Mockito.doThrow;
+import static org.mockito.Mockito.lenient;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+@ExtendWith(MockitoExtension.class)
+class HabitNotificationDispatcherTest {
+    private static final int PAGE_SIZE = 2;
+
+    @Mock
+    private HabitAssignRepo habitAssignRepo;
+
+    @Mock
+    private RestClient restClient;
+
+    private HabitNotificationDispatcher dispatcher;
+
+    @BeforeEach
+    void setUp() {
+        dispatcher = new HabitNotificationDispatcher(habitAssignRepo, restClient, PAGE_SIZE, 2);
+    }
+
+    @AfterEach
+    void tearDown() {
+        dispatcher.destroy();
+    }
+
+    @Test
+    void dispatchChecksUsersByPagesAndNotifiesUsersWithoutHabitsTest() {
+        List<UserVO> users = LongStream.rangeClosed(1, 5).mapToObj(this::getUser).collect(Collectors.toList());
+        ZonedDateTime end = ZonedDateTime.now();
+        ZonedDateTime start = end.minusDays(3);
+        when(habitAssignRepo.findUserIdsWithMarkedHabitAssignsInPeriod(anyCollection(), any(), any()))
+            .thenReturn(Set.of(1L), Set.of(3L, 4L), Set.of());
+
+        HabitNotificationRun run = dispatcher.dispatch(users, start, end);
+
+        verify(habitAssignRepo, times(3)).findUserIdsWithMarkedHabitAssignsInPeriod(anyCollection(), any(), any());
+        verify(habitAssignRepo).findUserIdsWithMarkedHabitAssignsInPeriod(List.of(1L, 2L), start, end);
+        verify(habitAssignRepo).findUserIdsWithMarkedHabitAssignsInPeriod(List.of(5L), start, end);
+        verify(restClient, times(2)).sendHabitNotification(any(SendHabitNotification.class));
+        verify(restClient).sendHabitNotification(argThat(message -> "user2@mail.com".equals(message.getEmail())));
+        verify(restClient).sendHabitNotification(argThat(message -> "user5@mail.com".equals(message.getEmail())));
+        assertEquals(5, run.getCheckedUsers());
+        assertEquals(2, run.getSentNotifications());
+        assertEquals(0, run.getFailedNotifications());
+        assertSame(run, dispatcher.getLastRun());
+    }
+
+    @Test
+    void dispatchCountsFailedNotificationsTest() {
+        List<UserVO> users = List.of(getUser(1L), getUser(2L));
+        when(habitAssignRepo.findUserIdsWithMarkedHabitAssignsInPeriod(anyCollection(), any(), any()))
+            .thenReturn(Set.of());
+        lenient().doThrow(new IllegalStateException("unavailable")).when(restClient)
+            .sendHabitNotification(argThat(message -> "user1@mail.com".equals(message.getEmail())));
+
+        HabitNotificationRun run = dispatcher.dispatch(users, ZonedDateTime.now().minusDays(3), ZonedDateTime.now());
+
+        assertEquals(1, run.getSentNotifications());
+        assertEquals(1, run.getFailedNotifications());
+    }
+
+    private UserVO getUser(long id) {
+        UserVO user = ModelUtils.getUserVO();
+        user.setId(id);
+        user.setEmail("user" + id + "@mail.com");
+        return user;
+    }
+}
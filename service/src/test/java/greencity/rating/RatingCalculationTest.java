@@ -10,13 +10,19 @@ import greencity.entity.User;
 import greencity.service.RatingStatisticsService;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentCaptor;
 import org.mockito.InjectMocks;
 import org.mockito.Mock;
 import org.mockito.junit.jupiter.MockitoExtension;
 import org.modelmapper.ModelMapper;
 
 import java.time.ZonedDateTime;
+import java.util.List;
+import java.util.concurrent.atomic.AtomicReference;
 
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.eq;
 import static org.mockito.Mockito.*;
 
 @ExtendWith(MockitoExtension.class)
@@ -57,12 +63,81 @@ class RatingCalculationTest {
             .pointsChanged(rating.getRatingPoints())
             .build();
         String accessToken = "token";
-        when(modelMapper.map(userVO, User.class)).thenReturn(user);
-        doNothing().when(restClient).save(userVO, accessToken);
+        UserVO currentUserVO = ModelUtils.getUserVO();
+        currentUserVO.setRating(1D);
+        when(restClient.findById(userVO.getId(), accessToken)).thenReturn(currentUserVO);
+        when(modelMapper.map(any(UserVO.class), eq(User.class))).thenReturn(user);
         when(modelMapper.map(ratingStatistics, RatingStatisticsVO.class)).thenReturn(ratingStatisticsVO);
-        when(ratingStatisticsService.save(ratingStatisticsVO)).thenReturn(ratingStatisticsVO);
         ratingCalculation.ratingCalculation(RatingCalculationEnum.ADD_COMMENT, userVO, accessToken);
-        verify(ratingStatisticsService).save(ratingStatisticsVO);
+        verify(ratingStatisticsService).saveAll(List.of(ratingStatisticsVO));
+        ArgumentCaptor<UserVO> saved = ArgumentCaptor.forClass(UserVO.class);
+        verify(restClient).save(saved.capture(), eq(accessToken));
+        assertEquals(1D + rating.getRatingPoints(), saved.getValue().getRating());
+        assertEquals(1D, userVO.getRating());
 
     }
-}
\ No newline at end of file
+
+    @Test
+    void ratingCalculationCoalescesEventsOfOneUser() {
+        User user = ModelUtils.getUser();
+        UserVO staleUserVO = ModelUtils.getUserVO();
+        staleUserVO.setRating(10D);
+        UserVO userVO = ModelUtils.getUserVO();
+        userVO.setRating(10D);
+        UserVO otherUserVO = ModelUtils.getUserVO();
+        otherUserVO.setId(2L);
+        otherUserVO.setRating(0D);
+        String accessToken = "token";
+        when(restClient.findById(1L, accessToken)).thenReturn(UserVO.builder().id(1L).rating(25D).build());
+        when(restClient.findById(2L, accessToken)).thenReturn(UserVO.builder().id(2L).rating(0D).build());
+        when(modelMapper.map(any(UserVO.class), eq(User.class))).thenReturn(user);
+        when(modelMapper.map(any(RatingStatistics.class), eq(RatingStatisticsVO.class)))
+            .thenAnswer(invocation -> RatingStatisticsVO.builder()
+                .rating(invocation.<RatingStatistics>getArgument(0).getRating())
+                .build());
+
+        ratingCalculation.ratingCalculation(List.of(
+            RatingEvent.of(RatingCalculationEnum.ADD_COMMENT, staleUserVO, accessToken),
+            RatingEvent.of(RatingCalculationEnum.ADD_COMMENT, otherUserVO, accessToken),
+            RatingEvent.of(RatingCalculationEnum.ADD_ECO_NEWS, userVO, accessToken)));
+
+        double expected = 25D + RatingCalculationEnum.ADD_COMMENT.getRatingPoints()
+            + RatingCalculationEnum.ADD_ECO_NEWS.getRatingPoints();
+        ArgumentCaptor<UserVO> saved = ArgumentCaptor.forClass(UserVO.class);
+        verify(restClient, times(2)).save(saved.capture(), eq(accessToken));
+        assertEquals(expected, saved.getAllValues().get(0).getRating());
+        assertEquals(10D, userVO.getRating());
+        assertEquals(10D, staleUserVO.getRating());
+        ArgumentCaptor<List<RatingStatisticsVO>> captor = ArgumentCaptor.forClass(List.class);
+        verify(ratingStatisticsService).saveAll(captor.capture());
+        assertEquals(3, captor.getValue().size());
+        assertEquals(expected, captor.getValue().get(1).getRating());
+    }
+
+    @Test
+    void ratingCalculationKeepsPointsOfUserSplitAcrossBatches() {
+        String accessToken = "token";
+        UserVO snapshot = ModelUtils.getUserVO();
+        snapshot.setRating(0D);
+        AtomicReference<Double> storedRating = new AtomicReference<>(0D);
+        when(restClient.findById(snapshot.getId(), accessToken))
+            .thenAnswer(invocation -> UserVO.builder().id(snapshot.getId()).rating(storedRating.get()).build());
+        doAnswer(invocation -> {
+            storedRating.set(invocation.<UserVO>getArgument(0).getRating());
+            return null;
+        }).when(restClient).save(any(UserVO.class), eq(accessToken));
+        when(modelMapper.map(any(UserVO.class), eq(User.class))).thenReturn(ModelUtils.getUser());
+        when(modelMapper.map(any(RatingStatistics.class), eq(RatingStatisticsVO.class)))
+            .thenReturn(new RatingStatisticsVO());
+
+        ratingCalculation.ratingCalculation(List.of(
+            RatingEvent.of(RatingCalculationEnum.ADD_COMMENT, snapshot, accessToken)));
+        ratingCalculation.ratingCalculation(List.of(
+            RatingEvent.of(RatingCalculationEnum.ADD_ECO_NEWS, snapshot, accessToken)));
+
+        double expected = (double) RatingCalculationEnum.ADD_COMMENT.getRatingPoints()
+            + RatingCalculationEnum.ADD_ECO_NEWS.getRatingPoints();
+        assertEquals(expected, storedRating.get().doubleValue());
+        assertEquals(0D, snapshot.getRating());
+    }
+}
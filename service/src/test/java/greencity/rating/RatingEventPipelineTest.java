@@ -0,0 +1,117 @@
+package greencity.rating;
+
+import greencity.ModelUtils;
+import greencity.annotations.RatingCalculationEnum;
+import greencity.dto.user.UserVO;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentCaptor;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import java.time.Duration;
+import java.util.List;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.mockito.ArgumentMatchers.anyList;
+import static org.mockito.Mockito.doAnswer;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.timeout;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+
+@ExtendWith(MockitoExtension.class)
+class RatingEventPipelineTest {
+    private static final String ACCESS_TOKEN = "token";
+    private static final Duration SUBMIT_TIMEOUT = Duration.ofMillis(50);
+
+    @Mock
+    private RatingCalculation ratingCalculation;
+
+    private RatingEventPipeline pipeline;
+
+    @AfterEach
+    void tearDown() {
+        if (pipeline.isRunning()) {
+            pipeline.stop();
+        }
+    }
+
+    @Test
+    @SuppressWarnings("unchecked")
+    void submittedEventsAreProcessedInOneBatchTest() {
+        pipeline = new RatingEventPipeline(ratingCalculation, 100, SUBMIT_TIMEOUT, Duration.ofMillis(200), 100,
+            Duration.ofSeconds(5));
+        pipeline.start();
+        UserVO userVO = ModelUtils.getUserVO();
+
+        pipeline.submit(RatingCalculationEnum.ADD_COMMENT, userVO, ACCESS_TOKEN);
+        pipeline.submit(RatingCalculationEnum.LIKE_COMMENT, userVO, ACCESS_TOKEN);
+        pipeline.submit(RatingCalculationEnum.ADD_ECO_NEWS, userVO, ACCESS_TOKEN);
+
+        ArgumentCaptor<List<RatingEvent>> captor = ArgumentCaptor.forClass(List.class);
+        verify(ratingCalculation, timeout(5000)).ratingCalculation(captor.capture());
+        assertEquals(List.of(RatingCalculationEnum.ADD_COMMENT, RatingCalculationEnum.LIKE_COMMENT,
+            RatingCalculationEnum.ADD_ECO_NEWS),
+            captor.getValue().stream().map(RatingEvent::getRating).toList());
+        assertEquals(0, pipeline.getDroppedEvents());
+    }
+
+    @Test
+    void stopDrainsQueueTest() {
+        pipeline = new RatingEventPipeline(ratingCalculation, 100, SUBMIT_TIMEOUT, Duration.ofMinutes(1), 100,
+            Duration.ofSeconds(5));
+        pipeline.start();
+
+        pipeline.submit(RatingCalculationEnum.ADD_COMMENT, ModelUtils.getUserVO(), ACCESS_TOKEN);
+        pipeline.stop();
+
+        assertFalse(pipeline.isRunning());
+        assertEquals(0, pipeline.getQueueDepth());
+        assertEquals(1, pipeline.getProcessedEvents());
+        verify(ratingCalculation).ratingCalculation(anyList());
+    }
+
+    @Test
+    void eventIsDroppedWhenPipelineIsStoppedTest() {
+        pipeline = new RatingEventPipeline(ratingCalculation, 1, SUBMIT_TIMEOUT, Duration.ofSeconds(1), 10,
+            Duration.ofSeconds(5));
+
+        pipeline.submit(RatingCalculationEnum.ADD_COMMENT, ModelUtils.getUserVO(), ACCESS_TOKEN);
+
+        assertEquals(1, pipeline.getDroppedEvents());
+        assertEquals(0, pipeline.getQueueDepth());
+        verify(ratingCalculation, never()).ratingCalculation(anyList());
+    }
+
+    @Test
+    void eventIsDroppedWhenQueueStaysFullTest() throws InterruptedException {
+        CountDownLatch calculating = new CountDownLatch(1);
+        CountDownLatch release = new CountDownLatch(1);
+        doAnswer(invocation -> {
+            calculating.countDown();
+            release.await();
+            return null;
+        }).when(ratingCalculation).ratingCalculation(anyList());
+        pipeline = new RatingEventPipeline(ratingCalculation, 1, SUBMIT_TIMEOUT, Duration.ofMillis(1), 1,
+            Duration.ofSeconds(5));
+        pipeline.start();
+        UserVO userVO = ModelUtils.getUserVO();
+
+        pipeline.submit(RatingCalculationEnum.ADD_COMMENT, userVO, ACCESS_TOKEN);
+        assertTrue(calculating.await(5, TimeUnit.SECONDS));
+        pipeline.submit(RatingCalculationEnum.LIKE_COMMENT, userVO, ACCESS_TOKEN);
+        pipeline.submit(RatingCalculationEnum.ADD_ECO_NEWS, userVO, ACCESS_TOKEN);
+        release.countDown();
+        pipeline.stop();
+
+        assertEquals(1, pipeline.getDroppedEvents());
+        assertEquals(2, pipeline.getProcessedEvents());
+        verify(ratingCalculation, times(2)).ratingCalculation(anyList());
+    }
+}
@@ -9,10 +9,14 @@ import greencity.dto.user.UserVO;
 import greencity.entity.EcoNews;
 import greencity.entity.EcoNewsComment;
 import greencity.entity.User;
+import greencity.enums.CommentStatus;
 import greencity.enums.Role;
 import greencity.exception.exceptions.BadRequestException;
 import greencity.exception.exceptions.NotFoundException;
 import greencity.exception.exceptions.UserHasNoPermissionToAccessException;
+import greencity.mapping.EcoNewsCommentDtoMapper;
+import greencity.notification.CommentLikesBroadcaster;
+import greencity.rating.RatingEventPipeline;
 import greencity.repository.EcoNewsCommentRepo;
 import greencity.repository.EcoNewsRepo;
 import org.junit.jupiter.api.Assertions;
@@ -21,25 +25,28 @@ import org.junit.jupiter.api.extension.ExtendWith;
 import org.mockito.AdditionalAnswers;
 import org.mockito.InjectMocks;
 import org.mockito.Mock;
+import org.mockito.Spy;
 import org.mockito.junit.jupiter.MockitoExtension;
 import org.modelmapper.ModelMapper;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.PageImpl;
 import org.springframework.data.domain.PageRequest;
 import org.springframework.data.domain.Pageable;
-import org.springframework.messaging.simp.SimpMessagingTemplate;
 
+import jakarta.persistence.Tuple;
 import jakarta.servlet.http.HttpServletRequest;
 import java.time.LocalDateTime;
 import java.util.Collections;
 import java.util.HashSet;
 import java.util.List;
 import java.util.Optional;
+import java.util.Set;
 
 import static greencity.ModelUtils.getUser;
 import static greencity.ModelUtils.getUserVO;
 import static org.junit.jupiter.api.Assertions.assertEquals;
 import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
 import static org.mockito.ArgumentMatchers.*;
 import static org.mockito.Mockito.*;
 
@@ -48,15 +55,19 @@ class EcoNewsCommentServiceImplTest {
     @Mock
     private EcoNewsCommentRepo ecoNewsCommentRepo;
     @Mock
+    private RatingEventPipeline ratingEventPipeline;
+    @Mock
     private EcoNewsService ecoNewsService;
     @Mock
     private ModelMapper modelMapper;
     @Mock
-    private SimpMessagingTemplate messagingTemplate;
+    private CommentLikesBroadcaster commentLikesBroadcaster;
     @Mock
     private HttpServletRequest httpServletRequest;
     @Mock
     EcoNewsRepo ecoNewsRepo;
+    @Spy
+    private EcoNewsCommentDtoMapper ecoNewsCommentDtoMapper;
     @InjectMocks
     private EcoNewsCommentServiceImpl ecoNewsCommentService;
 
@@ -81,6 +92,7 @@ class EcoNewsCommentServiceImplTest {
 
         ecoNewsCommentService.save(1L, addEcoNewsCommentDtoRequest, userVO);
         verify(ecoNewsCommentRepo).save(any(EcoNewsComment.class));
+        verify(ecoNewsRepo).refreshCommentsCount(1L);
     }
 
     @Test
@@ -165,18 +177,11 @@ class EcoNewsCommentServiceImplTest {
         int pageSize = 3;
         Pageable pageable = PageRequest.of(pageNumber, pageSize);
         UserVO userVO = getUserVO();
-        User user = getUser();
         Long ecoNewsId = 1L;
-        EcoNewsComment ecoNewsComment = ModelUtils.getEcoNewsComment();
-        ecoNewsComment.setUsersLiked(new HashSet<>());
-        Page<EcoNewsComment> pages = new PageImpl<>(Collections.singletonList(ecoNewsComment), pageable, 1);
         EcoNewsCommentDto ecoNewsCommentDto = ModelUtils.getEcoNewsCommentDto();
+        Page<Tuple> pages = new PageImpl<>(Collections.singletonList(commentRow(ecoNewsCommentDto)), pageable, 1);
 
-        when(ecoNewsService.findById(1L)).thenReturn(ModelUtils.getEcoNewsVO());
-        when(ecoNewsCommentRepo.findAllByParentCommentIsNullAndEcoNewsIdOrderByCreatedDateDesc(pageable, ecoNewsId))
-            .thenReturn(pages);
-        when(modelMapper.map(ecoNewsComment, EcoNewsCommentDto.class)).thenReturn(ecoNewsCommentDto);
-        when(ecoNewsCommentRepo.countByParentCommentId(any())).thenReturn(0);
+        when(ecoNewsCommentRepo.findCommentPage(ecoNewsId, userVO.getId(), false, pageable)).thenReturn(pages);
 
         PageableDto<EcoNewsCommentDto> allComments =
             ecoNewsCommentService.findAllComments(pageable, userVO, ecoNewsId);
@@ -184,6 +189,36 @@ class EcoNewsCommentServiceImplTest {
         assertEquals(4, allComments.getTotalElements());
         assertEquals(1, allComments.getCurrentPage());
         assertEquals(1, allComments.getPage().size());
+        verify(ecoNewsService, never()).findById(anyLong());
+    }
+
+    @Test
+    void findAllCommentsOfNotExistingEcoNewsThrowsNotFoundException() {
+        Pageable pageable = PageRequest.of(0, 3);
+        UserVO userVO = getUserVO();
+
+        when(ecoNewsCommentRepo.findCommentPage(1L, userVO.getId(), false, pageable))
+            .thenReturn(new PageImpl<>(Collections.emptyList(), pageable, 0));
+        when(ecoNewsRepo.existsById(1L)).thenReturn(false);
+
+        assertThrows(NotFoundException.class, () -> ecoNewsCommentService.findAllComments(pageable, userVO, 1L));
+    }
+
+    private static Tuple commentRow(EcoNewsCommentDto dto) {
+        Tuple row = mock(Tuple.class);
+        lenient().when(row.get("id", Long.class)).thenReturn(dto.getId());
+        lenient().when(row.get("text", String.class)).thenReturn(dto.getText());
+        lenient().when(row.get("createdDate", LocalDateTime.class)).thenReturn(dto.getModifiedDate());
+        lenient().when(row.get("modifiedDate", LocalDateTime.class)).thenReturn(dto.getModifiedDate());
+        lenient().when(row.get("deleted", Boolean.class)).thenReturn(dto.getStatus() == CommentStatus.DELETED);
+        lenient().when(row.get("authorId", Long.class)).thenReturn(dto.getAuthor().getId());
+        lenient().when(row.get("authorName", String.class)).thenReturn(dto.getAuthor().getName());
+        lenient().when(row.get("authorProfilePicturePath", String.class))
+            .thenReturn(dto.getAuthor().getUserProfilePicturePath());
+        lenient().when(row.get("replies")).thenReturn((long) dto.getReplies());
+        lenient().when(row.get("likes")).thenReturn(dto.getLikes());
+        lenient().when(row.get("likedByUser")).thenReturn(dto.isCurrentUserLiked() ? 1L : 0L);
+        return row;
     }
 
     @Test
@@ -404,10 +439,29 @@ class EcoNewsCommentServiceImplTest {
         ecoNewsComment.setUsersLiked(new HashSet<>());
 
         when(ecoNewsCommentRepo.findById(amountCommentLikesDto.getId())).thenReturn(Optional.of(ecoNewsComment));
-        doNothing().when(messagingTemplate).convertAndSend("/topic/"
-            + amountCommentLikesDto.getId() + "/comment", amountCommentLikesDto);
-        ecoNewsCommentService.countLikes(amountCommentLikesDto);
+        AmountCommentLikesDto actual = ecoNewsCommentService.countLikes(amountCommentLikesDto);
         verify(ecoNewsCommentRepo).findById(1L);
+        verify(commentLikesBroadcaster).broadcast(new CommentLikesCountDto(1L, 0));
+        assertEquals(0, actual.getAmountLikes());
+    }
+
+    @Test
+    void countLikesReturnsLikedStateOfUserOnly() {
+        User user = ModelUtils.getUser();
+        AmountCommentLikesDto amountCommentLikesDto = AmountCommentLikesDto.builder()
+            .id(1L)
+            .userId(user.getId())
+            .build();
+        EcoNewsComment ecoNewsComment = ModelUtils.getEcoNewsComment();
+        ecoNewsComment.setUsersLiked(new HashSet<>(Set.of(user)));
+
+        when(ecoNewsCommentRepo.findById(1L)).thenReturn(Optional.of(ecoNewsComment));
+        AmountCommentLikesDto actual = ecoNewsCommentService.countLikes(amountCommentLikesDto);
+
+        assertTrue(actual.isLiked());
+        assertEquals(1, actual.getAmountLikes());
+        verify(commentLikesBroadcaster).broadcast(new CommentLikesCountDto(1L, 1));
+        verify(commentLikesBroadcaster).broadcastLegacy(actual);
     }
 
     @Test
@@ -442,29 +496,38 @@ class EcoNewsCommentServiceImplTest {
 
     @Test
     void getAllActiveComments() {
-        EcoNewsComment ecoNewsComment = ModelUtils.getEcoNewsComment();
-        ecoNewsComment.setUsersLiked(Collections.singleton(ModelUtils.getUser()));
         UserVO userVO = ModelUtils.getUserVO();
-
-        List<EcoNewsComment> ecoNewsComments = Collections.singletonList(ecoNewsComment);
         EcoNewsCommentDto ecoNewsCommentDto = ModelUtils.getEcoNewsCommentDto();
+        ecoNewsCommentDto.setReplies(10);
+        ecoNewsCommentDto.setLikes(1);
+        ecoNewsCommentDto.setCurrentUserLiked(true);
 
         PageRequest pageRequest = PageRequest.of(0, 2);
-        Page<EcoNewsComment> page = new PageImpl<>(ecoNewsComments, pageRequest, ecoNewsComments.size());
+        List<Tuple> rows = Collections.singletonList(commentRow(ecoNewsCommentDto));
+        Page<Tuple> page = new PageImpl<>(rows, pageRequest, rows.size());
         List<EcoNewsCommentDto> dtoList = Collections.singletonList(ecoNewsCommentDto);
         PageableDto<EcoNewsCommentDto> pageableDto = new PageableDto<>(dtoList, dtoList.size(), 0, 1);
 
-        when(ecoNewsCommentRepo
-            .findAllByParentCommentIsNullAndDeletedFalseAndEcoNewsIdOrderByCreatedDateDesc(pageRequest, 1L))
-            .thenReturn(page);
-        when(modelMapper.map(ecoNewsComment, EcoNewsCommentDto.class)).thenReturn(ecoNewsCommentDto);
-        when(ecoNewsCommentRepo.countByParentCommentId(ecoNewsCommentDto.getId())).thenReturn(10);
+        when(ecoNewsCommentRepo.findCommentPage(1L, userVO.getId(), true, pageRequest)).thenReturn(page);
 
         PageableDto<EcoNewsCommentDto> actual = ecoNewsCommentService.getAllActiveComments(pageRequest, userVO, 1L);
 
         assertEquals(pageableDto, actual);
     }
 
+    @Test
+    void getAllActiveCommentsWithoutUser() {
+        EcoNewsCommentDto ecoNewsCommentDto = ModelUtils.getEcoNewsCommentDto();
+        PageRequest pageRequest = PageRequest.of(0, 2);
+        Page<Tuple> page = new PageImpl<>(Collections.singletonList(commentRow(ecoNewsCommentDto)), pageRequest, 1);
+
+        when(ecoNewsCommentRepo.findCommentPage(1L, null, true, pageRequest)).thenReturn(page);
+
+        PageableDto<EcoNewsCommentDto> actual = ecoNewsCommentService.getAllActiveComments(pageRequest, null, 1L);
+
+        assertEquals(ecoNewsCommentDto, actual.getPage().get(0));
+    }
+
     @Test
     void findAllActiveReplies() {
         EcoNewsComment ecoNewsComment = ModelUtils.getEcoNewsComment();
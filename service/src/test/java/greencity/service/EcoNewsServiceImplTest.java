@@ -4,6 +4,7 @@ import greencity.ModelUtils;
 import greencity.TestConst;
 import greencity.client.RestClient;
 import greencity.constant.AppConstant;
+import greencity.dto.CursorPageDto;
 import greencity.dto.PageableAdvancedDto;
 import greencity.dto.PageableDto;
 import greencity.dto.econews.*;
@@ -22,6 +23,12 @@ import greencity.exception.exceptions.NotSavedException;
 import greencity.exception.exceptions.UnsupportedSortException;
 import greencity.filters.EcoNewsSpecification;
 import greencity.filters.SearchCriteria;
+import greencity.mapping.EcoNewsDtoMapper;
+import greencity.mapping.PageAssembler;
+import greencity.mapping.SearchNewsDtoMapper;
+import greencity.mapping.TagMapper;
+import greencity.mapping.UserVOMapper;
+import greencity.rating.RatingEventPipeline;
 import greencity.repository.EcoNewsRepo;
 import greencity.repository.EcoNewsSearchRepo;
 import lombok.SneakyThrows;
@@ -29,8 +36,8 @@ import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
 import org.mockito.InjectMocks;
 import org.mockito.Mock;
+import org.mockito.Spy;
 import org.modelmapper.ModelMapper;
-import org.modelmapper.TypeToken;
 import org.springframework.dao.DataIntegrityViolationException;
 import org.springframework.data.domain.*;
 import org.springframework.test.context.junit.jupiter.SpringExtension;
@@ -39,6 +46,7 @@ import org.springframework.web.multipart.MultipartFile;
 import jakarta.servlet.http.HttpServletRequest;
 import java.io.IOException;
 import java.net.MalformedURLException;
+import java.time.ZoneOffset;
 import java.time.ZonedDateTime;
 import java.util.*;
 import java.util.stream.Collectors;
@@ -53,9 +61,20 @@ class EcoNewsServiceImplTest {
     @Mock
     EcoNewsRepo ecoNewsRepo;
 
+    @Mock
+    RatingEventPipeline ratingEventPipeline;
+
     @Mock
     ModelMapper modelMapper;
     @Mock
+    private EcoNewsDtoMapper ecoNewsDtoMapper;
+    @Mock
+    private SearchNewsDtoMapper searchNewsDtoMapper;
+    @Mock
+    private TagMapper tagMapper;
+    @Mock
+    private UserVOMapper userVOMapper;
+    @Mock
     RestClient restClient;
 
     @Mock
@@ -73,6 +92,9 @@ class EcoNewsServiceImplTest {
     @Mock
     EcoNewsSearchRepo ecoNewsSearchRepo;
 
+    @Spy
+    PageAssembler pageAssembler = new PageAssembler();
+
     @InjectMocks
     private EcoNewsServiceImpl ecoNewsService;
 
@@ -93,8 +115,7 @@ class EcoNewsServiceImplTest {
         when(restClient.findByEmail(TestConst.EMAIL)).thenReturn(ModelUtils.getUserVO());
         List<TagVO> tagVOList = Collections.singletonList(ModelUtils.getTagVO());
         when(tagService.findTagsByNamesAndType(anyList(), eq(TagType.ECO_NEWS))).thenReturn(tagVOList);
-        when(modelMapper.map(tagVOList, new TypeToken<List<Tag>>() {
-        }.getType())).thenReturn(tags);
+        when(tagMapper.mapAllToList(tagVOList)).thenReturn(tags);
         ecoNews.setTags(tags);
         when(languageService.findByCode(AppConstant.DEFAULT_LANGUAGE_CODE))
             .thenReturn(dto);
@@ -162,9 +183,7 @@ class EcoNewsServiceImplTest {
         when(ecoNewsRepo.save(any(EcoNews.class))).thenReturn(ecoNews);
         when(modelMapper.map(ecoNews, EcoNewsGenericDto.class)).thenReturn(ecoNewsGenericDto);
 
-        when(modelMapper.map(tagVOList,
-            new TypeToken<List<Tag>>() {
-            }.getType())).thenReturn(tags);
+        when(tagMapper.mapAllToList(tagVOList)).thenReturn(tags);
 
         EcoNewsGenericDto actual = ecoNewsService.saveEcoNews(addEcoNewsDtoRequest, image, TestConst.EMAIL);
 
@@ -194,7 +213,7 @@ class EcoNewsServiceImplTest {
         List<EcoNewsDto> dtoList = Collections.singletonList(ecoNewsDto);
 
         when(ecoNewsRepo.getThreeLastEcoNews()).thenReturn(Collections.singletonList(ecoNews));
-        when(modelMapper.map(ecoNews, EcoNewsDto.class)).thenReturn(ecoNewsDto);
+        when(ecoNewsDtoMapper.convert(ecoNews)).thenReturn(ecoNewsDto);
 
         List<EcoNewsDto> actual = ecoNewsService.getThreeLastEcoNews();
 
@@ -239,7 +258,7 @@ class EcoNewsServiceImplTest {
             0, false, false, true, true);
 
         when(ecoNewsRepo.findAllByOrderByCreationDateDesc(pageRequest)).thenReturn(translationPage);
-        when(modelMapper.map(ecoNews.get(0), EcoNewsDto.class)).thenReturn(dtoList.get(0));
+        when(ecoNewsDtoMapper.convert(ecoNews.get(0))).thenReturn(dtoList.get(0));
 
         PageableAdvancedDto<EcoNewsDto> actual = ecoNewsService.findAll(pageRequest);
 
@@ -269,6 +288,110 @@ class EcoNewsServiceImplTest {
         assertEquals(pageableDto, actual);
     }
 
+    @Test
+    void findGenericAllTakesCountOfEcoNewsFromPage() {
+        List<EcoNews> ecoNews = List.of(ModelUtils.getEcoNews(), ModelUtils.getEcoNews());
+        PageRequest pageRequest = PageRequest.of(0, 2);
+        Page<EcoNews> page = new PageImpl<>(ecoNews, pageRequest, 7);
+
+        when(ecoNewsRepo.findAllByOrderByCreationDateDesc(pageRequest)).thenReturn(page);
+
+        PageableAdvancedDto<EcoNewsGenericDto> actual = ecoNewsService.findGenericAll(pageRequest);
+
+        assertEquals(2, actual.getPage().size());
+        assertTrue(actual.getPage().stream().allMatch(dto -> dto.getCountOfEcoNews() == 7));
+        verify(ecoNewsRepo, never()).totalCountOfCreationNews();
+    }
+
+    @Test
+    void findAllByUserCountsEcoNewsOncePerPage() {
+        List<EcoNews> ecoNews = List.of(ModelUtils.getEcoNews(), ModelUtils.getEcoNews(), ModelUtils.getEcoNews());
+        PageRequest pageRequest = PageRequest.of(0, 3);
+        Page<EcoNews> page = new PageImpl<>(ecoNews, pageRequest, ecoNews.size());
+        UserVO userVO = UserVO.builder().id(1L).build();
+        User user = User.builder().id(1L).build();
+
+        when(modelMapper.map(userVO, User.class)).thenReturn(user);
+        when(ecoNewsRepo.findAllByAuthorOrderByCreationDateDesc(user, pageRequest)).thenReturn(page);
+        when(ecoNewsRepo.totalCountOfCreationNews()).thenReturn(10);
+
+        PageableAdvancedDto<EcoNewsGenericDto> actual = ecoNewsService.findAllByUser(userVO, pageRequest);
+
+        assertTrue(actual.getPage().stream().allMatch(dto -> dto.getCountOfEcoNews() == 10));
+        verify(ecoNewsRepo).totalCountOfCreationNews();
+    }
+
+    @Test
+    void findByTagsWithEmptyPageDoesNotCountEcoNews() {
+        PageRequest pageRequest = PageRequest.of(0, 2);
+        Page<EcoNews> page = new PageImpl<>(Collections.emptyList(), pageRequest, 0);
+
+        when(ecoNewsRepo.findByTags(pageRequest, List.of("news"))).thenReturn(page);
+
+        PageableAdvancedDto<EcoNewsGenericDto> actual = ecoNewsService.find(pageRequest, List.of("News"));
+
+        assertTrue(actual.getPage().isEmpty());
+        verify(ecoNewsRepo, never()).totalCountOfCreationNews();
+    }
+
+    @Test
+    void findFeedFirstPage() {
+        List<EcoNews> rows = List.of(getEcoNewsWithId(3L), getEcoNewsWithId(2L), getEcoNewsWithId(1L));
+        when(ecoNewsRepo.findFeedBefore(FeedCursor.FIRST.creationDate(), FeedCursor.FIRST.id(), 3)).thenReturn(rows);
+
+        CursorPageDto<EcoNewsGenericDto> actual = ecoNewsService.findFeed(null, 2, null, false);
+
+        assertEquals(List.of(3L, 2L), actual.getPage().stream().map(EcoNewsGenericDto::getId).toList());
+        assertTrue(actual.isHasNext());
+        FeedCursor next = FeedCursor.decode(actual.getNextCursor());
+        assertEquals(rows.get(1).getCreationDate().toInstant(), next.creationDate().toInstant());
+        assertEquals(2L, next.id());
+        assertNull(actual.getTotalElements());
+        assertTrue(actual.getPage().stream().allMatch(dto -> dto.getCountOfEcoNews() == null));
+        verify(ecoNewsRepo, never()).totalCountOfCreationNews();
+    }
+
+    @Test
+    void findFeedByTagsWithTotal() {
+        FeedCursor cursor =
+            new FeedCursor(ModelUtils.getEcoNews().getCreationDate().withZoneSameInstant(ZoneOffset.UTC), 5L);
+        List<EcoNews> rows = List.of(getEcoNewsWithId(4L));
+        when(ecoNewsRepo.findFeedByTagsBefore(List.of("news"), cursor.creationDate(), 5L, 3)).thenReturn(rows);
+        when(ecoNewsRepo.countByTags(List.of("news"))).thenReturn(4L);
+
+        CursorPageDto<EcoNewsGenericDto> actual = ecoNewsService.findFeed(cursor.encode(), 2, List.of("News"), true);
+
+        assertEquals(1, actual.getPage().size());
+        assertEquals(4, actual.getPage().get(0).getCountOfEcoNews());
+        assertFalse(actual.isHasNext());
+        assertNull(actual.getNextCursor());
+        assertEquals(4L, actual.getTotalElements());
+    }
+
+    @Test
+    void findFeedByUserWithTotal() {
+        UserVO userVO = UserVO.builder().id(7L).build();
+        when(ecoNewsRepo.findFeedByAuthorBefore(7L, FeedCursor.FIRST.creationDate(), FeedCursor.FIRST.id(), 11))
+            .thenReturn(List.of(getEcoNewsWithId(1L)));
+        when(ecoNewsRepo.getAmountOfPublishedNewsByUserId(7L)).thenReturn(1L);
+
+        CursorPageDto<EcoNewsGenericDto> actual = ecoNewsService.findFeedByUser(userVO, "", 10, true);
+
+        assertEquals(1, actual.getPage().size());
+        assertEquals(1L, actual.getTotalElements());
+    }
+
+    @Test
+    void findFeedWithInvalidCursor() {
+        assertThrows(BadRequestException.class, () -> ecoNewsService.findFeed("not a cursor", 10, null, false));
+    }
+
+    @Test
+    void findFeedWithInvalidSize() {
+        assertThrows(BadRequestException.class, () -> ecoNewsService.findFeed(null, 0, null, false));
+        assertThrows(BadRequestException.class, () -> ecoNewsService.findFeed(null, 101, null, false));
+    }
+
     @Test
     void findAllByUserPageInvalidSorted() {
         PageRequest pageRequest = PageRequest.of(0, 1, Sort.by("id"));
@@ -303,10 +426,10 @@ class EcoNewsServiceImplTest {
 
     @Test
     void findDtoById() {
-        EcoNewsDto ecoNewsDto = modelMapper.map(ecoNews, EcoNewsDto.class);
+        EcoNewsDto ecoNewsDto = ModelUtils.getEcoNewsDto();
 
         when(ecoNewsRepo.findById(1L)).thenReturn(Optional.of(ecoNews));
-        when(modelMapper.map(ecoNews, EcoNewsDto.class)).thenReturn(ecoNewsDto);
+        when(ecoNewsDtoMapper.convert(ecoNews)).thenReturn(ecoNewsDto);
 
         EcoNewsDto actual = ecoNewsService.getById(1L);
 
@@ -333,7 +456,7 @@ class EcoNewsServiceImplTest {
         Page<EcoNews> page = new PageImpl<>(Collections.singletonList(ecoNews), PageRequest.of(1, 3), 1);
 
         when(ecoNewsSearchRepo.find(PageRequest.of(0, 3), "test", "en")).thenReturn(page);
-        when(modelMapper.map(ecoNews, SearchNewsDto.class)).thenReturn(searchNewsDto);
+        when(searchNewsDtoMapper.convert(ecoNews)).thenReturn(searchNewsDto);
 
         PageableDto<SearchNewsDto> actual = ecoNewsService.search("test", "en");
 
@@ -342,12 +465,12 @@ class EcoNewsServiceImplTest {
 
     @Test
     void getThreeRecommendedEcoNews() {
-        List<EcoNewsDto> dtoList = Collections.singletonList(modelMapper.map(ecoNews, EcoNewsDto.class));
+        List<EcoNewsDto> dtoList = Collections.singletonList(ModelUtils.getEcoNewsDto());
 
         when(ecoNewsRepo.findById(1L)).thenReturn(Optional.ofNullable(ecoNews));
         when(ecoNewsRepo.getThreeRecommendedEcoNews(1L)).thenReturn(Collections.singletonList(ecoNews));
         when(ecoNewsRepo.getThreeLastEcoNews()).thenReturn(Collections.singletonList(ecoNews));
-        when(modelMapper.map(ecoNews, EcoNewsDto.class)).thenReturn(dtoList.get(0));
+        when(ecoNewsDtoMapper.convert(ecoNews)).thenReturn(dtoList.get(0));
 
         List<EcoNewsDto> actual = ecoNewsService.getThreeRecommendedEcoNews(1L);
 
@@ -385,7 +508,7 @@ class EcoNewsServiceImplTest {
         PageableDto<SearchNewsDto> actual = new PageableDto<>(searchNewsDtos, page.getTotalElements(),
             page.getPageable().getPageNumber(), page.getTotalPages());
         when(ecoNewsSearchRepo.find(pageable, "query", "en")).thenReturn(page);
-        when(modelMapper.map(ecoNews, SearchNewsDto.class)).thenReturn(searchNewsDto);
+        when(searchNewsDtoMapper.convert(ecoNews.get(0))).thenReturn(searchNewsDto);
         PageableDto<SearchNewsDto> expected = ecoNewsService.search(pageable, "query", "en");
         assertEquals(expected.getTotalPages(), actual.getTotalPages());
     }
@@ -393,9 +516,9 @@ class EcoNewsServiceImplTest {
     @Test
     void getAllPublishedNewsByUserId() {
         List<EcoNews> ecoNews = Collections.singletonList(ModelUtils.getEcoNews());
-        List<EcoNewsDto> dtoList = Collections.singletonList(modelMapper.map(ecoNews, EcoNewsDto.class));
+        List<EcoNewsDto> dtoList = Collections.singletonList(ModelUtils.getEcoNewsDto());
 
-        when(modelMapper.map(ecoNews.get(0), EcoNewsDto.class)).thenReturn(dtoList.get(0));
+        when(ecoNewsDtoMapper.convert(ecoNews.get(0))).thenReturn(dtoList.get(0));
         when(ecoNewsRepo.findAllByUserId(1L)).thenReturn(ecoNews);
 
         List<EcoNewsDto> actual = ecoNewsService.getAllPublishedNewsByUserId(1L);
@@ -414,9 +537,10 @@ class EcoNewsServiceImplTest {
     void getAllPublishedNewsByUserTest() {
         UserVO userVO = ModelUtils.getUserVO();
         List<EcoNews> ecoNews = Collections.singletonList(ModelUtils.getEcoNews());
-        List<EcoNewsDto> dtoList = Collections.singletonList(modelMapper.map(ecoNews, EcoNewsDto.class));
+        List<EcoNewsDto> dtoList = Collections.singletonList(ModelUtils.getEcoNewsDto());
 
         when(ecoNewsRepo.findAllByUserId(userVO.getId())).thenReturn(ecoNews);
+        when(ecoNewsDtoMapper.convert(ecoNews.get(0))).thenReturn(dtoList.get(0));
 
         List<EcoNewsDto> actual = ecoNewsService.getAllPublishedNewsByUser(userVO);
         assertEquals(dtoList, actual);
@@ -446,7 +570,7 @@ class EcoNewsServiceImplTest {
         EcoNews ecoNews1 = ModelUtils.getEcoNews();
         EcoNewsDto ecoNewsDto = ModelUtils.getEcoNewsDto();
         when(ecoNewsRepo.searchEcoNewsBy(pageable, "query")).thenReturn(page);
-        when(modelMapper.map(ecoNews1, EcoNewsDto.class)).thenReturn(ecoNewsDto);
+        when(ecoNewsDtoMapper.convert(ecoNews1)).thenReturn(ecoNewsDto);
         PageableAdvancedDto<EcoNewsDto> actual =
             new PageableAdvancedDto<>(Collections.singletonList(ecoNewsDto),
                 2, 1, 2, 1, true, true, true, false);
@@ -458,11 +582,7 @@ class EcoNewsServiceImplTest {
     void updateVoidTest() {
         EcoNews ecoNews = ModelUtils.getEcoNews();
         EcoNewsDtoManagement ecoNewsDtoManagement = ModelUtils.getEcoNewsDtoManagement();
-        EcoNewsVO ecoNewsVO = ModelUtils.getEcoNewsVO();
         when(ecoNewsRepo.findById(1L)).thenReturn(Optional.of(ecoNews));
-        when(ecoNewsService.findById(1L)).thenReturn(ecoNewsVO);
-        when(modelMapper.map(ecoNewsVO, EcoNews.class)).thenReturn(ecoNews);
-        when(modelMapper.map(ecoNews, EcoNewsVO.class)).thenReturn(ecoNewsVO);
         when(ecoNewsRepo.save(ecoNews)).thenReturn(ecoNews);
         ecoNewsService.update(ecoNewsDtoManagement, any(MultipartFile.class));
         assertEquals(ecoNewsDtoManagement.getTitle(), ecoNews.getTitle());
@@ -471,20 +591,15 @@ class EcoNewsServiceImplTest {
     @Test
     void updateEcoNewsDtoTest() {
         EcoNews ecoNews = ModelUtils.getEcoNews();
-        EcoNewsVO ecoNewsVO = ModelUtils.getEcoNewsVO();
         EcoNewsGenericDto ecoNewsDto = ModelUtils.getEcoNewsGenericDto();
         UpdateEcoNewsDto updateEcoNewsDto = ModelUtils.getUpdateEcoNewsDto();
         when(ecoNewsRepo.findById(1L)).thenReturn(Optional.of(ecoNews));
-        when(ecoNewsService.findById(1L)).thenReturn(ecoNewsVO);
-        when(modelMapper.map(ecoNewsVO, EcoNews.class)).thenReturn(ecoNews);
         when(ecoNewsRepo.save(ecoNews)).thenReturn(ecoNews);
         when(modelMapper.map(ecoNews, EcoNewsGenericDto.class)).thenReturn(ecoNewsDto);
         List<TagVO> tags = ModelUtils.getEcoNewsVO().getTags();
         when(tagService.findTagsByNamesAndType(updateEcoNewsDto.getTags(), TagType.ECO_NEWS)).thenReturn(tags);
-        when(modelMapper.map(tagService
-            .findTagsByNamesAndType(updateEcoNewsDto.getTags(), TagType.ECO_NEWS),
-            new TypeToken<List<Tag>>() {
-            }.getType())).thenReturn(ecoNews.getTags());
+        when(tagMapper.mapAllToList(tagService
+            .findTagsByNamesAndType(updateEcoNewsDto.getTags(), TagType.ECO_NEWS))).thenReturn(ecoNews.getTags());
 
         EcoNewsGenericDto actual =
             ecoNewsService.update(updateEcoNewsDto, any(MultipartFile.class), ModelUtils.getUserVO());
@@ -496,12 +611,9 @@ class EcoNewsServiceImplTest {
         EcoNews ecoNews = ModelUtils.getEcoNews();
         UserVO user = ModelUtils.getUserVO();
         ecoNews.getAuthor().setId(2L);
-        EcoNewsVO ecoNewsVO = ModelUtils.getEcoNewsVO();
         EcoNewsDto ecoNewsDto = ModelUtils.getEcoNewsDto();
         UpdateEcoNewsDto updateEcoNewsDto = ModelUtils.getUpdateEcoNewsDto();
         when(ecoNewsRepo.findById(1L)).thenReturn(Optional.of(ecoNews));
-        when(ecoNewsService.findById(1L)).thenReturn(ecoNewsVO);
-        when(modelMapper.map(ecoNewsVO, EcoNews.class)).thenReturn(ecoNews);
         assertThrows(BadRequestException.class, () -> ecoNewsService.update(updateEcoNewsDto, null, user));
 
     }
@@ -515,7 +627,7 @@ class EcoNewsServiceImplTest {
         EcoNewsDto ecoNewsDto = ModelUtils.getEcoNewsDto();
         EcoNewsSpecification ecoNewsSpecification = ecoNewsService.getSpecification(ecoNewsViewDto);
         when(ecoNewsRepo.findAll(any(EcoNewsSpecification.class), any(Pageable.class))).thenReturn(page);
-        when(modelMapper.map(ecoNews, EcoNewsDto.class)).thenReturn(ecoNewsDto);
+        when(ecoNewsDtoMapper.convert(ecoNews.get(0))).thenReturn(ecoNewsDto);
         PageableAdvancedDto<EcoNewsDto> actual =
             ecoNewsService.getFilteredDataForManagementByPage(pageable, ecoNewsViewDto);
         PageableAdvancedDto<EcoNewsDto> expected =
@@ -543,106 +655,88 @@ class EcoNewsServiceImplTest {
     @Test
     void likeTest() {
         UserVO userVO = ModelUtils.getUserVO();
-        EcoNews ecoNews = ModelUtils.getEcoNews();
-        EcoNewsVO ecoNewsVO = ModelUtils.getEcoNewsVO();
-        ecoNewsVO.setUsersLikedNews(new HashSet<>());
-
-        when(ecoNewsRepo.findById(1L)).thenReturn(Optional.of(ecoNews));
-        when(modelMapper.map(ecoNews, EcoNewsVO.class)).thenReturn(ecoNewsVO);
-        when(modelMapper.map(ecoNewsVO, EcoNews.class)).thenReturn(ecoNews);
+        when(ecoNewsRepo.existsById(1L)).thenReturn(true);
+        when(ecoNewsRepo.removeLike(1L, userVO.getId())).thenReturn(0);
 
         ecoNewsService.like(userVO, 1L);
 
-        assertEquals(1, ecoNewsVO.getUsersLikedNews().size());
-        assertTrue(ecoNewsVO.getUsersLikedNews().contains(userVO));
-        verify(ecoNewsRepo).save(ecoNews);
+        verify(ecoNewsRepo).removeDislike(1L, userVO.getId());
+        verify(ecoNewsRepo).addLike(1L, userVO.getId());
     }
 
     @Test
     void givenEcoNewsLikedByUser_whenLikedByUser_shouldRemoveLike() {
         // given
         UserVO userVO = ModelUtils.getUserVO();
-        EcoNews ecoNews = ModelUtils.getEcoNews();
-        EcoNewsVO ecoNewsVO = ModelUtils.getEcoNewsVO();
-        ecoNewsVO.setUsersLikedNews(new HashSet<>());
-        when(ecoNewsRepo.findById(1L)).thenReturn(Optional.of(ecoNews));
-        when(modelMapper.map(ecoNews, EcoNewsVO.class)).thenReturn(ecoNewsVO);
-        when(modelMapper.map(ecoNewsVO, EcoNews.class)).thenReturn(ecoNews);
+        when(ecoNewsRepo.existsById(1L)).thenReturn(true);
+        when(ecoNewsRepo.removeLike(1L, userVO.getId())).thenReturn(1);
 
         // when
         ecoNewsService.like(userVO, 1L);
-        ecoNewsService.like(userVO, 1L);
 
         // then
-        assertEquals(0, ecoNewsVO.getUsersLikedNews().size());
+        verify(ecoNewsRepo, never()).addLike(anyLong(), anyLong());
+    }
+
+    @Test
+    void likeNotExistingEcoNewsTest() {
+        UserVO userVO = ModelUtils.getUserVO();
+        when(ecoNewsRepo.existsById(1L)).thenReturn(false);
+
+        assertThrows(NotFoundException.class, () -> ecoNewsService.like(userVO, 1L));
+        verify(ecoNewsRepo, never()).addLike(anyLong(), anyLong());
     }
 
     @Test
     void dislikeTest() {
         // given
         UserVO userVO = ModelUtils.getUserVO();
-        EcoNews ecoNews = ModelUtils.getEcoNews();
-        EcoNewsVO ecoNewsVO = ModelUtils.getEcoNewsVO();
-        ecoNewsVO.setUsersDislikedNews(new HashSet<>());
-        when(ecoNewsRepo.findById(anyLong())).thenReturn(Optional.of(ecoNews));
-        when(modelMapper.map(ecoNews, EcoNewsVO.class)).thenReturn(ecoNewsVO);
-        when(modelMapper.map(ecoNewsVO, EcoNews.class)).thenReturn(ecoNews);
+        when(ecoNewsRepo.existsById(1L)).thenReturn(true);
+        when(ecoNewsRepo.removeDislike(1L, userVO.getId())).thenReturn(0);
 
         // when
         ecoNewsService.dislike(userVO, 1L);
+
         // then
-        assertTrue(ecoNewsVO.getUsersDislikedNews().contains(userVO));
-        assertEquals(1, ecoNewsVO.getUsersDislikedNews().size());
-        verify(ecoNewsRepo).save(ecoNews);
+        verify(ecoNewsRepo).removeLike(1L, userVO.getId());
+        verify(ecoNewsRepo).addDislike(1L, userVO.getId());
     }
 
     @Test
-    void givenEcoNewsLikedByUser_whenDislikedByUser_shouldRemoveLikeAndAddDislike() {
+    void givenEcoNewsDislikedByUser_whenDislikedByUser_shouldRemoveDislike() {
         // given
         UserVO userVO = ModelUtils.getUserVO();
-        EcoNews ecoNews = ModelUtils.getEcoNews();
-        EcoNewsVO ecoNewsVO = ModelUtils.getEcoNewsVO();
-        ecoNewsVO.setUsersLikedNews(new HashSet<>(Set.of(userVO)));
-        ecoNewsVO.setUsersDislikedNews(new HashSet<>());
-        when(ecoNewsRepo.findById(anyLong())).thenReturn(Optional.of(ecoNews));
-        when(modelMapper.map(ecoNews, EcoNewsVO.class)).thenReturn(ecoNewsVO);
-        when(modelMapper.map(ecoNewsVO, EcoNews.class)).thenReturn(ecoNews);
+        when(ecoNewsRepo.existsById(1L)).thenReturn(true);
+        when(ecoNewsRepo.removeDislike(1L, userVO.getId())).thenReturn(1);
+
         // when
         ecoNewsService.dislike(userVO, 1L);
+
         // then
-        assertTrue(ecoNewsVO.getUsersDislikedNews().contains(userVO));
-        assertTrue(ecoNewsVO.getUsersLikedNews().isEmpty());
-        assertEquals(1, ecoNewsVO.getUsersDislikedNews().size());
-        assertEquals(0, ecoNewsVO.getUsersLikedNews().size());
+        verify(ecoNewsRepo).removeLike(1L, userVO.getId());
+        verify(ecoNewsRepo, never()).addDislike(anyLong(), anyLong());
     }
 
     @Test
     void countLikesForEcoNews() {
-        EcoNews ecoNews = ModelUtils.getEcoNews();
-        EcoNewsVO ecoNewsVO = ModelUtils.getEcoNewsVO();
-        Set<UserVO> usersLiked = new HashSet<>();
-        usersLiked.add(UserVO.builder().id(1L).build());
-        usersLiked.add(UserVO.builder().id(2L).build());
-
-        ecoNewsVO.setUsersLikedNews(usersLiked);
-        when(ecoNewsRepo.findById(1L)).thenReturn(Optional.of(ecoNews));
-        when(modelMapper.map(ecoNews, EcoNewsVO.class)).thenReturn(ecoNewsVO);
+        when(ecoNewsRepo.findLikesCountById(1L)).thenReturn(Optional.of(2));
 
         int actualAmountOfLikes = ecoNewsService.countLikesForEcoNews(1L);
 
         assertEquals(2, actualAmountOfLikes);
     }
 
+    @Test
+    void countLikesForNotExistingEcoNews() {
+        when(ecoNewsRepo.findLikesCountById(1L)).thenReturn(Optional.empty());
+
+        assertThrows(NotFoundException.class, () -> ecoNewsService.countLikesForEcoNews(1L));
+    }
+
     @Test
     void countDislikesForEcoNews() {
         // given
-        EcoNews ecoNews = ModelUtils.getEcoNews();
-        EcoNewsVO ecoNewsVO = ModelUtils.getEcoNewsVO();
-        UserVO user1 = ModelUtils.getUserVO();
-        UserVO user2 = UserVO.builder().id(2L).name("User2").build();
-        ecoNewsVO.setUsersDislikedNews(Set.of(user1, user2));
-        when(ecoNewsRepo.findById(1L)).thenReturn(Optional.of(ecoNews));
-        when(modelMapper.map(ecoNews, EcoNewsVO.class)).thenReturn(ecoNewsVO);
+        when(ecoNewsRepo.findDislikesCountById(1L)).thenReturn(Optional.of(2));
 
         // when
         Integer actual = ecoNewsService.countDislikesForEcoNews(1L);
@@ -654,20 +748,34 @@ class EcoNewsServiceImplTest {
     @Test
     void checkNewsIsLikedByUserTest() {
         UserVO userVO = ModelUtils.getUserVO();
-        EcoNews ecoNews = ModelUtils.getEcoNews();
-        EcoNewsVO ecoNewsVO = ModelUtils.getEcoNewsVO();
-        Set<UserVO> usersLiked = new HashSet<>();
-        usersLiked.add(UserVO.builder().id(2L).build());
-        usersLiked.add(UserVO.builder().id(3L).build());
-        ecoNewsVO.setUsersLikedNews(usersLiked);
-        when(ecoNewsRepo.findById(1L)).thenReturn(Optional.of(ecoNews));
-        when(modelMapper.map(ecoNews, EcoNewsVO.class)).thenReturn(ecoNewsVO);
+        when(ecoNewsRepo.isLikedByUser(1L, userVO.getId())).thenReturn(false);
+        when(ecoNewsRepo.existsById(1L)).thenReturn(true);
 
         boolean isLikedByUser = ecoNewsService.checkNewsIsLikedByUser(1L, userVO);
 
         assertFalse(isLikedByUser);
     }
 
+    @Test
+    void checkNewsIsLikedByUserSkipsExistenceCheckForLikedNewsTest() {
+        UserVO userVO = ModelUtils.getUserVO();
+        when(ecoNewsRepo.isLikedByUser(1L, userVO.getId())).thenReturn(true);
+
+        boolean isLikedByUser = ecoNewsService.checkNewsIsLikedByUser(1L, userVO);
+
+        assertTrue(isLikedByUser);
+        verify(ecoNewsRepo, never()).existsById(anyLong());
+    }
+
+    @Test
+    void checkNewsIsLikedByUserNotFoundTest() {
+        UserVO userVO = ModelUtils.getUserVO();
+        when(ecoNewsRepo.isLikedByUser(1L, userVO.getId())).thenReturn(false);
+        when(ecoNewsRepo.existsById(1L)).thenReturn(false);
+
+        assertThrows(NotFoundException.class, () -> ecoNewsService.checkNewsIsLikedByUser(1L, userVO));
+    }
+
     @Test
     void findDtoByIdAndLanguage() {
         EcoNews ecoNews = ModelUtils.getEcoNewsForFindDtoByIdAndLanguage();
@@ -687,7 +795,7 @@ class EcoNewsServiceImplTest {
     void uploadImages() {
         MultipartFile[] multipartFiles = {ModelUtils.getFile()};
         ecoNewsService.uploadImages(multipartFiles);
-        Arrays.stream(multipartFiles).forEach(multipartFile -> verify(fileService).upload(multipartFile));
+        verify(fileService).uploadAll(multipartFiles);
     }
 
     @Test
@@ -713,7 +821,7 @@ class EcoNewsServiceImplTest {
         UserVO user1VO = ModelUtils.getUserVO();
         ecoNews.setUsersLikedNews(Set.of(user1));
         when(ecoNewsRepo.findById(anyLong())).thenReturn(Optional.of(ecoNews));
-        when(modelMapper.map(user1, UserVO.class)).thenReturn(user1VO);
+        when(userVOMapper.convert(user1)).thenReturn(user1VO);
         // when
         Set<UserVO> usersWhoLikedPost = ecoNewsService.findUsersWhoLikedPost(1L);
         // then
@@ -729,11 +837,17 @@ class EcoNewsServiceImplTest {
         UserVO user1VO = ModelUtils.getUserVO();
         ecoNews.setUsersDislikedNews(Set.of(user1));
         when(ecoNewsRepo.findById(anyLong())).thenReturn(Optional.of(ecoNews));
-        when(modelMapper.map(user1, UserVO.class)).thenReturn(user1VO);
+        when(userVOMapper.convert(user1)).thenReturn(user1VO);
         // when
         Set<UserVO> usersWhoDislikedPost = ecoNewsService.findUsersWhoDislikedPost(1L);
         // then
         assertEquals(1, usersWhoDislikedPost.size());
         assertTrue(usersWhoDislikedPost.contains(user1VO));
     }
-}
\ No newline at end of file
+
+    private EcoNews getEcoNewsWithId(Long id) {
+        EcoNews ecoNewsWithId = ModelUtils.getEcoNews();
+        ecoNewsWithId.setId(id);
+        return ecoNewsWithId;
+    }
+}
@@ -0,0 +1,151 @@
+package greencity.service;
+
+import greencity.dto.habit.HabitAssignManagementDto;
+import greencity.dto.habit.HabitAssignStatDto;
+import greencity.dto.habit.HabitAssignVO;
+import greencity.dto.user.UserVO;
+import greencity.entity.Habit;
+import greencity.entity.HabitAssign;
+import greencity.entity.HabitStatusCalendar;
+import greencity.entity.User;
+import greencity.enums.HabitAssignStatus;
+import greencity.mapping.HabitAssignDtoMapper;
+import greencity.repository.CustomShoppingListItemRepo;
+import greencity.repository.HabitAssignRepo;
+import greencity.repository.HabitRepo;
+import greencity.repository.HabitStatusCalendarRepo;
+import greencity.repository.UserShoppingListItemRepo;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.InOrder;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.modelmapper.ModelMapper;
+import java.time.LocalDate;
+import java.time.ZonedDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Optional;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.mockito.Mockito.inOrder;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+@ExtendWith(MockitoExtension.class)
+class HabitAssignServiceImplTest {
+    private static final Long HABIT_ID = 1L;
+    private static final Long USER_ID = 1L;
+
+    @Mock
+    private HabitAssignRepo habitAssignRepo;
+    @Mock
+    private HabitRepo habitRepo;
+    @Mock
+    private HabitStatusCalendarRepo habitStatusCalendarRepo;
+    @Mock
+    private UserShoppingListItemRepo userShoppingListItemRepo;
+    @Mock
+    private CustomShoppingListItemRepo customShoppingListItemRepo;
+    @Mock
+    private HabitStatisticService habitStatisticService;
+    @Mock
+    private ModelMapper modelMapper;
+    @Mock
+    private HabitAssignDtoMapper habitAssignDtoMapper;
+
+    @InjectMocks
+    private HabitAssignServiceImpl habitAssignService;
+
+    @Test
+    void reassignedCancelledHabitKeepsItsEnrolledDaysTest() {
+        LocalDate today = LocalDate.now();
+        LocalDate firstEnrollDate = today.minusDays(19);
+        LocalDate secondEnrollDate = today.minusDays(18);
+        HabitAssign habitAssign = cancelledHabitAssign(ZonedDateTime.now().minusDays(20));
+        HabitStatusCalendar secondEnroll = enroll(habitAssign, secondEnrollDate);
+        enroll(habitAssign, firstEnrollDate);
+        UserVO userVO = UserVO.builder().id(USER_ID).build();
+        when(habitAssignRepo.findAllByUserId(USER_ID)).thenReturn(List.of());
+        when(modelMapper.map(userVO, User.class)).thenReturn(habitAssign.getUser());
+        when(habitRepo.findById(HABIT_ID)).thenReturn(Optional.of(habitAssign.getHabit()));
+        when(habitAssignRepo.findByHabitIdAndUserIdAndStatusIsCancelled(HABIT_ID, USER_ID)).thenReturn(habitAssign);
+        when(modelMapper.map(habitAssign, HabitAssignManagementDto.class)).thenReturn(new HabitAssignManagementDto());
+
+        habitAssignService.assignDefaultHabitForUser(HABIT_ID, userVO);
+
+        assertEquals(HabitAssignStatus.INPROGRESS, habitAssign.getStatus());
+        verify(habitStatisticService).updateStatsOnStatusChange(habitAssign.getId(), HabitAssignStatus.CANCELLED,
+            HabitAssignStatus.INPROGRESS);
+        HabitEnrollmentDays enrollmentDays = HabitEnrollmentDays.of(habitAssign);
+        assertTrue(enrollmentDays.isEnrolled(firstEnrollDate));
+        assertTrue(enrollmentDays.isEnrolled(secondEnrollDate));
+        assertFalse(enrollmentDays.isEnrolled(today.plusDays(1)));
+
+        when(habitAssignRepo.findById(habitAssign.getId())).thenReturn(Optional.of(habitAssign));
+        when(habitStatusCalendarRepo.findHabitStatusCalendarByEnrollDateAndHabitAssign(secondEnrollDate,
+            habitAssign)).thenReturn(secondEnroll);
+
+        habitAssignService.unenrollHabit(habitAssign.getId(), USER_ID, secondEnrollDate);
+
+        enrollmentDays = HabitEnrollmentDays.of(habitAssign);
+        assertTrue(enrollmentDays.isEnrolled(firstEnrollDate));
+        assertFalse(enrollmentDays.isEnrolled(secondEnrollDate));
+        assertEquals(1, habitAssign.getWorkingDays());
+    }
+
+    @Test
+    void updateStatusByHabitAssignIdUpdatesStatsTest() {
+        HabitAssign habitAssign = cancelledHabitAssign(ZonedDateTime.now());
+        habitAssign.setStatus(HabitAssignStatus.INPROGRESS);
+        when(habitAssignRepo.findById(habitAssign.getId())).thenReturn(Optional.of(habitAssign));
+        when(habitAssignRepo.save(habitAssign)).thenReturn(habitAssign);
+
+        habitAssignService.updateStatusByHabitAssignId(habitAssign.getId(),
+            new HabitAssignStatDto(HabitAssignStatus.CANCELLED));
+
+        assertEquals(HabitAssignStatus.CANCELLED, habitAssign.getStatus());
+        verify(habitStatisticService).updateStatsOnStatusChange(habitAssign.getId(), HabitAssignStatus.INPROGRESS,
+            HabitAssignStatus.CANCELLED);
+    }
+
+    @Test
+    void deleteHabitAssignDeletesStatsBeforeAssignTest() {
+        HabitAssign habitAssign = cancelledHabitAssign(ZonedDateTime.now());
+        when(habitAssignRepo.findById(habitAssign.getId())).thenReturn(Optional.of(habitAssign));
+
+        habitAssignService.deleteHabitAssign(habitAssign.getId(), USER_ID);
+
+        InOrder inOrder = inOrder(habitStatisticService, habitAssignRepo);
+        inOrder.verify(habitStatisticService)
+            .deleteAllStatsByHabitAssign(HabitAssignVO.builder().id(habitAssign.getId()).build());
+        inOrder.verify(habitAssignRepo).delete(habitAssign);
+    }
+
+    private static HabitAssign cancelledHabitAssign(ZonedDateTime createDate) {
+        return HabitAssign.builder()
+            .id(1L)
+            .habit(Habit.builder().id(HABIT_ID).defaultDuration(14).build())
+            .user(User.builder().id(USER_ID).build())
+            .status(HabitAssignStatus.CANCELLED)
+            .createDate(createDate)
+            .duration(14)
+            .workingDays(0)
+            .habitStreak(0)
+            .habitStatusCalendars(new ArrayList<>())
+            .build();
+    }
+
+    private static HabitStatusCalendar enroll(HabitAssign habitAssign, LocalDate date) {
+        HabitStatusCalendar habitStatusCalendar =
+            HabitStatusCalendar.builder().enrollDate(date).habitAssign(habitAssign).build();
+        habitAssign.getHabitStatusCalendars().add(habitStatusCalendar);
+        habitAssign.setWorkingDays(habitAssign.getWorkingDays() + 1);
+        HabitEnrollmentDays enrollmentDays = HabitEnrollmentDays.of(habitAssign);
+        enrollmentDays.enroll(date);
+        enrollmentDays.writeTo(habitAssign);
+        return habitStatusCalendar;
+    }
+}
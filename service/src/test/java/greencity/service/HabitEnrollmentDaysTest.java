@@ -0,0 +1,93 @@
+package greencity.service;
+
+import greencity.entity.HabitAssign;
+import greencity.entity.HabitStatusCalendar;
+import org.junit.jupiter.api.Test;
+import java.time.LocalDate;
+import java.time.ZoneId;
+import java.time.ZonedDateTime;
+import java.util.List;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertNotNull;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+class HabitEnrollmentDaysTest {
+    private static final LocalDate CREATE_DATE = LocalDate.of(2024, 3, 10);
+
+    @Test
+    void ofBuildsDaysFromHabitStatusCalendarsTest() {
+        HabitAssign habitAssign = habitAssign();
+        habitAssign.setHabitStatusCalendars(List.of(
+            HabitStatusCalendar.builder().enrollDate(CREATE_DATE.minusDays(2)).build(),
+            HabitStatusCalendar.builder().enrollDate(CREATE_DATE.plusDays(1)).build()));
+
+        HabitEnrollmentDays enrollmentDays = HabitEnrollmentDays.of(habitAssign);
+
+        assertTrue(enrollmentDays.isEnrolled(CREATE_DATE.minusDays(2)));
+        assertTrue(enrollmentDays.isEnrolled(CREATE_DATE.plusDays(1)));
+        assertFalse(enrollmentDays.isEnrolled(CREATE_DATE));
+        assertFalse(enrollmentDays.isEnrolled(CREATE_DATE.minusYears(1)));
+    }
+
+    @Test
+    void streakOnCountsEnrolledDaysInRowTest() {
+        HabitEnrollmentDays enrollmentDays = HabitEnrollmentDays.of(habitAssign());
+        LocalDate today = CREATE_DATE.plusDays(5);
+        enrollmentDays.enroll(today);
+        enrollmentDays.enroll(today.minusDays(1));
+        enrollmentDays.enroll(today.minusDays(2));
+        enrollmentDays.enroll(today.minusDays(4));
+
+        assertEquals(3, enrollmentDays.streakOn(today));
+        assertEquals(0, enrollmentDays.streakOn(today.plusDays(1)));
+
+        enrollmentDays.unenroll(today.minusDays(1));
+        assertEquals(1, enrollmentDays.streakOn(today));
+    }
+
+    @Test
+    void streakOnCountsDaysFromFirstEnrollableDayTest() {
+        HabitEnrollmentDays enrollmentDays = HabitEnrollmentDays.of(habitAssign());
+        for (LocalDate date = CREATE_DATE.minusDays(8); !date.isAfter(CREATE_DATE); date = date.plusDays(1)) {
+            enrollmentDays.enroll(date);
+        }
+
+        assertEquals(9, enrollmentDays.streakOn(CREATE_DATE));
+    }
+
+    @Test
+    void writeToStoresDaysInHabitAssignTest() {
+        HabitAssign habitAssign = habitAssign();
+        HabitEnrollmentDays enrollmentDays = HabitEnrollmentDays.of(habitAssign);
+        enrollmentDays.enroll(CREATE_DATE.plusDays(3));
+
+        enrollmentDays.writeTo(habitAssign);
+        habitAssign.setHabitStatusCalendars(null);
+
+        assertNotNull(habitAssign.getEnrolledDays());
+        assertTrue(HabitEnrollmentDays.of(habitAssign).isEnrolled(CREATE_DATE.plusDays(3)));
+        assertFalse(HabitEnrollmentDays.of(habitAssign).isEnrolled(CREATE_DATE.plusDays(2)));
+    }
+
+    @Test
+    void storedDaysKeepTheirDatesWhenCreateDateChangesTest() {
+        HabitAssign habitAssign = habitAssign();
+        HabitEnrollmentDays enrollmentDays = HabitEnrollmentDays.of(habitAssign);
+        enrollmentDays.enroll(CREATE_DATE.plusDays(3));
+        enrollmentDays.writeTo(habitAssign);
+
+        habitAssign.setCreateDate(habitAssign.getCreateDate().plusDays(30));
+
+        HabitEnrollmentDays reread = HabitEnrollmentDays.of(habitAssign);
+        assertTrue(reread.isEnrolled(CREATE_DATE.plusDays(3)));
+        assertFalse(reread.isEnrolled(CREATE_DATE.plusDays(33)));
+    }
+
+    private static HabitAssign habitAssign() {
+        return HabitAssign.builder()
+            .createDate(ZonedDateTime.of(CREATE_DATE.atTime(12, 0), ZoneId.of("UTC")))
+            .duration(14)
+            .build();
+    }
+}
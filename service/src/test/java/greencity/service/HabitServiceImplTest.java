@@ -0,0 +1,162 @@
+package greencity.service;
+
+import greencity.ModelUtils;
+import greencity.dto.PageableDto;
+import greencity.dto.habit.HabitDto;
+import greencity.dto.user.UserVO;
+import greencity.entity.CustomShoppingListItem;
+import greencity.entity.Habit;
+import greencity.entity.HabitTranslation;
+import greencity.enums.HabitAssignStatus;
+import greencity.mapping.CustomShoppingListResponseDtoMapper;
+import greencity.mapping.HabitDtoMapper;
+import greencity.repository.CustomShoppingListItemRepo;
+import greencity.repository.HabitAssignRepo;
+import greencity.repository.HabitRepo;
+import greencity.repository.HabitTranslationRepo;
+import greencity.repository.options.HabitTranslationFilter;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.modelmapper.ModelMapper;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.PageImpl;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.data.domain.Pageable;
+
+import java.util.Collections;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.stream.Collectors;
+import java.util.stream.LongStream;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyList;
+import static org.mockito.ArgumentMatchers.anyLong;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+@ExtendWith(MockitoExtension.class)
+class HabitServiceImplTest {
+    private static final int PAGE_SIZE = 20;
+    private static final String LANGUAGE = "en";
+
+    @Mock
+    private HabitRepo habitRepo;
+
+    @Mock
+    private HabitTranslationRepo habitTranslationRepo;
+
+    @Mock
+    private ModelMapper modelMapper;
+    @Mock
+    private HabitDtoMapper habitDtoMapper;
+
+    @Mock
+    private CustomShoppingListResponseDtoMapper customShoppingListResponseDtoMapper;
+
+    @Mock
+    private CustomShoppingListItemRepo customShoppingListItemRepo;
+
+    @Mock
+    private HabitAssignRepo habitAssignRepo;
+
+    @InjectMocks
+    private HabitServiceImpl habitService;
+
+    @Test
+    void getAllHabitsByLanguageCodeBuildsPageFromBulkQueriesTest() {
+        UserVO userVO = ModelUtils.getUserVO();
+        Pageable pageable = PageRequest.of(0, PAGE_SIZE);
+        Page<HabitTranslation> page = new PageImpl<>(getHabitTranslations(), pageable, PAGE_SIZE);
+        List<Long> habitIds = LongStream.rangeClosed(1, PAGE_SIZE).boxed().collect(Collectors.toList());
+        List<CustomShoppingListItem> customItems =
+            List.of(CustomShoppingListItem.builder().id(1L).habit(Habit.builder().id(2L).build()).build());
+
+        when(habitTranslationRepo.findAll(any(HabitTranslationFilter.class), eq(pageable))).thenReturn(page);
+        when(habitDtoMapper.convert(any(HabitTranslation.class))).thenAnswer(
+            invocation -> HabitDto.builder().id(invocation.<HabitTranslation>getArgument(0).getHabit().getId())
+                .build());
+        when(habitAssignRepo.findAmountOfUsersAcquiredByHabitIds(habitIds)).thenReturn(Map.of(1L, 5L));
+        when(habitAssignRepo.findAssignStatusesByHabitIdsAndUserId(habitIds, userVO.getId()))
+            .thenReturn(Map.of(1L, HabitAssignStatus.INPROGRESS));
+        when(customShoppingListItemRepo.findAllGroupedByHabitIds(habitIds)).thenReturn(Map.of(2L, customItems));
+        when(customShoppingListResponseDtoMapper.mapAllToList(anyList())).thenReturn(Collections.emptyList());
+
+        PageableDto<HabitDto> actual = habitService.getAllHabitsByLanguageCode(userVO, pageable, LANGUAGE);
+
+        assertEquals(PAGE_SIZE, actual.getPage().size());
+        HabitDto first = actual.getPage().get(0);
+        assertEquals(5L, first.getAmountAcquiredUsers());
+        assertEquals(HabitAssignStatus.INPROGRESS, first.getHabitAssignStatus());
+        assertEquals(1L, first.getUsersIdWhoCreatedCustomHabit());
+        HabitDto second = actual.getPage().get(1);
+        assertEquals(0L, second.getAmountAcquiredUsers());
+        assertNull(second.getHabitAssignStatus());
+        assertNull(second.getUsersIdWhoCreatedCustomHabit());
+
+        verify(habitAssignRepo, times(1)).findAmountOfUsersAcquiredByHabitIds(habitIds);
+        verify(habitAssignRepo, times(1)).findAssignStatusesByHabitIdsAndUserId(habitIds, userVO.getId());
+        verify(customShoppingListItemRepo, times(1)).findAllGroupedByHabitIds(habitIds);
+        verify(customShoppingListResponseDtoMapper).mapAllToList(customItems);
+        verify(habitAssignRepo, never()).findAmountOfUsersAcquired(anyLong());
+        verify(habitAssignRepo, never()).findByHabitIdAndUserId(anyLong(), anyLong());
+        verify(habitRepo, never()).findById(anyLong());
+    }
+
+    @Test
+    void getAllByTagsAndLanguageCodeUsesOneQueryForAcquiredUsersTest() {
+        Pageable pageable = PageRequest.of(0, PAGE_SIZE);
+        Page<HabitTranslation> page = new PageImpl<>(getHabitTranslations(), pageable, PAGE_SIZE);
+        List<Long> habitIds = LongStream.rangeClosed(1, PAGE_SIZE).boxed().collect(Collectors.toList());
+
+        when(habitTranslationRepo.findAll(any(HabitTranslationFilter.class), eq(pageable))).thenReturn(page);
+        when(habitDtoMapper.convert(any(HabitTranslation.class))).thenAnswer(
+            invocation -> HabitDto.builder().id(invocation.<HabitTranslation>getArgument(0).getHabit().getId())
+                .build());
+        when(habitAssignRepo.findAmountOfUsersAcquiredByHabitIds(habitIds)).thenReturn(Map.of(3L, 2L));
+
+        PageableDto<HabitDto> actual = habitService.getAllByTagsAndLanguageCode(pageable, List.of("Eco"), LANGUAGE);
+
+        assertEquals(2L, actual.getPage().get(2).getAmountAcquiredUsers());
+        assertEquals(0L, actual.getPage().get(0).getAmountAcquiredUsers());
+        verify(habitAssignRepo, times(1)).findAmountOfUsersAcquiredByHabitIds(habitIds);
+        verify(habitAssignRepo, never()).findAmountOfUsersAcquired(anyLong());
+    }
+
+    @Test
+    void getAllByDifferentParametersUsesOneSearchQueryTest() {
+        UserVO userVO = ModelUtils.getUserVO();
+        Pageable pageable = PageRequest.of(0, PAGE_SIZE);
+        Page<HabitTranslation> page = new PageImpl<>(Collections.emptyList(), pageable, 0);
+
+        when(habitTranslationRepo.findAll(any(HabitTranslationFilter.class), eq(pageable))).thenReturn(page);
+
+        PageableDto<HabitDto> actual = habitService.getAllByDifferentParameters(userVO, pageable,
+            Optional.of(List.of("Eco")), Optional.of(true), Optional.of(List.of(1, 2)), LANGUAGE);
+
+        assertEquals(0, actual.getTotalElements());
+        verify(habitTranslationRepo).findAll(any(HabitTranslationFilter.class), eq(pageable));
+    }
+
+    private List<HabitTranslation> getHabitTranslations() {
+        return LongStream.rangeClosed(1, PAGE_SIZE)
+            .mapToObj(id -> HabitTranslation.builder()
+                .id(id)
+                .habit(Habit.builder()
+                    .id(id)
+                    .isCustomHabit(id == 1L)
+                    .userId(1L)
+                    .build())
+                .build())
+            .collect(Collectors.toList());
+    }
+}
@@ -0,0 +1,133 @@
+package greencity.service;
+
+import greencity.ModelUtils;
+import greencity.converters.DateService;
+import greencity.dto.habit.HabitAssignVO;
+import greencity.dto.habitstatistic.HabitItemsAmountStatisticDto;
+import greencity.dto.habitstatistic.UpdateHabitStatisticDto;
+import greencity.entity.HabitAssign;
+import greencity.entity.HabitStatistic;
+import greencity.enums.HabitAssignStatus;
+import greencity.enums.HabitRate;
+import greencity.repository.HabitItemDailyStatisticRepo;
+import greencity.repository.HabitStatisticRepo;
+import jakarta.persistence.Tuple;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.modelmapper.ModelMapper;
+import java.time.LocalDate;
+import java.time.ZonedDateTime;
+import java.util.List;
+import java.util.Optional;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyLong;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+@ExtendWith(MockitoExtension.class)
+class HabitStatisticServiceImplTest {
+    @Mock
+    private HabitStatisticRepo habitStatisticRepo;
+    @Mock
+    private HabitItemDailyStatisticRepo habitItemDailyStatisticRepo;
+    @Mock
+    private DateService dateService;
+    @Mock
+    private ModelMapper modelMapper;
+    @InjectMocks
+    private HabitStatisticServiceImpl habitStatisticService;
+
+    @Test
+    void updateAppliesDifferenceOfItemsTest() {
+        HabitStatistic habitStatistic = habitStatistic(HabitAssignStatus.INPROGRESS);
+        UpdateHabitStatisticDto dto = new UpdateHabitStatisticDto(4, HabitRate.GOOD);
+        when(habitStatisticRepo.findById(1L)).thenReturn(Optional.of(habitStatistic));
+        when(dateService.convertToDatasourceTimezone(habitStatistic.getCreateDate()))
+            .thenReturn(habitStatistic.getCreateDate());
+        when(habitStatisticRepo.save(habitStatistic)).thenReturn(habitStatistic);
+
+        habitStatisticService.update(1L, 1L, dto);
+
+        verify(habitItemDailyStatisticRepo).applyDelta(habitStatistic.getCreateDate().toLocalDate(), 1L, -6L, 0L);
+    }
+
+    @Test
+    void deleteAllStatsByHabitAssignSkipsCancelledAssignTest() {
+        HabitStatistic habitStatistic = habitStatistic(HabitAssignStatus.CANCELLED);
+        when(habitStatisticRepo.findAllByHabitAssignId(1L)).thenReturn(List.of(habitStatistic));
+
+        habitStatisticService.deleteAllStatsByHabitAssign(HabitAssignVO.builder().id(1L).build());
+
+        verify(habitStatisticRepo).delete(habitStatistic);
+        verify(habitItemDailyStatisticRepo, never()).applyDelta(
+            any(), anyLong(), anyLong(), anyLong());
+    }
+
+    @Test
+    void updateStatsOnStatusChangeRemovesItemsOfCancelledAssignTest() {
+        HabitStatistic habitStatistic = habitStatistic(HabitAssignStatus.CANCELLED);
+        when(habitStatisticRepo.findAllByHabitAssignId(1L)).thenReturn(List.of(habitStatistic));
+        when(dateService.convertToDatasourceTimezone(habitStatistic.getCreateDate()))
+            .thenReturn(habitStatistic.getCreateDate());
+
+        habitStatisticService.updateStatsOnStatusChange(1L, HabitAssignStatus.INPROGRESS,
+            HabitAssignStatus.CANCELLED);
+
+        verify(habitItemDailyStatisticRepo).applyDelta(habitStatistic.getCreateDate().toLocalDate(), 1L, -10L, -1L);
+    }
+
+    @Test
+    void updateStatsOnStatusChangeRestoresItemsOfReassignedAssignTest() {
+        HabitStatistic habitStatistic = habitStatistic(HabitAssignStatus.INPROGRESS);
+        when(habitStatisticRepo.findAllByHabitAssignId(1L)).thenReturn(List.of(habitStatistic));
+        when(dateService.convertToDatasourceTimezone(habitStatistic.getCreateDate()))
+            .thenReturn(habitStatistic.getCreateDate());
+
+        habitStatisticService.updateStatsOnStatusChange(1L, HabitAssignStatus.CANCELLED,
+            HabitAssignStatus.INPROGRESS);
+
+        verify(habitItemDailyStatisticRepo).applyDelta(habitStatistic.getCreateDate().toLocalDate(), 1L, 10L, 1L);
+    }
+
+    @Test
+    void updateStatsOnStatusChangeIgnoresChangeBetweenCountedStatusesTest() {
+        habitStatisticService.updateStatsOnStatusChange(1L, HabitAssignStatus.INPROGRESS,
+            HabitAssignStatus.ACQUIRED);
+
+        verify(habitStatisticRepo, never()).findAllByHabitAssignId(anyLong());
+        verify(habitItemDailyStatisticRepo, never()).applyDelta(
+            any(), anyLong(), anyLong(), anyLong());
+    }
+
+    @Test
+    void getTodayStatisticsForAllHabitItemsReadsDailyStatisticsTest() {
+        ZonedDateTime now = ZonedDateTime.now();
+        Tuple tuple = mock(Tuple.class);
+        when(tuple.get(0)).thenReturn("bag");
+        when(tuple.get(1)).thenReturn(7L);
+        when(dateService.getDatasourceZonedDateTime()).thenReturn(now);
+        when(habitItemDailyStatisticRepo.getStatisticsForAllHabitItems(now.toLocalDate(), "en"))
+            .thenReturn(List.of(tuple));
+
+        List<HabitItemsAmountStatisticDto> actual = habitStatisticService.getTodayStatisticsForAllHabitItems("en");
+
+        assertEquals(List.of(HabitItemsAmountStatisticDto.builder().habitItem("bag").notTakenItems(7L).build()),
+            actual);
+    }
+
+    private static HabitStatistic habitStatistic(HabitAssignStatus status) {
+        HabitAssign habitAssign = ModelUtils.getHabitAssign();
+        habitAssign.setStatus(status);
+        HabitStatistic habitStatistic = ModelUtils.getHabitStatistic();
+        habitStatistic.setCreateDate(ZonedDateTime.of(LocalDate.of(2024, 3, 10).atTime(10, 0),
+            ZonedDateTime.now().getZone()));
+        habitStatistic.setHabitAssign(habitAssign);
+        return habitStatistic;
+    }
+}
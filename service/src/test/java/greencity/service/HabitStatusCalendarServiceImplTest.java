@@ -0,0 +1,67 @@
+package greencity.service;
+
+import greencity.dto.habit.HabitAssignVO;
+import greencity.dto.habitstatuscalendar.HabitStatusCalendarVO;
+import greencity.entity.HabitAssign;
+import greencity.entity.HabitStatusCalendar;
+import greencity.repository.HabitAssignRepo;
+import greencity.repository.HabitStatusCalendarRepo;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.modelmapper.ModelMapper;
+import java.time.LocalDate;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+@ExtendWith(MockitoExtension.class)
+class HabitStatusCalendarServiceImplTest {
+    @Mock
+    private HabitStatusCalendarRepo habitStatusCalendarRepo;
+    @Mock
+    private HabitAssignRepo habitAssignRepo;
+    @Mock
+    private ModelMapper modelMapper;
+
+    @InjectMocks
+    private HabitStatusCalendarServiceImpl habitStatusCalendarService;
+
+    private final HabitAssignVO habitAssignVO = HabitAssignVO.builder().id(3L).build();
+    private final HabitStatusCalendarVO habitStatusCalendarVO =
+        HabitStatusCalendarVO.builder().enrollDate(LocalDate.now()).habitAssignVO(habitAssignVO).build();
+    private final HabitStatusCalendar habitStatusCalendar =
+        HabitStatusCalendar.builder().enrollDate(LocalDate.now()).build();
+
+    @Test
+    void saveClearsEnrolledDaysTest() {
+        when(modelMapper.map(habitStatusCalendarVO, HabitStatusCalendar.class)).thenReturn(habitStatusCalendar);
+        when(habitStatusCalendarRepo.save(habitStatusCalendar)).thenReturn(habitStatusCalendar);
+
+        habitStatusCalendarService.save(habitStatusCalendarVO);
+
+        verify(habitAssignRepo).clearEnrolledDays(3L);
+    }
+
+    @Test
+    void deleteClearsEnrolledDaysTest() {
+        when(modelMapper.map(habitStatusCalendarVO, HabitStatusCalendar.class)).thenReturn(habitStatusCalendar);
+
+        habitStatusCalendarService.delete(habitStatusCalendarVO);
+
+        verify(habitStatusCalendarRepo).delete(habitStatusCalendar);
+        verify(habitAssignRepo).clearEnrolledDays(3L);
+    }
+
+    @Test
+    void deleteAllByHabitAssignClearsEnrolledDaysTest() {
+        HabitAssign habitAssign = HabitAssign.builder().id(3L).build();
+        when(modelMapper.map(habitAssignVO, HabitAssign.class)).thenReturn(habitAssign);
+
+        habitStatusCalendarService.deleteAllByHabitAssign(habitAssignVO);
+
+        verify(habitStatusCalendarRepo).deleteAllByHabitAssign(habitAssign);
+        verify(habitAssignRepo).clearEnrolledDays(3L);
+    }
+}
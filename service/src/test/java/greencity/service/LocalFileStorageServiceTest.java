@@ -0,0 +1,72 @@
+package greencity.service;
+
+import greencity.exception.exceptions.ImageUrlParseException;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+import org.modelmapper.ModelMapper;
+import org.springframework.mock.web.MockMultipartFile;
+import org.springframework.web.multipart.MultipartFile;
+
+import java.io.IOException;
+import java.net.URI;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+
+import static org.junit.jupiter.api.Assertions.assertArrayEquals;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+class LocalFileStorageServiceTest {
+    private static final String BASE_URL = "http://localhost:8080/files/";
+
+    @TempDir
+    Path directory;
+
+    private LocalFileStorageService fileService;
+
+    @BeforeEach
+    void setUp() {
+        fileService = new LocalFileStorageService(directory.toString(), BASE_URL, new ModelMapper());
+    }
+
+    @Test
+    void uploadAndDeleteTest() throws IOException {
+        MultipartFile file = new MockMultipartFile("image", "../image.png", "image/png",
+            "content".getBytes(StandardCharsets.UTF_8));
+
+        String url = fileService.upload(file);
+
+        assertTrue(url.startsWith(BASE_URL));
+        assertTrue(url.endsWith("image.png"));
+        Path saved = directory.resolve(Paths.get(URI.create(url).getPath()).getFileName());
+        assertArrayEquals(file.getBytes(), Files.readAllBytes(saved));
+
+        fileService.delete(url);
+
+        assertFalse(Files.exists(saved));
+    }
+
+    @Test
+    void uploadAllKeepsOrderTest() {
+        MultipartFile[] files = {
+            new MockMultipartFile("image", "first.png", "image/png", new byte[] {1}),
+            new MockMultipartFile("image", "second.png", "image/png", new byte[] {2})
+        };
+
+        String[] urls = fileService.uploadAll(files);
+
+        assertEquals(2, urls.length);
+        assertTrue(urls[0].endsWith("first.png"));
+        assertTrue(urls[1].endsWith("second.png"));
+    }
+
+    @Test
+    void deleteThrowsImageUrlParseExceptionTest() {
+        assertThrows(ImageUrlParseException.class, () -> fileService.delete("http://[invalid"));
+    }
+}
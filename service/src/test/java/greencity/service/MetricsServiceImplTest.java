@@ -0,0 +1,38 @@
+package greencity.service;
+
+import greencity.client.RestClientStatistics;
+import greencity.metrics.MethodStatistics;
+import greencity.metrics.RequestStatistics;
+import greencity.notification.HabitNotificationDispatcher;
+import greencity.notification.HabitNotificationRun;
+import org.junit.jupiter.api.Test;
+import java.util.List;
+import java.util.Map;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+class MetricsServiceImplTest {
+    private final RequestStatistics requestStatistics = new RequestStatistics();
+    private final MethodStatistics methodStatistics = new MethodStatistics();
+    private final RestClientStatistics restClientStatistics = new RestClientStatistics();
+    private final HabitNotificationDispatcher habitNotificationDispatcher = mock(HabitNotificationDispatcher.class);
+    private final MetricsServiceImpl metricsService = new MetricsServiceImpl(requestStatistics, methodStatistics,
+        restClientStatistics, habitNotificationDispatcher);
+
+    @Test
+    void getMetricsReturnsAllSectionsTest() {
+        methodStatistics.record("EcoNewsServiceImpl.find", 1_000_000L);
+        requestStatistics.recordStatement();
+        HabitNotificationRun lastRun = new HabitNotificationRun(100, 40, 1, 500);
+        when(habitNotificationDispatcher.getLastRun()).thenReturn(lastRun);
+
+        Map<String, Object> actual = metricsService.getMetrics();
+
+        assertEquals(List.of("statements", "requests", "methods", "restClient", "habitNotifications"),
+            List.copyOf(actual.keySet()));
+        assertEquals(1L, actual.get("statements"));
+        assertEquals(methodStatistics.getMethods().keySet(), ((Map<?, ?>) actual.get("methods")).keySet());
+        assertEquals(lastRun, actual.get("habitNotifications"));
+    }
+}
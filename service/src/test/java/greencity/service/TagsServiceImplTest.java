@@ -8,6 +8,9 @@ import greencity.entity.localization.TagTranslation;
 import greencity.enums.TagType;
 import greencity.exception.exceptions.*;
 import greencity.filters.TagSpecification;
+import greencity.mapping.NewTagDtoMapper;
+import greencity.mapping.TagDtoMapper;
+import greencity.mapping.TagVOMapper;
 import greencity.repository.TagTranslationRepo;
 import greencity.repository.TagsRepo;
 import org.junit.jupiter.api.Test;
@@ -15,7 +18,6 @@ import org.junit.jupiter.api.extension.ExtendWith;
 import org.mockito.InjectMocks;
 import org.mockito.Mock;
 import org.modelmapper.ModelMapper;
-import org.modelmapper.TypeToken;
 import org.springframework.dao.EmptyResultDataAccessException;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.PageImpl;
@@ -44,6 +46,12 @@ class TagsServiceImplTest {
 
     @Mock
     private ModelMapper modelMapper;
+    @Mock
+    private TagVOMapper tagVOMapper;
+    @Mock
+    private TagDtoMapper tagDtoMapper;
+    @Mock
+    private NewTagDtoMapper newTagDtoMapper;
 
     @InjectMocks
     private TagsServiceImpl tagsService;
@@ -57,7 +65,7 @@ class TagsServiceImplTest {
         List<Tag> tags = ModelUtils.getTags();
         Page<Tag> pageTags = new PageImpl<>(tags, pageable, 1);
         when(tagRepo.findAll(pageable)).thenReturn(pageTags);
-        when(modelMapper.map(tags.get(0), TagVO.class)).thenReturn(ModelUtils.getTagVO());
+        when(tagVOMapper.convert(tags.get(0))).thenReturn(ModelUtils.getTagVO());
 
         PageableAdvancedDto<TagVO> actual = ModelUtils.getPageableAdvancedDtoForTag();
         PageableAdvancedDto<TagVO> expected = tagsService.findAll(pageable, null);
@@ -72,7 +80,7 @@ class TagsServiceImplTest {
         List<Tag> tags = ModelUtils.getTags();
         Page<Tag> pageTags = new PageImpl<>(tags, pageable, 1);
         when(tagRepo.filterByAllFields(pageable, filter)).thenReturn(pageTags);
-        when(modelMapper.map(tags.get(0), TagVO.class)).thenReturn(ModelUtils.getTagVO());
+        when(tagVOMapper.convert(tags.get(0))).thenReturn(ModelUtils.getTagVO());
 
         PageableAdvancedDto<TagVO> actual = ModelUtils.getPageableAdvancedDtoForTag();
         PageableAdvancedDto<TagVO> expected = tagsService.findAll(pageable, filter);
@@ -89,7 +97,7 @@ class TagsServiceImplTest {
         List<Tag> tags = ModelUtils.getTags();
         Page<Tag> pageTags = new PageImpl<>(tags, pageable, 1);
         when(tagRepo.findAll(any(TagSpecification.class), eq(pageable))).thenReturn(pageTags);
-        when(modelMapper.map(tags.get(0), TagVO.class)).thenReturn(ModelUtils.getTagVO());
+        when(tagVOMapper.convert(tags.get(0))).thenReturn(ModelUtils.getTagVO());
 
         PageableAdvancedDto<TagVO> actual = ModelUtils.getPageableAdvancedDtoForTag();
         PageableAdvancedDto<TagVO> expected = tagsService.search(pageable, tagViewDto);
@@ -106,7 +114,7 @@ class TagsServiceImplTest {
         List<Tag> tags = ModelUtils.getTags();
         Page<Tag> pageTags = new PageImpl<>(tags, pageable, 1);
         when(tagRepo.findAll(any(TagSpecification.class), eq(pageable))).thenReturn(pageTags);
-        when(modelMapper.map(tags.get(0), TagVO.class)).thenReturn(ModelUtils.getTagVO());
+        when(tagVOMapper.convert(tags.get(0))).thenReturn(ModelUtils.getTagVO());
 
         PageableAdvancedDto<TagVO> actual = ModelUtils.getPageableAdvancedDtoForTag();
         PageableAdvancedDto<TagVO> expected = tagsService.search(pageable, tagViewDto);
@@ -209,8 +217,7 @@ class TagsServiceImplTest {
         List<Tag> ecoNewsTags = ModelUtils.getTags();
         List<TagVO> actual = Collections.singletonList(ModelUtils.getTagVO());
         when(tagRepo.findTagsByNamesAndType(lowerTagsNames, tagType)).thenReturn(ecoNewsTags);
-        when(modelMapper.map(ecoNewsTags, new TypeToken<List<TagVO>>() {
-        }.getType())).thenReturn(actual);
+        when(tagVOMapper.mapAllToList(ecoNewsTags)).thenReturn(actual);
         List<TagVO> expected = tagsService.findTagsByNamesAndType(tagsNames, tagType);
 
         assertEquals(expected, actual);
@@ -226,8 +233,7 @@ class TagsServiceImplTest {
 
         when(tagRepo.findTagsByTypeAndLanguageCode(tagType, languageCode))
             .thenReturn(tagTranslations);
-        when(modelMapper.map(tagTranslations, new TypeToken<List<TagDto>>() {
-        }.getType())).thenReturn(actual);
+        when(tagDtoMapper.mapAllToList(tagTranslations)).thenReturn(actual);
         List<TagDto> expected = tagsService.findByTypeAndLanguageCode(tagType, languageCode);
 
         assertEquals(expected, actual);
@@ -252,8 +258,7 @@ class TagsServiceImplTest {
         List<TagTranslation> tagTranslations = Collections.singletonList(ModelUtils.getTagTranslations().get(1));
         List<TagDto> actual = Collections.singletonList(TagDto.builder().id(1L).name("News").build());
         when(tagTranslationRepo.findAllEcoNewsTags(ENGLISH_LANGUAGE)).thenReturn(tagTranslations);
-        when(modelMapper.map(tagTranslations, new TypeToken<List<TagDto>>() {
-        }.getType())).thenReturn(actual);
+        when(tagDtoMapper.mapAllToList(tagTranslations)).thenReturn(actual);
         List<TagDto> expected = tagsService.findAllEcoNewsTags(ENGLISH_LANGUAGE);
 
         assertEquals(expected, actual);
@@ -297,13 +302,11 @@ class TagsServiceImplTest {
         List<NewTagDto> tags = List.of(NewTagDto.builder().id(1L).name("News").nameUa("Новини").build());
 
         when(tagRepo.findTagsByType(TagType.ECO_NEWS)).thenReturn(ModelUtils.getTags());
-        when(modelMapper.map(ModelUtils.getTags(), new TypeToken<List<NewTagDto>>() {
-        }.getType())).thenReturn(tags);
+        when(newTagDtoMapper.mapAllToList(ModelUtils.getTags())).thenReturn(tags);
 
         assertEquals(tags, tagsService.findByType(TagType.ECO_NEWS));
 
         verify(tagRepo).findTagsByType(TagType.ECO_NEWS);
-        verify(modelMapper).map(ModelUtils.getTags(), new TypeToken<List<NewTagDto>>() {
-        }.getType());
+        verify(newTagDtoMapper).mapAllToList(ModelUtils.getTags());
     }
 }